@@ -0,0 +1,64 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.service.api.BatchResults;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+
+/**
+ * Per-star cost of the column-oriented batch path compared to calling
+ * {@code calculateAll} once per star. Scores are normalized to one star.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BatchCalculationBenchmark {
+	private static final int BATCH_SIZE = 4096;
+
+	private StellarCalculationService service;
+	private Star[] stars;
+	private StarBatch batch;
+
+	@Setup
+	public void setUp() {
+		service = new StellarCalculationService();
+		stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(BATCH_SIZE, 42L);
+		batch = StarBatch.of(List.of(stars));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void calculateAllPerStar(Blackhole blackhole) {
+		for (Star star : stars) {
+			blackhole.consume(service.calculateAll(star));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public BatchResults calculateBatch() {
+		return service.calculateBatch(batch);
+	}
+}
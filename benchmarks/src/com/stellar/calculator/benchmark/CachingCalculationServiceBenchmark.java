@@ -0,0 +1,75 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.cache.CachingCalculationService;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+
+/**
+ * Throughput of {@link CachingCalculationService} from several threads, with a
+ * working set that either fits the cache ({@code distinctStars} below
+ * {@code CACHE_SIZE}) or keeps evicting.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class CachingCalculationServiceBenchmark {
+	private static final int CACHE_SIZE = 1024;
+
+	@Param({ "64", "16384" })
+	private int distinctStars;
+
+	private StellarCalculationService service;
+	private CachingCalculationService cache;
+	private Star[] stars;
+
+	@Setup
+	public void setUp() {
+		service = new StellarCalculationService();
+		cache = new CachingCalculationService(new StellarCalculationService(), CACHE_SIZE);
+		stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(distinctStars, 42L);
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int next;
+
+		int next(int length) {
+			next = (next + 1) % length;
+			return next;
+		}
+	}
+
+	@Benchmark
+	public List<CalculationResult> uncached(Cursor cursor) {
+		return service.calculateAll(stars[cursor.next(stars.length)]);
+	}
+
+	@Benchmark
+	public List<CalculationResult> cached(Cursor cursor) {
+		return cache.calculateAll(stars[cursor.next(stars.length)]);
+	}
+}
@@ -0,0 +1,88 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.calculation.angular.AngularSizeCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.classification.LuminosityClassCalculator;
+import com.stellar.calculator.calculation.classification.SpectralClassCalculator;
+import com.stellar.calculator.calculation.luminosity.LuminosityCalculator;
+import com.stellar.calculator.calculation.magnitude.ApparentMagnitudeCalculator;
+import com.stellar.calculator.calculation.orbital.OrbitalPeriodCalculator;
+import com.stellar.calculator.calculation.radiation.EarthEquivalentDistanceCalculator;
+import com.stellar.calculator.calculation.radiation.IrradianceCalculator;
+import com.stellar.calculator.calculation.thermal.HabitableZoneCalculator;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+
+/**
+ * End-to-end cost of {@link StellarCalculationService#calculateAll(Star)} over
+ * different star populations. Run with {@code -prof gc} to see the allocation
+ * rate per star.
+ *
+ * <p>
+ * {@code calculateAllWithoutSharing} runs the same calculators on their own,
+ * each recomputing its intermediates, as a reference for the shared
+ * {@code DerivedQuantities} used by the service.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CalculationServiceBenchmark {
+	private static final int SAMPLE_SIZE = 4096;
+	private static final int MASK = SAMPLE_SIZE - 1;
+
+	@Param({ "SOLAR_ANALOGUES", "MAIN_SEQUENCE", "SOLAR_NEIGHBOURHOOD" })
+	private StarDistribution distribution;
+
+	private StellarCalculationService service;
+	private List<Calculator<Star, ? extends CalculationResult>> calculators;
+	private Star[] stars;
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		service = new StellarCalculationService();
+		calculators = List.of(new LuminosityCalculator(), new HabitableZoneCalculator(),
+				new EarthEquivalentDistanceCalculator(), new OrbitalPeriodCalculator(), new AngularSizeCalculator(),
+				new ApparentMagnitudeCalculator(), new IrradianceCalculator(), new SpectralClassCalculator(),
+				new LuminosityClassCalculator());
+		stars = distribution.sample(SAMPLE_SIZE, 42L);
+	}
+
+	@Benchmark
+	public List<CalculationResult> calculateAll() {
+		return service.calculateAll(stars[cursor++ & MASK]);
+	}
+
+	@Benchmark
+	public List<CalculationResult> calculateAllWithoutSharing() {
+		Star star = stars[cursor++ & MASK];
+		List<CalculationResult> results = new ArrayList<>(calculators.size());
+		for (Calculator<Star, ? extends CalculationResult> calculator : calculators) {
+			results.add(calculator.calculate(star));
+		}
+		return results;
+	}
+}
@@ -0,0 +1,124 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.calculation.angular.AngularSizeCalculator;
+import com.stellar.calculator.calculation.angular.AngularSizeResult;
+import com.stellar.calculator.calculation.classification.LuminosityClassCalculator;
+import com.stellar.calculator.calculation.classification.LuminosityClassResult;
+import com.stellar.calculator.calculation.classification.SpectralClassCalculator;
+import com.stellar.calculator.calculation.classification.SpectralClassResult;
+import com.stellar.calculator.calculation.luminosity.LuminosityCalculator;
+import com.stellar.calculator.calculation.luminosity.LuminosityResult;
+import com.stellar.calculator.calculation.magnitude.ApparentMagnitudeCalculator;
+import com.stellar.calculator.calculation.magnitude.ApparentMagnitudeResult;
+import com.stellar.calculator.calculation.orbital.OrbitalPeriodCalculator;
+import com.stellar.calculator.calculation.orbital.OrbitalPeriodResult;
+import com.stellar.calculator.calculation.radiation.EarthEquivalentDistanceCalculator;
+import com.stellar.calculator.calculation.radiation.EarthEquivalentDistanceResult;
+import com.stellar.calculator.calculation.radiation.IrradianceCalculator;
+import com.stellar.calculator.calculation.radiation.IrradianceResult;
+import com.stellar.calculator.calculation.thermal.HabitableZoneCalculator;
+import com.stellar.calculator.calculation.thermal.HabitableZoneResult;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Per-star cost of each default calculator. Every invocation analyzes the next
+ * star of a pre-sampled population, so branchy calculators see a realistic mix
+ * of inputs instead of a single constant star.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CalculatorBenchmark {
+	private static final int SAMPLE_SIZE = 4096;
+	private static final int MASK = SAMPLE_SIZE - 1;
+
+	@Param({ "SOLAR_NEIGHBOURHOOD" })
+	private StarDistribution distribution;
+
+	private final LuminosityCalculator luminosity = new LuminosityCalculator();
+	private final HabitableZoneCalculator habitableZone = new HabitableZoneCalculator();
+	private final EarthEquivalentDistanceCalculator earthEquivalentDistance = new EarthEquivalentDistanceCalculator();
+	private final OrbitalPeriodCalculator orbitalPeriod = new OrbitalPeriodCalculator();
+	private final AngularSizeCalculator angularSize = new AngularSizeCalculator();
+	private final ApparentMagnitudeCalculator apparentMagnitude = new ApparentMagnitudeCalculator();
+	private final IrradianceCalculator irradiance = new IrradianceCalculator();
+	private final SpectralClassCalculator spectralClass = new SpectralClassCalculator();
+	private final LuminosityClassCalculator luminosityClass = new LuminosityClassCalculator();
+
+	private Star[] stars;
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		stars = distribution.sample(SAMPLE_SIZE, 42L);
+	}
+
+	private Star nextStar() {
+		return stars[cursor++ & MASK];
+	}
+
+	@Benchmark
+	public LuminosityResult luminosity() {
+		return luminosity.calculate(nextStar());
+	}
+
+	@Benchmark
+	public HabitableZoneResult habitableZone() {
+		return habitableZone.calculate(nextStar());
+	}
+
+	@Benchmark
+	public EarthEquivalentDistanceResult earthEquivalentDistance() {
+		return earthEquivalentDistance.calculate(nextStar());
+	}
+
+	@Benchmark
+	public OrbitalPeriodResult orbitalPeriod() {
+		return orbitalPeriod.calculate(nextStar());
+	}
+
+	@Benchmark
+	public AngularSizeResult angularSize() {
+		return angularSize.calculate(nextStar());
+	}
+
+	@Benchmark
+	public ApparentMagnitudeResult apparentMagnitude() {
+		return apparentMagnitude.calculate(nextStar());
+	}
+
+	@Benchmark
+	public IrradianceResult irradiance() {
+		return irradiance.calculate(nextStar());
+	}
+
+	@Benchmark
+	public SpectralClassResult spectralClass() {
+		return spectralClass.calculate(nextStar());
+	}
+
+	@Benchmark
+	public LuminosityClassResult luminosityClass() {
+		return luminosityClass.calculate(nextStar());
+	}
+}
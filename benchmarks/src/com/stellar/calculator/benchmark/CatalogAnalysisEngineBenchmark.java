@@ -0,0 +1,64 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+import com.stellar.calculator.service.catalog.CatalogAnalysisEngine;
+import com.stellar.calculator.service.catalog.StarAnalysis;
+
+/**
+ * Throughput of the fork-join catalog engine for a fixed-size catalog at
+ * different degrees of parallelism and chunk sizes.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CatalogAnalysisEngineBenchmark {
+	private static final int CATALOG_SIZE = 65_536;
+
+	@Param({ "1", "4", "16" })
+	private int parallelism;
+
+	@Param({ "64", "1024" })
+	private int chunkSize;
+
+	private CatalogAnalysisEngine engine;
+	private List<Star> catalog;
+
+	@Setup
+	public void setUp() {
+		engine = new CatalogAnalysisEngine(new StellarCalculationService(), parallelism, chunkSize);
+		catalog = List.of(StarDistribution.SOLAR_NEIGHBOURHOOD.sample(CATALOG_SIZE, 42L));
+	}
+
+	@TearDown
+	public void tearDown() {
+		engine.close();
+	}
+
+	@Benchmark
+	public List<StarAnalysis> analyzeCatalog() {
+		return engine.analyze(catalog);
+	}
+}
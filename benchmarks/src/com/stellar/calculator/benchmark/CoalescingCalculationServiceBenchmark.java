@@ -0,0 +1,82 @@
+package com.stellar.calculator.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.batching.CoalescingCalculationService;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+
+/**
+ * Throughput of many threads issuing single-star calls, directly and through a
+ * {@link CoalescingCalculationService} with windows of different lengths.
+ * Sample time mode reports the latency percentiles the window adds.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(64)
+public class CoalescingCalculationServiceBenchmark {
+
+	@Param({ "100", "1000" })
+	private long windowMicros;
+
+	private StellarCalculationService service;
+	private CoalescingCalculationService coalescer;
+	private Star[] stars;
+
+	@Setup
+	public void setUp() {
+		service = new StellarCalculationService();
+		coalescer = new CoalescingCalculationService(new StellarCalculationService(),
+				Duration.ofNanos(windowMicros * 1000), 256);
+		stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(4096, 42L);
+	}
+
+	@TearDown
+	public void tearDown() {
+		coalescer.close();
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int next;
+
+		int next(int length) {
+			next = (next + 1) % length;
+			return next;
+		}
+	}
+
+	@Benchmark
+	public List<CalculationResult> direct(Cursor cursor) {
+		return service.calculateAll(stars[cursor.next(stars.length)]);
+	}
+
+	@Benchmark
+	public List<CalculationResult> coalesced(Cursor cursor) {
+		return coalescer.calculateAll(stars[cursor.next(stars.length)]);
+	}
+}
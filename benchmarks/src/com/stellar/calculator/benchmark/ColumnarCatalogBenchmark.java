@@ -0,0 +1,114 @@
+package com.stellar.calculator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.io.columnar.ColumnarCatalog;
+import com.stellar.calculator.io.columnar.ColumnarCatalogWriter;
+import com.stellar.calculator.io.input.CatalogReader;
+import com.stellar.calculator.io.input.CatalogRow;
+
+/**
+ * Per-star cost of loading a catalog into star batches: parsing the CSV file
+ * versus scanning the memory-mapped columnar file written from it. The files
+ * stay in the page cache, so the numbers show parsing and copying cost rather
+ * than disk speed.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ColumnarCatalogBenchmark {
+	private static final int STARS = 100_000;
+	private static final int BATCH_SIZE = 4096;
+
+	private Path directory;
+	private Path csv;
+	private Path columnar;
+	private final StarBatch batch = new StarBatch(BATCH_SIZE);
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("columnar-benchmark");
+		csv = directory.resolve("catalog.csv");
+		columnar = directory.resolve("catalog.scol");
+		Star[] stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(STARS, 42L);
+		var writer = new ColumnarCatalogWriter(true);
+		try (var out = Files.newBufferedWriter(csv)) {
+			out.write("id,mass,radius,temperature\n");
+			for (int i = 0; i < STARS; i++) {
+				Star star = stars[i];
+				out.write("HD" + i + "," + star.getMass() + "," + star.getRadius() + "," + star.getTemperature() + "\n");
+				writer.add("HD" + i, star);
+			}
+		}
+		writer.write(columnar);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(csv);
+		Files.deleteIfExists(columnar);
+		Files.deleteIfExists(directory);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STARS)
+	public double parseCsv() throws IOException {
+		double sum = 0;
+		try (var reader = CatalogReader.open(csv)) {
+			CatalogRow row;
+			while ((row = reader.next()) != null) {
+				batch.add(row.mass(), row.radius(), row.temperature());
+				if (batch.isFull()) {
+					sum += consume(batch);
+				}
+			}
+		}
+		return sum + consume(batch);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STARS)
+	public double scanColumnar() throws IOException {
+		var catalog = ColumnarCatalog.open(columnar);
+		double sum = 0;
+		for (int from = 0, read; (read = catalog.read(from, batch)) > 0; from += read) {
+			sum += consume(batch);
+		}
+		return sum;
+	}
+
+	private static double consume(StarBatch batch) {
+		double sum = 0;
+		double[] masses = batch.masses();
+		for (int i = 0; i < batch.size(); i++) {
+			sum += masses[i];
+		}
+		batch.clear();
+		return sum;
+	}
+}
@@ -0,0 +1,89 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.physics.equations.GeometricEquations;
+import com.stellar.calculator.physics.equations.MagnitudeEquations;
+import com.stellar.calculator.physics.equations.OrbitalEquations;
+import com.stellar.calculator.physics.equations.ThermalEquations;
+
+/**
+ * Raw cost of the static physics equations, measured on realistic inputs so
+ * that {@code Math.pow}/{@code Math.log10} are not constant-folded.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EquationsBenchmark {
+	private static final int SAMPLE_SIZE = 4096;
+	private static final int MASK = SAMPLE_SIZE - 1;
+
+	private double[] mass;
+	private double[] radius;
+	private double[] temperature;
+	private double[] distance;
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		Star[] stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(SAMPLE_SIZE, 42L);
+		mass = new double[SAMPLE_SIZE];
+		radius = new double[SAMPLE_SIZE];
+		temperature = new double[SAMPLE_SIZE];
+		distance = new double[SAMPLE_SIZE];
+		for (int i = 0; i < SAMPLE_SIZE; i++) {
+			mass[i] = stars[i].getMass();
+			radius[i] = stars[i].getRadius();
+			temperature[i] = stars[i].getTemperature();
+			distance[i] = 0.05 + (i % 400) * 0.1;
+		}
+	}
+
+	@Benchmark
+	public double radiantFlux() {
+		int i = cursor++ & MASK;
+		return ThermalEquations.calculateRadiantFlux(radius[i], temperature[i]);
+	}
+
+	@Benchmark
+	public double irradianceAtDistance() {
+		int i = cursor++ & MASK;
+		return ThermalEquations.calculateIrradianceAtDistance(radius[i], temperature[i], distance[i]);
+	}
+
+	@Benchmark
+	public double orbitalPeriod() {
+		int i = cursor++ & MASK;
+		return OrbitalEquations.calculatePeriod(mass[i], distance[i]);
+	}
+
+	@Benchmark
+	public double angularSize() {
+		int i = cursor++ & MASK;
+		return GeometricEquations.calculateAngularSize(radius[i], distance[i]);
+	}
+
+	@Benchmark
+	public double apparentMagnitude() {
+		int i = cursor++ & MASK;
+		return MagnitudeEquations.calculateApparentMagnitude(radius[i], temperature[i]);
+	}
+}
@@ -0,0 +1,73 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.stellar.calculator.calculation.luminosity.LuminosityCalculator;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.inverse.InverseSolution;
+import com.stellar.calculator.service.inverse.InverseSolver;
+import com.stellar.calculator.service.inverse.InverseTarget;
+import com.stellar.calculator.service.inverse.StellarParameter;
+
+/**
+ * Solving a grid of target luminosities for the temperature: numerically one
+ * target at a time (cold starts), numerically in a warm-started parallel
+ * batch, and analytically.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InverseSolverBenchmark {
+	private static final int TARGETS = 10_000;
+
+	private final InverseSolver solver = new InverseSolver();
+	private final LuminosityCalculator calculator = new LuminosityCalculator();
+	private final Star start = new Star(1, 1, 5772);
+	private double[] targets;
+
+	@Setup
+	public void setUp() {
+		targets = new double[TARGETS];
+		for (int i = 0; i < TARGETS; i++) {
+			targets[i] = Math.pow(10, -3 + 6.0 * i / TARGETS);
+		}
+	}
+
+	@Benchmark
+	public void solveEach(Blackhole blackhole) {
+		for (double target : targets) {
+			blackhole.consume(solver.solve(calculator, target, start, StellarParameter.TEMPERATURE));
+		}
+	}
+
+	@Benchmark
+	public List<InverseSolution> solveAll() {
+		return solver.solveAll(calculator, targets, start, StellarParameter.TEMPERATURE);
+	}
+
+	@Benchmark
+	public void solveAnalytically(Blackhole blackhole) {
+		for (double target : targets) {
+			blackhole.consume(solver.solve(InverseTarget.LUMINOSITY, target, start, StellarParameter.TEMPERATURE));
+		}
+	}
+}
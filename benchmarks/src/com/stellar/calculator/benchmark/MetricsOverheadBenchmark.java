@@ -0,0 +1,72 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+import com.stellar.calculator.service.metrics.LatencyHistogram;
+import com.stellar.calculator.service.metrics.MetricsRegistry;
+
+/**
+ * Cost of calculator metrics: {@code calculateAll} with metrics disabled and
+ * enabled, and the cost of recording a single latency.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MetricsOverheadBenchmark {
+	private StellarCalculationService plain;
+	private StellarCalculationService instrumented;
+	private LatencyHistogram histogram;
+	private Star[] stars;
+	private int next;
+	private long latency;
+
+	@Setup
+	public void setUp() {
+		plain = new StellarCalculationService();
+		instrumented = new StellarCalculationService(null, new MetricsRegistry());
+		histogram = new LatencyHistogram();
+		stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(1024, 42L);
+	}
+
+	private Star nextStar() {
+		next = (next + 1) & (stars.length - 1);
+		return stars[next];
+	}
+
+	@Benchmark
+	public List<CalculationResult> metricsDisabled() {
+		return plain.calculateAll(nextStar());
+	}
+
+	@Benchmark
+	public List<CalculationResult> metricsEnabled() {
+		return instrumented.calculateAll(nextStar());
+	}
+
+	@Benchmark
+	public void recordLatency() {
+		latency = (latency * 6364136223846793005L + 1442695040888963407L) & 0xFFFFF;
+		histogram.record(latency);
+	}
+}
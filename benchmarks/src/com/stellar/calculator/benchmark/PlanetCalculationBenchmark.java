@@ -0,0 +1,76 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.stellar.calculator.domain.model.Planet;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.api.BatchResults;
+import com.stellar.calculator.service.planetary.PlanetCalculationService;
+
+/**
+ * Planet calculations one planet at a time versus the batch path that shares
+ * the host star's quantities within each system, for catalogs with different
+ * numbers of planets per host.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PlanetCalculationBenchmark {
+	private static final int CATALOG_SIZE = 4096;
+
+	@Param({ "1", "4", "16" })
+	private int planetsPerHost;
+
+	private PlanetCalculationService service;
+	private List<Planet> catalog;
+
+	@Setup
+	public void setUp() {
+		service = new PlanetCalculationService();
+		var random = new SplittableRandom(42L);
+		Star[] hosts = StarDistribution.MAIN_SEQUENCE.sample(CATALOG_SIZE / planetsPerHost, 42L);
+		catalog = new ArrayList<>(CATALOG_SIZE);
+		for (Star host : hosts) {
+			for (int i = 0; i < planetsPerHost; i++) {
+				// Earth to super-Earth sized planets between 0.01 and 5 AU
+				double earths = random.nextDouble(0.5, 10);
+				catalog.add(new Planet(3.0e-6 * earths, 0.00916 * Math.cbrt(earths),
+						Math.exp(random.nextDouble(Math.log(0.01), Math.log(5))), host));
+			}
+		}
+	}
+
+	@Benchmark
+	public void calculateEach(Blackhole blackhole) {
+		for (Planet planet : catalog) {
+			blackhole.consume(service.calculateAll(planet));
+		}
+	}
+
+	@Benchmark
+	public BatchResults calculateBatch() {
+		return service.calculateBatch(catalog);
+	}
+}
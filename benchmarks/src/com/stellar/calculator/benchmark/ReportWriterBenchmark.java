@@ -0,0 +1,116 @@
+package com.stellar.calculator.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.io.output.ReportFormat;
+import com.stellar.calculator.io.output.ReportWriter;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+
+/**
+ * Per-star cost of writing a report: the former {@code println} per line to an
+ * auto-flushing {@link PrintStream} versus a {@link ReportWriter} in every
+ * format. Both write to a sink that only counts bytes, so the numbers show the
+ * formatting and encoding cost without any I/O.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReportWriterBenchmark {
+	private static final int STARS = 256;
+
+	@Param({ "TEXT", "CSV", "NDJSON", "MARKDOWN" })
+	private ReportFormat format;
+
+	private Star[] stars;
+	private List<List<CalculationResult>> results;
+	private final CountingChannel channel = new CountingChannel();
+	private ReportWriter writer;
+	private PrintStream printStream;
+
+	@Setup
+	public void setUp() {
+		var service = new StellarCalculationService();
+		stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(STARS, 42L);
+		results = Arrays.stream(stars).map(service::calculateAll).toList();
+		writer = ReportWriter.of(channel, format, StandardCharsets.UTF_8);
+		printStream = new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STARS)
+	public void printlnPerLine(Blackhole blackhole) {
+		for (int i = 0; i < STARS; i++) {
+			printStream.println("\nAnalysis Results");
+			printStream.println("================");
+			for (CalculationResult result : results.get(i)) {
+				printStream.println("\n" + result.format());
+				printStream.println("-".repeat(50));
+			}
+		}
+		blackhole.consume(printStream);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STARS)
+	public long reportWriter() throws IOException {
+		for (int i = 0; i < STARS; i++) {
+			writer.write(stars[i], results.get(i));
+		}
+		writer.flush();
+		return channel.written;
+	}
+
+	/**
+	 * Discards everything written to it, counting the bytes.
+	 */
+	private static final class CountingChannel implements WritableByteChannel {
+		private long written;
+
+		@Override
+		public int write(ByteBuffer source) {
+			int remaining = source.remaining();
+			source.position(source.limit());
+			written += remaining;
+			return remaining;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
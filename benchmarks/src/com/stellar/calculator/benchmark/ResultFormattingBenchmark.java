@@ -0,0 +1,72 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+
+/**
+ * Per-result cost of turning calculation results into text: a new string per
+ * result through {@link CalculationResult#format()} versus appending every
+ * result to one reused builder through
+ * {@link CalculationResult#formatTo(StringBuilder)}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultFormattingBenchmark {
+	private static final int STARS = 256;
+
+	@Param({ "SOLAR_ANALOGUES", "SOLAR_NEIGHBOURHOOD" })
+	private StarDistribution distribution;
+
+	private CalculationResult[] results;
+	private final StringBuilder text = new StringBuilder(512);
+
+	@Setup
+	public void setUp() {
+		var service = new StellarCalculationService();
+		results = Arrays.stream(distribution.sample(STARS, 42L)).map(service::calculateAll)
+				.flatMap(List::stream).toArray(CalculationResult[]::new);
+	}
+
+	@Benchmark
+	public int format() {
+		int length = 0;
+		for (CalculationResult result : results) {
+			length += result.format().length();
+		}
+		return length;
+	}
+
+	@Benchmark
+	public int formatTo() {
+		int length = 0;
+		for (CalculationResult result : results) {
+			text.setLength(0);
+			length += result.formatTo(text).length();
+		}
+		return length;
+	}
+}
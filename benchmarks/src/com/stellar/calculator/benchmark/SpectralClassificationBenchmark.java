@@ -0,0 +1,60 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.calculation.classification.SpectralTemperatureScale;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Per-star cost of classifying a temperature column on the
+ * {@link SpectralTemperatureScale}. Random temperatures defeat branch
+ * prediction, so a branchy search would show up as a large gap between the
+ * distributions.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SpectralClassificationBenchmark {
+	private static final int SIZE = 65536;
+
+	@Param({ "SOLAR_ANALOGUES", "SOLAR_NEIGHBOURHOOD" })
+	private StarDistribution distribution;
+
+	private final double[] temperatures = new double[SIZE];
+	private final byte[] types = new byte[SIZE];
+	private final byte[] halfSubtypes = new byte[SIZE];
+
+	@Setup
+	public void setUp() {
+		Star[] stars = distribution.sample(SIZE, 42L);
+		for (int i = 0; i < SIZE; i++) {
+			temperatures[i] = stars[i].getTemperature();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public byte[] classifyColumn() {
+		SpectralTemperatureScale.classify(temperatures, types, halfSubtypes, SIZE);
+		return halfSubtypes;
+	}
+}
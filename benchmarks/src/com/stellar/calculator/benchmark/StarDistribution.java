@@ -0,0 +1,127 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.SplittableRandom;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Synthetic star populations used as benchmark inputs.
+ *
+ * <p>
+ * Each distribution draws physically plausible (mass, radius, temperature)
+ * triples from simple scaling relations so that benchmarks exercise the same
+ * branches (spectral bands, luminosity class detectors) that real catalogs do.
+ * All samples stay within the limits enforced by
+ * {@link com.stellar.calculator.validation.InputValidator}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public enum StarDistribution {
+
+	/**
+	 * Sun-like stars with a small scatter around one solar mass.
+	 */
+	SOLAR_ANALOGUES {
+		@Override
+		Star next(SplittableRandom random) {
+			return mainSequence(random.nextDouble(0.9, 1.1));
+		}
+	},
+
+	/**
+	 * Main-sequence stars with masses drawn from a Kroupa-like initial mass
+	 * function (dominated by M dwarfs).
+	 */
+	MAIN_SEQUENCE {
+		@Override
+		Star next(SplittableRandom random) {
+			return mainSequence(initialMass(random));
+		}
+	},
+
+	/**
+	 * A solar-neighbourhood mix: mostly main-sequence stars, plus giants and
+	 * white dwarfs so that every luminosity class detector is exercised.
+	 */
+	SOLAR_NEIGHBOURHOOD {
+		@Override
+		Star next(SplittableRandom random) {
+			double roll = random.nextDouble();
+			if (roll < 0.06) {
+				return whiteDwarf(random);
+			}
+			if (roll < 0.10) {
+				return giant(random);
+			}
+			return mainSequence(initialMass(random));
+		}
+	};
+
+	/**
+	 * Draws the next star from this distribution.
+	 *
+	 * @param random the source of randomness
+	 * @return a valid star
+	 */
+	abstract Star next(SplittableRandom random);
+
+	/**
+	 * Draws a reproducible sample of stars from this distribution.
+	 *
+	 * @param count the number of stars to draw
+	 * @param seed  the random seed
+	 * @return the sampled stars
+	 */
+	public Star[] sample(int count, long seed) {
+		var random = new SplittableRandom(seed);
+		var stars = new Star[count];
+		for (int i = 0; i < count; i++) {
+			stars[i] = next(random);
+		}
+		return stars;
+	}
+
+	private static double initialMass(SplittableRandom random) {
+		// Piecewise power-law IMF sampled by inverse transform within each segment.
+		double roll = random.nextDouble();
+		if (roll < 0.70) {
+			return powerLaw(random, 0.08, 0.5, -1.3);
+		}
+		if (roll < 0.97) {
+			return powerLaw(random, 0.5, 2.0, -2.3);
+		}
+		return powerLaw(random, 2.0, 40.0, -2.3);
+	}
+
+	private static double powerLaw(SplittableRandom random, double min, double max, double alpha) {
+		double a1 = alpha + 1.0;
+		double lo = Math.pow(min, a1);
+		double hi = Math.pow(max, a1);
+		return Math.pow(lo + random.nextDouble() * (hi - lo), 1.0 / a1);
+	}
+
+	private static Star mainSequence(double mass) {
+		double radius = mass < 1.0 ? Math.pow(mass, 0.8) : Math.pow(mass, 0.57);
+		double luminosity;
+		if (mass < 0.43) {
+			luminosity = 0.23 * Math.pow(mass, 2.3);
+		} else if (mass < 2.0) {
+			luminosity = Math.pow(mass, 4.0);
+		} else {
+			luminosity = 1.5 * Math.pow(mass, 3.5);
+		}
+		double temperature = 5778.0 * Math.pow(luminosity / (radius * radius), 0.25);
+		return new Star(mass, radius, temperature);
+	}
+
+	private static Star giant(SplittableRandom random) {
+		return new Star(random.nextDouble(0.8, 5.0), random.nextDouble(8.0, 120.0),
+				random.nextDouble(3500.0, 5200.0));
+	}
+
+	private static Star whiteDwarf(SplittableRandom random) {
+		return new Star(random.nextDouble(0.5, 1.1), random.nextDouble(0.008, 0.02),
+				random.nextDouble(5000.0, 40000.0));
+	}
+}
@@ -0,0 +1,72 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.UncertainStar;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+import com.stellar.calculator.service.uncertainty.UncertaintyEngine;
+import com.stellar.calculator.service.uncertainty.UncertaintyResult;
+
+/**
+ * Monte Carlo uncertainty propagation of a small catalog with 10,000 samples
+ * per star, at different degrees of parallelism and chunk sizes. Every star
+ * has 5% mass and radius errors and a 100 K temperature error.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UncertaintyEngineBenchmark {
+	private static final int CATALOG_SIZE = 64;
+	private static final int SAMPLES = 10_000;
+
+	@Param({ "1", "4", "16" })
+	private int parallelism;
+
+	@Param({ "256", "1024", "4096" })
+	private int chunkSize;
+
+	private UncertaintyEngine engine;
+	private List<UncertainStar> catalog;
+
+	@Setup
+	public void setUp() {
+		engine = new UncertaintyEngine(new StellarCalculationService(), parallelism, SAMPLES, chunkSize, 16, 50, 84);
+		catalog = new ArrayList<>(CATALOG_SIZE);
+		for (Star star : StarDistribution.SOLAR_NEIGHBOURHOOD.sample(CATALOG_SIZE, 42L)) {
+			catalog.add(UncertainStar.of(star.getMass(), 0.05 * star.getMass(), star.getRadius(),
+					0.05 * star.getRadius(), star.getTemperature(), 100));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		engine.close();
+	}
+
+	@Benchmark
+	public List<UncertaintyResult> analyzeCatalog() {
+		return engine.analyze(catalog, 42L);
+	}
+}
@@ -0,0 +1,89 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.validation.InputValidator;
+
+/**
+ * Validating catalog columns with the throwing per-value checks versus the
+ * exception-free column check, for catalogs with different fractions of
+ * invalid rows.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidationBenchmark {
+	private static final int CATALOG_SIZE = 4096;
+
+	@Param({ "0.0", "0.1", "0.5" })
+	private double invalidFraction;
+
+	private final InputValidator validator = new InputValidator();
+	private double[] masses;
+	private double[] radii;
+	private double[] temperatures;
+	private byte[] errors;
+
+	@Setup
+	public void setUp() {
+		Star[] stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(CATALOG_SIZE, 42L);
+		var random = new SplittableRandom(7L);
+		masses = new double[CATALOG_SIZE];
+		radii = new double[CATALOG_SIZE];
+		temperatures = new double[CATALOG_SIZE];
+		errors = new byte[CATALOG_SIZE];
+		for (int i = 0; i < CATALOG_SIZE; i++) {
+			masses[i] = stars[i].getMass();
+			radii[i] = stars[i].getRadius();
+			temperatures[i] = stars[i].getTemperature();
+			if (random.nextDouble() < invalidFraction) {
+				// Spread the damage over all three columns.
+				switch (random.nextInt(3)) {
+				case 0 -> masses[i] = -masses[i];
+				case 1 -> radii[i] = 0;
+				default -> temperatures[i] = 1e6;
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public int validateEach() {
+		int invalid = 0;
+		for (int i = 0; i < CATALOG_SIZE; i++) {
+			try {
+				validator.validateMass(masses[i]);
+				validator.validateRadius(radii[i]);
+				validator.validateTemperature(temperatures[i]);
+			} catch (IllegalArgumentException e) {
+				invalid++;
+			}
+		}
+		return invalid;
+	}
+
+	@Benchmark
+	public int checkColumns() {
+		return validator.checkColumns(masses, radii, temperatures, CATALOG_SIZE, errors);
+	}
+}
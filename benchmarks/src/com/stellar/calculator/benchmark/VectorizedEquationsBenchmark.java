@@ -0,0 +1,181 @@
+package com.stellar.calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.physics.equations.GeometricEquations;
+import com.stellar.calculator.physics.equations.MagnitudeEquations;
+import com.stellar.calculator.physics.equations.OrbitalEquations;
+import com.stellar.calculator.physics.equations.ThermalEquations;
+import com.stellar.calculator.physics.equations.VectorizedEquations;
+
+/**
+ * Per-element cost of the {@link VectorizedEquations} array kernels compared to
+ * a loop over the scalar equations.
+ *
+ * <p>
+ * Setup first checks that every kernel agrees with its scalar equation within
+ * the tolerances documented by {@link VectorizedEquations} and aborts the run
+ * otherwise, so a numerically broken kernel can never produce a flattering
+ * score. The kernels are tested more thoroughly by the unit tests.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class VectorizedEquationsBenchmark {
+	private static final int SIZE = 4096;
+
+	private final double[] mass = new double[SIZE];
+	private final double[] radius = new double[SIZE];
+	private final double[] temperature = new double[SIZE];
+	private final double[] distance = new double[SIZE];
+	private final double[] out = new double[SIZE];
+
+	@Setup
+	public void setUp() {
+		Star[] stars = StarDistribution.SOLAR_NEIGHBOURHOOD.sample(SIZE, 42L);
+		for (int i = 0; i < SIZE; i++) {
+			mass[i] = stars[i].getMass();
+			radius[i] = stars[i].getRadius();
+			temperature[i] = stars[i].getTemperature();
+			distance[i] = 0.05 + (i % 400) * 0.1;
+		}
+		verifyAgreement();
+	}
+
+	private void verifyAgreement() {
+		VectorizedEquations.calculateRadiantFlux(radius, temperature, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("radiant flux", out[i], ThermalEquations.calculateRadiantFlux(radius[i], temperature[i]));
+		}
+		VectorizedEquations.calculateIrradianceAtDistance(radius, temperature, distance, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("irradiance", out[i],
+					ThermalEquations.calculateIrradianceAtDistance(radius[i], temperature[i], distance[i]));
+		}
+		VectorizedEquations.calculatePeriod(mass, distance, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("orbital period", out[i], OrbitalEquations.calculatePeriod(mass[i], distance[i]));
+		}
+		VectorizedEquations.calculateAngularSize(radius, distance, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("angular size", out[i], GeometricEquations.calculateAngularSize(radius[i], distance[i]));
+		}
+		VectorizedEquations.calculateApparentMagnitude(radius, temperature, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("apparent magnitude", out[i],
+					MagnitudeEquations.calculateApparentMagnitude(radius[i], temperature[i]),
+					VectorizedEquations.MAX_MAGNITUDE_ERROR);
+		}
+	}
+
+	private static void check(String kernel, double vectorized, double scalar) {
+		check(kernel, vectorized, scalar, 0);
+	}
+
+	private static void check(String kernel, double vectorized, double scalar, double absoluteError) {
+		double ulp = Math.ulp(Math.max(Math.abs(vectorized), Math.abs(scalar)));
+		if (Math.abs(vectorized - scalar) > Math.max(VectorizedEquations.MAX_ULP_ERROR * ulp, absoluteError)) {
+			throw new IllegalStateException(kernel + " kernel disagrees with the scalar equation: " + vectorized
+					+ " vs " + scalar);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] radiantFluxScalar() {
+		for (int i = 0; i < SIZE; i++) {
+			out[i] = ThermalEquations.calculateRadiantFlux(radius[i], temperature[i]);
+		}
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] radiantFluxVectorized() {
+		VectorizedEquations.calculateRadiantFlux(radius, temperature, out, SIZE);
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] irradianceScalar() {
+		for (int i = 0; i < SIZE; i++) {
+			out[i] = ThermalEquations.calculateIrradianceAtDistance(radius[i], temperature[i], distance[i]);
+		}
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] irradianceVectorized() {
+		VectorizedEquations.calculateIrradianceAtDistance(radius, temperature, distance, out, SIZE);
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] orbitalPeriodScalar() {
+		for (int i = 0; i < SIZE; i++) {
+			out[i] = OrbitalEquations.calculatePeriod(mass[i], distance[i]);
+		}
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] orbitalPeriodVectorized() {
+		VectorizedEquations.calculatePeriod(mass, distance, out, SIZE);
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] angularSizeScalar() {
+		for (int i = 0; i < SIZE; i++) {
+			out[i] = GeometricEquations.calculateAngularSize(radius[i], distance[i]);
+		}
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] angularSizeVectorized() {
+		VectorizedEquations.calculateAngularSize(radius, distance, out, SIZE);
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] apparentMagnitudeScalar() {
+		for (int i = 0; i < SIZE; i++) {
+			out[i] = MagnitudeEquations.calculateApparentMagnitude(radius[i], temperature[i]);
+		}
+		return out;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double[] apparentMagnitudeVectorized() {
+		VectorizedEquations.calculateApparentMagnitude(radius, temperature, out, SIZE);
+		return out;
+	}
+}
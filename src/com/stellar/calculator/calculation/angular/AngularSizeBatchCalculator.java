@@ -0,0 +1,42 @@
+package com.stellar.calculator.calculation.angular;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.DoubleResultColumn;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.physics.equations.ThermalEquations;
+import com.stellar.calculator.physics.equations.VectorizedEquations;
+
+/**
+ * Batch counterpart of {@link AngularSizeCalculator}. Writes the angular size
+ * at Earth-equivalent distance of each star, in degrees, into a single
+ * primitive column.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see AngularSizeCalculator
+ */
+public class AngularSizeBatchCalculator implements BatchCalculator<DoubleResultColumn> {
+
+	@Override
+	public DoubleResultColumn allocate(int capacity) {
+		return new DoubleResultColumn(capacity, AngularSizeResult::new);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, DoubleResultColumn output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] radius = batch.radii();
+		double[] temperature = batch.temperatures();
+		double[] angularSize = output.values();
+		// The angular size column first holds the Earth-equivalent distances.
+		for (int i = 0; i < n; i++) {
+			angularSize[i] = ThermalEquations.calculateEarthEquivalentDistance(radius[i], temperature[i]);
+		}
+		VectorizedEquations.calculateAngularSize(radius, angularSize, angularSize, n);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Angular size as seen from Earth-equivalent distance";
+	}
+}
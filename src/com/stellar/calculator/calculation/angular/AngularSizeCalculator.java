@@ -1,8 +1,10 @@
 package com.stellar.calculator.calculation.angular;
 
-import com.stellar.calculator.calculation.api.Calculator;
-import com.stellar.calculator.domain.model.Star;
-import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
 import com.stellar.calculator.physics.equations.GeometricEquations;
 
 /**
@@ -11,18 +13,18 @@ import com.stellar.calculator.physics.equations.GeometricEquations;
  * @author Ahmed Ghannam
  * @version 1.0 
  */
-public class AngularSizeCalculator implements Calculator<Star, AngularSizeResult> {
+public class AngularSizeCalculator implements ContextualCalculator<AngularSizeResult> {
 
 	@Override
-	public AngularSizeResult calculate(Star star) {
-		double earthEquivDistance = calculateEarthEquivalentDistance(star);
-		double angularSize = GeometricEquations.calculateAngularSize(star.getRadius(), earthEquivDistance);
+	public AngularSizeResult calculate(DerivedQuantities quantities) {
+		double earthEquivDistance = quantities.earthEquivalentDistance();
+		double angularSize = GeometricEquations.calculateAngularSize(quantities.star().getRadius(), earthEquivDistance);
 		return new AngularSizeResult(angularSize);
 	}
 
-	private double calculateEarthEquivalentDistance(Star star) {
-		return Math.sqrt(star.getRadius() * star.getRadius()
-				* Math.pow(star.getTemperature() / SolarSystemConstants.SOLAR_TEMPERATURE, 4));
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.EARTH_EQUIVALENT_DISTANCE);
 	}
 
 	@Override
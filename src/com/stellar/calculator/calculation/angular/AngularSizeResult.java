@@ -1,6 +1,7 @@
 package com.stellar.calculator.calculation.angular;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
 import com.stellar.calculator.physics.constants.SolarSystemConstants;
 
 /**
@@ -18,12 +19,17 @@ public record AngularSizeResult(double angularSize) implements CalculationResult
 
 	@Override
 	public String format() {
+		return formatTo(new StringBuilder(160)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
 		double percentOfSolar = (angularSize / SolarSystemConstants.ANGULAR_SIZE_SOL) * 100;
-		return String.format("""
-				Angular Size at Earth-equivalent Distance
-				Size: %.2f degrees
-				Apparent size relative to our Sun: %.1f%%
-				(This is how large the star would appear in the sky)""", angularSize, percentOfSolar);
+		out.append("Angular Size at Earth-equivalent Distance\nSize: ");
+		DecimalEncoder.appendFixed(out, angularSize, 2);
+		out.append(" degrees\nApparent size relative to our Sun: ");
+		DecimalEncoder.appendFixed(out, percentOfSolar, 1);
+		return out.append("%\n(This is how large the star would appear in the sky)");
 	}
 
 	@Override
@@ -0,0 +1,103 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.Objects;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+
+/**
+ * Column-oriented counterpart of {@link Calculator}. Instead of producing one
+ * result object per star, a batch calculator processes a whole
+ * {@link StarBatch} and writes its output into preallocated primitive
+ * {@link ResultColumns}, so that large catalogs can be processed without a
+ * per-star allocation.
+ *
+ * <p>
+ * Row {@code i} of the output must describe the same result that the scalar
+ * calculator produces for row {@code i} of the input. Implementations built on
+ * {@link com.stellar.calculator.physics.equations.VectorizedEquations} may
+ * differ from the scalar result in the last few bits.
+ *
+ * @param <C> the type of the output columns
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public interface BatchCalculator<C extends ResultColumns> {
+	/**
+	 * Allocates output columns able to hold results for <b>capacity</b> stars.
+	 *
+	 * @param capacity the number of rows to allocate
+	 * @return empty output columns
+	 */
+	C allocate(int capacity);
+
+	/**
+	 * Performs the calculation for every star in the batch.
+	 *
+	 * @param batch  the stars to analyze
+	 * @param output the columns to write to; their size is set to the batch size
+	 * @throws IllegalArgumentException if <b>output</b> is too small for the batch
+	 */
+	void calculate(StarBatch batch, C output);
+
+	/**
+	 * Returns a description of what this calculator primarily computes.
+	 * 
+	 * @return the calculation description
+	 */
+	String getDescription();
+
+	/**
+	 * Validates that <b>output</b> can hold the results for <b>batch</b> and sets
+	 * its size accordingly. Intended for use by implementations.
+	 *
+	 * @param batch  the input batch
+	 * @param output the output columns
+	 * @return the number of rows to calculate
+	 * @throws IllegalArgumentException if <b>output</b> is too small for the batch
+	 */
+	static int prepare(StarBatch batch, ResultColumns output) {
+		Objects.requireNonNull(batch, "batch cannot be null");
+		Objects.requireNonNull(output, "output cannot be null");
+		int n = batch.size();
+		if (n > output.capacity()) {
+			throw new IllegalArgumentException(
+					"output capacity " + output.capacity() + " is smaller than batch size " + n);
+		}
+		output.setSize(n);
+		return n;
+	}
+
+	/**
+	 * Adapts a scalar calculator to the batch interface. Every row is calculated
+	 * individually and stored as a result object, so this is only as efficient as
+	 * the scalar calculator itself.
+	 *
+	 * @param calculator the scalar calculator to adapt
+	 * @return a batch calculator delegating to <b>calculator</b>
+	 * @throws NullPointerException if <b>calculator</b> is {@code null}
+	 */
+	static BatchCalculator<ObjectResultColumn> adapt(Calculator<Star, ? extends CalculationResult> calculator) {
+		Objects.requireNonNull(calculator, "calculator cannot be null");
+		return new BatchCalculator<>() {
+			@Override
+			public ObjectResultColumn allocate(int capacity) {
+				return new ObjectResultColumn(capacity);
+			}
+
+			@Override
+			public void calculate(StarBatch batch, ObjectResultColumn output) {
+				int n = prepare(batch, output);
+				CalculationResult[] values = output.values();
+				for (int i = 0; i < n; i++) {
+					values[i] = calculator.calculate(batch.star(i));
+				}
+			}
+
+			@Override
+			public String getDescription() {
+				return calculator.getDescription();
+			}
+		};
+	}
+}
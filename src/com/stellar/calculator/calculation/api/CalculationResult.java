@@ -15,10 +15,51 @@ public interface CalculationResult {
 	 */
 	String format();
 
+	/**
+	 * Appends the {@link #format() formatted} result to a builder. Results
+	 * emitted in bulk should override this to write their text directly, e.g.
+	 * with {@link com.stellar.calculator.formatter.DecimalEncoder}, and
+	 * implement {@link #format()} on top of it; the default appends
+	 * {@link #format()}.
+	 *
+	 * @param out the builder to append to
+	 * @return <b>out</b>
+	 */
+	default StringBuilder formatTo(StringBuilder out) {
+		return out.append(format());
+	}
+
 	/**
 	 * Returns the raw numerical value of the result.
 	 * 
 	 * @return numerical the result value
 	 */
 	double getValue();
+
+	/**
+	 * Returns a short name of the kind of result, used to label it in machine
+	 * readable output. The default derives it from the type name, e.g.
+	 * {@code EarthEquivalentDistanceResult} becomes
+	 * {@code earthEquivalentDistance}.
+	 *
+	 * @return the result name
+	 */
+	default String resultName() {
+		return nameOf(getClass());
+	}
+
+	/**
+	 * Returns the {@link #resultName() name} results of a type have by default.
+	 *
+	 * @param type the result type
+	 * @return the result name
+	 * @throws NullPointerException if <b>type</b> is {@code null}
+	 */
+	static String nameOf(Class<? extends CalculationResult> type) {
+		String name = type.getSimpleName();
+		if (name.endsWith("Result")) {
+			name = name.substring(0, name.length() - "Result".length());
+		}
+		return name.isEmpty() ? "value" : Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
 }
@@ -1,5 +1,7 @@
 package com.stellar.calculator.calculation.api;
 
+import java.lang.reflect.Method;
+
 /**
  * Base interface for all calculators used across the application. Defines the
  * contract for performing calculations on stellar objects.
@@ -25,4 +27,38 @@ public interface Calculator<T, R extends CalculationResult> {
 	 * @return calculator the calculation description
 	 */
 	String getDescription();
+
+	/**
+	 * Returns a short name of this calculator, used to label its metrics. The
+	 * default is the simple name of its class.
+	 *
+	 * @return the calculator name
+	 */
+	default String getName() {
+		return getClass().getSimpleName();
+	}
+
+	/**
+	 * Returns the type of the results this calculator produces, used to select
+	 * calculators by the results a client asks for.
+	 *
+	 * <p>
+	 * The default returns the most specific return type declared by the
+	 * calculator's public {@code calculate} methods, or
+	 * {@link CalculationResult} if the class does not narrow it (as for
+	 * lambdas). Calculators whose type cannot be found that way should
+	 * override it.
+	 *
+	 * @return the result type
+	 */
+	default Class<? extends CalculationResult> getResultType() {
+		Class<? extends CalculationResult> type = CalculationResult.class;
+		for (Method method : getClass().getMethods()) {
+			if (method.getName().equals("calculate") && method.getParameterCount() == 1 && !method.isBridge()
+					&& type.isAssignableFrom(method.getReturnType())) {
+				type = method.getReturnType().asSubclass(CalculationResult.class);
+			}
+		}
+		return type;
+	}
 }
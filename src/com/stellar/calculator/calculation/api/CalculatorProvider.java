@@ -0,0 +1,90 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.Set;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Makes a star calculator discoverable through {@link java.util.ServiceLoader}.
+ *
+ * <p>
+ * A provider describes its calculator (result type and declared quantities)
+ * without loading the calculator class, and creates the calculator only when
+ * asked. Services wrap providers in a {@link LazyCalculator}, so a calculator
+ * that is never run is never loaded. Providers must be cheap to instantiate and
+ * should not reference the calculator class outside {@link #calculator()} and
+ * {@link #batchCalculator()}.
+ *
+ * <p>
+ * Providers are declared with {@code provides CalculatorProvider with ...} in
+ * a module descriptor, or in
+ * {@code META-INF/services/com.stellar.calculator.calculation.api.CalculatorProvider}
+ * on the class path. Their calculators are registered in the order the
+ * providers are declared.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public interface CalculatorProvider {
+
+	/**
+	 * Returns the type of the results the calculator produces.
+	 *
+	 * @return the result type
+	 * @see Calculator#getResultType()
+	 */
+	Class<? extends CalculationResult> resultType();
+
+	/**
+	 * Returns the derived quantities the calculator reads. Must match
+	 * {@link ContextualCalculator#requires()} of the calculator. The default is
+	 * none.
+	 *
+	 * @return the required quantities
+	 */
+	default Set<DerivedQuantity> requires() {
+		return Set.of();
+	}
+
+	/**
+	 * Returns the derived quantities the calculator leaves computed. Must match
+	 * {@link ContextualCalculator#produces()} of the calculator. The default is
+	 * none.
+	 *
+	 * @return the produced quantities
+	 */
+	default Set<DerivedQuantity> produces() {
+		return Set.of();
+	}
+
+	/**
+	 * Returns the name of the calculator, used to label its metrics. The default
+	 * is the simple name of the provider class without a trailing
+	 * {@code Provider}, e.g. {@code LuminosityCalculatorProvider} becomes
+	 * {@code LuminosityCalculator}.
+	 *
+	 * @return the calculator name
+	 * @see Calculator#getName()
+	 */
+	default String name() {
+		String name = getClass().getSimpleName();
+		return name.endsWith("Provider") ? name.substring(0, name.length() - "Provider".length()) : name;
+	}
+
+	/**
+	 * Creates the calculator.
+	 *
+	 * @return a new calculator
+	 */
+	Calculator<Star, ? extends CalculationResult> calculator();
+
+	/**
+	 * Creates the column-oriented counterpart of the calculator. The default
+	 * adapts a new {@link #calculator()} with {@link BatchCalculator#adapt}.
+	 *
+	 * @return a new batch calculator
+	 */
+	default BatchCalculator<?> batchCalculator() {
+		return BatchCalculator.adapt(calculator());
+	}
+}
@@ -0,0 +1,71 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.Set;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * A star calculator that reads shared intermediates from
+ * {@link DerivedQuantities} instead of recomputing them.
+ *
+ * <p>
+ * Services analyzing a star with several calculators create one
+ * {@code DerivedQuantities} per star and pass it to every contextual
+ * calculator. Called with a plain {@link Star}, a contextual calculator behaves
+ * like any other calculator.
+ *
+ * <p>
+ * Calculators declare the quantities they read in {@link #requires()} and the
+ * ones they leave computed in {@link #produces()}. Services use these
+ * declarations to run a calculator only after the producers of its inputs, and
+ * to run unrelated calculators concurrently.
+ *
+ * @param <R> the type of the calculation result
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public interface ContextualCalculator<R extends CalculationResult> extends Calculator<Star, R> {
+
+	/**
+	 * Performs the calculation using the shared quantities of a star.
+	 *
+	 * @param quantities the derived quantities of the star to analyze
+	 * @return the calculation result
+	 * @throws NullPointerException     if <b>quantities</b> is {@code null}
+	 * @throws IllegalArgumentException if the star is invalid
+	 */
+	R calculate(DerivedQuantities quantities);
+
+	/**
+	 * Returns the derived quantities this calculator reads. The default is none.
+	 *
+	 * @return the required quantities
+	 */
+	default Set<DerivedQuantity> requires() {
+		return Set.of();
+	}
+
+	/**
+	 * Returns the derived quantities this calculator computes for others to
+	 * reuse. Each quantity implicitly produces its {@link DerivedQuantity#closure()
+	 * closure}. The default is none.
+	 *
+	 * @return the produced quantities
+	 */
+	default Set<DerivedQuantity> produces() {
+		return Set.of();
+	}
+
+	/**
+	 * Performs the calculation on a single star.
+	 *
+	 * @param star the star to analyze
+	 * @return the calculation result
+	 * @throws NullPointerException     if <b>star</b> is {@code null}
+	 * @throws IllegalArgumentException if the star is invalid
+	 */
+	@Override
+	default R calculate(Star star) {
+		return calculate(new DerivedQuantities(star));
+	}
+}
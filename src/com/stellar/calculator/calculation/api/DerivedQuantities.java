@@ -0,0 +1,138 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.Objects;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.physics.equations.ThermalEquations;
+
+/**
+ * Lazily computed intermediate quantities of a single star, shared by all
+ * calculators that analyze it.
+ *
+ * <p>
+ * Several calculators need the same expensive intermediates (the
+ * Stefan-Boltzmann flux behind luminosity, the Earth-equivalent distance, ...).
+ * Each quantity is computed on first access and memoized, so that a full
+ * analysis evaluates every intermediate at most once per star. Values are
+ * computed with the same equations the calculators used on their own, so
+ * results do not change.
+ *
+ * <p>
+ * Instances are cheap and meant to live for the analysis of one star. They are
+ * not synchronized: calculators running concurrently may only read the
+ * quantities they declare in {@link ContextualCalculator#requires()}, which the
+ * service computes before they start.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see ContextualCalculator
+ */
+public final class DerivedQuantities {
+	private final Star star;
+
+	private double radiantFlux = Double.NaN;
+	private double luminosity = Double.NaN;
+	private double logLuminosity = Double.NaN;
+	private double scaledLuminosity = Double.NaN;
+	private double earthEquivalentDistance = Double.NaN;
+
+	/**
+	 * Creates the (still empty) quantities of a star.
+	 *
+	 * @param star the star the quantities belong to
+	 * @throws NullPointerException if <b>star</b> is {@code null}
+	 */
+	public DerivedQuantities(Star star) {
+		this.star = Objects.requireNonNull(star, "star cannot be null");
+	}
+
+	/**
+	 * Returns the star these quantities are derived from.
+	 *
+	 * @return the star
+	 */
+	public Star star() {
+		return star;
+	}
+
+	/**
+	 * Computes, or returns the memoized value of, the given quantity.
+	 *
+	 * @param quantity the quantity to compute
+	 * @return the value of the quantity
+	 * @throws NullPointerException if <b>quantity</b> is {@code null}
+	 */
+	public double compute(DerivedQuantity quantity) {
+		return switch (Objects.requireNonNull(quantity, "quantity cannot be null")) {
+		case RADIANT_FLUX -> radiantFlux();
+		case LUMINOSITY -> luminosity();
+		case LOG_LUMINOSITY -> logLuminosity();
+		case SCALED_LUMINOSITY -> scaledLuminosity();
+		case EARTH_EQUIVALENT_DISTANCE -> earthEquivalentDistance();
+		};
+	}
+
+	/**
+	 * Returns the total radiant flux from the Stefan-Boltzmann law.
+	 *
+	 * @return the radiant flux in watts
+	 * @see ThermalEquations#calculateRadiantFlux(double, double)
+	 */
+	public double radiantFlux() {
+		if (Double.isNaN(radiantFlux)) {
+			radiantFlux = ThermalEquations.calculateRadiantFlux(star.getRadius(), star.getTemperature());
+		}
+		return radiantFlux;
+	}
+
+	/**
+	 * Returns the bolometric luminosity derived from the radiant flux.
+	 *
+	 * @return the luminosity in solar units
+	 */
+	public double luminosity() {
+		if (Double.isNaN(luminosity)) {
+			luminosity = radiantFlux() / SolarSystemConstants.SOLAR_LUMINOSITY;
+		}
+		return luminosity;
+	}
+
+	/**
+	 * Returns the base-10 logarithm of {@link #luminosity()}.
+	 *
+	 * @return log10(L/L☉)
+	 */
+	public double logLuminosity() {
+		if (Double.isNaN(logLuminosity)) {
+			logLuminosity = Math.log10(luminosity());
+		}
+		return logLuminosity;
+	}
+
+	/**
+	 * Returns the luminosity from the (R/R☉)²(T/T☉)⁴ scaling relation.
+	 *
+	 * @return the scaled luminosity in solar units
+	 * @see ThermalEquations#calculateScaledLuminosity(double, double)
+	 */
+	public double scaledLuminosity() {
+		if (Double.isNaN(scaledLuminosity)) {
+			scaledLuminosity = ThermalEquations.calculateScaledLuminosity(star.getRadius(), star.getTemperature());
+		}
+		return scaledLuminosity;
+	}
+
+	/**
+	 * Returns the distance at which a planet receives Earth's irradiance.
+	 *
+	 * @return the Earth-equivalent distance in AU
+	 * @see ThermalEquations#calculateEarthEquivalentDistance(double, double)
+	 */
+	public double earthEquivalentDistance() {
+		if (Double.isNaN(earthEquivalentDistance)) {
+			earthEquivalentDistance = Math.sqrt(scaledLuminosity());
+		}
+		return earthEquivalentDistance;
+	}
+}
@@ -0,0 +1,70 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The intermediate quantities held by {@link DerivedQuantities}. Calculators
+ * declare which of them they require and produce, which lets a service order
+ * and parallelize them.
+ *
+ * <p>
+ * The star's own parameters (mass, radius and temperature) are always
+ * available and are not listed here.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see ContextualCalculator#requires()
+ * @see ContextualCalculator#produces()
+ */
+public enum DerivedQuantity {
+	/**
+	 * The total radiant flux from the Stefan-Boltzmann law.
+	 */
+	RADIANT_FLUX,
+
+	/**
+	 * The bolometric luminosity in solar units, derived from the radiant flux.
+	 */
+	LUMINOSITY(RADIANT_FLUX),
+
+	/**
+	 * The base-10 logarithm of the luminosity.
+	 */
+	LOG_LUMINOSITY(LUMINOSITY),
+
+	/**
+	 * The luminosity from the (R/R☉)²(T/T☉)⁴ scaling relation.
+	 */
+	SCALED_LUMINOSITY,
+
+	/**
+	 * The distance at which a planet receives Earth's irradiance.
+	 */
+	EARTH_EQUIVALENT_DISTANCE(SCALED_LUMINOSITY);
+
+	private final DerivedQuantity prerequisite;
+
+	DerivedQuantity() {
+		this(null);
+	}
+
+	DerivedQuantity(DerivedQuantity prerequisite) {
+		this.prerequisite = prerequisite;
+	}
+
+	/**
+	 * Returns this quantity together with every quantity computed on the way to
+	 * it. Producing {@link #LUMINOSITY}, for example, also produces
+	 * {@link #RADIANT_FLUX}.
+	 *
+	 * @return the closure of this quantity, never empty
+	 */
+	public Set<DerivedQuantity> closure() {
+		Set<DerivedQuantity> closure = EnumSet.noneOf(DerivedQuantity.class);
+		for (DerivedQuantity q = this; q != null; q = q.prerequisite) {
+			closure.add(q);
+		}
+		return closure;
+	}
+}
@@ -0,0 +1,66 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+
+/**
+ * A single primitive output column for calculators whose result is one number
+ * per star (luminosity, distances, periods, ...).
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class DoubleResultColumn implements ResultColumns {
+	private final double[] values;
+	private final DoubleFunction<? extends CalculationResult> resultFactory;
+	private int size;
+
+	/**
+	 * Creates an empty column.
+	 *
+	 * @param capacity      the number of rows to allocate
+	 * @param resultFactory creates the result record for a single value
+	 * @throws NullPointerException if <b>resultFactory</b> is {@code null}
+	 */
+	public DoubleResultColumn(int capacity, DoubleFunction<? extends CalculationResult> resultFactory) {
+		this.values = new double[capacity];
+		this.resultFactory = Objects.requireNonNull(resultFactory, "resultFactory cannot be null");
+	}
+
+	/**
+	 * Returns the backing value array. Only the first {@link #size()} entries are
+	 * valid.
+	 *
+	 * @return the values
+	 */
+	public double[] values() {
+		return values;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return values.length;
+	}
+
+	@Override
+	public void setSize(int size) {
+		Objects.checkFromToIndex(0, size, values.length);
+		this.size = size;
+	}
+
+	@Override
+	public CalculationResult toResult(int row) {
+		return resultFactory.apply(values[Objects.checkIndex(row, size)]);
+	}
+
+	@Override
+	public double quantity(int row, int quantity) {
+		Objects.checkIndex(quantity, 1);
+		return values[Objects.checkIndex(row, size)];
+	}
+}
@@ -0,0 +1,165 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.Objects;
+import java.util.Set;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+
+/**
+ * A calculator that creates its delegate from a {@link CalculatorProvider} on
+ * first use.
+ *
+ * <p>
+ * The result type, declared quantities and name come from the provider, so a
+ * service can build its dependency graph and select calculators without
+ * loading any calculator class. The delegate is created by the first call that
+ * needs it: a calculation or {@link #getDescription()}. The column-oriented
+ * counterpart returned by {@link #batchCalculator()} is created independently
+ * on its first use, so scalar and batch paths only load what they run.
+ *
+ * <p>
+ * When a contextual delegate is created, its declared quantities are checked
+ * against the provider's. Lazy calculators are safe for concurrent use; each
+ * delegate is created at most once.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class LazyCalculator implements ContextualCalculator<CalculationResult> {
+	private final CalculatorProvider provider;
+	private final BatchCalculator<ResultColumns> batchCalculator = new LazyBatchCalculator();
+	private volatile Calculator<Star, ? extends CalculationResult> calculator;
+
+	/**
+	 * Creates a lazy calculator for a provider.
+	 *
+	 * @param provider the provider creating the delegate
+	 * @throws NullPointerException if <b>provider</b> is {@code null}
+	 */
+	public LazyCalculator(CalculatorProvider provider) {
+		this.provider = Objects.requireNonNull(provider, "provider cannot be null");
+	}
+
+	@Override
+	public CalculationResult calculate(DerivedQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+		Calculator<Star, ? extends CalculationResult> delegate = delegate();
+		return delegate instanceof ContextualCalculator<?> contextual ? contextual.calculate(quantities)
+				: delegate.calculate(quantities.star());
+	}
+
+	@Override
+	public CalculationResult calculate(Star star) {
+		return delegate().calculate(star);
+	}
+
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return provider.requires();
+	}
+
+	@Override
+	public Set<DerivedQuantity> produces() {
+		return provider.produces();
+	}
+
+	@Override
+	public Class<? extends CalculationResult> getResultType() {
+		return provider.resultType();
+	}
+
+	@Override
+	public String getName() {
+		return provider.name();
+	}
+
+	@Override
+	public String getDescription() {
+		return delegate().getDescription();
+	}
+
+	/**
+	 * Returns the lazily created column-oriented counterpart of this
+	 * calculator.
+	 *
+	 * @return the batch calculator
+	 */
+	public BatchCalculator<?> batchCalculator() {
+		return batchCalculator;
+	}
+
+	/**
+	 * Checks whether the delegate has been created.
+	 *
+	 * @return {@code true} once the calculator has been used
+	 */
+	public boolean isInitialized() {
+		return calculator != null;
+	}
+
+	private Calculator<Star, ? extends CalculationResult> delegate() {
+		Calculator<Star, ? extends CalculationResult> delegate = calculator;
+		if (delegate == null) {
+			synchronized (this) {
+				delegate = calculator;
+				if (delegate == null) {
+					delegate = Objects.requireNonNull(provider.calculator(), "provider returned no calculator");
+					if (delegate instanceof ContextualCalculator<?> contextual
+							&& (!contextual.requires().equals(provider.requires())
+									|| !contextual.produces().equals(provider.produces()))) {
+						throw new IllegalStateException(provider.name() + " declares other quantities than its provider");
+					}
+					calculator = delegate;
+				}
+			}
+		}
+		return delegate;
+	}
+
+	/**
+	 * Creates the provider's batch calculator on first use.
+	 */
+	private final class LazyBatchCalculator implements BatchCalculator<ResultColumns> {
+		private volatile BatchCalculator<?> batchDelegate;
+
+		@Override
+		public ResultColumns allocate(int capacity) {
+			return delegate().allocate(capacity);
+		}
+
+		@Override
+		public void calculate(StarBatch batch, ResultColumns output) {
+			calculate(delegate(), batch, output);
+		}
+
+		@Override
+		public String getDescription() {
+			return delegate().getDescription();
+		}
+
+		/*
+		 * The output was allocated by the same delegate, so the cast is safe.
+		 */
+		@SuppressWarnings("unchecked")
+		private static <C extends ResultColumns> void calculate(BatchCalculator<C> delegate, StarBatch batch,
+				ResultColumns output) {
+			delegate.calculate(batch, (C) output);
+		}
+
+		private BatchCalculator<?> delegate() {
+			BatchCalculator<?> delegate = batchDelegate;
+			if (delegate == null) {
+				synchronized (this) {
+					delegate = batchDelegate;
+					if (delegate == null) {
+						delegate = Objects.requireNonNull(provider.batchCalculator(),
+								"provider returned no batch calculator");
+						batchDelegate = delegate;
+					}
+				}
+			}
+			return delegate;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.Objects;
+
+/**
+ * An output column holding fully materialized result objects. Used to run
+ * scalar calculators in batch mode, see {@link BatchCalculator#adapt}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class ObjectResultColumn implements ResultColumns {
+	private final CalculationResult[] values;
+	private int size;
+
+	/**
+	 * Creates an empty column.
+	 *
+	 * @param capacity the number of rows to allocate
+	 */
+	public ObjectResultColumn(int capacity) {
+		this.values = new CalculationResult[capacity];
+	}
+
+	/**
+	 * Returns the backing result array. Only the first {@link #size()} entries are
+	 * valid.
+	 *
+	 * @return the results
+	 */
+	public CalculationResult[] values() {
+		return values;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return values.length;
+	}
+
+	@Override
+	public void setSize(int size) {
+		Objects.checkFromToIndex(0, size, values.length);
+		this.size = size;
+	}
+
+	@Override
+	public CalculationResult toResult(int row) {
+		return values[Objects.checkIndex(row, size)];
+	}
+}
@@ -0,0 +1,42 @@
+package com.stellar.calculator.calculation.api;
+
+import com.stellar.calculator.domain.model.Planet;
+
+/**
+ * A planet calculator that reads shared intermediates of the planet and its
+ * host star from {@link PlanetQuantities} instead of recomputing them.
+ *
+ * <p>
+ * Services analyzing many planets of the same system share one
+ * {@link DerivedQuantities} of the host between all of them. Called with a
+ * plain {@link Planet}, a planet calculator computes everything on its own.
+ *
+ * @param <R> the type of the calculation result
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public interface PlanetCalculator<R extends CalculationResult> extends Calculator<Planet, R> {
+
+	/**
+	 * Performs the calculation using the shared quantities of a planet.
+	 *
+	 * @param quantities the quantities of the planet to analyze
+	 * @return the calculation result
+	 * @throws NullPointerException     if <b>quantities</b> is {@code null}
+	 * @throws IllegalArgumentException if the planet is invalid
+	 */
+	R calculate(PlanetQuantities quantities);
+
+	/**
+	 * Performs the calculation on a single planet.
+	 *
+	 * @param planet the planet to analyze
+	 * @return the calculation result
+	 * @throws NullPointerException     if <b>planet</b> is {@code null}
+	 * @throws IllegalArgumentException if the planet is invalid
+	 */
+	@Override
+	default R calculate(Planet planet) {
+		return calculate(new PlanetQuantities(planet));
+	}
+}
@@ -0,0 +1,104 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.Objects;
+
+import com.stellar.calculator.domain.model.Planet;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.physics.equations.PlanetaryEquations;
+import com.stellar.calculator.physics.equations.ThermalEquations;
+
+/**
+ * Lazily computed intermediate quantities of a single planet, shared by all
+ * {@link PlanetCalculator}s that analyze it.
+ *
+ * <p>
+ * The quantities of the host star come from a {@link DerivedQuantities} that
+ * may be shared by every planet of the same system, so that the host's
+ * luminosity and radiant flux are computed once per system rather than once
+ * per planet. Like {@code DerivedQuantities}, instances are meant to live for
+ * one analysis and are not synchronized.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see PlanetCalculator
+ */
+public final class PlanetQuantities {
+	private final Planet planet;
+	private final DerivedQuantities host;
+
+	private double irradiance = Double.NaN;
+	private double equilibriumTemperature = Double.NaN;
+
+	/**
+	 * Creates the quantities of a planet with its own host quantities.
+	 *
+	 * @param planet the planet the quantities belong to
+	 * @throws NullPointerException if <b>planet</b> is {@code null}
+	 */
+	public PlanetQuantities(Planet planet) {
+		this(planet, new DerivedQuantities(Objects.requireNonNull(planet, "planet cannot be null").hostStar()));
+	}
+
+	/**
+	 * Creates the quantities of a planet sharing the quantities of its host.
+	 *
+	 * @param planet the planet the quantities belong to
+	 * @param host   the quantities of the planet's host star
+	 * @throws NullPointerException     if any argument is {@code null}
+	 * @throws IllegalArgumentException if <b>host</b> belongs to a different
+	 *                                  star than the planet's host
+	 */
+	public PlanetQuantities(Planet planet, DerivedQuantities host) {
+		this.planet = Objects.requireNonNull(planet, "planet cannot be null");
+		this.host = Objects.requireNonNull(host, "host cannot be null");
+		if (!host.star().equals(planet.hostStar())) {
+			throw new IllegalArgumentException("host quantities belong to a different star");
+		}
+	}
+
+	/**
+	 * Returns the planet these quantities are derived from.
+	 *
+	 * @return the planet
+	 */
+	public Planet planet() {
+		return planet;
+	}
+
+	/**
+	 * Returns the quantities of the host star.
+	 *
+	 * @return the host quantities
+	 */
+	public DerivedQuantities host() {
+		return host;
+	}
+
+	/**
+	 * Returns the radiation incident on the planet at its orbit.
+	 *
+	 * @return the irradiance in W/m²
+	 * @see ThermalEquations#calculateIrradianceFromFlux(double, double)
+	 */
+	public double irradiance() {
+		if (Double.isNaN(irradiance)) {
+			irradiance = ThermalEquations.calculateIrradianceFromFlux(host.radiantFlux(), planet.getOrbitRadius());
+		}
+		return irradiance;
+	}
+
+	/**
+	 * Returns the equilibrium temperature of the planet, assuming Earth's Bond
+	 * albedo.
+	 *
+	 * @return the equilibrium temperature in Kelvin
+	 * @see PlanetaryEquations#calculateEquilibriumTemperature(double, double)
+	 */
+	public double equilibriumTemperature() {
+		if (Double.isNaN(equilibriumTemperature)) {
+			equilibriumTemperature = PlanetaryEquations.calculateEquilibriumTemperature(irradiance(),
+					SolarSystemConstants.EARTH_BOND_ALBEDO);
+		}
+		return equilibriumTemperature;
+	}
+}
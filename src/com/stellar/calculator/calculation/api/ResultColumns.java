@@ -0,0 +1,112 @@
+package com.stellar.calculator.calculation.api;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Base interface for the primitive output columns of a {@link BatchCalculator}.
+ * Each row holds the result for the star at the same row of the input batch.
+ *
+ * <p>
+ * Columns are allocated once per batch capacity and overwritten by every
+ * calculation. Individual rows can be materialized as regular
+ * {@link CalculationResult} records on demand, e.g. for display.
+ *
+ * <p>
+ * Consumers aggregating many rows (such as uncertainty propagation) read rows
+ * without materializing them: each row exposes its numeric
+ * {@link #quantity(int, int) quantities} and, for classifications, a
+ * {@link #category(int) category}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public interface ResultColumns {
+	/**
+	 * Returns the number of rows written by the last calculation.
+	 *
+	 * @return the number of valid rows
+	 */
+	int size();
+
+	/**
+	 * Returns the maximum number of rows these columns can hold.
+	 *
+	 * @return the capacity
+	 */
+	int capacity();
+
+	/**
+	 * Sets the number of valid rows. Called by batch calculators after writing
+	 * their output.
+	 *
+	 * @param size the number of valid rows
+	 * @throws IllegalArgumentException if <b>size</b> is negative or exceeds the
+	 *                                  capacity
+	 */
+	void setSize(int size);
+
+	/**
+	 * Materializes the result of a single row.
+	 *
+	 * @param row the row index
+	 * @return the calculation result for <b>row</b>
+	 * @throws IndexOutOfBoundsException if <b>row</b> is not in {@code [0, size)}
+	 * @throws IllegalArgumentException  if the stored values do not form a valid
+	 *                                   result
+	 */
+	CalculationResult toResult(int row);
+
+	/**
+	 * Returns the names of the numeric quantities each row holds. An empty name
+	 * stands for the value of the result itself. The default is a single
+	 * unnamed quantity, the {@link CalculationResult#getValue() value} of the
+	 * result.
+	 *
+	 * @return the quantity names, possibly empty
+	 */
+	default List<String> quantityNames() {
+		return List.of("");
+	}
+
+	/**
+	 * Returns a numeric quantity of a row. The default materializes the row and
+	 * returns its {@link CalculationResult#getValue() value}; implementations
+	 * backed by primitive arrays should override it.
+	 *
+	 * @param row      the row index
+	 * @param quantity the index of the quantity in {@link #quantityNames()}
+	 * @return the value of the quantity, {@code NaN} if undefined
+	 * @throws IndexOutOfBoundsException if <b>row</b> or <b>quantity</b> is out
+	 *                                   of range
+	 */
+	default double quantity(int row, int quantity) {
+		Objects.checkIndex(quantity, 1);
+		return toResult(row).getValue();
+	}
+
+	/**
+	 * Returns the category of a row for categorical results (spectral type,
+	 * luminosity class). The default is {@code -1}: not categorical.
+	 *
+	 * @param row the row index
+	 * @return the non-negative category code, or {@code -1}
+	 * @throws IndexOutOfBoundsException if <b>row</b> is out of range
+	 */
+	default int category(int row) {
+		Objects.checkIndex(row, size());
+		return -1;
+	}
+
+	/**
+	 * Returns the label of a category code returned by {@link #category(int)}.
+	 *
+	 * @param category the category code
+	 * @return the label, e.g. {@code "G2"}
+	 * @throws IllegalArgumentException if the columns are not categorical or
+	 *                                  <b>category</b> is not a valid code
+	 */
+	default String categoryLabel(int category) {
+		throw new IllegalArgumentException("not a categorical result");
+	}
+}
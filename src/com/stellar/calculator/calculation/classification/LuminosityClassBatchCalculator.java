@@ -0,0 +1,60 @@
+package com.stellar.calculator.calculation.classification;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.physics.equations.VectorizedEquations;
+
+/**
+ * Batch counterpart of {@link LuminosityClassCalculator}. Writes the detected
+ * MK luminosity class, confidence and derived signals of each star into
+ * primitive columns.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see LuminosityClassCalculator
+ */
+public final class LuminosityClassBatchCalculator implements BatchCalculator<LuminosityClassColumns> {
+
+	@Override
+	public LuminosityClassColumns allocate(int capacity) {
+		return new LuminosityClassColumns(capacity);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, LuminosityClassColumns output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] mass = batch.masses();
+		double[] radius = batch.radii();
+		double[] temperature = batch.temperatures();
+		System.arraycopy(mass, 0, output.masses(), 0, n);
+		System.arraycopy(radius, 0, output.radii(), 0, n);
+		System.arraycopy(temperature, 0, output.temperatures(), 0, n);
+
+		byte[] luminosityClass = output.classes();
+		double[] confidence = output.confidences();
+		double[] luminosity = output.luminosities();
+		double[] deltaLogMs = output.deltaLogMainSequence();
+		byte[] rationale = output.rationales();
+
+		VectorizedEquations.calculateRadiantFlux(radius, temperature, luminosity, n);
+		for (int i = 0; i < n; i++) {
+			double lSolar = luminosity[i] / SolarSystemConstants.SOLAR_LUMINOSITY;
+			double logL = Math.log10(lSolar);
+			double delta = Math.log10(lSolar / LuminosityClassCalculator.estimateMainSequenceLuminosityFromMass(mass[i]));
+
+			int code = LuminosityClassHeuristics.classify(radius[i], logL, delta);
+
+			luminosityClass[i] = (byte) LuminosityClassHeuristics.classOrdinal(code);
+			confidence[i] = LuminosityClassHeuristics.confidence(code, radius[i], logL, delta);
+			luminosity[i] = lSolar;
+			deltaLogMs[i] = delta;
+			rationale[i] = (byte) LuminosityClassHeuristics.rationaleId(code);
+		}
+	}
+
+	@Override
+	public String getDescription() {
+		return "Estimated MK luminosity class using radius/luminosity heuristics";
+	}
+}
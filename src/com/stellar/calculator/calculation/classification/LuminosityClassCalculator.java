@@ -1,11 +1,12 @@
 package com.stellar.calculator.calculation.classification;
 
 import java.util.Objects;
+import java.util.Set;
 
-import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
 import com.stellar.calculator.domain.model.Star;
-import com.stellar.calculator.physics.constants.SolarSystemConstants;
-import com.stellar.calculator.physics.equations.ThermalEquations;
 
 /**
  * Detects a star's MK luminosity class (I–V, plus VI/VII) using robust
@@ -24,11 +25,13 @@ import com.stellar.calculator.physics.equations.ThermalEquations;
  * @author Ahmed Ghannam
  * @version 1.0
  */
-public final class LuminosityClassCalculator implements Calculator<Star, LuminosityClassResult> {
+public final class LuminosityClassCalculator implements ContextualCalculator<LuminosityClassResult> {
 
 	@Override
-	public LuminosityClassResult calculate(Star star) {
-		Objects.requireNonNull(star, "star cannot be null");
+	public LuminosityClassResult calculate(DerivedQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+
+		Star star = quantities.star();
 
 		double m = star.getMass();
 		double r = star.getRadius();
@@ -38,32 +41,34 @@ public final class LuminosityClassCalculator implements Calculator<Star, Luminos
 			throw new IllegalArgumentException("mass, radius and temperature must be positive");
 		}
 
-		double flux = ThermalEquations.calculateRadiantFlux(r, t);
-		double lSolar = flux / SolarSystemConstants.SOLAR_LUMINOSITY;
-		double logL = Math.log10(lSolar);
+		double lSolar = quantities.luminosity();
+		double logL = quantities.logLuminosity();
 
 		double lExpectedMs = estimateMainSequenceLuminosityFromMass(m);
 		double deltaLogMs = Math.log10(lSolar / lExpectedMs);
 
-		var inputs = new LuminosityClassHeuristics.LuminosityClassInputs(
-				m,          // massSolar
-				r,          // radiusSolar
-				t,          // temperatureK
-				lSolar,     // luminositySolar
-				logL,       // log10(L/Lsun)
-				deltaLogMs  // ΔlogL_MS
-		);
+		int code = LuminosityClassHeuristics.classify(r, logL, deltaLogMs);
 
-		var detection = LuminosityClassHeuristics.detect(inputs);
+		var rationale = LuminosityClassHeuristics.rationale(code);
 
 		return new LuminosityClassResult(
-				detection.luminosityClass(),
-				detection.confidence(),
+				rationale.luminosityClass(),
+				LuminosityClassHeuristics.confidence(code, r, logL, deltaLogMs),
 				lSolar, r, t, m, deltaLogMs,
-				detection.rationale()
+				rationale.text()
 		);
 	}
 
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.LUMINOSITY);
+	}
+
+	@Override
+	public Set<DerivedQuantity> produces() {
+		return Set.of(DerivedQuantity.LOG_LUMINOSITY);
+	}
+
 	@Override
 	public String getDescription() {
 		return "Estimated MK luminosity class using radius/luminosity heuristics";
@@ -73,7 +78,7 @@ public final class LuminosityClassCalculator implements Calculator<Star, Luminos
 	 * Piecewise approximation of the main-sequence mass–luminosity relation in
 	 * solar units (L/L☉).
 	 */
-	private static double estimateMainSequenceLuminosityFromMass(double massSolar) {
+	static double estimateMainSequenceLuminosityFromMass(double massSolar) {
 		// Common approximation bands; provides a reasonable baseline for
 		// "is this consistent with a main-sequence star?"
 		if (massSolar < 0.43) {
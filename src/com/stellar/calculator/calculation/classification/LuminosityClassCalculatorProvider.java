@@ -0,0 +1,45 @@
+package com.stellar.calculator.calculation.classification;
+
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Provides the {@link LuminosityClassCalculator} and its batch counterpart
+ * {@link LuminosityClassBatchCalculator} to the service loader.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class LuminosityClassCalculatorProvider implements CalculatorProvider {
+
+	@Override
+	public Class<? extends CalculationResult> resultType() {
+		return LuminosityClassResult.class;
+	}
+
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.LUMINOSITY);
+	}
+
+	@Override
+	public Set<DerivedQuantity> produces() {
+		return Set.of(DerivedQuantity.LOG_LUMINOSITY);
+	}
+
+	@Override
+	public Calculator<Star, ? extends CalculationResult> calculator() {
+		return new LuminosityClassCalculator();
+	}
+
+	@Override
+	public BatchCalculator<?> batchCalculator() {
+		return new LuminosityClassBatchCalculator();
+	}
+}
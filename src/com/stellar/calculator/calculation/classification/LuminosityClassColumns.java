@@ -0,0 +1,165 @@
+package com.stellar.calculator.calculation.classification;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.ResultColumns;
+import com.stellar.calculator.calculation.classification.LuminosityClassHeuristics.Rationale;
+
+/**
+ * Primitive output columns of {@link LuminosityClassBatchCalculator}: the
+ * detected class (as {@link LuminosityClass} ordinal), its confidence, and the
+ * derived signals the heuristics were based on. Rationales are stored as ids
+ * and only turned into text by {@link #toResult(int)}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class LuminosityClassColumns implements ResultColumns {
+	private static final LuminosityClass[] CLASSES = LuminosityClass.values();
+	private static final Rationale[] RATIONALES = Rationale.values();
+	private static final List<String> QUANTITIES = List.of("confidence", "deltaLogMainSequence");
+
+	private final byte[] luminosityClass;
+	private final double[] confidence;
+	private final double[] luminositySolar;
+	private final double[] deltaLogMainSequence;
+	private final double[] massSolar;
+	private final double[] radiusSolar;
+	private final double[] temperatureK;
+	private final byte[] rationale;
+	private int size;
+
+	/**
+	 * Creates empty columns.
+	 *
+	 * @param capacity the number of rows to allocate
+	 */
+	public LuminosityClassColumns(int capacity) {
+		this.luminosityClass = new byte[capacity];
+		this.confidence = new double[capacity];
+		this.luminositySolar = new double[capacity];
+		this.deltaLogMainSequence = new double[capacity];
+		this.massSolar = new double[capacity];
+		this.radiusSolar = new double[capacity];
+		this.temperatureK = new double[capacity];
+		this.rationale = new byte[capacity];
+	}
+
+	/**
+	 * Returns the luminosity class column as {@link LuminosityClass} ordinals.
+	 *
+	 * @return the backing class array
+	 */
+	public byte[] classes() {
+		return luminosityClass;
+	}
+
+	/**
+	 * Returns the confidence column, with values in [0..1].
+	 *
+	 * @return the backing confidence array
+	 */
+	public double[] confidences() {
+		return confidence;
+	}
+
+	/**
+	 * Returns the luminosity column in solar units.
+	 *
+	 * @return the backing luminosity array
+	 */
+	public double[] luminosities() {
+		return luminositySolar;
+	}
+
+	/**
+	 * Returns the column of deviations from the main-sequence mass–luminosity
+	 * relation, in dex.
+	 *
+	 * @return the backing ΔlogL_MS array
+	 */
+	public double[] deltaLogMainSequence() {
+		return deltaLogMainSequence;
+	}
+
+	/**
+	 * Returns the luminosity class of a single row.
+	 *
+	 * @param row the row index
+	 * @return the luminosity class of <b>row</b>
+	 */
+	public LuminosityClass luminosityClass(int row) {
+		return CLASSES[luminosityClass[Objects.checkIndex(row, size)]];
+	}
+
+	double[] masses() {
+		return massSolar;
+	}
+
+	double[] radii() {
+		return radiusSolar;
+	}
+
+	double[] temperatures() {
+		return temperatureK;
+	}
+
+	byte[] rationales() {
+		return rationale;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return luminosityClass.length;
+	}
+
+	@Override
+	public void setSize(int size) {
+		Objects.checkFromToIndex(0, size, luminosityClass.length);
+		this.size = size;
+	}
+
+	@Override
+	public CalculationResult toResult(int row) {
+		return new LuminosityClassResult(luminosityClass(row), confidence[row], luminositySolar[row],
+				radiusSolar[row], temperatureK[row], massSolar[row], deltaLogMainSequence[row], RATIONALES[rationale[row]].text());
+	}
+
+	@Override
+	public List<String> quantityNames() {
+		return QUANTITIES;
+	}
+
+	@Override
+	public double quantity(int row, int quantity) {
+		Objects.checkIndex(row, size);
+		return switch (quantity) {
+		case 0 -> confidence[row];
+		case 1 -> deltaLogMainSequence[row];
+		default -> throw new IndexOutOfBoundsException(quantity);
+		};
+	}
+
+	/**
+	 * Returns the category of a row: the {@link LuminosityClass} ordinal.
+	 */
+	@Override
+	public int category(int row) {
+		return luminosityClass[Objects.checkIndex(row, size)];
+	}
+
+	@Override
+	public String categoryLabel(int category) {
+		if (category < 0 || category >= CLASSES.length) {
+			throw new IllegalArgumentException("invalid category " + category);
+		}
+		return CLASSES[category].mkLabel();
+	}
+}
@@ -1,11 +1,5 @@
 package com.stellar.calculator.calculation.classification;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Function;
-
 /**
  * Internal heuristics for MK luminosity class detection.
  *
@@ -17,12 +11,19 @@ import java.util.function.Function;
  * </p>
  *
  * <p>
+ * Detection is allocation-free: {@link #classify} returns an {@code int} code
+ * packing the class ordinal and the id of the matched {@link Rationale}, and
+ * {@link #confidence} computes the confidence of a code on demand. Rationale
+ * text is only looked up when a result is materialized.
+ * </p>
+ *
+ * <p>
  * Package-private by design: the public surface should be the calculator that
  * produces {@code LuminosityClassResult}.
  * </p>
  *
  * @author Ahmed Ghannam
- * @version 1.2
+ * @version 1.3
  */
 final class LuminosityClassHeuristics {
 
@@ -31,15 +32,13 @@ final class LuminosityClassHeuristics {
 	private static final double MS_DELTA_STRICT = 0.60;
 	private static final double SD_DELTA = -0.60;
 
+	private static final Rationale[] RATIONALES = Rationale.values();
+
 	private static final Rule[] EVOLVED_RULES = {
-			Rule.of(LuminosityClass.I, 100.0, 5.0, 100.0, 0.90, 0.90,
-					"Extremely large radius and/or very high luminosity."),
-			Rule.of(LuminosityClass.II, 30.0, 4.0, 50.0, 0.75, 0.85,
-					"Large radius/high luminosity consistent with bright giants."),
-			Rule.of(LuminosityClass.III, 10.0, 2.5, 15.0, 0.70, 0.80,
-					"Expanded radius and elevated luminosity consistent with giants."),
-			Rule.of(LuminosityClass.IV, 3.0, 1.2, 4.0, 0.60, 0.70,
-					"Moderately expanded radius suggests subgiant evolution.")
+			new Rule(Rationale.SUPERGIANT, 100.0, 5.0, 100.0, 0.90, 0.90),
+			new Rule(Rationale.BRIGHT_GIANT, 30.0, 4.0, 50.0, 0.75, 0.85),
+			new Rule(Rationale.GIANT, 10.0, 2.5, 15.0, 0.70, 0.80),
+			new Rule(Rationale.SUBGIANT, 3.0, 1.2, 4.0, 0.60, 0.70)
 	};
 
 	/**
@@ -48,80 +47,106 @@ final class LuminosityClassHeuristics {
 	 *
 	 * <p>
 	 * <b>Signals used today:</b> radius, log luminosity, and main-sequence delta.
-	 * </p>
-	 * <p>
-	 * <b>Signals carried for future refinement:</b> mass, temperature, luminosity.
+	 * Mass, temperature and luminosity are not needed by any heuristic.
 	 * </p>
 	 *
-	 * @param in aggregated physical inputs required for luminosity class detection
-	 * @return detection result including luminosity class, confidence in [0..1],
-	 *         and rationale
-	 * @throws NullPointerException if {@code in} is null
+	 * @param radiusSolar          the radius in solar radii
+	 * @param logL                 log10(L/L☉)
+	 * @param deltaLogMainSequence the deviation from the main-sequence
+	 *                             mass–luminosity relation, in dex
+	 * @return the detection code, see {@link #classOrdinal(int)} and
+	 *         {@link #rationaleId(int)}
 	 */
-	static Detection detect(LuminosityClassInputs in) {
-		Objects.requireNonNull(in, "in");
-
+	static int classify(double radiusSolar, double logL, double deltaLogMainSequence) {
 		// Precedence matters: first match wins.
-		var pipeline = DetectionPipeline.of(
-				LuminosityClassHeuristics::whiteDwarf,
-				LuminosityClassHeuristics::mainSequence,
-				LuminosityClassHeuristics::subdwarf,
-				LuminosityClassHeuristics::evolved  // e.g. giants, subgiants, etc.
-		);
-
-		return pipeline.firstOrDefault(in, defaultDwarf());
+		if (isWhiteDwarf(radiusSolar, logL)) return code(Rationale.WHITE_DWARF);
+		if (isMainSequence(radiusSolar, deltaLogMainSequence)) return code(Rationale.MAIN_SEQUENCE);
+		if (isSubdwarf(radiusSolar, deltaLogMainSequence)) return code(Rationale.SUBDWARF);
+		for (Rule rule : EVOLVED_RULES) {  // e.g. giants, subgiants, etc.
+			if (rule.matches(radiusSolar, logL)) return code(rule.rationale());
+		}
+		return code(Rationale.DEFAULT_DWARF);
 	}
 
-	// -- Individual detectors ----------------------------------------------------
-
-	private static Optional<Detection> whiteDwarf(LuminosityClassInputs in) {
-		if (!(in.radiusSolar() < 0.05 && in.logL() < -1.0)) return Optional.empty();
+	/**
+	 * Computes the confidence of a detection, from the same signals that were
+	 * passed to {@link #classify}.
+	 *
+	 * @param code                 the detection code
+	 * @param radiusSolar          the radius in solar radii
+	 * @param logL                 log10(L/L☉)
+	 * @param deltaLogMainSequence the deviation from the main-sequence
+	 *                             mass–luminosity relation, in dex
+	 * @return the confidence in [0..1]
+	 */
+	static double confidence(int code, double radiusSolar, double logL, double deltaLogMainSequence) {
+		return switch (rationale(code)) {
+		case WHITE_DWARF -> clamp01(0.75 + 0.25 * strong(radiusSolar, 0.05) * strong(-logL, 1.0));
+		case MAIN_SEQUENCE -> clamp01(
+				0.70 + 0.30 * (1.0 - Math.min(1.0, Math.abs(deltaLogMainSequence) / MS_DELTA_STRICT)));
+		case SUBDWARF -> clamp01(0.65 + 0.25 * (1.0 - Math.min(1.0, Math.abs(deltaLogMainSequence) / 1.5)));
+		case SUPERGIANT -> EVOLVED_RULES[0].confidence(radiusSolar);
+		case BRIGHT_GIANT -> EVOLVED_RULES[1].confidence(radiusSolar);
+		case GIANT -> EVOLVED_RULES[2].confidence(radiusSolar);
+		case SUBGIANT -> EVOLVED_RULES[3].confidence(radiusSolar);
+		case DEFAULT_DWARF -> 0.55;
+		};
+	}
 
-		double conf = clamp01(0.75 + 0.25 * strong(in.radiusSolar(), 0.05) * strong(-in.logL(), 1.0));
-		return Optional.of(new Detection(LuminosityClass.VII, conf,
-				"Very small radius and low luminosity suggest a compact object (white dwarf regime)."));
+	/**
+	 * Returns the {@link LuminosityClass} ordinal of a detection code.
+	 *
+	 * @param code the detection code
+	 * @return the class ordinal
+	 */
+	static int classOrdinal(int code) {
+		return code >>> 8;
 	}
 
-	private static Optional<Detection> mainSequence(LuminosityClassInputs in) {
-		if (!isRadiusInMainSequenceWindow(in.radiusSolar())) return Optional.empty();
-		if (Math.abs(in.deltaLogMainSequence()) > MS_DELTA_STRICT) return Optional.empty();
+	/**
+	 * Returns the {@link Rationale} id (its ordinal) of a detection code.
+	 *
+	 * @param code the detection code
+	 * @return the rationale id
+	 */
+	static int rationaleId(int code) {
+		return code & 0xFF;
+	}
 
-		double conf = 0.70 + 0.30 * (1.0 - Math.min(1.0, Math.abs(in.deltaLogMainSequence()) / MS_DELTA_STRICT));
-		return Optional.of(new Detection(LuminosityClass.V, clamp01(conf),
-				"Consistent with the main-sequence mass–luminosity baseline (|ΔlogL_MS| ≤ 0.6)."));
+	/**
+	 * Returns the rationale of a detection code.
+	 *
+	 * @param code the detection code
+	 * @return the rationale
+	 */
+	static Rationale rationale(int code) {
+		return RATIONALES[rationaleId(code)];
 	}
 
-	private static Optional<Detection> subdwarf(LuminosityClassInputs in) {
-		if (!(in.deltaLogMainSequence() <= SD_DELTA && in.radiusSolar() < 1.5)) return Optional.empty();
+	// -- Individual detectors ----------------------------------------------------
+
+	private static boolean isWhiteDwarf(double radiusSolar, double logL) {
+		return radiusSolar < 0.05 && logL < -1.0;
+	}
 
-		double conf = 0.65 + 0.25 * (1.0 - Math.min(1.0, Math.abs(in.deltaLogMainSequence()) / 1.5));
-		return Optional.of(new Detection(LuminosityClass.VI, clamp01(conf),
-				"Under-luminous for its mass with a compact radius suggests a subdwarf (metal-poor/high-gravity) regime."));
+	private static boolean isMainSequence(double radiusSolar, double deltaLogMainSequence) {
+		return isRadiusInMainSequenceWindow(radiusSolar) && !(Math.abs(deltaLogMainSequence) > MS_DELTA_STRICT);
 	}
 
-	private static Optional<Detection> evolved(LuminosityClassInputs in) {
-		return firstMatch(EVOLVED_RULES, in.radiusSolar(), in.logL())
-				.map(rule -> new Detection(rule.luminosityClass(), rule.confidence(in.radiusSolar()), rule.rationale()));
+	private static boolean isSubdwarf(double radiusSolar, double deltaLogMainSequence) {
+		return deltaLogMainSequence <= SD_DELTA && radiusSolar < 1.5;
 	}
 
 	// -- Shared helpers ----------------------------------------------------------
 
-	private static Detection defaultDwarf() {
-		return new Detection(LuminosityClass.V, 0.55,
-				"Falls outside strong giant/compact regimes; defaulting to dwarf/main-sequence classification.");
+	private static int code(Rationale rationale) {
+		return rationale.luminosityClass().ordinal() << 8 | rationale.ordinal();
 	}
 
 	private static boolean isRadiusInMainSequenceWindow(double radiusSolar) {
 		return radiusSolar >= 0.10 && radiusSolar <= 15.0;
 	}
 
-	private static Optional<Rule> firstMatch(Rule[] rules, double radiusSolar, double logL) {
-		// Streams keep the method expression-based while preserving "first match wins".
-		return Arrays.stream(rules)
-				.filter(r -> r.matches(radiusSolar, logL))
-				.findFirst();
-	}
-
 	private static double strong(double value, double threshold) {
 		double x = (value - threshold) / threshold;
 		return clamp01(x);
@@ -134,38 +159,52 @@ final class LuminosityClassHeuristics {
 	// -- Small internal types ----------------------------------------------------
 
 	/**
-	 * Parameter object for luminosity class detection.
-	 *
-	 * <p>This eliminates the "many doubles" signature and gives each signal a name.</p>
+	 * The reasons a heuristic can give for its classification. Each rationale
+	 * implies one luminosity class.
 	 */
-	record LuminosityClassInputs(
-			double massSolar,
-			double radiusSolar,
-			double temperatureK,
-			double luminositySolar,
-			double logL,
-			double deltaLogMainSequence
-	) {}
+	enum Rationale {
+		WHITE_DWARF(LuminosityClass.VII,
+				"Very small radius and low luminosity suggest a compact object (white dwarf regime)."),
+		MAIN_SEQUENCE(LuminosityClass.V,
+				"Consistent with the main-sequence mass–luminosity baseline (|ΔlogL_MS| ≤ 0.6)."),
+		SUBDWARF(LuminosityClass.VI,
+				"Under-luminous for its mass with a compact radius suggests a subdwarf (metal-poor/high-gravity) regime."),
+		SUPERGIANT(LuminosityClass.I,
+				"Extremely large radius and/or very high luminosity."),
+		BRIGHT_GIANT(LuminosityClass.II,
+				"Large radius/high luminosity consistent with bright giants."),
+		GIANT(LuminosityClass.III,
+				"Expanded radius and elevated luminosity consistent with giants."),
+		SUBGIANT(LuminosityClass.IV,
+				"Moderately expanded radius suggests subgiant evolution."),
+		DEFAULT_DWARF(LuminosityClass.V,
+				"Falls outside strong giant/compact regimes; defaulting to dwarf/main-sequence classification.");
+
+		private final LuminosityClass luminosityClass;
+		private final String text;
+
+		Rationale(LuminosityClass luminosityClass, String text) {
+			this.luminosityClass = luminosityClass;
+			this.text = text;
+		}
+
+		LuminosityClass luminosityClass() {
+			return luminosityClass;
+		}
+
+		String text() {
+			return text;
+		}
+	}
 
 	private record Rule(
-			LuminosityClass luminosityClass,
+			Rationale rationale,
 			double radiusMin,
 			double logLMin,
 			double radiusHighForConf,
 			double confLow,
-			double confHigh,
-			String rationale
+			double confHigh
 	) {
-		static Rule of(LuminosityClass lc,
-				double radiusMin,
-				double logLMin,
-				double radiusHighForConf,
-				double confLow,
-				double confHigh,
-				String rationale) {
-			return new Rule(lc, radiusMin, logLMin, radiusHighForConf, confLow, confHigh, rationale);
-		}
-
 		boolean matches(double radiusSolar, double logL) {
 			return radiusSolar >= radiusMin || logL >= logLMin;
 		}
@@ -174,23 +213,4 @@ final class LuminosityClassHeuristics {
 			return radiusSolar >= radiusHighForConf ? confHigh : confLow;
 		}
 	}
-
-	private record DetectionPipeline(List<Function<LuminosityClassInputs, Optional<Detection>>> steps) {
-
-		@SafeVarargs
-		static DetectionPipeline of(Function<LuminosityClassInputs, Optional<Detection>>... steps) {
-			Objects.requireNonNull(steps, "steps");
-			return new DetectionPipeline(List.of(steps));
-		}
-
-		Detection firstOrDefault(LuminosityClassInputs in, Detection fallback) {
-			return steps.stream()
-					.map(step -> step.apply(in))
-					.flatMap(Optional::stream)
-					.findFirst()
-					.orElse(fallback);
-		}
-	}
-
-	record Detection(LuminosityClass luminosityClass, double confidence, String rationale) {}
 }
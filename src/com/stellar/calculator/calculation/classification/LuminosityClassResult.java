@@ -1,6 +1,7 @@
 package com.stellar.calculator.calculation.classification;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
 
 /**
  * Result of a luminosity class detection. Includes the MK luminosity class,
@@ -43,18 +44,25 @@ public record LuminosityClassResult(
 
 	@Override
 	public String format() {
-		return String.format("""
-				Luminosity Class (Estimated)
-				Output: %s
-				Confidence: %.0f%%
-				Inputs: M=%.2f M☉, R=%.2f R☉, T=%.0fK
-				Derived: L=%.3f L☉ (ΔlogL_MS=%.2f)
-				%s""",
-				luminosityClass.mkLabel(),
-				confidence * 100.0,
-				massSolar, radiusSolar, temperatureK,
-				luminositySolar, deltaLogMainSequence,
-				rationale == null || rationale.isBlank() ? "" : ("Rationale: " + rationale));
+		return formatTo(new StringBuilder(256)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Luminosity Class (Estimated)\nOutput: ").append(luminosityClass.mkLabel()).append("\nConfidence: ");
+		DecimalEncoder.appendFixed(out, confidence * 100.0, 0);
+		out.append("%\nInputs: M=");
+		DecimalEncoder.appendFixed(out, massSolar, 2);
+		out.append(" M☉, R=");
+		DecimalEncoder.appendFixed(out, radiusSolar, 2);
+		out.append(" R☉, T=");
+		DecimalEncoder.appendFixed(out, temperatureK, 0);
+		out.append("K\nDerived: L=");
+		DecimalEncoder.appendFixed(out, luminositySolar, 3);
+		out.append(" L☉ (ΔlogL_MS=");
+		DecimalEncoder.appendFixed(out, deltaLogMainSequence, 2);
+		out.append(")\n");
+		return rationale == null || rationale.isBlank() ? out : out.append("Rationale: ").append(rationale);
 	}
 
 	/**
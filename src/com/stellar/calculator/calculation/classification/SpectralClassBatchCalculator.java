@@ -0,0 +1,35 @@
+package com.stellar.calculator.calculation.classification;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.domain.model.StarBatch;
+
+/**
+ * Batch counterpart of {@link SpectralClassCalculator}. Writes the estimated
+ * MK spectral type and subtype of each star into primitive columns, using
+ * {@link SpectralTemperatureScale#classify}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see SpectralClassCalculator
+ */
+public final class SpectralClassBatchCalculator implements BatchCalculator<SpectralClassColumns> {
+
+	@Override
+	public SpectralClassColumns allocate(int capacity) {
+		return new SpectralClassColumns(capacity);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, SpectralClassColumns output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] temperature = batch.temperatures();
+		byte[] type = output.types();
+		System.arraycopy(temperature, 0, output.temperatures(), 0, n);
+		SpectralTemperatureScale.classify(temperature, type, output.halfSubtypes(), n);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Estimated MK spectral class based on temperature";
+	}
+}
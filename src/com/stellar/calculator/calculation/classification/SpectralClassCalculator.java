@@ -2,8 +2,8 @@ package com.stellar.calculator.calculation.classification;
 
 import java.util.Objects;
 
-import com.stellar.calculator.calculation.api.Calculator;
-import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
 
 /**
  * Estimates the Morgan–Keenan (MK) spectral class of a star based primarily on
@@ -11,8 +11,8 @@ import com.stellar.calculator.domain.model.Star;
  *
  * <p>
  * The MK spectral sequence is ordered (hot → cool) as: O, B, A, F, G, K, M, L, T,
- * Y. Subtypes 0–9 are estimated by linearly interpolating within each
- * temperature band.
+ * Y. Types and subtypes, in half steps from O3 to Y2, are looked up on the
+ * calibrated {@link SpectralTemperatureScale}.
  *
  * <p>
  * Note: This is an <em>estimator</em>. True spectral classification depends on
@@ -21,20 +21,19 @@ import com.stellar.calculator.domain.model.Star;
  * @author Ahmed Ghannam
  * @version 1.0
  */
-public final class SpectralClassCalculator implements Calculator<Star, SpectralClassResult> {
+public final class SpectralClassCalculator implements ContextualCalculator<SpectralClassResult> {
 
 	@Override
-	public SpectralClassResult calculate(Star star) {
-		Objects.requireNonNull(star, "star cannot be null");
-		double t = star.getTemperature();
+	public SpectralClassResult calculate(DerivedQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+		double t = quantities.star().getTemperature();
 		if (t <= 0) {
 			throw new IllegalArgumentException("temperature must be positive");
 		}
 
-		var band = SpectralTemperatureBand.forTemperature(t);
-		int subtype = band.estimateSubtype(t);
+		int index = SpectralTemperatureScale.indexOf(t);
 
-		return new SpectralClassResult(band.type(), subtype, t);
+		return new SpectralClassResult(SpectralTemperatureScale.type(index), SpectralTemperatureScale.subtype(index), t);
 	}
 
 	@Override
@@ -0,0 +1,32 @@
+package com.stellar.calculator.calculation.classification;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Provides the {@link SpectralClassCalculator} and its batch counterpart
+ * {@link SpectralClassBatchCalculator} to the service loader.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class SpectralClassCalculatorProvider implements CalculatorProvider {
+
+	@Override
+	public Class<? extends CalculationResult> resultType() {
+		return SpectralClassResult.class;
+	}
+
+	@Override
+	public Calculator<Star, ? extends CalculationResult> calculator() {
+		return new SpectralClassCalculator();
+	}
+
+	@Override
+	public BatchCalculator<?> batchCalculator() {
+		return new SpectralClassBatchCalculator();
+	}
+}
@@ -0,0 +1,134 @@
+package com.stellar.calculator.calculation.classification;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.ResultColumns;
+
+/**
+ * Primitive output columns of {@link SpectralClassBatchCalculator}: the
+ * spectral type (as {@link SpectralType} ordinal) and subtype (in half steps)
+ * of each star, plus the temperature the estimate was based on.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class SpectralClassColumns implements ResultColumns {
+	private static final SpectralType[] TYPES = SpectralType.values();
+
+	private final byte[] type;
+	private final byte[] halfSubtype;
+	private final double[] temperatureK;
+	private int size;
+
+	/**
+	 * Creates empty columns.
+	 *
+	 * @param capacity the number of rows to allocate
+	 */
+	public SpectralClassColumns(int capacity) {
+		this.type = new byte[capacity];
+		this.halfSubtype = new byte[capacity];
+		this.temperatureK = new double[capacity];
+	}
+
+	/**
+	 * Returns the spectral type column as {@link SpectralType} ordinals.
+	 *
+	 * @return the backing type array
+	 */
+	public byte[] types() {
+		return type;
+	}
+
+	/**
+	 * Returns the subtype column, holding twice the subtype (0–19) so that half
+	 * subtypes fit a byte.
+	 *
+	 * @return the backing subtype array
+	 */
+	public byte[] halfSubtypes() {
+		return halfSubtype;
+	}
+
+	/**
+	 * Returns the temperature column in Kelvin.
+	 *
+	 * @return the backing temperature array
+	 */
+	public double[] temperatures() {
+		return temperatureK;
+	}
+
+	/**
+	 * Returns the spectral type of a single row.
+	 *
+	 * @param row the row index
+	 * @return the spectral type of <b>row</b>
+	 */
+	public SpectralType type(int row) {
+		return TYPES[type[Objects.checkIndex(row, size)]];
+	}
+
+	/**
+	 * Returns the subtype of a single row.
+	 *
+	 * @param row the row index
+	 * @return the subtype of <b>row</b>, between 0 and 9.5
+	 */
+	public double subtype(int row) {
+		return halfSubtype[Objects.checkIndex(row, size)] * 0.5;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return type.length;
+	}
+
+	@Override
+	public void setSize(int size) {
+		Objects.checkFromToIndex(0, size, type.length);
+		this.size = size;
+	}
+
+	@Override
+	public CalculationResult toResult(int row) {
+		return new SpectralClassResult(type(row), subtype(row), temperatureK[row]);
+	}
+
+	/**
+	 * Spectral classes have no numeric quantity of their own.
+	 */
+	@Override
+	public List<String> quantityNames() {
+		return List.of();
+	}
+
+	@Override
+	public double quantity(int row, int quantity) {
+		throw new IndexOutOfBoundsException(quantity);
+	}
+
+	/**
+	 * Returns the category of a row: the type ordinal times 20 plus twice the
+	 * subtype.
+	 */
+	@Override
+	public int category(int row) {
+		return type[Objects.checkIndex(row, size)] * 20 + halfSubtype[row];
+	}
+
+	@Override
+	public String categoryLabel(int category) {
+		if (category < 0 || category >= TYPES.length * 20) {
+			throw new IllegalArgumentException("invalid category " + category);
+		}
+		return new SpectralClassResult(TYPES[category / 20], category % 20 * 0.5, 1).mkLabel();
+	}
+}
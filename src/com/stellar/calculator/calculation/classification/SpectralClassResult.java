@@ -1,23 +1,24 @@
 package com.stellar.calculator.calculation.classification;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
 
 /**
  * Result of a spectral class estimation. Provides a formatted MK spectral type
- * (e.g., G2) and underlying temperature used for the estimation.
+ * (e.g., G2, G2.5) and underlying temperature used for the estimation.
  *
  * @author Ahmed Ghannam
  * @version 1.0
  */
-public record SpectralClassResult(SpectralType type, int subtype, double temperatureK) implements CalculationResult {
+public record SpectralClassResult(SpectralType type, double subtype, double temperatureK) implements CalculationResult {
 
 	public SpectralClassResult {
 		if (type == null) {
 			throw new IllegalArgumentException("type cannot be null");
 		}
 		
-		if (subtype < 0 || subtype > 9) {
-			throw new IllegalArgumentException("subtype must be between 0 and 9");
+		if (!(subtype >= 0 && subtype < 10)) {
+			throw new IllegalArgumentException("subtype must be between 0 and 9.5");
 		}
 		
 		if (temperatureK <= 0) {
@@ -26,20 +27,25 @@ public record SpectralClassResult(SpectralType type, int subtype, double tempera
 	}
 
 	/**
-	 * Returns the full MK label (e.g., "G2").
+	 * Returns the full MK label (e.g., "G2" or "G2.5").
 	 *
 	 * @return MK label
 	 */
 	public String mkLabel() {
-		return type.name() + subtype;
+		return subtype == Math.rint(subtype) ? type.name() + (int) subtype : type.name() + subtype;
 	}
 
 	@Override
 	public String format() {
-		return String.format("""
-				Spectral Class (Estimated)
-				Output: %s
-				(Based on effective temperature: %.0fK)""", mkLabel(), temperatureK);
+		return formatTo(new StringBuilder(96)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Spectral Class (Estimated)\nOutput: ").append(mkLabel())
+				.append("\n(Based on effective temperature: ");
+		DecimalEncoder.appendFixed(out, temperatureK, 0);
+		return out.append("K)");
 	}
 
 	/**
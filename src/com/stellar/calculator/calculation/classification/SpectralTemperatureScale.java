@@ -0,0 +1,184 @@
+package com.stellar.calculator.calculation.classification;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Calibrated effective-temperature scale of MK spectral types, resolved to half
+ * subtypes (e.g. G2.5, M4.5).
+ *
+ * <p>
+ * The scale is anchored on the dwarf temperature sequence of Pecaut &amp;
+ * Mamajek (2013, ApJS 208, 9; extended to L, T and Y dwarfs). Subtypes between
+ * two anchors are interpolated in log temperature, and a star is assigned the
+ * grid entry whose temperature is nearest in log space. Temperatures hotter
+ * than O3 or cooler than Y2 are clamped to the ends of the scale.
+ *
+ * <p>
+ * Lookups are a fixed-depth binary search over a padded array of boundaries,
+ * written so that the JIT can compile the comparisons to conditional moves.
+ * {@link #classify(double[], byte[], byte[], int)} classifies whole temperature
+ * columns.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class SpectralTemperatureScale {
+	/*
+	 * Anchor temperatures (K) per spectral type, indexed by subtype in half steps:
+	 * index 2s holds subtype s, index 2s + 1 subtype s + 0.5. Zero marks a subtype
+	 * without calibration, which is interpolated.
+	 */
+	private static final double[][] ANCHORS = {
+			/* O */ { 0, 0, 0, 0, 0, 0, 44900, 0, 42900, 0, 41400, 40500, 38800, 37700, 36700, 35600, 34600, 33400,
+					32500, 31900 },
+			/* B */ { 31400, 29000, 26000, 24500, 20600, 18500, 17000, 0, 16400, 0, 15700, 0, 14500, 0, 14000, 0, 12300,
+					0, 10700, 10400 },
+			/* A */ { 9700, 0, 9300, 0, 8800, 0, 8600, 0, 8250, 0, 8100, 0, 7910, 0, 7760, 0, 7590, 0, 7400, 0 },
+			/* F */ { 7220, 0, 7020, 0, 6820, 0, 6750, 0, 6670, 0, 6550, 0, 6350, 0, 6280, 0, 6180, 0, 6050, 5990 },
+			/* G */ { 5930, 0, 5860, 0, 5770, 0, 5720, 0, 5680, 0, 5660, 0, 5600, 0, 5550, 0, 5480, 0, 5380, 0 },
+			/* K */ { 5270, 0, 5170, 0, 5100, 0, 4830, 0, 4600, 0, 4440, 0, 4300, 0, 4100, 0, 3990, 0, 3930, 0 },
+			/* M */ { 3850, 3770, 3660, 3620, 3560, 3470, 3430, 3270, 3210, 3110, 3060, 2930, 2810, 2740, 2680, 2630,
+					2570, 2420, 2380, 2350 },
+			/* L */ { 2270, 0, 2160, 0, 2060, 0, 1920, 0, 1870, 0, 1710, 0, 1550, 0, 1530, 0, 1420, 0, 1370, 0 },
+			/* T */ { 1255, 0, 1240, 0, 1220, 0, 1200, 0, 1180, 0, 1160, 0, 950, 0, 825, 0, 680, 0, 560, 0 },
+			/* Y */ { 450, 0, 380, 0, 320 }
+	};
+
+	private static final SpectralType[] TYPES = SpectralType.values();
+
+	// Grid entries, ordered hot to cool.
+	private static final byte[] GRID_TYPES;
+	private static final byte[] GRID_HALF_SUBTYPES;
+	private static final double[] GRID_TEMPERATURES;
+
+	/*
+	 * BOUNDS[k] is the lowest temperature of grid entry (size - 1 - k), ascending,
+	 * with BOUNDS[0] = -∞ and NaN padding up to a power-of-two length. No
+	 * comparison with NaN holds, so the search never steps into the padding, not
+	 * even for +∞.
+	 */
+	private static final double[] BOUNDS;
+	private static final int SEARCH_START;
+
+	static {
+		double[] positions = new double[TYPES.length * 20];
+		double[] temperatures = new double[positions.length];
+		int anchors = 0;
+		for (int type = 0; type < ANCHORS.length; type++) {
+			for (int half = 0; half < ANCHORS[type].length; half++) {
+				if (ANCHORS[type][half] > 0) {
+					positions[anchors] = type * 20 + half;
+					temperatures[anchors++] = ANCHORS[type][half];
+				}
+			}
+		}
+
+		int first = (int) positions[0];
+		int size = (int) positions[anchors - 1] - first + 1;
+		GRID_TYPES = new byte[size];
+		GRID_HALF_SUBTYPES = new byte[size];
+		GRID_TEMPERATURES = new double[size];
+		int a = 0;
+		for (int i = 0; i < size; i++) {
+			int position = first + i;
+			while (a + 2 < anchors && positions[a + 1] <= position) {
+				a++;
+			}
+			double f = (position - positions[a]) / (positions[a + 1] - positions[a]);
+			GRID_TYPES[i] = (byte) (position / 20);
+			GRID_HALF_SUBTYPES[i] = (byte) (position % 20);
+			GRID_TEMPERATURES[i] = f == 0 ? temperatures[a]
+					: f == 1 ? temperatures[a + 1]
+							: Math.exp((1 - f) * Math.log(temperatures[a]) + f * Math.log(temperatures[a + 1]));
+		}
+
+		BOUNDS = new double[Integer.highestOneBit(size - 1) << 1];
+		Arrays.fill(BOUNDS, Double.NaN);
+		BOUNDS[0] = Double.NEGATIVE_INFINITY;
+		for (int k = 1; k < size; k++) {
+			int cooler = size - k;
+			// Geometric mean: the midpoint of neighbouring entries in log space.
+			BOUNDS[k] = Math.sqrt(GRID_TEMPERATURES[cooler] * GRID_TEMPERATURES[cooler - 1]);
+		}
+		SEARCH_START = BOUNDS.length >>> 1;
+	}
+
+	private SpectralTemperatureScale() {
+	}
+
+	/**
+	 * Returns the number of entries of the scale.
+	 *
+	 * @return the number of half-subtype entries from O3 to Y2
+	 */
+	public static int size() {
+		return GRID_TEMPERATURES.length;
+	}
+
+	/**
+	 * Finds the entry of the scale nearest to the given temperature.
+	 *
+	 * @param temperatureK the effective temperature in Kelvin
+	 * @return the index of the entry, {@code 0} being the hottest
+	 */
+	public static int indexOf(double temperatureK) {
+		int k = 0;
+		for (int step = SEARCH_START; step > 0; step >>>= 1) {
+			k += BOUNDS[k + step] <= temperatureK ? step : 0;
+		}
+		return GRID_TEMPERATURES.length - 1 - k;
+	}
+
+	/**
+	 * Returns the spectral type of an entry.
+	 *
+	 * @param index the index of the entry
+	 * @return the spectral type
+	 */
+	public static SpectralType type(int index) {
+		return TYPES[GRID_TYPES[index]];
+	}
+
+	/**
+	 * Returns the subtype of an entry, between 0 and 9.5 in steps of 0.5.
+	 *
+	 * @param index the index of the entry
+	 * @return the subtype
+	 */
+	public static double subtype(int index) {
+		return GRID_HALF_SUBTYPES[index] * 0.5;
+	}
+
+	/**
+	 * Returns the calibrated temperature of an entry.
+	 *
+	 * @param index the index of the entry
+	 * @return the temperature in Kelvin
+	 */
+	public static double temperature(int index) {
+		return GRID_TEMPERATURES[index];
+	}
+
+	/**
+	 * Classifies a column of temperatures.
+	 *
+	 * @param temperatures the effective temperatures in Kelvin
+	 * @param types        receives the {@link SpectralType} ordinals
+	 * @param halfSubtypes receives twice the subtypes (0–19)
+	 * @param length       the number of elements to classify
+	 * @throws NullPointerException      if any array is {@code null}
+	 * @throws IndexOutOfBoundsException if an array is shorter than
+	 *                                   <b>length</b>
+	 */
+	public static void classify(double[] temperatures, byte[] types, byte[] halfSubtypes, int length) {
+		Objects.checkFromIndexSize(0, length, temperatures.length);
+		Objects.checkFromIndexSize(0, length, types.length);
+		Objects.checkFromIndexSize(0, length, halfSubtypes.length);
+		for (int i = 0; i < length; i++) {
+			int index = indexOf(temperatures[i]);
+			types[i] = GRID_TYPES[index];
+			halfSubtypes[i] = GRID_HALF_SUBTYPES[index];
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.stellar.calculator.calculation.luminosity;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.DoubleResultColumn;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.physics.equations.VectorizedEquations;
+
+/**
+ * Batch counterpart of {@link LuminosityCalculator}. Writes the luminosity of
+ * each star, in solar units, into a single primitive column.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see LuminosityCalculator
+ */
+public class LuminosityBatchCalculator implements BatchCalculator<DoubleResultColumn> {
+
+	@Override
+	public DoubleResultColumn allocate(int capacity) {
+		return new DoubleResultColumn(capacity, LuminosityResult::new);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, DoubleResultColumn output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] radius = batch.radii();
+		double[] temperature = batch.temperatures();
+		double[] luminosity = output.values();
+		VectorizedEquations.calculateRadiantFlux(radius, temperature, luminosity, n);
+		for (int i = 0; i < n; i++) {
+			luminosity[i] /= SolarSystemConstants.SOLAR_LUMINOSITY;
+		}
+	}
+
+	@Override
+	public String getDescription() {
+		return "Star's luminosity relative to the Sun";
+	}
+}
@@ -1,10 +1,11 @@
 package com.stellar.calculator.calculation.luminosity;
 
 import java.util.Objects;
+import java.util.Set;
 
-import com.stellar.calculator.calculation.api.Calculator;
-import com.stellar.calculator.domain.model.Star;
-import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
 import com.stellar.calculator.physics.equations.ThermalEquations;
 
 /**
@@ -29,22 +30,26 @@ import com.stellar.calculator.physics.equations.ThermalEquations;
  * @see LuminosityResult
  * @see ThermalEquations
  */
-public class LuminosityCalculator implements Calculator<Star, LuminosityResult> {
+public class LuminosityCalculator implements ContextualCalculator<LuminosityResult> {
 
 	/**
 	 * Calculates the luminosity of the given star in solar units.
 	 *
-	 * @param star the star to analyze, must not be {@code null}
+	 * @param quantities the derived quantities of the star to analyze, must not
+	 *                   be {@code null}
 	 * @return the calculated luminosity result
-	 * @throws NullPointerException     if <b>star</b> is {@code null}
-	 * @throws IllegalArgumentException if <b>star</b> has invalid parameters
+	 * @throws NullPointerException     if <b>quantities</b> is {@code null}
+	 * @throws IllegalArgumentException if the star has invalid parameters
 	 */
 	@Override
-	public LuminosityResult calculate(Star star) {
-		Objects.requireNonNull(star, "star must not be null");
-		double flux = ThermalEquations.calculateRadiantFlux(star.getRadius(), star.getTemperature());
-		double luminosityInSolarUnits = flux / SolarSystemConstants.SOLAR_LUMINOSITY;
-		return new LuminosityResult(luminosityInSolarUnits);
+	public LuminosityResult calculate(DerivedQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities must not be null");
+		return new LuminosityResult(quantities.luminosity());
+	}
+
+	@Override
+	public Set<DerivedQuantity> produces() {
+		return Set.of(DerivedQuantity.LUMINOSITY);
 	}
 
 	/**
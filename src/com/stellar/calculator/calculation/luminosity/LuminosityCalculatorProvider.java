@@ -0,0 +1,40 @@
+package com.stellar.calculator.calculation.luminosity;
+
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Provides the {@link LuminosityCalculator} and its batch counterpart
+ * {@link LuminosityBatchCalculator} to the service loader.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class LuminosityCalculatorProvider implements CalculatorProvider {
+
+	@Override
+	public Class<? extends CalculationResult> resultType() {
+		return LuminosityResult.class;
+	}
+
+	@Override
+	public Set<DerivedQuantity> produces() {
+		return Set.of(DerivedQuantity.LUMINOSITY);
+	}
+
+	@Override
+	public Calculator<Star, ? extends CalculationResult> calculator() {
+		return new LuminosityCalculator();
+	}
+
+	@Override
+	public BatchCalculator<?> batchCalculator() {
+		return new LuminosityBatchCalculator();
+	}
+}
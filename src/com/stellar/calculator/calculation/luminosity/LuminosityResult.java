@@ -1,6 +1,7 @@
 package com.stellar.calculator.calculation.luminosity;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
 
 /**
  * Represents the result of a stellar luminosity calculation. Stores and formats
@@ -24,10 +25,14 @@ public record LuminosityResult(double luminosity) implements CalculationResult {
 
 	@Override
 	public String format() {
-		return String.format("""
-				Total Stellar Luminosity
-				Output: %.3f L☉
-				(Total energy output compared to our Sun)""", luminosity);
+		return formatTo(new StringBuilder(128)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Total Stellar Luminosity\nOutput: ");
+		DecimalEncoder.appendFixed(out, luminosity, 3);
+		return out.append(" L☉\n(Total energy output compared to our Sun)");
 	}
 
 	@Override
@@ -0,0 +1,36 @@
+package com.stellar.calculator.calculation.magnitude;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.DoubleResultColumn;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.physics.equations.VectorizedEquations;
+
+/**
+ * Batch counterpart of {@link ApparentMagnitudeCalculator}. Writes the apparent
+ * magnitude at 1 AU of each star into a single primitive column.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see ApparentMagnitudeCalculator
+ */
+public class ApparentMagnitudeBatchCalculator implements BatchCalculator<DoubleResultColumn> {
+
+	@Override
+	public DoubleResultColumn allocate(int capacity) {
+		return new DoubleResultColumn(capacity, ApparentMagnitudeResult::new);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, DoubleResultColumn output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] radius = batch.radii();
+		double[] temperature = batch.temperatures();
+		double[] magnitude = output.values();
+		VectorizedEquations.calculateApparentMagnitude(radius, temperature, magnitude, n);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Apparent magnitude at Earth-equivalent distance";
+	}
+}
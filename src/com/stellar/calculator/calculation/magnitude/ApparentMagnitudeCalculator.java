@@ -1,7 +1,10 @@
 package com.stellar.calculator.calculation.magnitude;
 
-import com.stellar.calculator.calculation.api.Calculator;
-import com.stellar.calculator.domain.model.Star;
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
 import com.stellar.calculator.physics.equations.MagnitudeEquations;
 
 /**
@@ -27,14 +30,19 @@ import com.stellar.calculator.physics.equations.MagnitudeEquations;
  * @see ApparentMagnitudeResult
  * @see com.stellar.calculator.physics.equations.MagnitudeEquations
  */
-public class ApparentMagnitudeCalculator implements Calculator<Star, ApparentMagnitudeResult> {
+public class ApparentMagnitudeCalculator implements ContextualCalculator<ApparentMagnitudeResult> {
 
 	@Override
-	public ApparentMagnitudeResult calculate(Star star) {
-		double magnitude = MagnitudeEquations.calculateApparentMagnitude(star.getRadius(), star.getTemperature());
+	public ApparentMagnitudeResult calculate(DerivedQuantities quantities) {
+		double magnitude = MagnitudeEquations.calculateApparentMagnitude(quantities.scaledLuminosity());
 		return new ApparentMagnitudeResult(magnitude);
 	}
 
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.SCALED_LUMINOSITY);
+	}
+
 	@Override
 	public String getDescription() {
 		return "Apparent magnitude at Earth-equivalent distance";
@@ -0,0 +1,40 @@
+package com.stellar.calculator.calculation.magnitude;
+
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Provides the {@link ApparentMagnitudeCalculator} and its batch counterpart
+ * {@link ApparentMagnitudeBatchCalculator} to the service loader.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class ApparentMagnitudeCalculatorProvider implements CalculatorProvider {
+
+	@Override
+	public Class<? extends CalculationResult> resultType() {
+		return ApparentMagnitudeResult.class;
+	}
+
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.SCALED_LUMINOSITY);
+	}
+
+	@Override
+	public Calculator<Star, ? extends CalculationResult> calculator() {
+		return new ApparentMagnitudeCalculator();
+	}
+
+	@Override
+	public BatchCalculator<?> batchCalculator() {
+		return new ApparentMagnitudeBatchCalculator();
+	}
+}
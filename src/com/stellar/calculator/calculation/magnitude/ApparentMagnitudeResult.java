@@ -1,6 +1,7 @@
 package com.stellar.calculator.calculation.magnitude;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
 import com.stellar.calculator.physics.constants.SolarSystemConstants;
 
 /**
@@ -28,23 +29,24 @@ import com.stellar.calculator.physics.constants.SolarSystemConstants;
 public record ApparentMagnitudeResult(double magnitude) implements CalculationResult {
 	@Override
 	public String format() {
+		return formatTo(new StringBuilder(128)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
 		double magDiff = SolarSystemConstants.SOLAR_APPARENT_MAG - magnitude;
 		double brightnessFactor = Math.pow(2.512, magDiff);
 
-		String comparison;
+		out.append("Apparent Magnitude at 1 AU\nMagnitude: ");
+		DecimalEncoder.appendFixed(out, magnitude, 2).append('\n');
 		if (Math.abs(brightnessFactor - 1.0) < 0.05) {
-			comparison = "About as bright as the Sun";
+			out.append("About as bright as the Sun");
 		} else if (brightnessFactor > 1.0) {
-			comparison = String.format("%.1f times brighter than the Sun", brightnessFactor);
+			DecimalEncoder.appendFixed(out, brightnessFactor, 1).append(" times brighter than the Sun");
 		} else {
-			comparison = String.format("%.1f times dimmer than the Sun", 1 / brightnessFactor);
+			DecimalEncoder.appendFixed(out, 1 / brightnessFactor, 1).append(" times dimmer than the Sun");
 		}
-
-		return String.format("""
-				Apparent Magnitude at 1 AU
-				Magnitude: %.2f
-				%s
-				(As it would appear from a distance of 1 AU)""", magnitude, comparison);
+		return out.append("\n(As it would appear from a distance of 1 AU)");
 	}
 
 	@Override
@@ -0,0 +1,43 @@
+package com.stellar.calculator.calculation.orbital;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.DoubleResultColumn;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.physics.equations.ThermalEquations;
+import com.stellar.calculator.physics.equations.VectorizedEquations;
+
+/**
+ * Batch counterpart of {@link OrbitalPeriodCalculator}. Writes the orbital
+ * period at Earth-equivalent distance of each star, in seconds, into a single
+ * primitive column.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see OrbitalPeriodCalculator
+ */
+public class OrbitalPeriodBatchCalculator implements BatchCalculator<DoubleResultColumn> {
+
+	@Override
+	public DoubleResultColumn allocate(int capacity) {
+		return new DoubleResultColumn(capacity, OrbitalPeriodResult::new);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, DoubleResultColumn output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] mass = batch.masses();
+		double[] radius = batch.radii();
+		double[] temperature = batch.temperatures();
+		double[] period = output.values();
+		// The period column first holds the Earth-equivalent distances.
+		for (int i = 0; i < n; i++) {
+			period[i] = ThermalEquations.calculateEarthEquivalentDistance(radius[i], temperature[i]);
+		}
+		VectorizedEquations.calculatePeriod(mass, period, period, n);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Orbital period at Earth-equivalent distance";
+	}
+}
@@ -2,10 +2,11 @@
 package com.stellar.calculator.calculation.orbital;
 
 import java.util.Objects;
+import java.util.Set;
 
-import com.stellar.calculator.calculation.api.Calculator;
-import com.stellar.calculator.domain.model.Star;
-import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
 import com.stellar.calculator.physics.equations.OrbitalEquations;
 
 /**
@@ -30,26 +31,28 @@ import com.stellar.calculator.physics.equations.OrbitalEquations;
  * @see OrbitalPeriodResult
  * @see OrbitalEquations
  */
-public class OrbitalPeriodCalculator implements Calculator<Star, OrbitalPeriodResult> {
+public class OrbitalPeriodCalculator implements ContextualCalculator<OrbitalPeriodResult> {
 
 	/**
 	 * Calculates the orbital period for a planet at Earth-equivalent distance.
 	 *
-	 * @param star the star to analyze, must not be null
+	 * @param quantities the derived quantities of the star to analyze, must not
+	 *                   be null
 	 * @return the calculated orbital period result
-	 * @throws NullPointerException     if <b>star</b> is {@code null}
-	 * @throws IllegalArgumentException if <b>star</b> has invalid parameters
+	 * @throws NullPointerException     if <b>quantities</b> is {@code null}
+	 * @throws IllegalArgumentException if the star has invalid parameters
 	 */
 	@Override
-	public OrbitalPeriodResult calculate(Star star) {
-		Objects.requireNonNull(star, "star cannot be null");
-		double period = OrbitalEquations.calculatePeriod(star.getMass(), calculateEarthEquivalentDistance(star));
+	public OrbitalPeriodResult calculate(DerivedQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+		double period = OrbitalEquations.calculatePeriod(quantities.star().getMass(),
+				quantities.earthEquivalentDistance());
 		return new OrbitalPeriodResult(period);
 	}
 
-	private double calculateEarthEquivalentDistance(Star star) {
-		return Math.sqrt(star.getRadius() * star.getRadius()
-				* Math.pow(star.getTemperature() / SolarSystemConstants.SOLAR_TEMPERATURE, 4));
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.EARTH_EQUIVALENT_DISTANCE);
 	}
 
 	@Override
@@ -0,0 +1,40 @@
+package com.stellar.calculator.calculation.orbital;
+
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Provides the {@link OrbitalPeriodCalculator} and its batch counterpart
+ * {@link OrbitalPeriodBatchCalculator} to the service loader.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class OrbitalPeriodCalculatorProvider implements CalculatorProvider {
+
+	@Override
+	public Class<? extends CalculationResult> resultType() {
+		return OrbitalPeriodResult.class;
+	}
+
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.EARTH_EQUIVALENT_DISTANCE);
+	}
+
+	@Override
+	public Calculator<Star, ? extends CalculationResult> calculator() {
+		return new OrbitalPeriodCalculator();
+	}
+
+	@Override
+	public BatchCalculator<?> batchCalculator() {
+		return new OrbitalPeriodBatchCalculator();
+	}
+}
@@ -27,11 +27,14 @@ public record OrbitalPeriodResult(double periodInSeconds) implements Calculation
 
 	@Override
 	public String format() {
-		return String.format("""
-				Orbital Period at Earth-equivalent Distance
-				Period: %s
-				(Time for one complete orbit at a distance receiving Earth-like radiation)""",
-				formatter.formatPeriod(periodInSeconds));
+		return formatTo(new StringBuilder(160)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Orbital Period at Earth-equivalent Distance\nPeriod: ");
+		formatter.appendPeriod(out, periodInSeconds);
+		return out.append("\n(Time for one complete orbit at a distance receiving Earth-like radiation)");
 	}
 
 	@Override
@@ -0,0 +1,64 @@
+package com.stellar.calculator.calculation.planetary;
+
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.PlanetCalculator;
+import com.stellar.calculator.calculation.api.PlanetQuantities;
+import com.stellar.calculator.domain.model.Planet;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.physics.equations.PlanetaryEquations;
+
+/**
+ * Calculates the Earth Similarity Index (ESI) of a planet after Schulze-Makuch
+ * et al. (2011).
+ *
+ * <p>
+ * The interior ESI compares radius and bulk density, the surface ESI escape
+ * velocity and temperature; the global ESI is their geometric mean. Each
+ * property contributes (1 - |(x - x₀)/(x + x₀)|)^(w/2) with the published
+ * weights w of 0.57 (radius), 1.07 (density), 0.70 (escape velocity) and 5.58
+ * (temperature).
+ *
+ * <p>
+ * Surface temperatures of exoplanets are rarely known, so the temperature term
+ * compares the planet's equilibrium temperature with Earth's (both with
+ * Earth's Bond albedo, Earth's taken at the solar constant) rather than mean
+ * surface temperatures. Earth around a star with the nominal solar parameters
+ * scores 0.999.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see EarthSimilarityIndexResult
+ */
+public class EarthSimilarityIndexCalculator implements PlanetCalculator<EarthSimilarityIndexResult> {
+	private static final double RADIUS_WEIGHT = 0.57;
+	private static final double DENSITY_WEIGHT = 1.07;
+	private static final double ESCAPE_VELOCITY_WEIGHT = 0.70;
+	private static final double TEMPERATURE_WEIGHT = 5.58;
+
+	private static final double EARTH_EQUILIBRIUM_TEMPERATURE = PlanetaryEquations
+			.calculateEquilibriumTemperature(SolarSystemConstants.SOLAR_CONSTANT, SolarSystemConstants.EARTH_BOND_ALBEDO);
+
+	@Override
+	public EarthSimilarityIndexResult calculate(PlanetQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+		Planet planet = quantities.planet();
+		double mass = PlanetaryEquations.toEarthMasses(planet.getMass());
+		double radius = PlanetaryEquations.toEarthRadii(planet.getRadius());
+		// Density and escape velocity relative to Earth's
+		double density = mass / (radius * radius * radius);
+		double escapeVelocity = Math.sqrt(mass / radius);
+
+		double interior = Math.sqrt(PlanetaryEquations.calculateSimilarity(radius, 1, RADIUS_WEIGHT)
+				* PlanetaryEquations.calculateSimilarity(density, 1, DENSITY_WEIGHT));
+		double surface = Math.sqrt(PlanetaryEquations.calculateSimilarity(escapeVelocity, 1, ESCAPE_VELOCITY_WEIGHT)
+				* PlanetaryEquations.calculateSimilarity(quantities.equilibriumTemperature(),
+						EARTH_EQUILIBRIUM_TEMPERATURE, TEMPERATURE_WEIGHT));
+		return new EarthSimilarityIndexResult(interior, surface);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Earth Similarity Index";
+	}
+}
@@ -0,0 +1,54 @@
+package com.stellar.calculator.calculation.planetary;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
+
+/**
+ * Represents the Earth Similarity Index of a planet, from 0 (no similarity) to
+ * 1 (identical to Earth).
+ *
+ * @param interior the interior ESI, from radius and bulk density
+ * @param surface  the surface ESI, from escape velocity and temperature
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see EarthSimilarityIndexCalculator
+ */
+public record EarthSimilarityIndexResult(double interior, double surface) implements CalculationResult {
+
+	public EarthSimilarityIndexResult {
+		if (!(interior >= 0 && interior <= 1) || !(surface >= 0 && surface <= 1)) {
+			throw new IllegalArgumentException("similarity must be between 0 and 1");
+		}
+	}
+
+	/**
+	 * Returns the global ESI, the geometric mean of the interior and surface
+	 * indices.
+	 *
+	 * @return the global ESI
+	 */
+	public double global() {
+		return Math.sqrt(interior * surface);
+	}
+
+	@Override
+	public String format() {
+		return formatTo(new StringBuilder(128)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Earth Similarity Index\nGlobal: ");
+		DecimalEncoder.appendFixed(out, global(), 3);
+		out.append(" (interior ");
+		DecimalEncoder.appendFixed(out, interior, 3);
+		out.append(", surface ");
+		DecimalEncoder.appendFixed(out, surface, 3);
+		return out.append(")\n(1.0 is identical to Earth; above 0.8 is considered Earth-like)");
+	}
+
+	@Override
+	public double getValue() {
+		return global();
+	}
+}
@@ -0,0 +1,35 @@
+package com.stellar.calculator.calculation.planetary;
+
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.PlanetCalculator;
+import com.stellar.calculator.calculation.api.PlanetQuantities;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+
+/**
+ * Calculates the equilibrium temperature of a planet: the temperature at which
+ * a rapidly rotating black body with Earth's Bond albedo
+ * ({@value SolarSystemConstants#EARTH_BOND_ALBEDO}) radiates as much as it
+ * absorbs from its host star.
+ *
+ * <p>
+ * The equilibrium temperature ignores any greenhouse effect; Earth's is about
+ * 254 K against a mean surface temperature of 288 K.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see EquilibriumTemperatureResult
+ */
+public class EquilibriumTemperatureCalculator implements PlanetCalculator<EquilibriumTemperatureResult> {
+
+	@Override
+	public EquilibriumTemperatureResult calculate(PlanetQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+		return new EquilibriumTemperatureResult(quantities.equilibriumTemperature());
+	}
+
+	@Override
+	public String getDescription() {
+		return "Planetary equilibrium temperature";
+	}
+}
@@ -0,0 +1,40 @@
+package com.stellar.calculator.calculation.planetary;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
+
+/**
+ * Represents the equilibrium temperature of a planet.
+ *
+ * @param temperature the equilibrium temperature in Kelvin
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see EquilibriumTemperatureCalculator
+ */
+public record EquilibriumTemperatureResult(double temperature) implements CalculationResult {
+
+	public EquilibriumTemperatureResult {
+		if (temperature < 0) {
+			throw new IllegalArgumentException("temperature cannot be negative");
+		}
+	}
+
+	@Override
+	public String format() {
+		return formatTo(new StringBuilder(112)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Equilibrium Temperature\nTemperature: ");
+		DecimalEncoder.appendFixed(out, temperature, 0);
+		out.append("K (");
+		DecimalEncoder.appendFixed(out, temperature - 273.15, 0);
+		return out.append("°C)\n(Without greenhouse warming; Earth's is about 254K)");
+	}
+
+	@Override
+	public double getValue() {
+		return temperature;
+	}
+}
@@ -0,0 +1,32 @@
+package com.stellar.calculator.calculation.planetary;
+
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.PlanetCalculator;
+import com.stellar.calculator.calculation.api.PlanetQuantities;
+import com.stellar.calculator.calculation.thermal.HabitableZoneCalculator;
+
+/**
+ * Locates a planet's orbit relative to the habitable zone of its host star,
+ * with the same boundaries as {@link HabitableZoneCalculator}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see HabitableZonePositionResult
+ */
+public class HabitableZonePositionCalculator implements PlanetCalculator<HabitableZonePositionResult> {
+
+	@Override
+	public HabitableZonePositionResult calculate(PlanetQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+		double baseRadius = Math.sqrt(quantities.host().luminosity());
+		return new HabitableZonePositionResult(quantities.planet().getOrbitRadius(),
+				baseRadius * HabitableZoneCalculator.INNER_BOUNDARY_FACTOR,
+				baseRadius * HabitableZoneCalculator.OUTER_BOUNDARY_FACTOR);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Position relative to the habitable zone";
+	}
+}
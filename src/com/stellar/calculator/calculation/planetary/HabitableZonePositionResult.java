@@ -0,0 +1,74 @@
+package com.stellar.calculator.calculation.planetary;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
+
+/**
+ * Represents the position of a planet's orbit relative to the habitable zone
+ * of its host star.
+ *
+ * @param orbitRadius   the orbital radius in AU
+ * @param innerBoundary the inner boundary of the habitable zone in AU
+ * @param outerBoundary the outer boundary of the habitable zone in AU
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see HabitableZonePositionCalculator
+ */
+public record HabitableZonePositionResult(double orbitRadius, double innerBoundary, double outerBoundary)
+		implements CalculationResult {
+
+	public HabitableZonePositionResult {
+		if (orbitRadius <= 0) {
+			throw new IllegalArgumentException("orbit radius must be positive");
+		}
+		if (innerBoundary <= 0) {
+			throw new IllegalArgumentException("inner boundary must be positive");
+		}
+		if (outerBoundary <= innerBoundary) {
+			throw new IllegalArgumentException("outer boundary must be greater than inner boundary");
+		}
+	}
+
+	/**
+	 * Returns the position of the orbit within the zone: 0 at the inner
+	 * boundary, 1 at the outer boundary, negative inside and above 1 beyond it.
+	 *
+	 * @return the relative position
+	 */
+	public double relativePosition() {
+		return (orbitRadius - innerBoundary) / (outerBoundary - innerBoundary);
+	}
+
+	/**
+	 * Returns the zone the orbit lies in.
+	 *
+	 * @return the zone
+	 */
+	public OrbitalZone zone() {
+		if (orbitRadius < innerBoundary) {
+			return OrbitalZone.TOO_HOT;
+		}
+		return orbitRadius > outerBoundary ? OrbitalZone.TOO_COLD : OrbitalZone.HABITABLE;
+	}
+
+	@Override
+	public String format() {
+		return formatTo(new StringBuilder(128)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Habitable Zone Position\n").append(zone().getDescription()).append("\nOrbit: ");
+		DecimalEncoder.appendFixed(out, orbitRadius, 3);
+		out.append(" AU (habitable zone ");
+		DecimalEncoder.appendFixed(out, innerBoundary, 2);
+		out.append('-');
+		DecimalEncoder.appendFixed(out, outerBoundary, 2);
+		return out.append(" AU)");
+	}
+
+	@Override
+	public double getValue() {
+		return relativePosition();
+	}
+}
@@ -0,0 +1,34 @@
+package com.stellar.calculator.calculation.planetary;
+
+/**
+ * The position of an orbit relative to the host star's habitable zone.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see HabitableZonePositionResult
+ */
+public enum OrbitalZone {
+	/** Inside the inner boundary, too hot for liquid surface water. */
+	TOO_HOT("Too hot (inside the inner boundary)"),
+
+	/** Between the boundaries. */
+	HABITABLE("Within the habitable zone"),
+
+	/** Outside the outer boundary, too cold for liquid surface water. */
+	TOO_COLD("Too cold (beyond the outer boundary)");
+
+	private final String description;
+
+	OrbitalZone(String description) {
+		this.description = description;
+	}
+
+	/**
+	 * Returns a human-readable description of the zone.
+	 *
+	 * @return the description
+	 */
+	public String getDescription() {
+		return description;
+	}
+}
@@ -0,0 +1,28 @@
+package com.stellar.calculator.calculation.planetary;
+
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.PlanetCalculator;
+import com.stellar.calculator.calculation.api.PlanetQuantities;
+
+/**
+ * Calculates the irradiance (incident radiation) a planet receives from its
+ * host star at its orbital radius.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see PlanetIrradianceResult
+ */
+public class PlanetIrradianceCalculator implements PlanetCalculator<PlanetIrradianceResult> {
+
+	@Override
+	public PlanetIrradianceResult calculate(PlanetQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+		return new PlanetIrradianceResult(quantities.irradiance());
+	}
+
+	@Override
+	public String getDescription() {
+		return "Incident radiation at the planet's orbit";
+	}
+}
@@ -0,0 +1,50 @@
+package com.stellar.calculator.calculation.planetary;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+
+/**
+ * Represents the radiation a planet receives from its host star.
+ *
+ * @param irradiance the irradiance at the planet's orbit in W/m²
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see PlanetIrradianceCalculator
+ */
+public record PlanetIrradianceResult(double irradiance) implements CalculationResult {
+
+	public PlanetIrradianceResult {
+		if (irradiance < 0) {
+			throw new IllegalArgumentException("irradiance cannot be negative");
+		}
+	}
+
+	/**
+	 * Returns the irradiance relative to the solar constant.
+	 *
+	 * @return the irradiance in units of Earth's irradiance (S⊕)
+	 */
+	public double relativeToEarth() {
+		return irradiance / SolarSystemConstants.SOLAR_CONSTANT;
+	}
+
+	@Override
+	public String format() {
+		return formatTo(new StringBuilder(96)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Radiation at Orbit\nLevel: ");
+		DecimalEncoder.appendFixed(out, irradiance, 2);
+		out.append(" W/m²\nComparison: ");
+		DecimalEncoder.appendFixed(out, relativeToEarth(), 2);
+		return out.append(" times Earth's solar radiation");
+	}
+
+	@Override
+	public double getValue() {
+		return irradiance;
+	}
+}
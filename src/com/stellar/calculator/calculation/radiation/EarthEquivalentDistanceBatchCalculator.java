@@ -0,0 +1,39 @@
+package com.stellar.calculator.calculation.radiation;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.DoubleResultColumn;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.physics.equations.ThermalEquations;
+
+/**
+ * Batch counterpart of {@link EarthEquivalentDistanceCalculator}. Writes the
+ * Earth-equivalent distance of each star, in AU, into a single primitive
+ * column.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see EarthEquivalentDistanceCalculator
+ */
+public class EarthEquivalentDistanceBatchCalculator implements BatchCalculator<DoubleResultColumn> {
+
+	@Override
+	public DoubleResultColumn allocate(int capacity) {
+		return new DoubleResultColumn(capacity, EarthEquivalentDistanceResult::new);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, DoubleResultColumn output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] radius = batch.radii();
+		double[] temperature = batch.temperatures();
+		double[] distance = output.values();
+		for (int i = 0; i < n; i++) {
+			distance[i] = ThermalEquations.calculateEarthEquivalentDistance(radius[i], temperature[i]);
+		}
+	}
+
+	@Override
+	public String getDescription() {
+		return "Distance where irradiance equals Earth's";
+	}
+}
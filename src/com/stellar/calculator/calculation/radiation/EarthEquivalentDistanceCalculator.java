@@ -1,8 +1,10 @@
 package com.stellar.calculator.calculation.radiation;
 
-import com.stellar.calculator.calculation.api.Calculator;
-import com.stellar.calculator.domain.model.Star;
-import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
 
 /**
  * Calculates the distance at which a planet would receive Earth-like stellar
@@ -28,15 +30,17 @@ import com.stellar.calculator.physics.constants.SolarSystemConstants;
  * @see EarthEquivalentDistanceResult
  * @see com.stellar.calculator.physics.constants.SolarSystemConstants#SOLAR_TEMPERATURE
  */
-public class EarthEquivalentDistanceCalculator implements Calculator<Star, EarthEquivalentDistanceResult> {
+public class EarthEquivalentDistanceCalculator implements ContextualCalculator<EarthEquivalentDistanceResult> {
 
 	@Override
-	public EarthEquivalentDistanceResult calculate(Star star) {
+	public EarthEquivalentDistanceResult calculate(DerivedQuantities quantities) {
 		// Calculate the distance where irradiance equals Earth's
-		double distance = Math.sqrt(star.getRadius() * star.getRadius()
-				* Math.pow(star.getTemperature() / SolarSystemConstants.SOLAR_TEMPERATURE, 4));
+		return new EarthEquivalentDistanceResult(quantities.earthEquivalentDistance());
+	}
 
-		return new EarthEquivalentDistanceResult(distance);
+	@Override
+	public Set<DerivedQuantity> produces() {
+		return Set.of(DerivedQuantity.EARTH_EQUIVALENT_DISTANCE);
 	}
 
 	@Override
@@ -0,0 +1,40 @@
+package com.stellar.calculator.calculation.radiation;
+
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Provides the {@link EarthEquivalentDistanceCalculator} and its batch counterpart
+ * {@link EarthEquivalentDistanceBatchCalculator} to the service loader.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class EarthEquivalentDistanceCalculatorProvider implements CalculatorProvider {
+
+	@Override
+	public Class<? extends CalculationResult> resultType() {
+		return EarthEquivalentDistanceResult.class;
+	}
+
+	@Override
+	public Set<DerivedQuantity> produces() {
+		return Set.of(DerivedQuantity.EARTH_EQUIVALENT_DISTANCE);
+	}
+
+	@Override
+	public Calculator<Star, ? extends CalculationResult> calculator() {
+		return new EarthEquivalentDistanceCalculator();
+	}
+
+	@Override
+	public BatchCalculator<?> batchCalculator() {
+		return new EarthEquivalentDistanceBatchCalculator();
+	}
+}
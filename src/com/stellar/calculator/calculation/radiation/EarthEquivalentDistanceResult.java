@@ -1,6 +1,7 @@
 package com.stellar.calculator.calculation.radiation;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
 
 /**
  * Represents the result of an Earth-equivalent distance calculation.
@@ -29,10 +30,14 @@ public record EarthEquivalentDistanceResult(double distanceInAU) implements Calc
 
 	@Override
 	public String format() {
-		return String.format("""
-				Earth-equivalent Distance
-				Distance: %.2f AU
-				(Where a planet would receive the same radiation as Earth)""", distanceInAU);
+		return formatTo(new StringBuilder(128)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Earth-equivalent Distance\nDistance: ");
+		DecimalEncoder.appendFixed(out, distanceInAU, 2);
+		return out.append(" AU\n(Where a planet would receive the same radiation as Earth)");
 	}
 
 	@Override
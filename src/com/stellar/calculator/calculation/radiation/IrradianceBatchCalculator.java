@@ -0,0 +1,36 @@
+package com.stellar.calculator.calculation.radiation;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.DoubleResultColumn;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.physics.equations.VectorizedEquations;
+
+/**
+ * Batch counterpart of {@link IrradianceCalculator}. Writes the irradiance at
+ * 1 AU of each star, in W/m², into a single primitive column.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see IrradianceCalculator
+ */
+public class IrradianceBatchCalculator implements BatchCalculator<DoubleResultColumn> {
+
+	@Override
+	public DoubleResultColumn allocate(int capacity) {
+		return new DoubleResultColumn(capacity, IrradianceResult::new);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, DoubleResultColumn output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] radius = batch.radii();
+		double[] temperature = batch.temperatures();
+		double[] irradiance = output.values();
+		VectorizedEquations.calculateIrradianceAtDistance(radius, temperature, 1.0, irradiance, n);
+	}
+
+	@Override
+	public String getDescription() {
+		return "Incident radiation at 1 AU";
+	}
+}
@@ -1,7 +1,10 @@
 package com.stellar.calculator.calculation.radiation;
 
-import com.stellar.calculator.calculation.api.Calculator;
-import com.stellar.calculator.domain.model.Star;
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
 import com.stellar.calculator.physics.equations.ThermalEquations;
 
 /**
@@ -11,19 +14,23 @@ import com.stellar.calculator.physics.equations.ThermalEquations;
  * @author Ahmed Ghannam
  * @version 1.0
  */
-public class IrradianceCalculator implements Calculator<Star, IrradianceResult> {
+public class IrradianceCalculator implements ContextualCalculator<IrradianceResult> {
 
     @Override
-    public IrradianceResult calculate(Star star) {
+    public IrradianceResult calculate(DerivedQuantities quantities) {
         // Calculate irradiance at fixed 1 AU distance
-        double irradiance = ThermalEquations.calculateIrradianceAtDistance(
-            star.getRadius(),
-            star.getTemperature(),
+        double irradiance = ThermalEquations.calculateIrradianceFromFlux(
+            quantities.radiantFlux(),
             1.0  // Fixed at 1 AU (for illustrative purposes)
         );
         return new IrradianceResult(irradiance);
     }
 
+    @Override
+    public Set<DerivedQuantity> requires() {
+        return Set.of(DerivedQuantity.RADIANT_FLUX);
+    }
+
     @Override
     public String getDescription() {
         return "Incident radiation at 1 AU";
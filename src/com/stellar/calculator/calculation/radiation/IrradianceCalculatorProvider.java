@@ -0,0 +1,40 @@
+package com.stellar.calculator.calculation.radiation;
+
+import java.util.Set;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Provides the {@link IrradianceCalculator} and its batch counterpart
+ * {@link IrradianceBatchCalculator} to the service loader.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class IrradianceCalculatorProvider implements CalculatorProvider {
+
+	@Override
+	public Class<? extends CalculationResult> resultType() {
+		return IrradianceResult.class;
+	}
+
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.RADIANT_FLUX);
+	}
+
+	@Override
+	public Calculator<Star, ? extends CalculationResult> calculator() {
+		return new IrradianceCalculator();
+	}
+
+	@Override
+	public BatchCalculator<?> batchCalculator() {
+		return new IrradianceBatchCalculator();
+	}
+}
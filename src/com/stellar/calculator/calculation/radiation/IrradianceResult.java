@@ -1,6 +1,7 @@
 package com.stellar.calculator.calculation.radiation;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
 import com.stellar.calculator.physics.constants.SolarSystemConstants;
 
 /**
@@ -20,24 +21,26 @@ public record IrradianceResult(double irradiance) implements CalculationResult {
 
 	@Override
 	public String format() {
-		String radiationLevel = formatIrradianceValue();
-		double percentOfEarth = (irradiance / SolarSystemConstants.SOLAR_CONSTANT) * 100;
-		return String.format("""
-				Radiation at 1 AU
-				%s
-				Comparison: %.1f%% of Earth's solar radiation
-				(How irradiated a planet would be at 1 AU from this star relative to Earth)""", radiationLevel, percentOfEarth);
+		return formatTo(new StringBuilder(192)).toString();
 	}
 
-	private String formatIrradianceValue() {
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		double percentOfEarth = (irradiance / SolarSystemConstants.SOLAR_CONSTANT) * 100;
+		out.append("Radiation at 1 AU\nLevel: ");
 		if (irradiance >= 1_000_000_000) {
-			return String.format("Level: %.2f GW/m²", irradiance / 1_000_000_000.0);
+			DecimalEncoder.appendFixed(out, irradiance / 1_000_000_000.0, 2).append(" GW/m²");
 		} else if (irradiance >= 1_000_000) {
-			return String.format("Level: %.2f MW/m²", irradiance / 1_000_000.0);
+			DecimalEncoder.appendFixed(out, irradiance / 1_000_000.0, 2).append(" MW/m²");
 		} else if (irradiance >= 1_000) {
-			return String.format("Level: %.2f kW/m²", irradiance / 1_000.0);
+			DecimalEncoder.appendFixed(out, irradiance / 1_000.0, 2).append(" kW/m²");
+		} else {
+			DecimalEncoder.appendFixed(out, irradiance, 2).append(" W/m²");
 		}
-		return String.format("Level: %.2f W/m²", irradiance);
+		out.append("\nComparison: ");
+		DecimalEncoder.appendFixed(out, percentOfEarth, 1);
+		return out.append("% of Earth's solar radiation\n"
+				+ "(How irradiated a planet would be at 1 AU from this star relative to Earth)");
 	}
 
 	@Override
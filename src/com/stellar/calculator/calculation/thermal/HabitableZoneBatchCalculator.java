@@ -0,0 +1,43 @@
+package com.stellar.calculator.calculation.thermal;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.physics.equations.VectorizedEquations;
+
+/**
+ * Batch counterpart of {@link HabitableZoneCalculator}. Writes the inner and
+ * outer habitable zone boundaries of each star into two primitive columns.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see HabitableZoneCalculator
+ */
+public class HabitableZoneBatchCalculator implements BatchCalculator<HabitableZoneColumns> {
+
+	@Override
+	public HabitableZoneColumns allocate(int capacity) {
+		return new HabitableZoneColumns(capacity);
+	}
+
+	@Override
+	public void calculate(StarBatch batch, HabitableZoneColumns output) {
+		int n = BatchCalculator.prepare(batch, output);
+		double[] radius = batch.radii();
+		double[] temperature = batch.temperatures();
+		double[] inner = output.innerBoundaries();
+		double[] outer = output.outerBoundaries();
+		VectorizedEquations.calculateRadiantFlux(radius, temperature, inner, n);
+		for (int i = 0; i < n; i++) {
+			double luminosity = inner[i] / SolarSystemConstants.SOLAR_LUMINOSITY;
+			double baseRadius = Math.sqrt(luminosity);
+			inner[i] = baseRadius * HabitableZoneCalculator.INNER_BOUNDARY_FACTOR;
+			outer[i] = baseRadius * HabitableZoneCalculator.OUTER_BOUNDARY_FACTOR;
+		}
+	}
+
+	@Override
+	public String getDescription() {
+		return "Habitable zone boundaries";
+	}
+}
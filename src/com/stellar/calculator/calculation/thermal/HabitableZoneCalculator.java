@@ -1,10 +1,12 @@
 package com.stellar.calculator.calculation.thermal;
 
 import java.util.Objects;
+import java.util.Set;
 
-import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
 import com.stellar.calculator.calculation.luminosity.LuminosityCalculator;
-import com.stellar.calculator.domain.model.Star;
 
 /**
  * Estimates the boundaries of a star's habitable zone.
@@ -32,26 +34,34 @@ import com.stellar.calculator.domain.model.Star;
  * @see HabitableZoneResult
  * @see LuminosityCalculator
  */
-public class HabitableZoneCalculator implements Calculator<Star, HabitableZoneResult> {
-	private final LuminosityCalculator luminosityCalc = new LuminosityCalculator();
+public class HabitableZoneCalculator implements ContextualCalculator<HabitableZoneResult> {
+	/** Inner boundary in AU per √(L/L☉), the conservative "too hot" limit. */
+	public static final double INNER_BOUNDARY_FACTOR = 0.95;
+
+	/** Outer boundary in AU per √(L/L☉), the conservative "too cold" limit. */
+	public static final double OUTER_BOUNDARY_FACTOR = 1.37;
 
 	/**
 	 * Estimates the habitable zone boundaries for the given star.
 	 *
-	 * @param star the star to analyze, must not be null
+	 * @param quantities the derived quantities of the star to analyze, must not
+	 *                   be null
 	 * @return the calculated habitable zone boundaries
-	 * @throws NullPointerException     if <b>star</b> is {@code null}
-	 * @throws IllegalArgumentException if <b>star</b> has invalid parameters
+	 * @throws NullPointerException     if <b>quantities</b> is {@code null}
+	 * @throws IllegalArgumentException if the star has invalid parameters
 	 */
 	@Override
-	public HabitableZoneResult calculate(Star star) {
-		Objects.requireNonNull(star, "star cannot be null");
-		double luminosity = luminosityCalc.calculate(star).getValue();
+	public HabitableZoneResult calculate(DerivedQuantities quantities) {
+		Objects.requireNonNull(quantities, "quantities cannot be null");
+		double luminosity = quantities.luminosity();
 		double baseRadius = Math.sqrt(luminosity);
 
-		return new HabitableZoneResult(baseRadius * 0.95, // Conservative inner boundary
-				baseRadius * 1.37 // Conservative outer boundary
-		);
+		return new HabitableZoneResult(baseRadius * INNER_BOUNDARY_FACTOR, baseRadius * OUTER_BOUNDARY_FACTOR);
+	}
+
+	@Override
+	public Set<DerivedQuantity> requires() {
+		return Set.of(DerivedQuantity.LUMINOSITY);
 	}
 
 	@Override
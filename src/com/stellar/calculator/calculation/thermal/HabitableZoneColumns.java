@@ -0,0 +1,87 @@
+package com.stellar.calculator.calculation.thermal;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.ResultColumns;
+
+/**
+ * Primitive output columns of {@link HabitableZoneBatchCalculator}: the inner
+ * and outer habitable zone boundary of each star, in AU.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class HabitableZoneColumns implements ResultColumns {
+	private static final List<String> QUANTITIES = List.of("innerBoundary", "outerBoundary");
+
+	private final double[] innerBoundary;
+	private final double[] outerBoundary;
+	private int size;
+
+	/**
+	 * Creates empty columns.
+	 *
+	 * @param capacity the number of rows to allocate
+	 */
+	public HabitableZoneColumns(int capacity) {
+		this.innerBoundary = new double[capacity];
+		this.outerBoundary = new double[capacity];
+	}
+
+	/**
+	 * Returns the inner boundary column in AU.
+	 *
+	 * @return the backing inner boundary array
+	 */
+	public double[] innerBoundaries() {
+		return innerBoundary;
+	}
+
+	/**
+	 * Returns the outer boundary column in AU.
+	 *
+	 * @return the backing outer boundary array
+	 */
+	public double[] outerBoundaries() {
+		return outerBoundary;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return innerBoundary.length;
+	}
+
+	@Override
+	public void setSize(int size) {
+		Objects.checkFromToIndex(0, size, innerBoundary.length);
+		this.size = size;
+	}
+
+	@Override
+	public CalculationResult toResult(int row) {
+		Objects.checkIndex(row, size);
+		return new HabitableZoneResult(innerBoundary[row], outerBoundary[row]);
+	}
+
+	@Override
+	public List<String> quantityNames() {
+		return QUANTITIES;
+	}
+
+	@Override
+	public double quantity(int row, int quantity) {
+		Objects.checkIndex(row, size);
+		return switch (quantity) {
+		case 0 -> innerBoundary[row];
+		case 1 -> outerBoundary[row];
+		default -> throw new IndexOutOfBoundsException(quantity);
+		};
+	}
+}
@@ -1,6 +1,7 @@
 package com.stellar.calculator.calculation.thermal;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.formatter.DecimalEncoder;
 
 /**
  * Represents the result of a habitable zone calculation. Stores and formats the
@@ -27,11 +28,16 @@ public record HabitableZoneResult(double innerBoundary, double outerBoundary) im
 
 	@Override
 	public String format() {
-		return String.format("""
-				Theoretical Habitable Zone Boundaries
-				Inner boundary: %.2f AU (closer than this is too hot)
-				Outer boundary: %.2f AU (farther than this is too cold)
-				For reference: Earth orbits at 1.0 AU""", innerBoundary, outerBoundary);
+		return formatTo(new StringBuilder(192)).toString();
+	}
+
+	@Override
+	public StringBuilder formatTo(StringBuilder out) {
+		out.append("Theoretical Habitable Zone Boundaries\nInner boundary: ");
+		DecimalEncoder.appendFixed(out, innerBoundary, 2);
+		out.append(" AU (closer than this is too hot)\nOuter boundary: ");
+		DecimalEncoder.appendFixed(out, outerBoundary, 2);
+		return out.append(" AU (farther than this is too cold)\nFor reference: Earth orbits at 1.0 AU");
 	}
 
 	@Override
@@ -1,14 +1,66 @@
 package com.stellar.calculator.core;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.JMException;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.radiation.EarthEquivalentDistanceResult;
+import com.stellar.calculator.calculation.thermal.HabitableZoneResult;
+import com.stellar.calculator.domain.model.UncertainStar;
+import com.stellar.calculator.io.index.HabitableZoneIndex;
 import com.stellar.calculator.io.input.InputReader;
+import com.stellar.calculator.io.output.ReportFormat;
 import com.stellar.calculator.io.output.ResultPrinter;
+import com.stellar.calculator.service.batching.CoalescingCalculationService;
+import com.stellar.calculator.service.catalog.CatalogAnalysisEngine;
 import com.stellar.calculator.service.calculation.StellarCalculationService;
+import com.stellar.calculator.service.http.CalculationHttpServer;
+import com.stellar.calculator.service.metrics.MetricsRegistry;
 import com.stellar.calculator.service.orchestration.CalculationOrchestrator;
+import com.stellar.calculator.service.uncertainty.UncertaintyEngine;
+import com.stellar.calculator.service.uncertainty.UncertaintyResult;
 
 /**
  * Main entry point for the Stellar Calculator application. Responsible for
  * initializing core services and starting the calculation process.
  *
+ * <p>
+ * The first argument selects the mode:
+ * <ul>
+ * <li>none: analyzes a single star interactively</li>
+ * <li>{@code --catalog <catalog> <results.csv> [failures.csv]}: analyzes a
+ * whole catalog non-interactively. The catalog may be a CSV file, a columnar
+ * file written by {@code --convert}, or a FITS file whose first binary table
+ * holds the stars; the latter two are read without parsing. The options
+ * {@code --index <hz.idx>} and {@code --results <name,...>} also write a
+ * habitable zone index, or calculate only the named results (e.g.
+ * {@code spectralClass,luminosityClass}).</li>
+ * <li>{@code --convert <catalog> <catalog.scol> [failures.csv]}: converts a
+ * CSV or FITS catalog into the memory-mapped columnar format</li>
+ * <li>{@code --habitable-zone <hz.idx> <distance>}: lists the indexed stars
+ * whose habitable zone contains a distance in AU</li>
+ * <li>{@code --serve [port]}: serves calculations over HTTP (port 8080 by
+ * default) until the process is stopped. Concurrent single-star requests are
+ * coalesced into batches, and calculator metrics are published over JMX and
+ * at {@code /metrics}.</li>
+ * <li>{@code --uncertainty <mass> <massError> <radius> <radiusError>
+ * <temperature> <temperatureError> [seed]}: propagates normal (1σ) input
+ * errors through all calculators by Monte Carlo sampling and prints the
+ * percentiles of every result</li>
+ * </ul>
+ * A leading {@code --format <text|csv|ndjson|markdown>} selects the layout of
+ * the printed analysis.
+ *
  * @author Ahmed Ghannam
  * @version 1.0
  */
@@ -18,12 +70,197 @@ public class StellarCalculator {
 	 * Application entry point. Initializes services and starts the calculation
 	 * process.
 	 *
-	 * @param args command line arguments (unused)
+	 * @param args command line arguments; see the class description
 	 */
 	public static void main(String[] args) {
-		var orchestrator = new CalculationOrchestrator(new InputReader(), 
-				new StellarCalculationService(),
-				new ResultPrinter());
-		orchestrator.process();
+		var resultPrinter = new ResultPrinter();
+		if (args.length > 0 && args[0].equals("--format")) {
+			try {
+				if (args.length < 2) {
+					throw new IllegalArgumentException("Usage: --format <text|csv|ndjson|markdown> [mode arguments]");
+				}
+				resultPrinter = new ResultPrinter(ReportFormat.of(args[1]));
+			} catch (IllegalArgumentException e) {
+				resultPrinter.printError(e.getMessage());
+				System.exit(2);
+			}
+			args = Arrays.copyOfRange(args, 2, args.length);
+		}
+		var calculationService = new StellarCalculationService();
+
+		if (args.length > 0 && args[0].equals("--catalog")) {
+			runCatalog(calculationService, resultPrinter, args);
+		} else if (args.length > 0 && args[0].equals("--convert")) {
+			convertCatalog(calculationService, resultPrinter, args);
+		} else if (args.length > 0 && args[0].equals("--habitable-zone")) {
+			queryHabitableZones(resultPrinter, args);
+		} else if (args.length > 0 && args[0].equals("--serve")) {
+			serve(new StellarCalculationService(null, new MetricsRegistry()), resultPrinter, args);
+		} else if (args.length > 0 && args[0].equals("--uncertainty")) {
+			try (var engine = new UncertaintyEngine(calculationService)) {
+				runUncertainty(engine, resultPrinter, args);
+			}
+		} else {
+			new CalculationOrchestrator(new InputReader(), calculationService, resultPrinter).process();
+		}
+	}
+
+	private static void serve(StellarCalculationService calculationService, ResultPrinter resultPrinter,
+			String[] args) {
+		if (args.length > 2) {
+			resultPrinter.printError("Usage: --serve [port]");
+			System.exit(2);
+		}
+		try {
+			int port = args.length == 2 ? Integer.parseInt(args[1]) : 8080;
+			var coalescer = new CoalescingCalculationService(calculationService);
+			var server = new CalculationHttpServer(coalescer, port);
+			MetricsRegistry metrics = calculationService.getMetricsRegistry();
+			metrics.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+			server.publishMetrics(metrics);
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				server.close();
+				coalescer.close();
+			}));
+			server.start();
+			System.out.println("Serving calculations on port " + server.getAddress().getPort());
+		} catch (NumberFormatException e) {
+			resultPrinter.printError("Invalid port: " + args[1]);
+			System.exit(2);
+		} catch (IOException | JMException | IllegalArgumentException e) {
+			resultPrinter.printError("Server error: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	private static void runUncertainty(UncertaintyEngine engine, ResultPrinter resultPrinter, String[] args) {
+		if (args.length < 7 || args.length > 8) {
+			resultPrinter.printError("Usage: --uncertainty <mass> <massError> <radius> <radiusError> "
+					+ "<temperature> <temperatureError> [seed]");
+			System.exit(2);
+		}
+		UncertaintyResult result;
+		try {
+			double[] values = new double[6];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = Double.parseDouble(args[i + 1]);
+			}
+			long seed = args.length == 8 ? Long.parseLong(args[7]) : System.nanoTime();
+			result = engine.analyze(UncertainStar.of(values[0], values[1], values[2], values[3], values[4], values[5]),
+					seed);
+		} catch (IllegalArgumentException e) {
+			resultPrinter.printError("Invalid input: " + e.getMessage());
+			System.exit(2);
+			return;
+		}
+		if (!result.isSuccess()) {
+			resultPrinter.printError("Uncertainty analysis failed: " + result.failure().getMessage());
+			System.exit(1);
+		}
+		resultPrinter.printUncertainty(result);
+	}
+
+	private static void runCatalog(StellarCalculationService calculationService, ResultPrinter resultPrinter,
+			String[] args) {
+		String usage = "Usage: --catalog <catalog.csv> <results.csv> [failures.csv] [--index <hz.idx>] "
+				+ "[--results <name,...>]";
+		List<String> files = new ArrayList<>();
+		Path index = null;
+		String names = null;
+		for (int i = 1; i < args.length; i++) {
+			if (args[i].equals("--index") && i + 1 < args.length) {
+				index = Path.of(args[++i]);
+			} else if (args[i].equals("--results") && i + 1 < args.length) {
+				names = args[++i];
+			} else {
+				files.add(args[i]);
+			}
+		}
+		if (files.size() < 2 || files.size() > 3) {
+			resultPrinter.printError(usage);
+			System.exit(2);
+		}
+		Set<Class<? extends CalculationResult>> resultTypes = null;
+		if (names != null) {
+			try {
+				resultTypes = resultTypes(calculationService, names);
+			} catch (IllegalArgumentException e) {
+				resultPrinter.printError(e.getMessage());
+				System.exit(2);
+			}
+			if (index != null) {
+				// The index is built from these two results.
+				resultTypes.add(HabitableZoneResult.class);
+				resultTypes.add(EarthEquivalentDistanceResult.class);
+			}
+		}
+		Path results = Path.of(files.get(1));
+		Path failures = files.size() == 3 ? Path.of(files.get(2))
+				: results.resolveSibling(results.getFileName() + ".failures.csv");
+		try (var engine = new CatalogAnalysisEngine(calculationService, Runtime.getRuntime().availableProcessors(),
+				256, resultTypes)) {
+			new CalculationOrchestrator(new InputReader(), calculationService, resultPrinter, engine)
+					.processCatalog(Path.of(files.get(0)), results, failures, index);
+		} catch (IOException e) {
+			resultPrinter.printError("Catalog error: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	private static void convertCatalog(StellarCalculationService calculationService, ResultPrinter resultPrinter,
+			String[] args) {
+		if (args.length < 3 || args.length > 4) {
+			resultPrinter.printError("Usage: --convert <catalog.csv> <catalog.scol> [failures.csv]");
+			System.exit(2);
+		}
+		Path columnar = Path.of(args[2]);
+		Path failures = args.length == 4 ? Path.of(args[3])
+				: columnar.resolveSibling(columnar.getFileName() + ".failures.csv");
+		try {
+			new CalculationOrchestrator(new InputReader(), calculationService, resultPrinter)
+					.convertCatalog(Path.of(args[1]), columnar, failures);
+		} catch (IOException e) {
+			resultPrinter.printError("Catalog error: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Maps comma-separated result names, as they appear in the results header,
+	 * to the result types of the registered calculators.
+	 */
+	private static Set<Class<? extends CalculationResult>> resultTypes(StellarCalculationService calculationService,
+			String names) {
+		Map<String, Class<? extends CalculationResult>> known = new LinkedHashMap<>();
+		for (Class<? extends CalculationResult> type : calculationService.getResultTypes()) {
+			known.put(CalculationResult.nameOf(type), type);
+		}
+		Set<Class<? extends CalculationResult>> resultTypes = new HashSet<>();
+		for (String name : names.split(",")) {
+			Class<? extends CalculationResult> type = known.get(name.strip());
+			if (type == null) {
+				throw new IllegalArgumentException("Unknown result: " + name.strip() + " (expected one of "
+						+ String.join(", ", known.keySet()) + ")");
+			}
+			resultTypes.add(type);
+		}
+		return resultTypes;
+	}
+
+	private static void queryHabitableZones(ResultPrinter resultPrinter, String[] args) {
+		if (args.length != 3) {
+			resultPrinter.printError("Usage: --habitable-zone <hz.idx> <distance>");
+			System.exit(2);
+		}
+		try {
+			double distance = Double.parseDouble(args[2]);
+			resultPrinter.printHabitableZoneMatches(HabitableZoneIndex.open(Path.of(args[1])).containing(distance));
+		} catch (NumberFormatException e) {
+			resultPrinter.printError("Invalid distance: " + args[2]);
+			System.exit(2);
+		} catch (IOException e) {
+			resultPrinter.printError("Index error: " + e.getMessage());
+			System.exit(1);
+		}
 	}
 }
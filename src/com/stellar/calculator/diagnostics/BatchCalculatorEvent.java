@@ -0,0 +1,52 @@
+package com.stellar.calculator.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+
+/**
+ * Records one {@link BatchCalculator} applied to a batch of stars.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@Name("stellar.BatchCalculator")
+@Label("Batch Calculator Call")
+@Description("One batch calculator applied to a batch of stars")
+@Category({ "Stellar Calculator", "Calculation" })
+@StackTrace(false)
+public final class BatchCalculatorEvent extends Event {
+	@Label("Calculator")
+	@Description("Description of the batch calculator")
+	private String calculator;
+
+	@Label("Rows")
+	@Description("Number of stars in the batch")
+	private int rows;
+
+	@Label("Failed")
+	@Description("Whether the calculation threw an exception")
+	private boolean failed;
+
+	/**
+	 * Ends the event and commits it if enabled and over the threshold.
+	 *
+	 * @param calculator the batch calculator that ran
+	 * @param rows       the number of stars in the batch
+	 * @param failed     whether the calculation threw an exception
+	 */
+	public void complete(BatchCalculator<?> calculator, int rows, boolean failed) {
+		end();
+		if (shouldCommit()) {
+			this.calculator = calculator.getDescription();
+			this.rows = rows;
+			this.failed = failed;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.stellar.calculator.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Records one {@code calculateAll} call. Disabled by default, as it fires for
+ * every star; enable it with {@code stellar.CalculateAll#enabled=true}. Slow
+ * calls are also recorded by the {@link SlowStarEvent}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@Name("stellar.CalculateAll")
+@Label("Calculate All")
+@Description("Analysis of one star by all registered calculators")
+@Enabled(false)
+public final class CalculateAllEvent extends StarCalculationEvent {
+	@Label("Calculators")
+	@Description("Number of calculators that ran")
+	private int calculators;
+
+	/**
+	 * Ends the event and commits it if enabled.
+	 *
+	 * @param star        the analyzed star
+	 * @param calculators the number of registered calculators
+	 * @param failed      whether the calculation threw an exception
+	 */
+	public void complete(Star star, int calculators, boolean failed) {
+		end();
+		if (shouldCommit()) {
+			setStar(star, failed);
+			this.calculators = calculators;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.stellar.calculator.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Records one {@link Calculator#calculate} call of {@code calculateAll}. Only
+ * calls longer than 1 ms are recorded by default
+ * ({@code stellar.Calculator#threshold}); set the threshold to {@code 0 ms}
+ * to record every call.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@Name("stellar.Calculator")
+@Label("Calculator Call")
+@Description("One calculator applied to one star")
+@Threshold("1 ms")
+public final class CalculatorEvent extends StarCalculationEvent {
+	@Label("Calculator")
+	@Description("Description of the calculator")
+	private String calculator;
+
+	/**
+	 * Ends the event and commits it if enabled and over the threshold.
+	 *
+	 * @param calculator the calculator that ran
+	 * @param star       the analyzed star
+	 * @param failed     whether the calculation threw an exception
+	 */
+	public void complete(Calculator<?, ?> calculator, Star star, boolean failed) {
+		end();
+		if (shouldCommit()) {
+			setStar(star, failed);
+			this.calculator = calculator.getDescription();
+			commit();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.stellar.calculator.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records one chunk of stars analyzed by a single worker of the catalog
+ * analysis engine. Uneven chunk durations point at expensive stars or at
+ * work-stealing imbalance.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@Name("stellar.CatalogChunk")
+@Label("Catalog Chunk")
+@Description("A chunk of catalog stars analyzed by one worker")
+@Category({ "Stellar Calculator", "Catalog" })
+@StackTrace(false)
+public final class CatalogChunkEvent extends Event {
+	@Label("Offset")
+	@Description("Position of the first star of the chunk in its window")
+	private int offset;
+
+	@Label("Stars")
+	@Description("Number of stars in the chunk")
+	private int stars;
+
+	@Label("Failures")
+	@Description("Number of stars that could not be analyzed")
+	private int failures;
+
+	/**
+	 * Ends the event and commits it if enabled and over the threshold.
+	 *
+	 * @param offset   the position of the first star in its window
+	 * @param stars    the number of stars in the chunk
+	 * @param failures the number of stars that could not be analyzed
+	 */
+	public void complete(int offset, int stars, int failures) {
+		end();
+		if (shouldCommit()) {
+			this.offset = offset;
+			this.stars = stars;
+			this.failures = failures;
+			commit();
+		}
+	}
+}
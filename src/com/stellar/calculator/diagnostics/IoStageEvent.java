@@ -0,0 +1,58 @@
+package com.stellar.calculator.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records one stage of a catalog run for a window of rows: reading and parsing
+ * the rows, analyzing them, or writing their results.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@Name("stellar.IoStage")
+@Label("Catalog I/O Stage")
+@Description("Reading, analyzing or writing a window of catalog rows")
+@Category({ "Stellar Calculator", "Catalog" })
+@StackTrace(false)
+public final class IoStageEvent extends Event {
+	/** Stage name for reading and parsing rows. */
+	public static final String READ = "read";
+	/** Stage name for analyzing rows. */
+	public static final String ANALYZE = "analyze";
+	/** Stage name for writing results and failures. */
+	public static final String WRITE = "write";
+
+	@Label("Stage")
+	private String stage;
+
+	@Label("File")
+	@Description("The catalog being processed")
+	private String file;
+
+	@Label("Rows")
+	@Description("Number of rows in the window")
+	private int rows;
+
+	/**
+	 * Ends the event and commits it if enabled and over the threshold.
+	 *
+	 * @param stage the stage, one of {@link #READ}, {@link #ANALYZE} and
+	 *              {@link #WRITE}
+	 * @param file  the catalog being processed
+	 * @param rows  the number of rows in the window
+	 */
+	public void complete(String stage, Object file, int rows) {
+		end();
+		if (shouldCommit()) {
+			this.stage = stage;
+			this.file = String.valueOf(file);
+			this.rows = rows;
+			commit();
+		}
+	}
+}
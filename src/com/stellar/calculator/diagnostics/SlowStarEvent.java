@@ -0,0 +1,43 @@
+package com.stellar.calculator.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Records a {@code calculateAll} call that took longer than the threshold, 10
+ * ms by default ({@code stellar.SlowStar#threshold}), together with the star
+ * that caused it. Calls below the threshold cost only the two timestamps.
+ *
+ * <p>
+ * Stars coalesced into batches, such as single-star HTTP requests, are
+ * recorded by the coalescer instead, from the call until their results are
+ * available; batch calculations themselves are recorded per calculator by the
+ * {@link BatchCalculatorEvent}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@Name("stellar.SlowStar")
+@Label("Slow Star")
+@Description("Analysis of one star that exceeded the latency threshold")
+@Threshold("10 ms")
+public final class SlowStarEvent extends StarCalculationEvent {
+
+	/**
+	 * Ends the event and commits it if enabled and over the threshold.
+	 *
+	 * @param star   the analyzed star
+	 * @param failed whether the calculation threw an exception
+	 */
+	public void complete(Star star, boolean failed) {
+		end();
+		if (shouldCommit()) {
+			setStar(star, failed);
+			commit();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.stellar.calculator.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Common fields of the events describing the analysis of a single star.
+ *
+ * <p>
+ * The fields are {@code protected} because Flight Recorder only records the
+ * non-private fields of event superclasses.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+@Category({ "Stellar Calculator", "Calculation" })
+@StackTrace(false)
+abstract class StarCalculationEvent extends Event {
+	@Label("Mass")
+	@Description("Mass of the star in solar masses")
+	protected double mass;
+
+	@Label("Radius")
+	@Description("Radius of the star in solar radii")
+	protected double radius;
+
+	@Label("Temperature")
+	@Description("Surface temperature of the star in Kelvin")
+	protected double temperature;
+
+	@Label("Failed")
+	@Description("Whether the calculation threw an exception")
+	protected boolean failed;
+
+	/**
+	 * Sets the common fields. Only called once the event is known to be
+	 * committed.
+	 */
+	final void setStar(Star star, boolean failed) {
+		this.mass = star.getMass();
+		this.radius = star.getRadius();
+		this.temperature = star.getTemperature();
+		this.failed = failed;
+	}
+}
@@ -0,0 +1,182 @@
+package com.stellar.calculator.domain.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * A probability distribution of a physical parameter, used to describe
+ * measurement uncertainty of catalog inputs.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see UncertainStar
+ */
+public sealed interface ParameterDistribution {
+
+	/**
+	 * Draws one value.
+	 *
+	 * @param random the source of randomness
+	 * @return a sample of the distribution
+	 */
+	double sample(SplittableRandom random);
+
+	/**
+	 * Returns the central value of the distribution, used as the point estimate.
+	 *
+	 * @return the mean, median or fixed value
+	 */
+	double center();
+
+	/**
+	 * Creates a distribution without uncertainty.
+	 *
+	 * @param value the exact value
+	 * @return a distribution that always yields <b>value</b>
+	 */
+	static ParameterDistribution fixed(double value) {
+		return new Fixed(value);
+	}
+
+	/**
+	 * Creates a normal distribution, the usual reading of {@code value ± error}.
+	 *
+	 * @param mean              the mean
+	 * @param standardDeviation the standard deviation (1σ error)
+	 * @return the distribution
+	 * @throws IllegalArgumentException if <b>standardDeviation</b> is negative
+	 *                                  or any argument is not finite
+	 */
+	static ParameterDistribution normal(double mean, double standardDeviation) {
+		return new Normal(mean, standardDeviation);
+	}
+
+	/**
+	 * Creates a log-normal distribution, suited to parameters with relative
+	 * errors spanning orders of magnitude.
+	 *
+	 * @param median   the median
+	 * @param sigmaDex the standard deviation of the base-10 logarithm
+	 * @return the distribution
+	 * @throws IllegalArgumentException if <b>median</b> is not positive or
+	 *                                  <b>sigmaDex</b> is negative
+	 */
+	static ParameterDistribution logNormal(double median, double sigmaDex) {
+		return new LogNormal(median, sigmaDex);
+	}
+
+	/**
+	 * Creates a uniform distribution.
+	 *
+	 * @param min the smallest value
+	 * @param max the largest value
+	 * @return the distribution
+	 * @throws IllegalArgumentException if <b>max</b> is less than <b>min</b>
+	 */
+	static ParameterDistribution uniform(double min, double max) {
+		return new Uniform(min, max);
+	}
+
+	/**
+	 * A parameter known exactly.
+	 *
+	 * @param value the value
+	 */
+	record Fixed(double value) implements ParameterDistribution {
+		public Fixed {
+			if (!Double.isFinite(value)) {
+				throw new IllegalArgumentException("value must be finite");
+			}
+		}
+
+		@Override
+		public double sample(SplittableRandom random) {
+			return value;
+		}
+
+		@Override
+		public double center() {
+			return value;
+		}
+	}
+
+	/**
+	 * A normally distributed parameter.
+	 *
+	 * @param mean              the mean
+	 * @param standardDeviation the standard deviation
+	 */
+	record Normal(double mean, double standardDeviation) implements ParameterDistribution {
+		public Normal {
+			if (!Double.isFinite(mean) || !Double.isFinite(standardDeviation)) {
+				throw new IllegalArgumentException("mean and standard deviation must be finite");
+			}
+			if (standardDeviation < 0) {
+				throw new IllegalArgumentException("standard deviation cannot be negative");
+			}
+		}
+
+		@Override
+		public double sample(SplittableRandom random) {
+			return random.nextGaussian(mean, standardDeviation);
+		}
+
+		@Override
+		public double center() {
+			return mean;
+		}
+	}
+
+	/**
+	 * A log-normally distributed parameter.
+	 *
+	 * @param median   the median
+	 * @param sigmaDex the standard deviation of the base-10 logarithm
+	 */
+	record LogNormal(double median, double sigmaDex) implements ParameterDistribution {
+		public LogNormal {
+			if (!(median > 0) || Double.isInfinite(median)) {
+				throw new IllegalArgumentException("median must be positive");
+			}
+			if (!(sigmaDex >= 0) || Double.isInfinite(sigmaDex)) {
+				throw new IllegalArgumentException("sigmaDex cannot be negative");
+			}
+		}
+
+		@Override
+		public double sample(SplittableRandom random) {
+			return median * Math.pow(10, sigmaDex * random.nextGaussian());
+		}
+
+		@Override
+		public double center() {
+			return median;
+		}
+	}
+
+	/**
+	 * A uniformly distributed parameter.
+	 *
+	 * @param min the smallest value
+	 * @param max the largest value
+	 */
+	record Uniform(double min, double max) implements ParameterDistribution {
+		public Uniform {
+			if (!Double.isFinite(min) || !Double.isFinite(max)) {
+				throw new IllegalArgumentException("bounds must be finite");
+			}
+			if (max < min) {
+				throw new IllegalArgumentException("max cannot be less than min");
+			}
+		}
+
+		@Override
+		public double sample(SplittableRandom random) {
+			return min == max ? min : random.nextDouble(min, max);
+		}
+
+		@Override
+		public double center() {
+			return (min + max) / 2;
+		}
+	}
+}
@@ -6,6 +6,11 @@ import java.util.Objects;
  * Represents a planet with its fundamental properties. Includes orbital
  * parameters relative to its host star.
  * 
+ * <p>
+ * Like every {@link StellarObject}, the mass and radius are given in solar
+ * units (Earth has about 3.0e-6 solar masses and 0.00916 solar radii); the
+ * orbital radius is given in AU.
+ * 
  * @author Ahmed Ghannam
  * @version 1.0
  */
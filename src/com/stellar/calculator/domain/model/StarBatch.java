@@ -0,0 +1,214 @@
+package com.stellar.calculator.domain.model;
+
+import java.nio.DoubleBuffer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A column-oriented batch of stars. Masses, radii and temperatures are kept in
+ * separate primitive arrays (structure of arrays) so that batch calculators can
+ * stream over them without touching one {@link Star} object per row.
+ *
+ * <p>
+ * A batch has a fixed capacity and is meant to be reused: fill it, calculate,
+ * {@link #clear()}, and fill it again. The backing arrays are exposed directly
+ * for calculators; only the first {@link #size()} entries are meaningful.
+ * Instances are not thread-safe.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class StarBatch {
+	private final double[] mass;
+	private final double[] radius;
+	private final double[] temperature;
+	private int size;
+
+	/**
+	 * Creates an empty batch with the given capacity.
+	 *
+	 * @param capacity the maximum number of stars the batch can hold
+	 * @throws IllegalArgumentException if <b>capacity</b> is negative
+	 */
+	public StarBatch(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity cannot be negative");
+		}
+		this.mass = new double[capacity];
+		this.radius = new double[capacity];
+		this.temperature = new double[capacity];
+	}
+
+	/**
+	 * Creates a batch containing the given stars, in order.
+	 *
+	 * @param stars the stars to add
+	 * @return a full batch of the given stars
+	 * @throws NullPointerException if <b>stars</b> or any of its elements is
+	 *                              {@code null}
+	 */
+	public static StarBatch of(List<Star> stars) {
+		Objects.requireNonNull(stars, "stars cannot be null");
+		var batch = new StarBatch(stars.size());
+		for (Star star : stars) {
+			batch.add(star);
+		}
+		return batch;
+	}
+
+	/**
+	 * Appends a star to the batch.
+	 *
+	 * @param star the star to add
+	 * @throws NullPointerException  if <b>star</b> is {@code null}
+	 * @throws IllegalStateException if the batch is full
+	 */
+	public void add(Star star) {
+		Objects.requireNonNull(star, "star cannot be null");
+		append(star.getMass(), star.getRadius(), star.getTemperature());
+	}
+
+	/**
+	 * Appends a star given by its parameters. The parameters are validated the
+	 * same way as by the {@link Star} constructor.
+	 *
+	 * @param mass        the mass in solar masses
+	 * @param radius      the radius in solar radii
+	 * @param temperature the surface temperature in Kelvin
+	 * @throws IllegalArgumentException if any parameter is invalid
+	 * @throws IllegalStateException    if the batch is full
+	 */
+	public void add(double mass, double radius, double temperature) {
+		if (mass <= 0)
+			throw new IllegalArgumentException("mass must be positive");
+		if (radius <= 0)
+			throw new IllegalArgumentException("radius must be positive");
+		if (temperature <= 0)
+			throw new IllegalArgumentException("temperature must be positive");
+		append(mass, radius, temperature);
+	}
+
+	/**
+	 * Appends consecutive stars from column buffers, such as memory-mapped
+	 * catalog columns, with one bulk copy per column. The parameters are
+	 * validated the same way as by the {@link Star} constructor.
+	 *
+	 * @param masses       the mass column in solar masses
+	 * @param radii        the radius column in solar radii
+	 * @param temperatures the temperature column in Kelvin
+	 * @param from         the index of the first star in the columns
+	 * @param count        the number of stars to append
+	 * @throws NullPointerException      if any column is {@code null}
+	 * @throws IndexOutOfBoundsException if a column has fewer than
+	 *                                   {@code from + count} values
+	 * @throws IllegalArgumentException  if any parameter is invalid; the batch
+	 *                                   is left unchanged
+	 * @throws IllegalStateException     if the stars do not fit in the batch
+	 */
+	public void addAll(DoubleBuffer masses, DoubleBuffer radii, DoubleBuffer temperatures, int from, int count) {
+		Objects.requireNonNull(masses, "masses cannot be null");
+		Objects.requireNonNull(radii, "radii cannot be null");
+		Objects.requireNonNull(temperatures, "temperatures cannot be null");
+		if (count < 0 || count > mass.length - size) {
+			throw new IllegalStateException("batch is full (capacity " + mass.length + ")");
+		}
+		masses.get(from, mass, size, count);
+		radii.get(from, radius, size, count);
+		temperatures.get(from, temperature, size, count);
+		for (int i = size, end = size + count; i < end; i++) {
+			if (mass[i] <= 0)
+				throw new IllegalArgumentException("mass must be positive");
+			if (radius[i] <= 0)
+				throw new IllegalArgumentException("radius must be positive");
+			if (temperature[i] <= 0)
+				throw new IllegalArgumentException("temperature must be positive");
+		}
+		size += count;
+	}
+
+	private void append(double m, double r, double t) {
+		if (size == mass.length) {
+			throw new IllegalStateException("batch is full (capacity " + mass.length + ")");
+		}
+		mass[size] = m;
+		radius[size] = r;
+		temperature[size] = t;
+		size++;
+	}
+
+	/**
+	 * Returns the star at the given row as a {@link Star} record.
+	 *
+	 * @param row the row index
+	 * @return the star at <b>row</b>
+	 * @throws IndexOutOfBoundsException if <b>row</b> is not in {@code [0, size)}
+	 */
+	public Star star(int row) {
+		Objects.checkIndex(row, size);
+		return new Star(mass[row], radius[row], temperature[row]);
+	}
+
+	/**
+	 * Removes all stars from the batch. The capacity is retained.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of stars in the batch.
+	 *
+	 * @return the number of stars
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of stars the batch can hold.
+	 *
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return mass.length;
+	}
+
+	/**
+	 * Checks whether the batch has reached its capacity.
+	 *
+	 * @return {@code true} if no more stars can be added
+	 */
+	public boolean isFull() {
+		return size == mass.length;
+	}
+
+	/**
+	 * Returns the mass column in solar masses. Only the first {@link #size()}
+	 * entries are valid.
+	 *
+	 * @return the backing mass array
+	 */
+	public double[] masses() {
+		return mass;
+	}
+
+	/**
+	 * Returns the radius column in solar radii. Only the first {@link #size()}
+	 * entries are valid.
+	 *
+	 * @return the backing radius array
+	 */
+	public double[] radii() {
+		return radius;
+	}
+
+	/**
+	 * Returns the temperature column in Kelvin. Only the first {@link #size()}
+	 * entries are valid.
+	 *
+	 * @return the backing temperature array
+	 */
+	public double[] temperatures() {
+		return temperature;
+	}
+}
@@ -0,0 +1,88 @@
+package com.stellar.calculator.domain.model;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * A star whose parameters are known only up to measurement uncertainty. Each
+ * parameter is described by a {@link ParameterDistribution}.
+ *
+ * @param mass        the mass distribution in solar masses
+ * @param radius      the radius distribution in solar radii
+ * @param temperature the surface temperature distribution in Kelvin
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record UncertainStar(ParameterDistribution mass, ParameterDistribution radius,
+		ParameterDistribution temperature) {
+
+	/**
+	 * Creates an uncertain star.
+	 *
+	 * @throws NullPointerException if any distribution is {@code null}
+	 */
+	public UncertainStar {
+		Objects.requireNonNull(mass, "mass cannot be null");
+		Objects.requireNonNull(radius, "radius cannot be null");
+		Objects.requireNonNull(temperature, "temperature cannot be null");
+	}
+
+	/**
+	 * Creates an uncertain star from values with normal (1σ) errors.
+	 *
+	 * @param mass             the mass in solar masses
+	 * @param massError        the mass error
+	 * @param radius           the radius in solar radii
+	 * @param radiusError      the radius error
+	 * @param temperature      the temperature in Kelvin
+	 * @param temperatureError the temperature error
+	 * @return the uncertain star
+	 * @throws IllegalArgumentException if any error is negative
+	 */
+	public static UncertainStar of(double mass, double massError, double radius, double radiusError,
+			double temperature, double temperatureError) {
+		return new UncertainStar(ParameterDistribution.normal(mass, massError),
+				ParameterDistribution.normal(radius, radiusError),
+				ParameterDistribution.normal(temperature, temperatureError));
+	}
+
+	/**
+	 * Returns the star at the center of every distribution.
+	 *
+	 * @return the point estimate
+	 * @throws IllegalArgumentException if a center is not a valid parameter
+	 */
+	public Star nominal() {
+		return new Star(mass.center(), radius.center(), temperature.center());
+	}
+
+	/**
+	 * Draws parameters into a batch until it is full or <b>count</b> stars were
+	 * added. Non-positive draws are rejected and redrawn, i.e. the distributions
+	 * are truncated at zero.
+	 *
+	 * @param random the source of randomness
+	 * @param batch  the batch to append to
+	 * @param count  the number of stars to draw
+	 * @throws IllegalArgumentException if a distribution keeps producing
+	 *                                  non-positive values
+	 * @throws IllegalStateException    if the batch cannot hold <b>count</b> more
+	 *                                  stars
+	 */
+	public void sample(SplittableRandom random, StarBatch batch, int count) {
+		for (int i = 0; i < count; i++) {
+			batch.add(positive(mass, random, "mass"), positive(radius, random, "radius"),
+					positive(temperature, random, "temperature"));
+		}
+	}
+
+	private static double positive(ParameterDistribution distribution, SplittableRandom random, String name) {
+		for (int attempt = 0; attempt < 1000; attempt++) {
+			double value = distribution.sample(random);
+			if (value > 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException(name + " distribution has almost no positive values");
+	}
+}
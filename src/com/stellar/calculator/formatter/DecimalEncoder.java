@@ -0,0 +1,150 @@
+package com.stellar.calculator.formatter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Converts doubles to fixed-precision decimal text without going through
+ * {@link java.util.Formatter}.
+ *
+ * <p>
+ * {@link #appendFixed(StringBuilder, double, int)} writes exactly what
+ * {@code String.format("%.<digits>f", value)} produces in the default format
+ * locale, straight into a caller-supplied builder. {@link #round(double, int)}
+ * returns exactly what rounding through {@link BigDecimal} with
+ * {@link RoundingMode#HALF_UP} does. Both round the shortest decimal
+ * representation of the value half up, which differs from rounding the binary
+ * value only when it lies within a few ulps of a tie. The fast path scales the
+ * value by a power of ten and rounds it as a {@code long}; values near a tie,
+ * values too large for a {@code long}, non-finite values and locales with
+ * non-ASCII digits take the exact slow path.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class DecimalEncoder {
+	/** The largest number of fraction digits handled by the fast path. */
+	private static final int MAX_FAST_DIGITS = 9;
+	/** Scaled values must stay well within the exact range of {@code long} and {@code double}. */
+	private static final double MAX_FAST_SCALED = 1e15;
+	/** Allowed error of the scaled value in ulps: the multiplication, plus the distance to the shortest decimal. */
+	private static final int TIE_GUARD_ULPS = 4;
+
+	private static final double[] POWERS_OF_TEN = new double[MAX_FAST_DIGITS + 1];
+	private static final long[] LONG_POWERS_OF_TEN = new long[MAX_FAST_DIGITS + 1];
+	private static final String[] FORMATS = new String[MAX_FAST_DIGITS + 1];
+
+	static {
+		for (int i = 0; i <= MAX_FAST_DIGITS; i++) {
+			LONG_POWERS_OF_TEN[i] = i == 0 ? 1 : 10 * LONG_POWERS_OF_TEN[i - 1];
+			POWERS_OF_TEN[i] = LONG_POWERS_OF_TEN[i];
+			FORMATS[i] = "%." + i + "f";
+		}
+	}
+
+	private static volatile Symbols symbols;
+
+	private DecimalEncoder() {
+	}
+
+	/**
+	 * Appends a value with a fixed number of fraction digits, identical to
+	 * {@code String.format("%.<fractionDigits>f", value)}.
+	 *
+	 * @param out            the builder to append to
+	 * @param value          the value to append
+	 * @param fractionDigits the number of digits after the decimal separator
+	 * @return <b>out</b>
+	 * @throws NullPointerException     if <b>out</b> is {@code null}
+	 * @throws IllegalArgumentException if <b>fractionDigits</b> is negative
+	 */
+	public static StringBuilder appendFixed(StringBuilder out, double value, int fractionDigits) {
+		Objects.requireNonNull(out, "out cannot be null");
+		if (fractionDigits < 0) {
+			throw new IllegalArgumentException("fractionDigits cannot be negative");
+		}
+		Symbols current = symbols();
+		long scaled = fractionDigits <= MAX_FAST_DIGITS && current.asciiDigits()
+				? roundScaled(Math.abs(value), fractionDigits)
+				: -1;
+		if (scaled < 0) {
+			return out.append(String.format(format(fractionDigits), value));
+		}
+		if (Double.compare(value, 0.0) < 0) {
+			out.append('-');
+		}
+		long unit = LONG_POWERS_OF_TEN[fractionDigits];
+		out.append(scaled / unit);
+		if (fractionDigits > 0) {
+			out.append(current.separator());
+			long fraction = scaled % unit;
+			for (long digit = unit / 10; digit > fraction && digit > 1; digit /= 10) {
+				out.append('0');
+			}
+			out.append(fraction);
+		}
+		return out;
+	}
+
+	/**
+	 * Rounds a value to a number of decimal places, half up, identical to
+	 * {@code BigDecimal.valueOf(value).setScale(places, RoundingMode.HALF_UP).doubleValue()}.
+	 *
+	 * @param value  the value to round
+	 * @param places the number of decimal places
+	 * @return the rounded value
+	 * @throws NumberFormatException if <b>value</b> is not finite, as for
+	 *                               {@link BigDecimal#valueOf(double)}
+	 */
+	public static double round(double value, int places) {
+		long scaled = places >= 0 && places <= MAX_FAST_DIGITS ? roundScaled(Math.abs(value), places) : -1;
+		if (scaled < 0) {
+			return BigDecimal.valueOf(value).setScale(places, RoundingMode.HALF_UP).doubleValue();
+		}
+		// Both operands are exact, so the quotient is the correctly rounded decimal.
+		double rounded = scaled / POWERS_OF_TEN[places];
+		return value < 0 && rounded != 0 ? -rounded : rounded;
+	}
+
+	/**
+	 * Rounds {@code magnitude * 10^digits} half up, or returns -1 if the fast
+	 * path cannot decide it exactly.
+	 */
+	private static long roundScaled(double magnitude, int digits) {
+		double scaled = magnitude * POWERS_OF_TEN[digits];
+		if (!(scaled < MAX_FAST_SCALED)) {
+			return -1;
+		}
+		double floor = Math.floor(scaled);
+		double fraction = scaled - floor;
+		if (Math.abs(fraction - 0.5) <= TIE_GUARD_ULPS * Math.ulp(scaled)) {
+			return -1;
+		}
+		return (long) floor + (fraction > 0.5 ? 1 : 0);
+	}
+
+	private static String format(int fractionDigits) {
+		return fractionDigits <= MAX_FAST_DIGITS ? FORMATS[fractionDigits] : "%." + fractionDigits + "f";
+	}
+
+	private static Symbols symbols() {
+		Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+		Symbols current = symbols;
+		if (current == null || !current.locale().equals(locale)) {
+			var decimalSymbols = DecimalFormatSymbols.getInstance(locale);
+			current = new Symbols(locale, decimalSymbols.getZeroDigit() == '0', decimalSymbols.getDecimalSeparator());
+			symbols = current;
+		}
+		return current;
+	}
+
+	/**
+	 * The number symbols of the locale {@link java.util.Formatter} uses by
+	 * default.
+	 */
+	private record Symbols(Locale locale, boolean asciiDigits, char separator) {
+	}
+}
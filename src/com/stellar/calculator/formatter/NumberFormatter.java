@@ -1,14 +1,16 @@
 package com.stellar.calculator.formatter;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 import com.stellar.calculator.physics.constants.TimeConstants;
 
 /**
  * A utility class for formatting astronomical and physical measurements into
  * human-readable strings. Handles formatting of orbital periods, astronomical
  * distances, temperatures, and numerical rounding.
+ *
+ * <p>
+ * Every {@code format} method has an {@code append} counterpart writing into a
+ * caller-supplied {@link StringBuilder} with {@link DecimalEncoder}, which
+ * produces the same text without {@link String#format}.
  * 
  * @author Ahmed Ghannam
  * @version 1.0
@@ -26,17 +28,28 @@ public class NumberFormatter {
 	 *         years", "45.6 days", "12.0 hours", or "30.0 seconds")
 	 */
 	public String formatPeriod(double periodInSeconds) {
+		return appendPeriod(new StringBuilder(16), periodInSeconds).toString();
+	}
+
+	/**
+	 * Appends an orbital period like {@link #formatPeriod(double)}.
+	 *
+	 * @param out             the builder to append to
+	 * @param periodInSeconds the orbital period in seconds
+	 * @return <b>out</b>
+	 */
+	public StringBuilder appendPeriod(StringBuilder out, double periodInSeconds) {
 		if (periodInSeconds >= TimeConstants.SECONDS_PER_YEAR) {
 			double years = periodInSeconds / TimeConstants.SECONDS_PER_YEAR;
-			return String.format("%.2f years", years);
+			return DecimalEncoder.appendFixed(out, years, 2).append(" years");
 		} else if (periodInSeconds >= TimeConstants.SECONDS_PER_DAY) {
 			double days = periodInSeconds / TimeConstants.SECONDS_PER_DAY;
-			return String.format("%.1f days", days);
+			return DecimalEncoder.appendFixed(out, days, 1).append(" days");
 		} else if (periodInSeconds >= TimeConstants.SECONDS_PER_HOUR) {
 			double hours = periodInSeconds / TimeConstants.SECONDS_PER_HOUR;
-			return String.format("%.1f hours", hours);
+			return DecimalEncoder.appendFixed(out, hours, 1).append(" hours");
 		} else {
-			return String.format("%.1f seconds", periodInSeconds);
+			return DecimalEncoder.appendFixed(out, periodInSeconds, 1).append(" seconds");
 		}
 	}
 
@@ -50,10 +63,21 @@ public class NumberFormatter {
 	 *         (e.g., "1.23 AU" or "149.6 million km")
 	 */
 	public String formatDistance(double distanceInAU) {
+		return appendDistance(new StringBuilder(16), distanceInAU).toString();
+	}
+
+	/**
+	 * Appends an astronomical distance like {@link #formatDistance(double)}.
+	 *
+	 * @param out          the builder to append to
+	 * @param distanceInAU the distance in Astronomical Units (AU)
+	 * @return <b>out</b>
+	 */
+	public StringBuilder appendDistance(StringBuilder out, double distanceInAU) {
 		if (distanceInAU < 0.01) {
-			return String.format("%.1f million km", distanceInAU * 149.6);
+			return DecimalEncoder.appendFixed(out, distanceInAU * 149.6, 1).append(" million km");
 		}
-		return String.format("%.2f AU", distanceInAU);
+		return DecimalEncoder.appendFixed(out, distanceInAU, 2).append(" AU");
 	}
 
 	/**
@@ -68,10 +92,23 @@ public class NumberFormatter {
 	 *         (e.g., "300 K", "26.9 °C", or "80.3 °F")
 	 */
 	public String formatTemperature(double temperatureK, TemperatureFormat format) {
+		return appendTemperature(new StringBuilder(16), temperatureK, format).toString();
+	}
+
+	/**
+	 * Appends a temperature like
+	 * {@link #formatTemperature(double, TemperatureFormat)}.
+	 *
+	 * @param out          the builder to append to
+	 * @param temperatureK the temperature in Kelvin
+	 * @param format       the desired temperature format
+	 * @return <b>out</b>
+	 */
+	public StringBuilder appendTemperature(StringBuilder out, double temperatureK, TemperatureFormat format) {
 		return switch (format) {
-		case KELVIN -> String.format("%.0fK", temperatureK);
-		case CELSIUS -> String.format("%.1f °C", temperatureK - 273.15);
-		case FAHRENHEIT -> String.format("%.1f °F", (temperatureK - 273.15) * 9 / 5 + 32);
+		case KELVIN -> DecimalEncoder.appendFixed(out, temperatureK, 0).append('K');
+		case CELSIUS -> DecimalEncoder.appendFixed(out, temperatureK - 273.15, 1).append(" °C");
+		case FAHRENHEIT -> DecimalEncoder.appendFixed(out, (temperatureK - 273.15) * 9 / 5 + 32, 1).append(" °F");
 		};
 	}
 
@@ -84,6 +121,6 @@ public class NumberFormatter {
 	 * @return the rounded value
 	 */
 	public double round(double value, int places) {
-		return BigDecimal.valueOf(value).setScale(places, RoundingMode.HALF_UP).doubleValue();
+		return DecimalEncoder.round(value, places);
 	}
 }
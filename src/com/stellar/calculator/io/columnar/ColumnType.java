@@ -0,0 +1,46 @@
+package com.stellar.calculator.io.columnar;
+
+/**
+ * The element type of a column in a {@link ColumnarCatalog}. Types are stored
+ * by their ordinal, so new types may only be appended.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public enum ColumnType {
+	/** 64-bit IEEE 754 values, for star parameters and numeric results. */
+	DOUBLE(Double.BYTES),
+
+	/** 32-bit IEEE 754 values, for quantities that need no double precision. */
+	FLOAT(Float.BYTES),
+
+	/** Single bytes, for enumerated values stored by ordinal. */
+	BYTE(Byte.BYTES);
+
+	private static final ColumnType[] VALUES = values();
+
+	private final int width;
+
+	ColumnType(int width) {
+		this.width = width;
+	}
+
+	/**
+	 * Returns the size of one element in bytes.
+	 *
+	 * @return the element width
+	 */
+	public int width() {
+		return width;
+	}
+
+	/**
+	 * Returns the type stored under a code.
+	 *
+	 * @param code the ordinal read from a file
+	 * @return the column type, or {@code null} if the code is unknown
+	 */
+	static ColumnType of(int code) {
+		return code >= 0 && code < VALUES.length ? VALUES[code] : null;
+	}
+}
@@ -0,0 +1,343 @@
+package com.stellar.calculator.io.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.io.input.CatalogRow;
+
+/**
+ * A memory-mapped star catalog in a binary columnar format, written once by
+ * {@link ColumnarCatalogWriter} and scanned without parsing.
+ *
+ * <p>
+ * Every column is a contiguous little-endian array mapped read-only, so
+ * columns are read through buffer views of the mapping without copying, and
+ * {@link #read(int, StarBatch)} fills a batch with three bulk copies. Pages
+ * are loaded by the operating system on first access, so opening a large
+ * catalog is cheap and its memory is shared between processes. A catalog is
+ * immutable and safe for concurrent use; the mappings are released when the
+ * catalog is garbage collected.
+ *
+ * <p>
+ * File layout (little-endian): a 40-byte header ({@code int} magic, version,
+ * row count, column count, flags, reserved, {@code long} offset and length of
+ * the identifier section), a 48-byte descriptor per column ({@code long}
+ * offset, {@code byte} {@link ColumnType} ordinal, {@code byte} name length,
+ * six reserved bytes, 32 bytes of UTF-8 name), then the column arrays, each
+ * starting at a multiple of 8 bytes. If flag bit 0 is set, the identifier
+ * section holds {@code long[rows + 1]} offsets followed by the UTF-8
+ * identifiers. The star columns {@value #MASS}, {@value #RADIUS} and
+ * {@value #TEMPERATURE} are always present.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class ColumnarCatalog {
+	/** The name of the mass column, in solar masses. */
+	public static final String MASS = "mass";
+	/** The name of the radius column, in solar radii. */
+	public static final String RADIUS = "radius";
+	/** The name of the temperature column, in Kelvin. */
+	public static final String TEMPERATURE = "temperature";
+
+	static final int MAGIC = 0x4C4F4353; // "SCOL"
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 40;
+	static final int DESCRIPTOR_BYTES = 48;
+	static final int MAX_NAME_BYTES = 32;
+	static final int FLAG_IDS = 1;
+
+	/** The largest number of rows whose columns fit in a single mapping. */
+	static final int MAX_ROWS = Integer.MAX_VALUE / Double.BYTES - 1;
+
+	private final int size;
+	private final Map<String, ColumnType> types;
+	private final Map<String, ByteBuffer> columns;
+	private final DoubleBuffer masses;
+	private final DoubleBuffer radii;
+	private final DoubleBuffer temperatures;
+	private final LongBuffer idOffsets;
+	private final ByteBuffer ids;
+
+	private ColumnarCatalog(FileChannel channel) throws IOException {
+		ByteBuffer header = map(channel, 0, HEADER_BYTES);
+		if (header.getInt() != MAGIC) {
+			throw new IOException("not a columnar catalog");
+		}
+		int version = header.getInt();
+		if (version != VERSION) {
+			throw new IOException("unsupported catalog version " + version);
+		}
+		size = header.getInt();
+		int columnCount = header.getInt();
+		int flags = header.getInt();
+		header.getInt();
+		long idOffset = header.getLong();
+		long idBytes = header.getLong();
+		if (size < 0 || size > MAX_ROWS || columnCount < 0 || idBytes < 0 || idBytes > Integer.MAX_VALUE) {
+			throw new IOException("corrupt catalog header");
+		}
+
+		ByteBuffer directory = map(channel, HEADER_BYTES, (long) columnCount * DESCRIPTOR_BYTES);
+		Map<String, ColumnType> columnTypes = new LinkedHashMap<>();
+		Map<String, ByteBuffer> columnData = new LinkedHashMap<>();
+		byte[] name = new byte[MAX_NAME_BYTES];
+		for (int i = 0; i < columnCount; i++) {
+			long offset = directory.getLong();
+			ColumnType type = ColumnType.of(directory.get());
+			int nameLength = Byte.toUnsignedInt(directory.get());
+			directory.position(directory.position() + 6);
+			directory.get(name);
+			if (type == null || nameLength == 0 || nameLength > MAX_NAME_BYTES || offset % Double.BYTES != 0) {
+				throw new IOException("corrupt column descriptor " + i);
+			}
+			String columnName = new String(name, 0, nameLength, StandardCharsets.UTF_8);
+			columnTypes.put(columnName, type);
+			columnData.put(columnName, map(channel, offset, (long) size * type.width()));
+		}
+		types = Collections.unmodifiableMap(columnTypes);
+		columns = columnData;
+		masses = starColumn(MASS);
+		radii = starColumn(RADIUS);
+		temperatures = starColumn(TEMPERATURE);
+
+		if ((flags & FLAG_IDS) != 0) {
+			long offsetBytes = (size + 1L) * Long.BYTES;
+			idOffsets = map(channel, idOffset, offsetBytes).asLongBuffer();
+			ids = map(channel, idOffset + offsetBytes, idBytes);
+		} else {
+			idOffsets = null;
+			ids = null;
+		}
+	}
+
+	/**
+	 * Opens and maps a catalog file.
+	 *
+	 * @param catalog the catalog file
+	 * @return the catalog
+	 * @throws IOException          if the file cannot be read or is not a valid
+	 *                              columnar catalog
+	 * @throws NullPointerException if <b>catalog</b> is {@code null}
+	 */
+	public static ColumnarCatalog open(Path catalog) throws IOException {
+		Objects.requireNonNull(catalog, "catalog cannot be null");
+		try (var channel = FileChannel.open(catalog, StandardOpenOption.READ)) {
+			return new ColumnarCatalog(channel);
+		}
+	}
+
+	/**
+	 * Checks whether a file starts like a columnar catalog, without mapping it.
+	 *
+	 * @param file the file to check
+	 * @return {@code true} if the file begins with the catalog magic number
+	 * @throws IOException          if the file cannot be read
+	 * @throws NullPointerException if <b>file</b> is {@code null}
+	 */
+	public static boolean isColumnar(Path file) throws IOException {
+		Objects.requireNonNull(file, "file cannot be null");
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			while (magic.hasRemaining() && channel.read(magic) >= 0) {
+				// Read until the magic number is complete or the file ends.
+			}
+			return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+		}
+	}
+
+	private static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+		if (position < 0 || position + length > channel.size()) {
+			throw new IOException("catalog is truncated");
+		}
+		return channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private DoubleBuffer starColumn(String name) throws IOException {
+		if (types.get(name) != ColumnType.DOUBLE) {
+			throw new IOException("catalog has no " + name + " column");
+		}
+		return doubleColumn(name);
+	}
+
+	/**
+	 * Returns the number of rows.
+	 *
+	 * @return the number of stars in the catalog
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks whether the rows have identifiers.
+	 *
+	 * @return {@code true} if the catalog stores row identifiers
+	 */
+	public boolean hasIds() {
+		return ids != null;
+	}
+
+	/**
+	 * Returns the columns in file order.
+	 *
+	 * @return an unmodifiable map from column name to type
+	 */
+	public Map<String, ColumnType> columns() {
+		return types;
+	}
+
+	/**
+	 * Returns a read-only view of a {@link ColumnType#DOUBLE} column, without
+	 * copying. Every call returns an independent view positioned at row 0.
+	 *
+	 * @param name the column name
+	 * @return the column values
+	 * @throws IllegalArgumentException if there is no double column of that
+	 *                                  name
+	 */
+	public DoubleBuffer doubleColumn(String name) {
+		return column(name, ColumnType.DOUBLE).asDoubleBuffer();
+	}
+
+	/**
+	 * Returns a read-only view of a {@link ColumnType#FLOAT} column, without
+	 * copying. Every call returns an independent view positioned at row 0.
+	 *
+	 * @param name the column name
+	 * @return the column values
+	 * @throws IllegalArgumentException if there is no float column of that name
+	 */
+	public FloatBuffer floatColumn(String name) {
+		return column(name, ColumnType.FLOAT).asFloatBuffer();
+	}
+
+	/**
+	 * Returns a read-only view of a {@link ColumnType#BYTE} column, without
+	 * copying. Every call returns an independent view positioned at row 0.
+	 *
+	 * @param name the column name
+	 * @return the column values
+	 * @throws IllegalArgumentException if there is no byte column of that name
+	 */
+	public ByteBuffer byteColumn(String name) {
+		return column(name, ColumnType.BYTE);
+	}
+
+	private ByteBuffer column(String name, ColumnType type) {
+		Objects.requireNonNull(name, "name cannot be null");
+		if (types.get(name) != type) {
+			throw new IllegalArgumentException("catalog has no " + type.name().toLowerCase(Locale.ROOT) + " column " + name);
+		}
+		// Duplicates start big-endian, so the order must be set again.
+		return columns.get(name).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Returns the identifier of a row.
+	 *
+	 * @param row the row, in {@code [0, size)}
+	 * @return the identifier, or the 1-based row number if the catalog has no
+	 *         identifiers
+	 * @throws IndexOutOfBoundsException if <b>row</b> is out of range
+	 */
+	public String id(int row) {
+		Objects.checkIndex(row, size);
+		if (ids == null) {
+			return Integer.toString(row + 1);
+		}
+		int from = (int) idOffsets.get(row);
+		byte[] id = new byte[(int) idOffsets.get(row + 1) - from];
+		ids.get(from, id);
+		return new String(id, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the star of a row.
+	 *
+	 * @param row the row, in {@code [0, size)}
+	 * @return the star
+	 * @throws IndexOutOfBoundsException if <b>row</b> is out of range
+	 * @throws IllegalArgumentException  if the stored parameters are not a
+	 *                                   valid star
+	 */
+	public Star star(int row) {
+		Objects.checkIndex(row, size);
+		return new Star(masses.get(row), radii.get(row), temperatures.get(row));
+	}
+
+	/**
+	 * Returns a row as it would have been read from a CSV catalog, with the
+	 * 1-based row number as line number.
+	 *
+	 * @param row the row, in {@code [0, size)}
+	 * @return the catalog row
+	 * @throws IndexOutOfBoundsException if <b>row</b> is out of range
+	 */
+	public CatalogRow row(int row) {
+		Objects.checkIndex(row, size);
+		return new CatalogRow(row + 1, id(row), masses.get(row), radii.get(row), temperatures.get(row));
+	}
+
+	/**
+	 * Appends consecutive rows to a batch, as many as fit.
+	 *
+	 * @param from  the first row to read
+	 * @param batch the batch to fill
+	 * @return the number of rows appended, {@code 0} once <b>from</b> reaches
+	 *         the end of the catalog
+	 * @throws IndexOutOfBoundsException if <b>from</b> is not in
+	 *                                   {@code [0, size]}
+	 * @throws IllegalArgumentException  if a stored star is invalid; the batch
+	 *                                   is left unchanged
+	 */
+	public int read(int from, StarBatch batch) {
+		Objects.requireNonNull(batch, "batch cannot be null");
+		Objects.checkIndex(from, size + 1);
+		int count = Math.min(size - from, batch.capacity() - batch.size());
+		batch.addAll(masses, radii, temperatures, from, count);
+		return count;
+	}
+
+	/**
+	 * Returns the stars of all rows in order, e.g. for
+	 * {@link com.stellar.calculator.service.catalog.CatalogAnalysisEngine#analyze(Iterator, java.util.function.Consumer)}.
+	 *
+	 * @return an iterator over the stars
+	 */
+	public Iterator<Star> stars() {
+		return new Iterator<>() {
+			private int row;
+
+			@Override
+			public boolean hasNext() {
+				return row < size;
+			}
+
+			@Override
+			public Star next() {
+				if (row >= size) {
+					throw new NoSuchElementException();
+				}
+				return star(row++);
+			}
+		};
+	}
+}
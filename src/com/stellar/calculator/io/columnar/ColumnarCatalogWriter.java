@@ -0,0 +1,353 @@
+package com.stellar.calculator.io.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.classification.LuminosityClassResult;
+import com.stellar.calculator.calculation.classification.SpectralClassResult;
+import com.stellar.calculator.calculation.thermal.HabitableZoneResult;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Collects stars, and optionally their calculation results, and writes them as
+ * a {@link ColumnarCatalog} file.
+ *
+ * <p>
+ * The result columns are derived from the results of the first star, like the
+ * CSV columns of {@link com.stellar.calculator.io.output.CatalogResultWriter}:
+ * each result contributes a {@link ColumnType#DOUBLE} column named after its
+ * type holding its value, habitable zones contribute {@code ...Inner} and
+ * {@code ...Outer} columns, and classifications contribute a
+ * {@link ColumnType#BYTE} column with the ordinal of their
+ * {@link com.stellar.calculator.calculation.classification.SpectralType} or
+ * {@link com.stellar.calculator.calculation.classification.LuminosityClass}
+ * plus a {@link ColumnType#FLOAT} subtype or confidence column. Every later
+ * star must have results of the same types in the same order.
+ *
+ * <p>
+ * Values are buffered in primitive arrays and written column by column. The
+ * file is written to a temporary sibling first and moved into place, so
+ * readers never see a partially written catalog. Not safe for concurrent use.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see ColumnarCatalog
+ */
+public class ColumnarCatalogWriter {
+	private final boolean withIds;
+	private String[] ids;
+	private double[][] values = new double[3][1024];
+	private List<Column> columns;
+	private List<Class<?>> resultTypes;
+	private int size;
+
+	/**
+	 * Creates a writer.
+	 *
+	 * @param withIds whether rows carry identifiers
+	 */
+	public ColumnarCatalogWriter(boolean withIds) {
+		this.withIds = withIds;
+		this.ids = withIds ? new String[1024] : null;
+	}
+
+	/**
+	 * Adds a star without results.
+	 *
+	 * @param id   the catalog identifier of the star, or {@code null} if the
+	 *             writer has no identifiers
+	 * @param star the star
+	 * @throws NullPointerException     if <b>star</b> is {@code null}, or
+	 *                                  <b>id</b> is {@code null} although the
+	 *                                  writer has identifiers
+	 * @throws IllegalArgumentException if earlier stars were added with results
+	 * @throws IllegalStateException    if the catalog already holds the maximum
+	 *                                  number of stars
+	 */
+	public void add(String id, Star star) {
+		add(id, star, List.of());
+	}
+
+	/**
+	 * Adds a star and its calculation results.
+	 *
+	 * @param id      the catalog identifier of the star, or {@code null} if the
+	 *                writer has no identifiers
+	 * @param star    the star
+	 * @param results the calculation results of the star
+	 * @throws NullPointerException     if <b>star</b> or <b>results</b> is
+	 *                                  {@code null}, or <b>id</b> is
+	 *                                  {@code null} although the writer has
+	 *                                  identifiers
+	 * @throws IllegalArgumentException if the result types differ from those of
+	 *                                  the first star
+	 * @throws IllegalStateException    if the catalog already holds the maximum
+	 *                                  number of stars
+	 */
+	public void add(String id, Star star, List<CalculationResult> results) {
+		Objects.requireNonNull(star, "star cannot be null");
+		Objects.requireNonNull(results, "results cannot be null");
+		if (withIds) {
+			Objects.requireNonNull(id, "id cannot be null");
+		}
+		if (columns == null) {
+			defineColumns(results);
+		} else {
+			checkResultTypes(results);
+		}
+		if (size == values[0].length) {
+			grow();
+		}
+		if (withIds) {
+			ids[size] = id;
+		}
+		values[0][size] = star.getMass();
+		values[1][size] = star.getRadius();
+		values[2][size] = star.getTemperature();
+		for (int c = 3; c < columns.size(); c++) {
+			Column column = columns.get(c);
+			values[c][size] = column.value().applyAsDouble(results.get(column.result()));
+		}
+		size++;
+	}
+
+	/**
+	 * Returns the number of stars added so far.
+	 *
+	 * @return the number of stars
+	 */
+	public int size() {
+		return size;
+	}
+
+	private void defineColumns(List<CalculationResult> results) {
+		List<Column> defined = new ArrayList<>();
+		defined.add(new Column(ColumnarCatalog.MASS, ColumnType.DOUBLE, -1, null));
+		defined.add(new Column(ColumnarCatalog.RADIUS, ColumnType.DOUBLE, -1, null));
+		defined.add(new Column(ColumnarCatalog.TEMPERATURE, ColumnType.DOUBLE, -1, null));
+		List<Class<?>> types = new ArrayList<>();
+		for (int i = 0; i < results.size(); i++) {
+			CalculationResult result = Objects.requireNonNull(results.get(i), "results cannot contain null");
+			String name = result.resultName();
+			switch (result) {
+			case HabitableZoneResult hz -> {
+				defined.add(new Column(name + "Inner", ColumnType.DOUBLE, i,
+						r -> ((HabitableZoneResult) r).innerBoundary()));
+				defined.add(new Column(name + "Outer", ColumnType.DOUBLE, i,
+						r -> ((HabitableZoneResult) r).outerBoundary()));
+			}
+			case SpectralClassResult sc -> {
+				defined.add(new Column(name, ColumnType.BYTE, i, r -> ((SpectralClassResult) r).type().ordinal()));
+				defined.add(new Column(name + "Subtype", ColumnType.FLOAT, i,
+						r -> ((SpectralClassResult) r).subtype()));
+			}
+			case LuminosityClassResult lc -> {
+				defined.add(new Column(name, ColumnType.BYTE, i,
+						r -> ((LuminosityClassResult) r).luminosityClass().ordinal()));
+				defined.add(new Column(name + "Confidence", ColumnType.FLOAT, i,
+						r -> ((LuminosityClassResult) r).confidence()));
+			}
+			default -> defined.add(new Column(name, ColumnType.DOUBLE, i, CalculationResult::getValue));
+			}
+			types.add(result.getClass());
+		}
+		for (Column column : defined) {
+			if (column.name().getBytes(StandardCharsets.UTF_8).length > ColumnarCatalog.MAX_NAME_BYTES) {
+				throw new IllegalArgumentException("column name is longer than " + ColumnarCatalog.MAX_NAME_BYTES
+						+ " bytes: " + column.name());
+			}
+		}
+		if (defined.stream().map(Column::name).distinct().count() != defined.size()) {
+			throw new IllegalArgumentException("results have duplicate column names");
+		}
+		columns = List.copyOf(defined);
+		resultTypes = List.copyOf(types);
+		values = Arrays.copyOf(values, columns.size());
+		for (int c = 3; c < values.length; c++) {
+			values[c] = new double[values[0].length];
+		}
+	}
+
+	private void checkResultTypes(List<CalculationResult> results) {
+		boolean same = results.size() == resultTypes.size();
+		for (int i = 0; same && i < results.size(); i++) {
+			same = results.get(i) != null && results.get(i).getClass() == resultTypes.get(i);
+		}
+		if (!same) {
+			throw new IllegalArgumentException("results must have the same types as those of the first star");
+		}
+	}
+
+	private void grow() {
+		if (size >= ColumnarCatalog.MAX_ROWS) {
+			throw new IllegalStateException("catalog is full (" + size + " stars)");
+		}
+		int capacity = (int) Math.min(ColumnarCatalog.MAX_ROWS, 2L * size);
+		for (int c = 0; c < values.length; c++) {
+			values[c] = Arrays.copyOf(values[c], capacity);
+		}
+		if (withIds) {
+			ids = Arrays.copyOf(ids, capacity);
+		}
+	}
+
+	/**
+	 * Writes the catalog file, replacing any existing file. Without any star,
+	 * the catalog has only the star columns.
+	 *
+	 * @param catalog the catalog file to write
+	 * @throws IOException          if the file cannot be written
+	 * @throws NullPointerException if <b>catalog</b> is {@code null}
+	 */
+	public void write(Path catalog) throws IOException {
+		Objects.requireNonNull(catalog, "catalog cannot be null");
+		if (columns == null) {
+			defineColumns(List.of());
+		}
+		int n = size;
+		byte[][] encodedIds = null;
+		long idBytes = 0;
+		if (withIds) {
+			encodedIds = new byte[n][];
+			for (int i = 0; i < n; i++) {
+				encodedIds[i] = ids[i].getBytes(StandardCharsets.UTF_8);
+				idBytes += encodedIds[i].length;
+			}
+			if (idBytes > Integer.MAX_VALUE) {
+				throw new IOException("identifiers exceed " + Integer.MAX_VALUE + " bytes");
+			}
+		}
+
+		long[] offsets = new long[columns.size()];
+		long position = ColumnarCatalog.HEADER_BYTES + (long) columns.size() * ColumnarCatalog.DESCRIPTOR_BYTES;
+		for (int c = 0; c < columns.size(); c++) {
+			offsets[c] = align(position);
+			position = offsets[c] + (long) n * columns.get(c).type().width();
+		}
+		long idOffset = withIds ? align(position) : 0;
+
+		Path temporary = catalog.resolveSibling(catalog.getFileName() + ".tmp");
+		try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			var out = new Output(channel);
+			out.buffer().putInt(ColumnarCatalog.MAGIC)
+					.putInt(ColumnarCatalog.VERSION)
+					.putInt(n)
+					.putInt(columns.size())
+					.putInt(withIds ? ColumnarCatalog.FLAG_IDS : 0)
+					.putInt(0)
+					.putLong(idOffset)
+					.putLong(idBytes);
+			for (int c = 0; c < columns.size(); c++) {
+				Column column = columns.get(c);
+				byte[] name = column.name().getBytes(StandardCharsets.UTF_8);
+				out.ensure(ColumnarCatalog.DESCRIPTOR_BYTES).putLong(offsets[c])
+						.put((byte) column.type().ordinal())
+						.put((byte) name.length)
+						.put(new byte[6])
+						.put(name)
+						.put(new byte[ColumnarCatalog.MAX_NAME_BYTES - name.length]);
+			}
+			for (int c = 0; c < columns.size(); c++) {
+				out.padTo(offsets[c]);
+				writeColumn(out, columns.get(c).type(), values[c], n);
+			}
+			if (withIds) {
+				out.padTo(idOffset);
+				long offset = 0;
+				for (byte[] id : encodedIds) {
+					out.ensure(Long.BYTES).putLong(offset);
+					offset += id.length;
+				}
+				out.ensure(Long.BYTES).putLong(offset);
+				for (byte[] id : encodedIds) {
+					out.put(id);
+				}
+			}
+			out.flush();
+		}
+		Files.move(temporary, catalog, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void writeColumn(Output out, ColumnType type, double[] column, int n) throws IOException {
+		for (int i = 0; i < n; i++) {
+			ByteBuffer buffer = out.ensure(type.width());
+			switch (type) {
+			case DOUBLE -> buffer.putDouble(column[i]);
+			case FLOAT -> buffer.putFloat((float) column[i]);
+			case BYTE -> buffer.put((byte) column[i]);
+			}
+		}
+	}
+
+	private static long align(long position) {
+		return (position + Double.BYTES - 1) & -Double.BYTES;
+	}
+
+	/**
+	 * A column to write: its name and type, and for result columns the index
+	 * of the result in a star's results and how to read the value from it.
+	 */
+	private record Column(String name, ColumnType type, int result, ToDoubleFunction<CalculationResult> value) {
+	}
+
+	/**
+	 * A little-endian write buffer over the file channel that tracks the file
+	 * position.
+	 */
+	private static final class Output {
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+		private long flushed;
+
+		Output(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		ByteBuffer buffer() {
+			return buffer;
+		}
+
+		ByteBuffer ensure(int bytes) throws IOException {
+			if (buffer.remaining() < bytes) {
+				flush();
+			}
+			return buffer;
+		}
+
+		void put(byte[] bytes) throws IOException {
+			for (int from = 0; from < bytes.length;) {
+				int length = Math.min(bytes.length - from, ensure(1).remaining());
+				buffer.put(bytes, from, length);
+				from += length;
+			}
+		}
+
+		void padTo(long position) throws IOException {
+			while (flushed + buffer.position() < position) {
+				ensure(1).put((byte) 0);
+			}
+		}
+
+		void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				flushed += channel.write(buffer);
+			}
+			buffer.clear();
+		}
+	}
+}
@@ -0,0 +1,324 @@
+package com.stellar.calculator.io.fits;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.io.input.CatalogRow;
+
+/**
+ * Streams a star catalog from the first binary table ({@code BINTABLE}
+ * extension) of a FITS file.
+ *
+ * <p>
+ * Headers are read block by block until the table is found, and its column
+ * definitions ({@code TTYPEn}, {@code TFORMn}, {@code TSCALn}, {@code TZEROn},
+ * {@code TNULLn}) locate the projected fields within a row. The data section
+ * is memory-mapped in windows of rows and decoded straight from the mapped
+ * big-endian buffer with typed reads; only the identifier, mass, radius and
+ * temperature fields of a row are touched, however wide the table is. Mass,
+ * radius and temperature must be single numbers ({@code B}, {@code I},
+ * {@code J}, {@code K}, {@code E} or {@code D}) in solar masses, solar radii
+ * and Kelvin; the identifier may be a character or integer field, including
+ * unsigned 64-bit integers, and is empty where the integer is undefined. Rows
+ * without an identifier column are identified by their 1-based row number.
+ *
+ * <p>
+ * Column names are matched ignoring case. Instances are not thread-safe.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class FitsCatalogReader implements Closeable {
+	/** The default name of the identifier column. */
+	public static final String ID = "id";
+	/** The default name of the mass column. */
+	public static final String MASS = "mass";
+	/** The default name of the radius column. */
+	public static final String RADIUS = "radius";
+	/** The default name of the temperature column. */
+	public static final String TEMPERATURE = "temperature";
+
+	/** The largest data window mapped at once. */
+	private static final long WINDOW_BYTES = 1L << 30;
+
+	private final FileChannel channel;
+	private final long dataOffset;
+	private final int rowBytes;
+	private final long rows;
+	private final List<String> columnNames;
+	private final FitsColumn id;
+	private final FitsColumn mass;
+	private final FitsColumn radius;
+	private final FitsColumn temperature;
+	private final int windowRows;
+	private ByteBuffer window;
+	private long windowFirstRow;
+	private long windowEndRow;
+	private long position;
+	private long skipped;
+
+	private FitsCatalogReader(FileChannel channel, String idName, String massName, String radiusName,
+			String temperatureName) throws IOException {
+		this.channel = channel;
+		long offset = 0;
+		FitsHeader header = FitsHeader.read(channel, offset);
+		if (header == null || !"T".equals(header.string("SIMPLE"))) {
+			throw new IOException("not a FITS file");
+		}
+		while (!"BINTABLE".equals(header.string("XTENSION"))) {
+			offset += header.size() + FitsHeader.padded(header.dataSize());
+			header = FitsHeader.read(channel, offset);
+			if (header == null) {
+				throw new IOException("FITS file has no binary table");
+			}
+		}
+		if (header.integer("BITPIX") != 8 || header.integer("NAXIS") != 2) {
+			throw new IOException("FITS binary table must have BITPIX = 8 and NAXIS = 2");
+		}
+		long width = header.integer("NAXIS1");
+		rows = header.integer("NAXIS2");
+		if (width <= 0 || width > Integer.MAX_VALUE || rows < 0) {
+			throw new IOException("FITS binary table has invalid dimensions");
+		}
+		rowBytes = (int) width;
+		dataOffset = offset + header.size();
+		if (dataOffset + rowBytes * rows > channel.size()) {
+			throw new IOException("FITS binary table is truncated");
+		}
+
+		long fields = header.integer("TFIELDS");
+		List<FitsColumn> columns = new ArrayList<>();
+		int columnOffset = 0;
+		for (int n = 1; n <= fields; n++) {
+			FitsColumn column = FitsColumn.read(header, n, columnOffset);
+			columns.add(column);
+			columnOffset += column.width();
+		}
+		if (columnOffset != rowBytes) {
+			throw new IOException("FITS column widths add up to " + columnOffset + " bytes, but rows have "
+					+ rowBytes);
+		}
+		columnNames = columns.stream().map(FitsColumn::name).toList();
+		id = idName == null ? null : find(columns, idName, false);
+		if (id != null && !id.isIdentifier()) {
+			throw new IOException("FITS column " + id.name() + " cannot serve as identifier");
+		}
+		mass = number(columns, massName);
+		radius = number(columns, radiusName);
+		temperature = number(columns, temperatureName);
+		windowRows = (int) Math.max(1, WINDOW_BYTES / rowBytes);
+	}
+
+	/**
+	 * Opens a FITS catalog with the default column names {@value #ID},
+	 * {@value #MASS}, {@value #RADIUS} and {@value #TEMPERATURE}. The identifier
+	 * column is optional.
+	 *
+	 * @param catalog the FITS file
+	 * @return a new reader positioned at the first row
+	 * @throws IOException          if the file cannot be read, has no binary
+	 *                              table, or lacks a required column
+	 * @throws NullPointerException if <b>catalog</b> is {@code null}
+	 */
+	public static FitsCatalogReader open(Path catalog) throws IOException {
+		return open(catalog, ID, MASS, RADIUS, TEMPERATURE);
+	}
+
+	/**
+	 * Opens a FITS catalog with the given column names.
+	 *
+	 * @param catalog     the FITS file
+	 * @param id          the identifier column, or {@code null} to number rows;
+	 *                    a missing identifier column also numbers rows
+	 * @param mass        the mass column, in solar masses
+	 * @param radius      the radius column, in solar radii
+	 * @param temperature the temperature column, in Kelvin
+	 * @return a new reader positioned at the first row
+	 * @throws IOException          if the file cannot be read, has no binary
+	 *                              table, or lacks a required column
+	 * @throws NullPointerException if any argument except <b>id</b> is
+	 *                              {@code null}
+	 */
+	public static FitsCatalogReader open(Path catalog, String id, String mass, String radius, String temperature)
+			throws IOException {
+		Objects.requireNonNull(catalog, "catalog cannot be null");
+		Objects.requireNonNull(mass, "mass cannot be null");
+		Objects.requireNonNull(radius, "radius cannot be null");
+		Objects.requireNonNull(temperature, "temperature cannot be null");
+		FileChannel channel = FileChannel.open(catalog, StandardOpenOption.READ);
+		try {
+			return new FitsCatalogReader(channel, id, mass, radius, temperature);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Checks whether a file starts like a FITS file.
+	 *
+	 * @param file the file to check
+	 * @return {@code true} if the file begins with a {@code SIMPLE = T} card
+	 * @throws IOException          if the file cannot be read
+	 * @throws NullPointerException if <b>file</b> is {@code null}
+	 */
+	public static boolean isFits(Path file) throws IOException {
+		Objects.requireNonNull(file, "file cannot be null");
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer card = ByteBuffer.allocate(FitsHeader.CARD_BYTES);
+			while (card.hasRemaining() && channel.read(card) >= 0) {
+				// Read until the first card is complete or the file ends.
+			}
+			String first = new String(card.array(), 0, card.position(), StandardCharsets.US_ASCII);
+			return first.startsWith("SIMPLE  =") && first.substring(9).strip().startsWith("T");
+		}
+	}
+
+	private static FitsColumn find(List<FitsColumn> columns, String name, boolean required) throws IOException {
+		for (FitsColumn column : columns) {
+			if (column.name().equalsIgnoreCase(name)) {
+				return column;
+			}
+		}
+		if (required) {
+			throw new IOException("FITS binary table has no " + name + " column");
+		}
+		return null;
+	}
+
+	private static FitsColumn number(List<FitsColumn> columns, String name) throws IOException {
+		FitsColumn column = find(columns, name, true);
+		if (!column.isScalarNumber()) {
+			throw new IOException("FITS column " + column.name() + " is not a single number");
+		}
+		return column;
+	}
+
+	/**
+	 * Returns the names of all columns of the table, in table order.
+	 *
+	 * @return the column names
+	 */
+	public List<String> columnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * Returns the number of rows of the table.
+	 *
+	 * @return the row count
+	 */
+	public long size() {
+		return rows;
+	}
+
+	/**
+	 * Returns the number of rows read or skipped so far.
+	 *
+	 * @return the index of the next row
+	 */
+	public long position() {
+		return position;
+	}
+
+	/**
+	 * Returns the number of rows {@link #read(StarBatch, String[])} skipped
+	 * because their parameters are not a valid star.
+	 *
+	 * @return the number of skipped rows
+	 */
+	public long skippedRows() {
+		return skipped;
+	}
+
+	/**
+	 * Reads the next row without validating it, with the 1-based row number
+	 * as line number.
+	 *
+	 * @return the next row, or {@code null} at the end of the table
+	 * @throws IOException if the data cannot be mapped
+	 */
+	public CatalogRow next() throws IOException {
+		if (position >= rows) {
+			return null;
+		}
+		int row = row(position);
+		CatalogRow next = new CatalogRow(position + 1, identifier(row, position), mass.readNumber(window, row),
+				radius.readNumber(window, row), temperature.readNumber(window, row));
+		position++;
+		return next;
+	}
+
+	/**
+	 * Appends the next rows to a batch until it is full or the table ends.
+	 * Rows whose parameters are not a valid star are skipped and counted in
+	 * {@link #skippedRows()}.
+	 *
+	 * @param batch the batch to fill
+	 * @param ids   receives the identifier of each appended star at its batch
+	 *              row, or {@code null} to skip decoding identifiers
+	 * @return the number of stars appended, {@code 0} at the end of the table
+	 * @throws IOException               if the data cannot be mapped
+	 * @throws NullPointerException      if <b>batch</b> is {@code null}
+	 * @throws IndexOutOfBoundsException if <b>ids</b> is shorter than the
+	 *                                   capacity of <b>batch</b>
+	 */
+	public int read(StarBatch batch, String[] ids) throws IOException {
+		Objects.requireNonNull(batch, "batch cannot be null");
+		if (ids != null) {
+			Objects.checkFromIndexSize(0, batch.capacity(), ids.length);
+		}
+		int appended = 0;
+		while (!batch.isFull() && position < rows) {
+			int row = row(position);
+			double m = mass.readNumber(window, row);
+			double r = radius.readNumber(window, row);
+			double t = temperature.readNumber(window, row);
+			// Same checks as the Star constructor, plus NaN from undefined values.
+			if (m > 0 && r > 0 && t > 0) {
+				if (ids != null) {
+					ids[batch.size()] = identifier(row, position);
+				}
+				batch.add(m, r, t);
+				appended++;
+			} else {
+				skipped++;
+			}
+			position++;
+		}
+		return appended;
+	}
+
+	private String identifier(int row, long index) {
+		return id == null ? Long.toString(index + 1) : id.readIdentifier(window, row);
+	}
+
+	/**
+	 * Maps the window containing a row and returns the row's offset in it.
+	 */
+	private int row(long index) throws IOException {
+		if (window == null || index < windowFirstRow || index >= windowEndRow) {
+			windowFirstRow = index;
+			windowEndRow = Math.min(rows, index + windowRows);
+			window = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + index * rowBytes,
+					(windowEndRow - index) * rowBytes).order(ByteOrder.BIG_ENDIAN);
+		}
+		return (int) (index - windowFirstRow) * rowBytes;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+}
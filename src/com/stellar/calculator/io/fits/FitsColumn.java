@@ -0,0 +1,120 @@
+package com.stellar.calculator.io.fits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A field of a FITS binary table row: its name, data type and repeat count
+ * from {@code TTYPEn} and {@code TFORMn}, its byte offset within the row, and
+ * the {@code TSCALn}, {@code TZEROn} and {@code TNULLn} applied when reading.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+record FitsColumn(String name, char type, int repeat, int offset, double scale, double zero, Long nullValue) {
+	private static final Pattern FORM = Pattern.compile("(\\d*)([LXBIJKAEDCMPQ]).*");
+	// The TZERO of unsigned 64-bit integers, exactly representable as a double.
+	private static final double UNSIGNED_LONG_ZERO = 0x1p63;
+
+	/**
+	 * Reads the definition of field <b>n</b> (1-based) at a row offset.
+	 */
+	static FitsColumn read(FitsHeader header, int n, int offset) throws IOException {
+		String form = header.string("TFORM" + n);
+		Matcher matcher = FORM.matcher(form == null ? "" : form.strip());
+		if (!matcher.matches()) {
+			throw new IOException("FITS column " + n + " has an invalid TFORM: " + form);
+		}
+		int repeat = matcher.group(1).isEmpty() ? 1 : Integer.parseInt(matcher.group(1));
+		String name = header.string("TTYPE" + n);
+		String nullValue = header.string("TNULL" + n);
+		return new FitsColumn(name == null ? "" : name.strip(), matcher.group(2).charAt(0), repeat, offset,
+				header.real("TSCAL" + n, 1), header.real("TZERO" + n, 0),
+				nullValue == null ? null : header.integer("TNULL" + n));
+	}
+
+	/**
+	 * Returns the number of bytes the field occupies in a row.
+	 */
+	int width() {
+		return switch (type) {
+		case 'X' -> (repeat + 7) / 8;
+		case 'L', 'B', 'A' -> repeat;
+		case 'I' -> 2 * repeat;
+		case 'J', 'E' -> 4 * repeat;
+		case 'K', 'D', 'C', 'P' -> 8 * repeat;
+		case 'M', 'Q' -> 16 * repeat;
+		default -> throw new IllegalStateException("unknown FITS type " + type);
+		};
+	}
+
+	/**
+	 * Checks whether the field holds a single number that can be read as a
+	 * star parameter.
+	 */
+	boolean isScalarNumber() {
+		return repeat == 1 && "BIJKED".indexOf(type) >= 0;
+	}
+
+	/**
+	 * Checks whether the field can serve as a row identifier: characters or a
+	 * single integer.
+	 */
+	boolean isIdentifier() {
+		return type == 'A' || repeat == 1 && "BIJK".indexOf(type) >= 0;
+	}
+
+	/**
+	 * Reads the physical value of the field from a big-endian row at
+	 * <b>row</b>; undefined integers are {@code NaN}.
+	 */
+	double readNumber(ByteBuffer data, int row) {
+		int position = row + offset;
+		if (type == 'D') {
+			return zero + scale * data.getDouble(position);
+		}
+		if (type == 'E') {
+			return zero + scale * data.getFloat(position);
+		}
+		long raw = readInteger(data, position);
+		return nullValue != null && raw == nullValue ? Double.NaN : zero + scale * raw;
+	}
+
+	/**
+	 * Reads the field as an identifier from a big-endian row at <b>row</b>;
+	 * undefined integers are empty. A 64-bit field with {@code TZERO} 2^63
+	 * holds an unsigned integer.
+	 */
+	String readIdentifier(ByteBuffer data, int row) {
+		int position = row + offset;
+		if (type == 'A') {
+			byte[] chars = new byte[repeat];
+			data.get(position, chars);
+			int length = 0;
+			while (length < chars.length && chars[length] != 0) {
+				length++;
+			}
+			return new String(chars, 0, length, StandardCharsets.US_ASCII).strip();
+		}
+		long raw = readInteger(data, position);
+		if (nullValue != null && raw == nullValue) {
+			return "";
+		}
+		if (type == 'K' && zero == UNSIGNED_LONG_ZERO) {
+			return Long.toUnsignedString(raw ^ Long.MIN_VALUE);
+		}
+		return Long.toString(raw + (long) zero);
+	}
+
+	private long readInteger(ByteBuffer data, int position) {
+		return switch (type) {
+		case 'B' -> Byte.toUnsignedInt(data.get(position));
+		case 'I' -> data.getShort(position);
+		case 'J' -> data.getInt(position);
+		default -> data.getLong(position);
+		};
+	}
+}
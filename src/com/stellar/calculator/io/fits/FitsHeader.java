@@ -0,0 +1,169 @@
+package com.stellar.calculator.io.fits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The keyword values of one FITS header, read block by block up to the
+ * {@code END} card.
+ *
+ * <p>
+ * Values are kept as text: strings without their quotes and trailing blanks,
+ * everything else without its comment. Comment and history cards are ignored.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+final class FitsHeader {
+	/** The size of a FITS block; headers and data are padded to whole blocks. */
+	static final int BLOCK_BYTES = 2880;
+	static final int CARD_BYTES = 80;
+
+	/** Guards against runaway headers in corrupt files. */
+	private static final int MAX_BLOCKS = 10_000;
+
+	private final Map<String, String> values;
+	private final long size;
+
+	private FitsHeader(Map<String, String> values, long size) {
+		this.values = values;
+		this.size = size;
+	}
+
+	/**
+	 * Reads the header starting at a block boundary.
+	 *
+	 * @return the header, or {@code null} if the file ends at <b>position</b>
+	 */
+	static FitsHeader read(FileChannel channel, long position) throws IOException {
+		if (position >= channel.size()) {
+			return null;
+		}
+		Map<String, String> values = new HashMap<>();
+		ByteBuffer block = ByteBuffer.allocate(BLOCK_BYTES);
+		byte[] card = new byte[CARD_BYTES];
+		for (int blocks = 1; blocks <= MAX_BLOCKS; blocks++) {
+			block.clear();
+			while (block.hasRemaining()) {
+				if (channel.read(block, position + block.position()) < 0) {
+					throw new IOException("FITS header is truncated");
+				}
+			}
+			block.flip();
+			while (block.hasRemaining()) {
+				block.get(card);
+				String keyword = new String(card, 0, 8, StandardCharsets.US_ASCII).strip();
+				if (keyword.equals("END")) {
+					return new FitsHeader(values, (long) blocks * BLOCK_BYTES);
+				}
+				if (card[8] == '=' && card[9] == ' ') {
+					values.put(keyword, parseValue(new String(card, 10, CARD_BYTES - 10, StandardCharsets.US_ASCII)));
+				}
+			}
+			position += BLOCK_BYTES;
+		}
+		throw new IOException("FITS header has no END card");
+	}
+
+	private static String parseValue(String field) {
+		String value = field.stripLeading();
+		if (value.startsWith("'")) {
+			var string = new StringBuilder();
+			for (int i = 1; i < value.length(); i++) {
+				char c = value.charAt(i);
+				if (c == '\'') {
+					if (i + 1 < value.length() && value.charAt(i + 1) == '\'') {
+						string.append('\'');
+						i++;
+					} else {
+						break;
+					}
+				} else {
+					string.append(c);
+				}
+			}
+			return string.toString().stripTrailing();
+		}
+		int comment = value.indexOf('/');
+		return (comment < 0 ? value : value.substring(0, comment)).strip();
+	}
+
+	/**
+	 * Returns the size of the header in bytes, including its padding.
+	 */
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Returns a string value, or {@code null} if the keyword is absent.
+	 */
+	String string(String keyword) {
+		return values.get(keyword);
+	}
+
+	/**
+	 * Returns a required integer value.
+	 */
+	long integer(String keyword) throws IOException {
+		String value = values.get(keyword);
+		if (value == null) {
+			throw new IOException("FITS header has no " + keyword + " keyword");
+		}
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			throw new IOException("FITS keyword " + keyword + " is not an integer: " + value);
+		}
+	}
+
+	/**
+	 * Returns an integer value, or <b>fallback</b> if the keyword is absent.
+	 */
+	long integer(String keyword, long fallback) throws IOException {
+		return values.containsKey(keyword) ? integer(keyword) : fallback;
+	}
+
+	/**
+	 * Returns a real value, or <b>fallback</b> if the keyword is absent. FITS
+	 * allows {@code D} as exponent marker.
+	 */
+	double real(String keyword, double fallback) throws IOException {
+		String value = values.get(keyword);
+		if (value == null) {
+			return fallback;
+		}
+		try {
+			return Double.parseDouble(value.replace('D', 'E').replace('d', 'e'));
+		} catch (NumberFormatException e) {
+			throw new IOException("FITS keyword " + keyword + " is not a number: " + value);
+		}
+	}
+
+	/**
+	 * Returns the size of the data following this header, without padding.
+	 */
+	long dataSize() throws IOException {
+		long axes = integer("NAXIS");
+		if (axes == 0) {
+			return 0;
+		}
+		long elements = 1;
+		for (int i = 1; i <= axes; i++) {
+			elements = Math.multiplyExact(elements, integer("NAXIS" + i));
+		}
+		long bytes = Math.abs(integer("BITPIX")) / 8;
+		return Math.multiplyExact(bytes * integer("GCOUNT", 1), Math.addExact(integer("PCOUNT", 0), elements));
+	}
+
+	/**
+	 * Rounds a size up to whole blocks.
+	 */
+	static long padded(long size) {
+		return (size + BLOCK_BYTES - 1) / BLOCK_BYTES * BLOCK_BYTES;
+	}
+}
@@ -0,0 +1,25 @@
+package com.stellar.calculator.io.index;
+
+/**
+ * A star found in a {@link HabitableZoneIndex}.
+ *
+ * @param id                      the catalog identifier of the star
+ * @param innerBoundary           the inner habitable-zone boundary in AU
+ * @param outerBoundary           the outer habitable-zone boundary in AU
+ * @param earthEquivalentDistance the Earth-equivalent distance in AU
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record HabitableZoneEntry(String id, double innerBoundary, double outerBoundary,
+		double earthEquivalentDistance) {
+
+	/**
+	 * Checks whether the habitable zone contains a distance.
+	 *
+	 * @param distance the distance from the star in AU
+	 * @return {@code true} if <b>distance</b> lies within both boundaries
+	 */
+	public boolean contains(double distance) {
+		return innerBoundary <= distance && distance <= outerBoundary;
+	}
+}
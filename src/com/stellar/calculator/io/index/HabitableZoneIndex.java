@@ -0,0 +1,263 @@
+package com.stellar.calculator.io.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A persistent, memory-mapped index over the habitable zones and
+ * Earth-equivalent distances of a catalog, written once by
+ * {@link HabitableZoneIndexWriter} after a catalog run and queried without
+ * recalculating anything.
+ *
+ * <p>
+ * Entries are stored sorted by inner boundary, which answers inner-boundary
+ * range queries by binary search. The same array doubles as an implicit
+ * balanced interval tree: the middle entry of every range stores the largest
+ * outer boundary of the range, so stabbing queries ("whose habitable zone
+ * contains 1.2 AU?") skip every subtree that ends before the queried distance
+ * and take O(log n) time per match. Permutations sorted by outer boundary and
+ * by Earth-equivalent distance answer range queries over those in O(log n + k).
+ *
+ * <p>
+ * The file is mapped read-only, section by section, and pages are loaded by
+ * the operating system on first access, so opening a large index is cheap and
+ * its memory is shared between processes. An index is immutable and safe for
+ * concurrent use; the mapping is released when the index is garbage
+ * collected.
+ *
+ * <p>
+ * File layout (big-endian): a 24-byte header ({@code int} magic, version,
+ * entry count, reserved, {@code long} identifier bytes), then the inner
+ * boundaries, outer boundaries, subtree maxima of the outer boundaries and
+ * Earth-equivalent distances as {@code double[n]}, the outer-boundary and
+ * Earth-equivalent distance orders as {@code int[n]}, identifier offsets as
+ * {@code int[n + 1]}, and the UTF-8 identifiers.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class HabitableZoneIndex {
+	static final int MAGIC = 0x485A4958; // "HZIX"
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 24;
+
+	/** The largest number of entries whose sections fit in a single mapping. */
+	static final int MAX_ENTRIES = Integer.MAX_VALUE / Double.BYTES;
+
+	private final int size;
+	private final DoubleBuffer inner;
+	private final DoubleBuffer outer;
+	private final DoubleBuffer maxOuter;
+	private final DoubleBuffer earthEquivalent;
+	private final IntBuffer byOuter;
+	private final IntBuffer byEarthEquivalent;
+	private final IntBuffer idOffsets;
+	private final ByteBuffer ids;
+
+	private HabitableZoneIndex(FileChannel channel) throws IOException {
+		ByteBuffer header = map(channel, 0, HEADER_BYTES);
+		if (header.getInt() != MAGIC) {
+			throw new IOException("not a habitable zone index");
+		}
+		int version = header.getInt();
+		if (version != VERSION) {
+			throw new IOException("unsupported index version " + version);
+		}
+		size = header.getInt();
+		header.getInt();
+		long idBytes = header.getLong();
+		if (size < 0 || size > MAX_ENTRIES || idBytes < 0 || idBytes > Integer.MAX_VALUE) {
+			throw new IOException("corrupt index header");
+		}
+
+		long doubles = (long) size * Double.BYTES;
+		long ints = (long) size * Integer.BYTES;
+		long position = HEADER_BYTES;
+		inner = map(channel, position, doubles).asDoubleBuffer();
+		outer = map(channel, position += doubles, doubles).asDoubleBuffer();
+		maxOuter = map(channel, position += doubles, doubles).asDoubleBuffer();
+		earthEquivalent = map(channel, position += doubles, doubles).asDoubleBuffer();
+		byOuter = map(channel, position += doubles, ints).asIntBuffer();
+		byEarthEquivalent = map(channel, position += ints, ints).asIntBuffer();
+		idOffsets = map(channel, position += ints, ints + Integer.BYTES).asIntBuffer();
+		ids = map(channel, position += ints + Integer.BYTES, idBytes);
+	}
+
+	/**
+	 * Opens and maps an index file.
+	 *
+	 * @param index the index file
+	 * @return the index
+	 * @throws IOException          if the file cannot be read or is not a valid
+	 *                              index
+	 * @throws NullPointerException if <b>index</b> is {@code null}
+	 */
+	public static HabitableZoneIndex open(Path index) throws IOException {
+		Objects.requireNonNull(index, "index cannot be null");
+		try (var channel = FileChannel.open(index, StandardOpenOption.READ)) {
+			return new HabitableZoneIndex(channel);
+		}
+	}
+
+	private static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+		if (position + length > channel.size()) {
+			throw new IOException("index is truncated");
+		}
+		return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+	}
+
+	/**
+	 * Returns the number of indexed stars.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns an entry by its position in inner-boundary order.
+	 *
+	 * @param position the position, in {@code [0, size)}
+	 * @return the entry
+	 * @throws IndexOutOfBoundsException if <b>position</b> is out of range
+	 */
+	public HabitableZoneEntry entry(int position) {
+		Objects.checkIndex(position, size);
+		int from = idOffsets.get(position);
+		byte[] id = new byte[idOffsets.get(position + 1) - from];
+		ids.get(from, id);
+		return new HabitableZoneEntry(new String(id, StandardCharsets.UTF_8), inner.get(position),
+				outer.get(position), earthEquivalent.get(position));
+	}
+
+	/**
+	 * Finds the stars whose habitable zone contains a distance.
+	 *
+	 * @param distance the distance from the star in AU
+	 * @return the matching entries in inner-boundary order
+	 */
+	public List<HabitableZoneEntry> containing(double distance) {
+		List<HabitableZoneEntry> matches = new ArrayList<>();
+		stab(distance, 0, size, matches);
+		return matches;
+	}
+
+	private void stab(double distance, int from, int to, List<HabitableZoneEntry> matches) {
+		while (from < to) {
+			int mid = (from + to) >>> 1;
+			if (maxOuter.get(mid) < distance) {
+				return; // Every zone in the subtree ends before the distance.
+			}
+			stab(distance, from, mid, matches);
+			if (inner.get(mid) > distance) {
+				return; // Every zone right of mid starts after the distance.
+			}
+			if (outer.get(mid) >= distance) {
+				matches.add(entry(mid));
+			}
+			from = mid + 1;
+		}
+	}
+
+	/**
+	 * Finds the stars whose inner habitable-zone boundary lies in a range.
+	 *
+	 * @param min the smallest boundary in AU, inclusive
+	 * @param max the largest boundary in AU, inclusive
+	 * @return the matching entries in inner-boundary order
+	 */
+	public List<HabitableZoneEntry> innerBoundaryBetween(double min, double max) {
+		List<HabitableZoneEntry> matches = new ArrayList<>();
+		for (int i = lowerBound(inner, null, min), end = upperBound(inner, null, max); i < end; i++) {
+			matches.add(entry(i));
+		}
+		return matches;
+	}
+
+	/**
+	 * Finds the stars whose outer habitable-zone boundary lies in a range.
+	 *
+	 * @param min the smallest boundary in AU, inclusive
+	 * @param max the largest boundary in AU, inclusive
+	 * @return the matching entries in outer-boundary order
+	 */
+	public List<HabitableZoneEntry> outerBoundaryBetween(double min, double max) {
+		return between(outer, byOuter, min, max);
+	}
+
+	/**
+	 * Finds the stars whose Earth-equivalent distance lies in a range.
+	 *
+	 * @param min the smallest distance in AU, inclusive
+	 * @param max the largest distance in AU, inclusive
+	 * @return the matching entries in Earth-equivalent distance order
+	 */
+	public List<HabitableZoneEntry> earthEquivalentDistanceBetween(double min, double max) {
+		return between(earthEquivalent, byEarthEquivalent, min, max);
+	}
+
+	/**
+	 * Counts the stars whose inner habitable-zone boundary lies in a range,
+	 * without reading any entry.
+	 *
+	 * @param min the smallest boundary in AU, inclusive
+	 * @param max the largest boundary in AU, inclusive
+	 * @return the number of matching stars
+	 */
+	public int countInnerBoundaryBetween(double min, double max) {
+		return Math.max(0, upperBound(inner, null, max) - lowerBound(inner, null, min));
+	}
+
+	private List<HabitableZoneEntry> between(DoubleBuffer values, IntBuffer order, double min, double max) {
+		List<HabitableZoneEntry> matches = new ArrayList<>();
+		for (int i = lowerBound(values, order, min), end = upperBound(values, order, max); i < end; i++) {
+			matches.add(entry(order.get(i)));
+		}
+		return matches;
+	}
+
+	/**
+	 * Returns the first position whose value is at least <b>key</b>, reading
+	 * values through <b>order</b> if it is not {@code null}.
+	 */
+	private int lowerBound(DoubleBuffer values, IntBuffer order, double key) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (values.get(order == null ? mid : order.get(mid)) < key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the first position whose value is greater than <b>key</b>.
+	 */
+	private int upperBound(DoubleBuffer values, IntBuffer order, double key) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (values.get(order == null ? mid : order.get(mid)) <= key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,210 @@
+package com.stellar.calculator.io.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.radiation.EarthEquivalentDistanceResult;
+import com.stellar.calculator.calculation.thermal.HabitableZoneResult;
+
+/**
+ * Collects the habitable zones of a catalog run and writes them as a
+ * {@link HabitableZoneIndex} file.
+ *
+ * <p>
+ * Entries are buffered in primitive arrays (about 40 bytes per star plus the
+ * identifier) and sorted when the index is written. The file is written to a
+ * temporary sibling first and moved into place, so readers never see a
+ * partially written index. Not safe for concurrent use.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see HabitableZoneIndex
+ */
+public class HabitableZoneIndexWriter {
+	private String[] ids = new String[1024];
+	private double[] inner = new double[1024];
+	private double[] outer = new double[1024];
+	private double[] earthEquivalent = new double[1024];
+	private int size;
+
+	/**
+	 * Adds a star from its catalog results. Stars without a
+	 * {@link HabitableZoneResult} or an {@link EarthEquivalentDistanceResult}
+	 * are skipped.
+	 *
+	 * @param id      the catalog identifier of the star
+	 * @param results the calculation results of the star
+	 * @return {@code true} if the star was added
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public boolean add(String id, List<CalculationResult> results) {
+		Objects.requireNonNull(id, "id cannot be null");
+		Objects.requireNonNull(results, "results cannot be null");
+		HabitableZoneResult habitableZone = null;
+		EarthEquivalentDistanceResult earthEquivalentDistance = null;
+		for (CalculationResult result : results) {
+			if (result instanceof HabitableZoneResult zone) {
+				habitableZone = zone;
+			} else if (result instanceof EarthEquivalentDistanceResult distance) {
+				earthEquivalentDistance = distance;
+			}
+		}
+		if (habitableZone == null || earthEquivalentDistance == null) {
+			return false;
+		}
+		add(id, habitableZone, earthEquivalentDistance.distanceInAU());
+		return true;
+	}
+
+	/**
+	 * Adds a star.
+	 *
+	 * @param id                      the catalog identifier of the star
+	 * @param habitableZone           the habitable zone of the star
+	 * @param earthEquivalentDistance the Earth-equivalent distance in AU
+	 * @throws NullPointerException     if <b>id</b> or <b>habitableZone</b> is
+	 *                                  {@code null}
+	 * @throws IllegalArgumentException if <b>earthEquivalentDistance</b> is not
+	 *                                  a finite number
+	 * @throws IllegalStateException    if the index already holds the maximum
+	 *                                  number of stars
+	 */
+	public void add(String id, HabitableZoneResult habitableZone, double earthEquivalentDistance) {
+		Objects.requireNonNull(id, "id cannot be null");
+		Objects.requireNonNull(habitableZone, "habitableZone cannot be null");
+		if (!Double.isFinite(earthEquivalentDistance)) {
+			throw new IllegalArgumentException("Earth-equivalent distance must be finite");
+		}
+		if (size == ids.length) {
+			if (size >= HabitableZoneIndex.MAX_ENTRIES) {
+				throw new IllegalStateException("index is full (" + size + " stars)");
+			}
+			int capacity = (int) Math.min(HabitableZoneIndex.MAX_ENTRIES, 2L * size);
+			ids = Arrays.copyOf(ids, capacity);
+			inner = Arrays.copyOf(inner, capacity);
+			outer = Arrays.copyOf(outer, capacity);
+			earthEquivalent = Arrays.copyOf(earthEquivalent, capacity);
+		}
+		ids[size] = id;
+		inner[size] = habitableZone.innerBoundary();
+		outer[size] = habitableZone.outerBoundary();
+		earthEquivalent[size] = earthEquivalentDistance;
+		size++;
+	}
+
+	/**
+	 * Returns the number of stars added so far.
+	 *
+	 * @return the number of stars
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Sorts the entries and writes the index file, replacing any existing file.
+	 *
+	 * @param index the index file to write
+	 * @throws IOException          if the file cannot be written
+	 * @throws NullPointerException if <b>index</b> is {@code null}
+	 */
+	public void write(Path index) throws IOException {
+		Objects.requireNonNull(index, "index cannot be null");
+		int n = size;
+		// Entries are stored by inner boundary (then outer), the order of the interval tree.
+		int[] order = IntStream.range(0, n).boxed()
+				.sorted(Comparator.<Integer>comparingDouble(i -> inner[i]).thenComparingDouble(i -> outer[i]))
+				.mapToInt(Integer::intValue).toArray();
+		double[] sortedInner = new double[n];
+		double[] sortedOuter = new double[n];
+		double[] sortedEarthEquivalent = new double[n];
+		byte[][] sortedIds = new byte[n][];
+		long idBytes = 0;
+		for (int k = 0; k < n; k++) {
+			int i = order[k];
+			sortedInner[k] = inner[i];
+			sortedOuter[k] = outer[i];
+			sortedEarthEquivalent[k] = earthEquivalent[i];
+			sortedIds[k] = ids[i].getBytes(StandardCharsets.UTF_8);
+			idBytes += sortedIds[k].length;
+		}
+		if (idBytes > Integer.MAX_VALUE) {
+			throw new IOException("identifiers exceed " + Integer.MAX_VALUE + " bytes");
+		}
+		double[] maxOuter = new double[n];
+		buildMaxOuter(sortedOuter, maxOuter, 0, n);
+		int[] byOuter = sortedBy(sortedOuter);
+		int[] byEarthEquivalent = sortedBy(sortedEarthEquivalent);
+
+		Path temporary = index.resolveSibling(index.getFileName() + ".tmp");
+		try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+			out.writeInt(HabitableZoneIndex.MAGIC);
+			out.writeInt(HabitableZoneIndex.VERSION);
+			out.writeInt(n);
+			out.writeInt(0);
+			out.writeLong(idBytes);
+			writeDoubles(out, sortedInner);
+			writeDoubles(out, sortedOuter);
+			writeDoubles(out, maxOuter);
+			writeDoubles(out, sortedEarthEquivalent);
+			writeInts(out, byOuter);
+			writeInts(out, byEarthEquivalent);
+			int offset = 0;
+			for (byte[] id : sortedIds) {
+				out.writeInt(offset);
+				offset += id.length;
+			}
+			out.writeInt(offset);
+			for (byte[] id : sortedIds) {
+				out.write(id);
+			}
+		}
+		Files.move(temporary, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Stores in the middle of every range the largest outer boundary of the
+	 * range, which makes the sorted entries an implicit, balanced interval tree.
+	 *
+	 * @return the largest outer boundary in {@code [from, to)}
+	 */
+	private static double buildMaxOuter(double[] outer, double[] maxOuter, int from, int to) {
+		if (from >= to) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		int mid = (from + to) >>> 1;
+		double max = Math.max(outer[mid],
+				Math.max(buildMaxOuter(outer, maxOuter, from, mid), buildMaxOuter(outer, maxOuter, mid + 1, to)));
+		maxOuter[mid] = max;
+		return max;
+	}
+
+	private static int[] sortedBy(double[] values) {
+		return IntStream.range(0, values.length).boxed()
+				.sorted(Comparator.comparingDouble(i -> values[i]))
+				.mapToInt(Integer::intValue).toArray();
+	}
+
+	private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+		for (double value : values) {
+			out.writeDouble(value);
+		}
+	}
+
+	private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+		for (int value : values) {
+			out.writeInt(value);
+		}
+	}
+}
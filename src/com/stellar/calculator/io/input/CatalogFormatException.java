@@ -0,0 +1,46 @@
+package com.stellar.calculator.io.input;
+
+/**
+ * Signals that a catalog row could not be parsed. The exception carries the
+ * offending line so that callers can report it and continue with the next row.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class CatalogFormatException extends IllegalArgumentException {
+	private static final long serialVersionUID = 1L;
+
+	private final long lineNumber;
+	private final String id;
+
+	/**
+	 * Creates a new exception for a malformed row.
+	 *
+	 * @param lineNumber the 1-based line number of the row
+	 * @param id         the row identifier, or an empty string if unknown
+	 * @param message    the reason the row was rejected
+	 */
+	public CatalogFormatException(long lineNumber, String id, String message) {
+		super(message);
+		this.lineNumber = lineNumber;
+		this.id = id;
+	}
+
+	/**
+	 * Returns the 1-based line number of the malformed row.
+	 *
+	 * @return the line number
+	 */
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * Returns the identifier of the malformed row, if it could be read.
+	 *
+	 * @return the row identifier or an empty string
+	 */
+	public String getId() {
+		return id;
+	}
+}
@@ -0,0 +1,193 @@
+package com.stellar.calculator.io.input;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streams a CSV star catalog row by row.
+ *
+ * <p>
+ * Each data row has the columns {@code id,mass,radius,temperature}. Blank lines
+ * and lines starting with {@code #} are skipped, and a first row whose mass is
+ * not numeric is treated as a header. Fields may be quoted as in RFC 4180, so
+ * the identifiers written by
+ * {@link com.stellar.calculator.io.output.CatalogResultWriter} can be read
+ * back: a quoted field may contain commas and line breaks, and {@code ""}
+ * stands for a quote. Only the current row is held in memory, so catalogs of
+ * arbitrary size can be processed.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class CatalogReader implements Closeable {
+	private static final int COLUMN_COUNT = 4;
+
+	private final BufferedReader reader;
+	private final StringBuilder field = new StringBuilder();
+	private final List<String> fields = new ArrayList<>(COLUMN_COUNT);
+	private long lineNumber;
+	private boolean firstRecord = true;
+
+	/**
+	 * Creates a reader over the given character stream.
+	 *
+	 * @param reader the catalog source
+	 * @throws NullPointerException if <b>reader</b> is {@code null}
+	 */
+	public CatalogReader(Reader reader) {
+		Objects.requireNonNull(reader, "reader cannot be null");
+		this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 1 << 16);
+	}
+
+	/**
+	 * Opens a UTF-8 catalog file for reading.
+	 *
+	 * @param catalog the catalog file
+	 * @return a new catalog reader
+	 * @throws IOException if the file cannot be opened
+	 */
+	public static CatalogReader open(Path catalog) throws IOException {
+		return new CatalogReader(Files.newBufferedReader(catalog, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Reads the next data row.
+	 *
+	 * @return the next row, or {@code null} at the end of the catalog
+	 * @throws IOException            if the underlying stream fails
+	 * @throws CatalogFormatException if the row is malformed; the reader remains
+	 *                                usable and continues with the next line
+	 */
+	public CatalogRow next() throws IOException {
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			String trimmed = line.strip();
+			if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+				continue;
+			}
+			long firstLine = lineNumber;
+			split(trimmed, firstLine);
+			if (firstRecord) {
+				firstRecord = false;
+				if (isHeader()) {
+					continue;
+				}
+			}
+			return parse(firstLine);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the number of lines consumed so far.
+	 *
+	 * @return the current line number
+	 */
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	private CatalogRow parse(long line) {
+		String id = fields.get(0);
+		if (fields.size() != COLUMN_COUNT) {
+			throw new CatalogFormatException(line, id,
+					"expected " + COLUMN_COUNT + " columns (id,mass,radius,temperature) but found " + fields.size());
+		}
+		return new CatalogRow(line, id,
+				parseDouble(line, fields.get(1), "mass", id),
+				parseDouble(line, fields.get(2), "radius", id),
+				parseDouble(line, fields.get(3), "temperature", id));
+	}
+
+	private static double parseDouble(long line, String field, String name, String id) {
+		try {
+			return Double.parseDouble(field);
+		} catch (NumberFormatException e) {
+			throw new CatalogFormatException(line, id, name + " is not a valid number: '" + field + "'");
+		}
+	}
+
+	private boolean isHeader() {
+		if (fields.size() < 2) {
+			return false;
+		}
+		try {
+			Double.parseDouble(fields.get(1));
+			return false;
+		} catch (NumberFormatException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Splits a record into {@link #fields}. Unquoted fields are stripped; a
+	 * quoted field keeps its content verbatim and continues on the next lines
+	 * until its closing quote.
+	 *
+	 * @throws CatalogFormatException if the catalog ends inside a quoted field
+	 */
+	private void split(String line, long firstLine) throws IOException {
+		fields.clear();
+		int i = 0;
+		while (true) {
+			field.setLength(0);
+			while (i < line.length() && isBlank(line.charAt(i))) {
+				i++;
+			}
+			if (i < line.length() && line.charAt(i) == '"') {
+				i++;
+				while (true) {
+					if (i == line.length()) {
+						line = reader.readLine();
+						if (line == null) {
+							throw new CatalogFormatException(firstLine, fields.isEmpty() ? "" : fields.get(0),
+									"unterminated quoted field");
+						}
+						lineNumber++;
+						field.append('\n');
+						i = 0;
+					} else if (line.charAt(i) != '"') {
+						field.append(line.charAt(i++));
+					} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						field.append('"');
+						i += 2;
+					} else {
+						i++;
+						break;
+					}
+				}
+				int end = line.indexOf(',', i);
+				// Text between the closing quote and the comma is kept rather than rejected.
+				field.append(line.substring(i, end < 0 ? line.length() : end).strip());
+				fields.add(field.toString());
+				i = end;
+			} else {
+				int end = line.indexOf(',', i);
+				fields.add(line.substring(i, end < 0 ? line.length() : end).strip());
+				i = end;
+			}
+			if (i < 0) {
+				return;
+			}
+			i++;
+		}
+	}
+
+	private static boolean isBlank(char c) {
+		return c == ' ' || c == '\t';
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,32 @@
+package com.stellar.calculator.io.input;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * A single parsed row of a star catalog.
+ *
+ * <p>
+ * Rows carry raw parameter values; they are only turned into a {@link Star}
+ * (and thereby validated) when {@link #toStar()} is called, so that a bad row
+ * can be reported without aborting the surrounding catalog run.
+ *
+ * @param lineNumber  the 1-based line number of the row in the catalog file
+ * @param id          the catalog identifier of the star
+ * @param mass        the mass in solar masses
+ * @param radius      the radius in solar radii
+ * @param temperature the surface temperature in Kelvin
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record CatalogRow(long lineNumber, String id, double mass, double radius, double temperature) {
+
+	/**
+	 * Creates a star from this row's parameters.
+	 *
+	 * @return the star described by this row
+	 * @throws IllegalArgumentException if any parameter is invalid
+	 */
+	public Star toStar() {
+		return new Star(mass, radius, temperature);
+	}
+}
@@ -0,0 +1,68 @@
+package com.stellar.calculator.io.output;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Records catalog rows that could not be analyzed, as CSV with the columns
+ * {@code line,id,error}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class CatalogFailureWriter implements Closeable {
+	private final BufferedWriter writer;
+
+	/**
+	 * Creates a writer over the given character stream and writes the header.
+	 *
+	 * @param writer the destination of the failure rows
+	 * @throws IOException          if the header cannot be written
+	 * @throws NullPointerException if <b>writer</b> is {@code null}
+	 */
+	public CatalogFailureWriter(Writer writer) throws IOException {
+		Objects.requireNonNull(writer, "writer cannot be null");
+		this.writer = writer instanceof BufferedWriter buffered ? buffered : new BufferedWriter(writer);
+		this.writer.write("line,id,error\n");
+	}
+
+	/**
+	 * Creates (or truncates) a UTF-8 failure report file.
+	 *
+	 * @param failures the failure report file
+	 * @return a new failure writer
+	 * @throws IOException if the file cannot be created
+	 */
+	public static CatalogFailureWriter create(Path failures) throws IOException {
+		return new CatalogFailureWriter(Files.newBufferedWriter(failures, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Records a failed row.
+	 *
+	 * @param lineNumber the 1-based line number of the row
+	 * @param id         the row identifier, may be empty
+	 * @param message    the reason the row failed
+	 * @throws IOException if writing fails
+	 */
+	public void write(long lineNumber, String id, String message) throws IOException {
+		writer.append(Long.toString(lineNumber)).append(',')
+				.append(quote(id)).append(',')
+				.append(quote(message == null ? "" : message)).append('\n');
+	}
+
+	private static String quote(String value) {
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+}
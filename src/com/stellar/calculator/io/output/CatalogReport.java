@@ -0,0 +1,34 @@
+package com.stellar.calculator.io.output;
+
+import java.time.Duration;
+
+/**
+ * Summary of a catalog batch run.
+ *
+ * @param rows     the number of data rows read from the catalog
+ * @param failures the number of rows that could not be analyzed
+ * @param elapsed  the wall-clock duration of the run
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record CatalogReport(long rows, long failures, Duration elapsed) {
+
+	/**
+	 * Returns the number of rows that were analyzed successfully.
+	 *
+	 * @return the number of successful rows
+	 */
+	public long succeeded() {
+		return rows - failures;
+	}
+
+	/**
+	 * Returns the overall throughput of the run.
+	 *
+	 * @return rows processed per second, or {@code 0} for an empty run
+	 */
+	public double rowsPerSecond() {
+		long nanos = elapsed.toNanos();
+		return nanos == 0 ? 0.0 : rows * 1e9 / nanos;
+	}
+}
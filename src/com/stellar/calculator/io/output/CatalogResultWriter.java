@@ -0,0 +1,134 @@
+package com.stellar.calculator.io.output;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.classification.LuminosityClassResult;
+import com.stellar.calculator.calculation.classification.SpectralClassResult;
+import com.stellar.calculator.calculation.thermal.HabitableZoneResult;
+
+/**
+ * Writes catalog calculation results as CSV, one row per star.
+ *
+ * <p>
+ * The header is derived from the result types of the first successful row:
+ * each result contributes one column named after its type (e.g.
+ * {@code luminosity}), multi-valued results contribute one column per value.
+ * Numeric values are written with full precision so that downstream jobs can
+ * round as they see fit. Rows are streamed straight to the underlying writer.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class CatalogResultWriter implements Closeable {
+	private final BufferedWriter writer;
+	private final StringBuilder line = new StringBuilder(256);
+	private boolean headerWritten;
+
+	/**
+	 * Creates a writer over the given character stream.
+	 *
+	 * @param writer the destination of the CSV rows
+	 * @throws NullPointerException if <b>writer</b> is {@code null}
+	 */
+	public CatalogResultWriter(Writer writer) {
+		Objects.requireNonNull(writer, "writer cannot be null");
+		this.writer = writer instanceof BufferedWriter buffered ? buffered : new BufferedWriter(writer, 1 << 16);
+	}
+
+	/**
+	 * Creates (or truncates) a UTF-8 results file.
+	 *
+	 * @param results the results file
+	 * @return a new result writer
+	 * @throws IOException if the file cannot be created
+	 */
+	public static CatalogResultWriter create(Path results) throws IOException {
+		return new CatalogResultWriter(Files.newBufferedWriter(results, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes the results of a single star.
+	 *
+	 * @param id      the catalog identifier of the star
+	 * @param results the calculation results for the star
+	 * @throws IOException if writing fails
+	 */
+	public void write(String id, List<CalculationResult> results) throws IOException {
+		if (!headerWritten) {
+			writeHeader(results);
+		}
+		line.setLength(0);
+		line.append(escape(id));
+		for (CalculationResult result : results) {
+			appendValues(line, result);
+		}
+		writer.append(line).append('\n');
+	}
+
+	private void writeHeader(List<CalculationResult> results) throws IOException {
+		line.setLength(0);
+		line.append("id");
+		for (CalculationResult result : results) {
+			appendColumnNames(line, result);
+		}
+		writer.append(line).append('\n');
+		headerWritten = true;
+	}
+
+	/**
+	 * Appends the columns of a result to a header line, each preceded by a comma.
+	 */
+	static void appendColumnNames(StringBuilder line, CalculationResult result) {
+		String name = columnName(result);
+		switch (result) {
+		case HabitableZoneResult hz -> line.append(',').append(name).append("Inner,").append(name).append("Outer");
+		case LuminosityClassResult lc -> line.append(',').append(name).append(',').append(name).append("Confidence");
+		default -> line.append(',').append(name);
+		}
+	}
+
+	/**
+	 * Appends the values of a result to a row, each preceded by a comma.
+	 */
+	static void appendValues(StringBuilder line, CalculationResult result) {
+		switch (result) {
+		case HabitableZoneResult hz -> line.append(',').append(hz.innerBoundary()).append(',').append(hz.outerBoundary());
+		case LuminosityClassResult lc -> line.append(',').append(lc.luminosityClass().mkLabel()).append(',')
+				.append(lc.confidence());
+		case SpectralClassResult sc -> line.append(',').append(sc.mkLabel());
+		default -> line.append(',').append(result.getValue());
+		}
+	}
+
+	/**
+	 * Returns the column name of a result, see
+	 * {@link CalculationResult#resultName()}.
+	 */
+	static String columnName(CalculationResult result) {
+		return result.resultName();
+	}
+
+	private static String escape(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!headerWritten) {
+			writer.append("id\n");
+		}
+		writer.close();
+	}
+}
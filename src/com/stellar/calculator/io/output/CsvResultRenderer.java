@@ -0,0 +1,35 @@
+package com.stellar.calculator.io.output;
+
+import java.util.List;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Renders one CSV row per star: its input parameters followed by the result
+ * columns of {@link CatalogResultWriter}. The header is derived from the
+ * results of the first star.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+final class CsvResultRenderer implements ResultRenderer {
+	private boolean headerWritten;
+
+	@Override
+	public void appendStar(StringBuilder out, Star star, List<CalculationResult> results) {
+		if (!headerWritten) {
+			out.append("mass,radius,temperature");
+			for (CalculationResult result : results) {
+				CatalogResultWriter.appendColumnNames(out, result);
+			}
+			out.append('\n');
+			headerWritten = true;
+		}
+		out.append(star.getMass()).append(',').append(star.getRadius()).append(',').append(star.getTemperature());
+		for (CalculationResult result : results) {
+			CatalogResultWriter.appendValues(out, result);
+		}
+		out.append('\n');
+	}
+}
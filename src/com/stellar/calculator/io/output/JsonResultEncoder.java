@@ -0,0 +1,168 @@
+package com.stellar.calculator.io.output;
+
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.classification.LuminosityClassResult;
+import com.stellar.calculator.calculation.classification.SpectralClassResult;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Encodes stars and calculation results as JSON.
+ *
+ * <p>
+ * Each result becomes an object with a {@code result} member named after its
+ * type, like the CSV columns of {@link CatalogResultWriter}, followed by one
+ * member per record component. Results that are not records contribute their
+ * {@link CalculationResult#getValue() value} instead. Classification results
+ * also carry their MK label. Non-finite numbers are written as {@code null}.
+ *
+ * <p>
+ * Output is appended to a caller-supplied {@link StringBuilder}, so one
+ * builder can be reused across responses. Instances are stateless and
+ * thread-safe.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class JsonResultEncoder {
+	private static final ClassValue<RecordComponent[]> COMPONENTS = new ClassValue<>() {
+		@Override
+		protected RecordComponent[] computeValue(Class<?> type) {
+			return type.isRecord() ? type.getRecordComponents() : null;
+		}
+	};
+
+	/**
+	 * Appends the input parameters of a star as a JSON object.
+	 *
+	 * @param json the builder to append to
+	 * @param star the star to encode
+	 * @return <b>json</b>
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public StringBuilder appendStar(StringBuilder json, Star star) {
+		Objects.requireNonNull(star, "star cannot be null");
+		json.append("{\"mass\":");
+		appendNumber(json, star.getMass());
+		json.append(",\"radius\":");
+		appendNumber(json, star.getRadius());
+		json.append(",\"temperature\":");
+		appendNumber(json, star.getTemperature());
+		return json.append('}');
+	}
+
+	/**
+	 * Appends calculation results as a JSON array, in list order.
+	 *
+	 * @param json    the builder to append to
+	 * @param results the results to encode
+	 * @return <b>json</b>
+	 * @throws NullPointerException if any argument or result is {@code null}
+	 */
+	public StringBuilder appendResults(StringBuilder json, List<CalculationResult> results) {
+		json.append('[');
+		for (int i = 0; i < results.size(); i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			appendResult(json, results.get(i));
+		}
+		return json.append(']');
+	}
+
+	/**
+	 * Appends a single calculation result as a JSON object.
+	 *
+	 * @param json   the builder to append to
+	 * @param result the result to encode
+	 * @return <b>json</b>
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public StringBuilder appendResult(StringBuilder json, CalculationResult result) {
+		Objects.requireNonNull(result, "result cannot be null");
+		json.append("{\"result\":");
+		appendString(json, CatalogResultWriter.columnName(result));
+
+		switch (result) {
+		case SpectralClassResult sc -> appendMember(json, "mkLabel", sc.mkLabel());
+		case LuminosityClassResult lc -> appendMember(json, "mkLabel", lc.luminosityClass().mkLabel());
+		default -> {
+		}
+		}
+
+		RecordComponent[] components = COMPONENTS.get(result.getClass());
+		if (components == null) {
+			appendMember(json, "value", result.getValue());
+		} else {
+			for (RecordComponent component : components) {
+				appendMember(json, component.getName(), read(component, result));
+			}
+		}
+		return json.append('}');
+	}
+
+	/**
+	 * Appends a JSON string literal, escaping quotes, backslashes and control
+	 * characters.
+	 *
+	 * @param json  the builder to append to
+	 * @param value the string to encode
+	 * @return <b>json</b>
+	 */
+	public StringBuilder appendString(StringBuilder json, String value) {
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"' -> json.append("\\\"");
+			case '\\' -> json.append("\\\\");
+			case '\n' -> json.append("\\n");
+			case '\r' -> json.append("\\r");
+			case '\t' -> json.append("\\t");
+			default -> {
+				if (c < 0x20) {
+					json.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+				} else {
+					json.append(c);
+				}
+			}
+			}
+		}
+		return json.append('"');
+	}
+
+	private void appendMember(StringBuilder json, String name, Object value) {
+		json.append(',');
+		appendString(json, name);
+		json.append(':');
+		switch (value) {
+		case null -> json.append("null");
+		case Double d -> appendNumber(json, d);
+		case Float f -> appendNumber(json, f);
+		case Number n -> json.append(n);
+		case Boolean b -> json.append(b.booleanValue());
+		case Enum<?> e -> appendString(json, e.name());
+		default -> appendString(json, value.toString());
+		}
+	}
+
+	private static void appendNumber(StringBuilder json, double value) {
+		if (Double.isFinite(value)) {
+			json.append(value);
+		} else {
+			json.append("null");
+		}
+	}
+
+	private static Object read(RecordComponent component, Object record) {
+		try {
+			return component.getAccessor().invoke(record);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("cannot read " + component.getName() + " of " + record.getClass().getName(),
+					e);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.stellar.calculator.io.output;
+
+import java.util.List;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.formatter.DecimalEncoder;
+
+/**
+ * Renders a section per star: a numbered heading with the input parameters,
+ * then a table with one row per result. The formatted text of a result fills
+ * its cell, with line breaks as {@code <br>} and pipes escaped.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+final class MarkdownResultRenderer implements ResultRenderer {
+	private int stars;
+
+	@Override
+	public void appendStar(StringBuilder out, Star star, List<CalculationResult> results) {
+		out.append("## Star ").append(++stars).append("\n\nMass: ");
+		DecimalEncoder.appendFixed(out, star.getMass(), 2);
+		out.append(" M☉, radius: ");
+		DecimalEncoder.appendFixed(out, star.getRadius(), 2);
+		out.append(" R☉, temperature: ");
+		DecimalEncoder.appendFixed(out, star.getTemperature(), 0);
+		out.append("K\n\n| Result | Value |\n| --- | --- |\n");
+
+		for (CalculationResult result : results) {
+			out.append("| ").append(result.resultName()).append(" | ");
+			int start = out.length();
+			result.formatTo(out);
+			escapeCell(out, start);
+			out.append(" |\n");
+		}
+		out.append('\n');
+	}
+
+	/**
+	 * Escapes the text appended since <b>start</b> in place so that it stays
+	 * within one table cell.
+	 */
+	private static void escapeCell(StringBuilder out, int start) {
+		for (int i = out.length() - 1; i >= start; i--) {
+			switch (out.charAt(i)) {
+			case '\n' -> out.replace(i, i + 1, "<br>");
+			case '|' -> out.insert(i, '\\');
+			default -> {
+			}
+			}
+		}
+	}
+}
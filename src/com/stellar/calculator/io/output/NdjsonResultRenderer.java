@@ -0,0 +1,26 @@
+package com.stellar.calculator.io.output;
+
+import java.util.List;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Renders one line per star holding a JSON object
+ * {@code {"star":{...},"results":[...]}}, encoded by {@link JsonResultEncoder}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+final class NdjsonResultRenderer implements ResultRenderer {
+	private final JsonResultEncoder encoder = new JsonResultEncoder();
+
+	@Override
+	public void appendStar(StringBuilder out, Star star, List<CalculationResult> results) {
+		out.append("{\"star\":");
+		encoder.appendStar(out, star);
+		out.append(",\"results\":");
+		encoder.appendResults(out, results);
+		out.append("}\n");
+	}
+}
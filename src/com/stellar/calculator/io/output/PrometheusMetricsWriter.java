@@ -0,0 +1,115 @@
+package com.stellar.calculator.io.output;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import com.stellar.calculator.service.metrics.CalculatorMetrics;
+import com.stellar.calculator.service.metrics.LatencySnapshot;
+import com.stellar.calculator.service.metrics.MetricsRegistry;
+
+/**
+ * Writes a snapshot of a {@link MetricsRegistry} in the Prometheus text
+ * exposition format (version 0.0.4).
+ *
+ * <p>
+ * Every calculator contributes, labelled with {@code calculator="<name>"}:
+ * <ul>
+ * <li>{@code stellar_calculator_invocations_total}: completed single-star
+ * calls</li>
+ * <li>{@code stellar_calculator_errors_total}: single-star and batch calls that
+ * threw</li>
+ * <li>{@code stellar_calculator_latency_seconds}: a histogram of single-star
+ * calls with a bucket per power of two nanoseconds from about 1 µs to 69 s</li>
+ * <li>{@code stellar_calculator_batch_rows_total}: stars in batch calls</li>
+ * <li>{@code stellar_calculator_batch_latency_seconds}: a histogram of batch
+ * calls with the same buckets</li>
+ * </ul>
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class PrometheusMetricsWriter {
+	/** The content type of the exposition format. */
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private static final int FIRST_BUCKET_EXPONENT = 10;
+	private static final int LAST_BUCKET_EXPONENT = 36;
+
+	/**
+	 * Writes the current metrics of all calculators.
+	 *
+	 * @param registry the registry to snapshot
+	 * @param out      the destination of the text
+	 * @throws IOException          if writing fails
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public void write(MetricsRegistry registry, Appendable out) throws IOException {
+		Objects.requireNonNull(registry, "registry cannot be null");
+		Objects.requireNonNull(out, "out cannot be null");
+		var calculators = registry.calculators();
+
+		out.append("# HELP stellar_calculator_invocations_total Completed calculator calls.\n")
+				.append("# TYPE stellar_calculator_invocations_total counter\n");
+		for (CalculatorMetrics metrics : calculators) {
+			sample(out, "stellar_calculator_invocations_total", metrics, null, metrics.getInvocationCount());
+		}
+
+		out.append("# HELP stellar_calculator_errors_total Calculator calls that threw an exception.\n")
+				.append("# TYPE stellar_calculator_errors_total counter\n");
+		for (CalculatorMetrics metrics : calculators) {
+			sample(out, "stellar_calculator_errors_total", metrics, null, metrics.getErrorCount());
+		}
+
+		out.append("# HELP stellar_calculator_latency_seconds Single-star calculator call latency.\n")
+				.append("# TYPE stellar_calculator_latency_seconds histogram\n");
+		for (CalculatorMetrics metrics : calculators) {
+			histogram(out, "stellar_calculator_latency_seconds", metrics, metrics.latency());
+		}
+
+		out.append("# HELP stellar_calculator_batch_rows_total Stars in batch calculator calls.\n")
+				.append("# TYPE stellar_calculator_batch_rows_total counter\n");
+		for (CalculatorMetrics metrics : calculators) {
+			sample(out, "stellar_calculator_batch_rows_total", metrics, null, metrics.getBatchRowCount());
+		}
+
+		out.append("# HELP stellar_calculator_batch_latency_seconds Batch calculator call latency.\n")
+				.append("# TYPE stellar_calculator_batch_latency_seconds histogram\n");
+		for (CalculatorMetrics metrics : calculators) {
+			histogram(out, "stellar_calculator_batch_latency_seconds", metrics, metrics.batchLatency());
+		}
+	}
+
+	private static void histogram(Appendable out, String name, CalculatorMetrics metrics, LatencySnapshot latency)
+			throws IOException {
+		for (int exponent = FIRST_BUCKET_EXPONENT; exponent <= LAST_BUCKET_EXPONENT; exponent++) {
+			long bound = 1L << exponent;
+			sample(out, name + "_bucket", metrics, Double.toString(bound / 1e9), latency.countBelow(bound));
+		}
+		sample(out, name + "_bucket", metrics, "+Inf", latency.count());
+		sample(out, name + "_sum", metrics, null, latency.sumNanos() / 1e9);
+		sample(out, name + "_count", metrics, null, latency.count());
+	}
+
+	private static void sample(Appendable out, String name, CalculatorMetrics metrics, String le, Number value)
+			throws IOException {
+		out.append(name).append("{calculator=\"");
+		escape(out, metrics.getName());
+		out.append('"');
+		if (le != null) {
+			out.append(",le=\"").append(le).append('"');
+		}
+		out.append("} ").append(value.toString()).append('\n');
+	}
+
+	private static void escape(Appendable out, String label) throws IOException {
+		for (int i = 0; i < label.length(); i++) {
+			char c = label.charAt(i);
+			switch (c) {
+			case '\\' -> out.append("\\\\");
+			case '"' -> out.append("\\\"");
+			case '\n' -> out.append("\\n");
+			default -> out.append(c);
+			}
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.stellar.calculator.io.output;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The layouts {@link ReportWriter} can stream results in.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public enum ReportFormat {
+	/** The human-readable analysis printed by the interactive calculator. */
+	TEXT(TextResultRenderer::new),
+
+	/** A header row, then one row per star with its parameters and result values. */
+	CSV(CsvResultRenderer::new),
+
+	/** One JSON object per line and star, shaped like the HTTP service responses. */
+	NDJSON(NdjsonResultRenderer::new),
+
+	/** A section per star with a table of its results. */
+	MARKDOWN(MarkdownResultRenderer::new);
+
+	private final Supplier<ResultRenderer> renderers;
+
+	ReportFormat(Supplier<ResultRenderer> renderers) {
+		this.renderers = renderers;
+	}
+
+	/**
+	 * Creates a renderer for a new report in this format.
+	 *
+	 * @return a new renderer
+	 */
+	public ResultRenderer newRenderer() {
+		return renderers.get();
+	}
+
+	/**
+	 * Returns the format with the given name, ignoring case.
+	 *
+	 * @param name the format name, e.g. {@code ndjson}
+	 * @return the format
+	 * @throws IllegalArgumentException if no format has that name
+	 */
+	public static ReportFormat of(String name) {
+		for (ReportFormat format : values()) {
+			if (format.name().equalsIgnoreCase(name)) {
+				return format;
+			}
+		}
+		throw new IllegalArgumentException("Unknown format: " + name + " (expected one of "
+				+ Arrays.stream(values()).map(f -> f.name().toLowerCase(Locale.ROOT)).collect(Collectors.joining(", "))
+				+ ")");
+	}
+}
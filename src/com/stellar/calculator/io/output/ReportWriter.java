@@ -0,0 +1,206 @@
+package com.stellar.calculator.io.output;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Streams a report of calculation results to a byte channel.
+ *
+ * <p>
+ * A {@link ResultRenderer} appends each star to a builder that is reused for
+ * the whole report; the text is encoded straight into a reusable byte buffer,
+ * which is written to the channel only when it is full or the writer is
+ * flushed. No intermediate string is created per star or result, and a report
+ * of many stars costs one channel write per buffer.
+ *
+ * <p>
+ * Writers are safe for concurrent use; each star is rendered and encoded as a
+ * whole, so concurrent stars never interleave.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class ReportWriter implements Flushable, Closeable {
+	/** The default size of the byte buffer, in bytes. */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+	/** The smallest byte buffer, large enough for any single encoded character. */
+	private static final int MIN_BUFFER_SIZE = 16;
+
+	private final WritableByteChannel channel;
+	private final ResultRenderer renderer;
+	private final ByteBuffer bytes;
+	private final StringBuilder text = new StringBuilder(1024);
+	private final CharsetEncoder encoder;
+	private char[] chars = new char[1024];
+	private CharBuffer charBuffer = CharBuffer.wrap(chars);
+	private boolean closed;
+
+	/**
+	 * Creates a UTF-8 writer with a {@linkplain #DEFAULT_BUFFER_SIZE default}
+	 * buffer.
+	 *
+	 * @param channel  the destination of the report
+	 * @param renderer the renderer of the report layout
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public ReportWriter(WritableByteChannel channel, ResultRenderer renderer) {
+		this(channel, renderer, StandardCharsets.UTF_8, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a writer. Characters the charset cannot encode are replaced.
+	 *
+	 * @param channel    the destination of the report
+	 * @param renderer   the renderer of the report layout
+	 * @param charset    the charset of the report
+	 * @param bufferSize the size of the byte buffer, in bytes
+	 * @throws NullPointerException     if <b>channel</b>, <b>renderer</b> or
+	 *                                  <b>charset</b> is {@code null}
+	 * @throws IllegalArgumentException if <b>bufferSize</b> is less than 16
+	 */
+	public ReportWriter(WritableByteChannel channel, ResultRenderer renderer, Charset charset, int bufferSize) {
+		this.channel = Objects.requireNonNull(channel, "channel cannot be null");
+		this.renderer = Objects.requireNonNull(renderer, "renderer cannot be null");
+		Objects.requireNonNull(charset, "charset cannot be null");
+		if (bufferSize < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE);
+		}
+		this.encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.bytes = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	/**
+	 * Creates a writer for a format.
+	 *
+	 * @param channel the destination of the report
+	 * @param format  the report format
+	 * @param charset the charset of the report
+	 * @return a new report writer
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public static ReportWriter of(WritableByteChannel channel, ReportFormat format, Charset charset) {
+		return new ReportWriter(channel, format.newRenderer(), charset, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Renders the results of a star.
+	 *
+	 * @param star    the analyzed star
+	 * @param results the calculation results for the star
+	 * @throws IOException if the buffer had to be written and writing failed,
+	 *                     or the writer is closed
+	 */
+	public synchronized void write(Star star, List<CalculationResult> results) throws IOException {
+		Objects.requireNonNull(star, "star cannot be null");
+		Objects.requireNonNull(results, "results cannot be null");
+		ensureOpen();
+		try {
+			renderer.appendStar(text, star, results);
+			encode();
+		} finally {
+			text.setLength(0);
+		}
+	}
+
+	/**
+	 * Writes text verbatim, outside the layout of the renderer.
+	 *
+	 * @param value the text to write
+	 * @throws IOException if the buffer had to be written and writing failed,
+	 *                     or the writer is closed
+	 */
+	public synchronized void writeText(CharSequence value) throws IOException {
+		Objects.requireNonNull(value, "value cannot be null");
+		ensureOpen();
+		try {
+			text.append(value);
+			encode();
+		} finally {
+			text.setLength(0);
+		}
+	}
+
+	/**
+	 * Writes everything buffered to the channel.
+	 *
+	 * @throws IOException if writing fails or the writer is closed
+	 */
+	@Override
+	public synchronized void flush() throws IOException {
+		ensureOpen();
+		drain();
+	}
+
+	/**
+	 * Flushes the writer and closes the channel.
+	 *
+	 * @throws IOException if writing or closing fails
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			drain();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Encodes the rendered text into the byte buffer, writing the buffer out
+	 * whenever it fills up.
+	 */
+	private void encode() throws IOException {
+		int length = text.length();
+		if (length > chars.length) {
+			chars = new char[Math.max(length, 2 * chars.length)];
+			charBuffer = CharBuffer.wrap(chars);
+		}
+		text.getChars(0, length, chars, 0);
+		charBuffer.clear().limit(length);
+
+		encoder.reset();
+		// Malformed input is replaced, so overflow is the only result to handle.
+		while (encoder.encode(charBuffer, bytes, true).isOverflow()) {
+			drain();
+		}
+		while (encoder.flush(bytes).isOverflow()) {
+			drain();
+		}
+	}
+
+	private void drain() throws IOException {
+		bytes.flip();
+		try {
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+		} finally {
+			bytes.compact();
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("report writer is closed");
+		}
+	}
+}
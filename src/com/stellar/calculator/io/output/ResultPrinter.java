@@ -1,18 +1,69 @@
 package com.stellar.calculator.io.output;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
 import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.io.index.HabitableZoneEntry;
+import com.stellar.calculator.service.uncertainty.CategoryDistribution;
+import com.stellar.calculator.service.uncertainty.QuantityDistribution;
+import com.stellar.calculator.service.uncertainty.UncertaintyResult;
 
 /**
  * Handles the formatted display of all calculation results. Provides structured
  * output with headers and separators.
+ *
+ * <p>
+ * Results are streamed through a {@link ReportWriter} in the chosen
+ * {@link ReportFormat}, by default as text to standard output. Summaries of
+ * uncertainty analyses and catalog runs, and habitable-zone matches, are
+ * always plain text; errors go to standard error.
  * 
  * @author Ahmed Ghannam
  * @version 1.0
  */
 public class ResultPrinter {
+	private final ReportWriter writer;
+
+	/**
+	 * Creates a printer writing text to standard output.
+	 */
+	public ResultPrinter() {
+		this(ReportFormat.TEXT);
+	}
+
+	/**
+	 * Creates a printer writing to standard output. Text is encoded in the
+	 * charset of {@link System#out}, the other formats in UTF-8.
+	 *
+	 * @param format the format of the analysis results
+	 * @throws NullPointerException if <b>format</b> is {@code null}
+	 */
+	public ResultPrinter(ReportFormat format) {
+		this(format, Channels.newChannel(System.out),
+				format == ReportFormat.TEXT ? System.out.charset() : StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Creates a printer writing to a channel. Output is written through to the
+	 * channel after every print; the channel is never closed by the printer.
+	 *
+	 * @param format  the format of the analysis results
+	 * @param channel the destination of the output
+	 * @param charset the charset of the output
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public ResultPrinter(ReportFormat format, WritableByteChannel channel, Charset charset) {
+		this.writer = ReportWriter.of(channel, Objects.requireNonNull(format, "format cannot be null"), charset);
+	}
 
 	/**
 	 * Prints the complete analysis for the given stellar parameters.
@@ -21,38 +72,99 @@ public class ResultPrinter {
 	 * @param results list of calculation results
 	 */
 	public void printResults(Star star, List<CalculationResult> results) {
-		printHeader(star);
-		System.out.println("\nAnalysis Results");
-		System.out.println("================");
+		try {
+			writer.write(star, results);
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 
-		results.forEach(result -> {
-			System.out.println("\n" + result.format());
-			System.out.println("-".repeat(50)); // Separator between results
-		});
+	/**
+	 * Prints the result distributions of a Monte Carlo uncertainty analysis.
+	 * 
+	 * @param result the successful uncertainty analysis
+	 */
+	public void printUncertainty(UncertaintyResult result) {
+		var text = new StringBuilder(1024).append("""
+
+				Uncertainty Analysis Complete
+				=============================
+				Mass: %s
+				Radius: %s
+				Temperature: %s
+				Samples: %d
+
+				""".formatted(result.star().mass(), result.star().radius(), result.star().temperature(),
+				result.samples()));
 
-		printSummary();
+		for (QuantityDistribution quantity : result.quantities()) {
+			text.append("%-36s mean %.6g +/- %.3g".formatted(quantity.name(), quantity.mean(),
+					quantity.standardDeviation()));
+			double[] levels = quantity.levels();
+			double[] percentiles = quantity.percentiles();
+			for (int i = 0; i < levels.length; i++) {
+				text.append("  p%s %.6g".formatted(formatLevel(levels[i]), percentiles[i]));
+			}
+			text.append('\n');
+		}
+		for (CategoryDistribution category : result.categories()) {
+			text.append("%-36s".formatted(category.name()));
+			category.probabilities().entrySet().stream().limit(5)
+					.forEach(e -> text.append("  %s %.1f%%".formatted(e.getKey(), e.getValue() * 100)));
+			text.append('\n');
+		}
+		print(text);
 	}
 
-	private void printHeader(Star star) {
-		System.out.println("""
+	private static String formatLevel(double level) {
+		return level == Math.rint(level) ? Long.toString((long) level) : Double.toString(level);
+	}
 
-				Stellar Analysis Complete
-				========================
-				Input Parameters:
-				Mass: %.2f solar masses
-				Radius: %.2f solar radii
-				Temperature: %.0fK
-				""".formatted(star.getMass(), star.getRadius(), star.getTemperature()));
+	/**
+	 * Prints the summary of a catalog batch run.
+	 * 
+	 * @param report   the catalog run summary
+	 * @param results  the file the results were written to
+	 * @param failures the file the failed rows were written to
+	 */
+	public void printCatalogReport(CatalogReport report, Path results, Path failures) {
+		print("""
+
+				Catalog Analysis Complete
+				=========================
+				Rows processed: %d
+				Succeeded: %d
+				Failed: %d
+				Elapsed: %.3f s (%.0f rows/s)
+				Results: %s
+				Failures: %s
+
+				""".formatted(report.rows(), report.succeeded(), report.failures(),
+				report.elapsed().toNanos() / 1e9, report.rowsPerSecond(), results, failures));
 	}
 
-	private void printSummary() {
-		System.out.println("""
+	/**
+	 * Prints the identifiers of the stars found by a habitable-zone index
+	 * query, one per line.
+	 *
+	 * @param entries the matching index entries
+	 */
+	public void printHabitableZoneMatches(List<HabitableZoneEntry> entries) {
+		var text = new StringBuilder(16 * entries.size());
+		for (HabitableZoneEntry entry : entries) {
+			text.append(entry.id()).append('\n');
+		}
+		print(text);
+	}
 
-				Note: All Earth-equivalent calculations are based on receiving
-				the same amount of stellar radiation as Earth receives from the Sun.
-				Actual habitability depends on many additional factors including
-				atmospheric composition, magnetic fields, and planetary mass.
-				""");
+	private void print(CharSequence text) {
+		try {
+			writer.writeText(text);
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	/**
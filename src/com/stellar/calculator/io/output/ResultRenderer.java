@@ -0,0 +1,31 @@
+package com.stellar.calculator.io.output;
+
+import java.util.List;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Renders the results of one star as a piece of a report.
+ *
+ * <p>
+ * Renderers append straight to the caller's builder, which
+ * {@link ReportWriter} reuses across stars. A renderer may keep state between
+ * stars, such as whether a header has been written, so every report needs its
+ * own renderer; see {@link ReportFormat#newRenderer()}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public interface ResultRenderer {
+
+	/**
+	 * Appends the results of a star.
+	 *
+	 * @param out     the builder to append to
+	 * @param star    the analyzed star
+	 * @param results the calculation results for the star
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	void appendStar(StringBuilder out, Star star, List<CalculationResult> results);
+}
@@ -0,0 +1,42 @@
+package com.stellar.calculator.io.output;
+
+import java.util.List;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.formatter.DecimalEncoder;
+
+/**
+ * Renders the analysis of the interactive calculator: the input parameters,
+ * every formatted result between separators, and a closing note.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+final class TextResultRenderer implements ResultRenderer {
+	private static final String SEPARATOR = "-".repeat(50);
+
+	@Override
+	public void appendStar(StringBuilder out, Star star, List<CalculationResult> results) {
+		out.append("\nStellar Analysis Complete\n========================\nInput Parameters:\nMass: ");
+		DecimalEncoder.appendFixed(out, star.getMass(), 2);
+		out.append(" solar masses\nRadius: ");
+		DecimalEncoder.appendFixed(out, star.getRadius(), 2);
+		out.append(" solar radii\nTemperature: ");
+		DecimalEncoder.appendFixed(out, star.getTemperature(), 0);
+		out.append("K\n\n\nAnalysis Results\n================\n");
+
+		for (CalculationResult result : results) {
+			result.formatTo(out.append('\n')).append('\n').append(SEPARATOR).append('\n');
+		}
+
+		out.append("""
+
+				Note: All Earth-equivalent calculations are based on receiving
+				the same amount of stellar radiation as Earth receives from the Sun.
+				Actual habitability depends on many additional factors including
+				atmospheric composition, magnetic fields, and planetary mass.
+
+				""");
+	}
+}
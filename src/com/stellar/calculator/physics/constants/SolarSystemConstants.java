@@ -30,6 +30,15 @@ public final class SolarSystemConstants {
 	/** Apparent magnitude of the Sun as seen from Earth */
 	public static final double SOLAR_APPARENT_MAG = -26.74;
 
+	/** Earth mass (kg) */
+	public static final double EARTH_MASS = 5.972E24;
+
+	/** Earth mean radius (m) */
+	public static final double EARTH_RADIUS = 6.371E6;
+
+	/** Earth Bond albedo, the fraction of incident radiation reflected */
+	public static final double EARTH_BOND_ALBEDO = 0.306;
+
 	/** Astronomical Unit (m) */
 	public static final double AU = 1.495978707E11;
 
@@ -23,11 +23,19 @@ public final class MagnitudeEquations {
 	 */
 	public static double calculateApparentMagnitude(double radiusInSol, double temperature) {
 		// Calculate luminosity relative to Sun
-		double luminosity = Math.pow(radiusInSol, 2)
-				* Math.pow(temperature / SolarSystemConstants.SOLAR_TEMPERATURE, 4);
+		double luminosity = ThermalEquations.calculateScaledLuminosity(radiusInSol, temperature);
+		return calculateApparentMagnitude(luminosity);
+	}
 
-		// Calculate apparent magnitude
+	/**
+	 * Calculates the apparent magnitude, as seen from a fixed distance of 1 AU, of
+	 * a star with the given luminosity.
+	 * 
+	 * @param luminosityInSol the star's luminosity in solar units
+	 * @return the apparent magnitude
+	 */
+	public static double calculateApparentMagnitude(double luminosityInSol) {
 		// M = -2.5 log10(L/L☉) + M☉
-		return -2.5 * Math.log10(luminosity) + SolarSystemConstants.SOLAR_APPARENT_MAG;
+		return -2.5 * Math.log10(luminosityInSol) + SolarSystemConstants.SOLAR_APPARENT_MAG;
 	}
 }
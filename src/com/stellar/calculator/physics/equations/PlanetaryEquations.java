@@ -0,0 +1,63 @@
+package com.stellar.calculator.physics.equations;
+
+import com.stellar.calculator.physics.constants.PhysicalConstants;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+
+/**
+ * Planetary physics calculations: equilibrium temperatures and the Earth
+ * Similarity Index.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class PlanetaryEquations {
+
+	private PlanetaryEquations() {
+	}
+
+	/**
+	 * Calculates the equilibrium temperature of a rapidly rotating planet, at
+	 * which it radiates as much as it absorbs: T = (S(1 - A) / 4σ)^¼.
+	 *
+	 * @param irradiance the incident radiation at the planet's orbit in W/m²
+	 * @param bondAlbedo the fraction of incident radiation reflected, between 0
+	 *                   and 1
+	 * @return the equilibrium temperature in Kelvin
+	 */
+	public static double calculateEquilibriumTemperature(double irradiance, double bondAlbedo) {
+		return Math.pow(irradiance * (1 - bondAlbedo) / (4 * PhysicalConstants.STEFAN_BOLTZMANN), 0.25);
+	}
+
+	/**
+	 * Calculates the Earth Similarity Index (ESI) of a single property,
+	 * (1 - |(x - x₀) / (x + x₀)|)^w, where x₀ is Earth's value.
+	 *
+	 * @param value     the planet's value
+	 * @param reference Earth's value
+	 * @param exponent  the weight exponent of the property
+	 * @return the similarity, between 0 (dissimilar) and 1 (identical)
+	 */
+	public static double calculateSimilarity(double value, double reference, double exponent) {
+		return Math.pow(1 - Math.abs((value - reference) / (value + reference)), exponent);
+	}
+
+	/**
+	 * Converts a mass in solar masses to Earth masses.
+	 *
+	 * @param massInSol the mass in solar masses
+	 * @return the mass in Earth masses
+	 */
+	public static double toEarthMasses(double massInSol) {
+		return massInSol * SolarSystemConstants.SOLAR_MASS / SolarSystemConstants.EARTH_MASS;
+	}
+
+	/**
+	 * Converts a radius in solar radii to Earth radii.
+	 *
+	 * @param radiusInSol the radius in solar radii
+	 * @return the radius in Earth radii
+	 */
+	public static double toEarthRadii(double radiusInSol) {
+		return radiusInSol * SolarSystemConstants.SOLAR_RADIUS / SolarSystemConstants.EARTH_RADIUS;
+	}
+}
@@ -24,7 +24,18 @@ public final class ThermalEquations {
 	 * @return the irradiance in W/m²
 	 */
 	public static double calculateIrradianceAtDistance(double radiusInSol, double temperature, double distanceInAU) {
-		double totalFlux = calculateRadiantFlux(radiusInSol, temperature);
+		return calculateIrradianceFromFlux(calculateRadiantFlux(radiusInSol, temperature), distanceInAU);
+	}
+
+	/**
+	 * Calculates the incident radiation at a specific distance from a source of
+	 * known total radiant flux.
+	 *
+	 * @param totalFlux    the total radiant flux in watts
+	 * @param distanceInAU the distance in astronomical units
+	 * @return the irradiance in W/m²
+	 */
+	public static double calculateIrradianceFromFlux(double totalFlux, double distanceInAU) {
 		double distance = distanceInAU * SolarSystemConstants.AU; // Convert to meters
 		double surfaceArea = 4 * Math.PI * Math.pow(distance, 2);
 		return totalFlux / surfaceArea;
@@ -42,4 +53,29 @@ public final class ThermalEquations {
 		double surfaceArea = 4 * Math.PI * Math.pow(radius, 2);
 		return PhysicalConstants.STEFAN_BOLTZMANN * surfaceArea * Math.pow(temperature, 4);
 	}
+
+	/**
+	 * Calculates a star's luminosity relative to the Sun from the scaling relation
+	 * L/L☉ = (R/R☉)²(T/T☉)⁴. Unlike the Stefan-Boltzmann flux, this depends only on
+	 * the solar reference temperature.
+	 *
+	 * @param radiusInSol the star radius in solar radii
+	 * @param temperature the surface temperature in Kelvin
+	 * @return the scaled luminosity in solar units
+	 */
+	public static double calculateScaledLuminosity(double radiusInSol, double temperature) {
+		return radiusInSol * radiusInSol * Math.pow(temperature / SolarSystemConstants.SOLAR_TEMPERATURE, 4);
+	}
+
+	/**
+	 * Calculates the distance at which a planet receives the same irradiance as
+	 * Earth does from the Sun, d = √((R/R☉)²(T/T☉)⁴).
+	 *
+	 * @param radiusInSol the star radius in solar radii
+	 * @param temperature the surface temperature in Kelvin
+	 * @return the Earth-equivalent distance in AU
+	 */
+	public static double calculateEarthEquivalentDistance(double radiusInSol, double temperature) {
+		return Math.sqrt(calculateScaledLuminosity(radiusInSol, temperature));
+	}
 }
@@ -0,0 +1,125 @@
+package com.stellar.calculator.physics.equations;
+
+import com.stellar.calculator.physics.constants.PhysicalConstants;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementations of the array kernels in {@link VectorizedEquations},
+ * written against the incubating Vector API.
+ *
+ * <p>
+ * This is the only class that references {@code jdk.incubator.vector}; it is
+ * loaded only after {@link VectorizedEquations} has verified that the module is
+ * present. Each kernel processes full vectors and finishes the remaining tail
+ * elements with the corresponding scalar equation. Outputs may alias inputs.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+final class VectorKernels {
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	private static final double FOUR_PI = 4 * Math.PI;
+	private static final double RADIANS_TO_DEGREES = 180.0 / Math.PI;
+
+	private VectorKernels() {
+	}
+
+	static int laneCount() {
+		return SPECIES.length();
+	}
+
+	static void radiantFlux(double[] radiusInSol, double[] temperature, double[] out, int length) {
+		int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			var r = DoubleVector.fromArray(SPECIES, radiusInSol, i).mul(SolarSystemConstants.SOLAR_RADIUS);
+			var t = DoubleVector.fromArray(SPECIES, temperature, i);
+			var t2 = t.mul(t);
+			r.mul(r).mul(FOUR_PI).mul(PhysicalConstants.STEFAN_BOLTZMANN).mul(t2.mul(t2)).intoArray(out, i);
+		}
+		for (; i < length; i++) {
+			out[i] = ThermalEquations.calculateRadiantFlux(radiusInSol[i], temperature[i]);
+		}
+	}
+
+	static void irradianceAtDistance(double[] radiusInSol, double[] temperature, double[] distanceInAU, double[] out,
+			int length) {
+		int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			var r = DoubleVector.fromArray(SPECIES, radiusInSol, i).mul(SolarSystemConstants.SOLAR_RADIUS);
+			var t = DoubleVector.fromArray(SPECIES, temperature, i);
+			var d = DoubleVector.fromArray(SPECIES, distanceInAU, i).mul(SolarSystemConstants.AU);
+			var t2 = t.mul(t);
+			var flux = r.mul(r).mul(FOUR_PI).mul(PhysicalConstants.STEFAN_BOLTZMANN).mul(t2.mul(t2));
+			flux.div(d.mul(d).mul(FOUR_PI)).intoArray(out, i);
+		}
+		for (; i < length; i++) {
+			out[i] = ThermalEquations.calculateIrradianceAtDistance(radiusInSol[i], temperature[i], distanceInAU[i]);
+		}
+	}
+
+	static void irradianceAtDistance(double[] radiusInSol, double[] temperature, double distanceInAU, double[] out,
+			int length) {
+		double d = distanceInAU * SolarSystemConstants.AU;
+		double surfaceArea = FOUR_PI * (d * d);
+		int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			var r = DoubleVector.fromArray(SPECIES, radiusInSol, i).mul(SolarSystemConstants.SOLAR_RADIUS);
+			var t = DoubleVector.fromArray(SPECIES, temperature, i);
+			var t2 = t.mul(t);
+			var flux = r.mul(r).mul(FOUR_PI).mul(PhysicalConstants.STEFAN_BOLTZMANN).mul(t2.mul(t2));
+			flux.div(surfaceArea).intoArray(out, i);
+		}
+		for (; i < length; i++) {
+			out[i] = ThermalEquations.calculateIrradianceAtDistance(radiusInSol[i], temperature[i], distanceInAU);
+		}
+	}
+
+	static void orbitalPeriod(double[] stellarMass, double[] orbitRadius, double[] out, int length) {
+		int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			var r = DoubleVector.fromArray(SPECIES, orbitRadius, i).mul(SolarSystemConstants.AU);
+			var m = DoubleVector.fromArray(SPECIES, stellarMass, i).mul(SolarSystemConstants.SOLAR_MASS);
+			r.mul(r).mul(r).div(m.mul(PhysicalConstants.G)).sqrt().mul(2 * Math.PI).intoArray(out, i);
+		}
+		for (; i < length; i++) {
+			out[i] = OrbitalEquations.calculatePeriod(stellarMass[i], orbitRadius[i]);
+		}
+	}
+
+	static void angularSize(double[] radiusInSol, double[] distanceInAU, double[] out, int length) {
+		int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			var r = DoubleVector.fromArray(SPECIES, radiusInSol, i).mul(SolarSystemConstants.SOLAR_RADIUS);
+			var d = DoubleVector.fromArray(SPECIES, distanceInAU, i).mul(SolarSystemConstants.AU);
+			r.div(d).lanewise(VectorOperators.ATAN).mul(RADIANS_TO_DEGREES).mul(2.0).intoArray(out, i);
+		}
+		for (; i < length; i++) {
+			out[i] = GeometricEquations.calculateAngularSize(radiusInSol[i], distanceInAU[i]);
+		}
+	}
+
+	static void apparentMagnitude(double[] radiusInSol, double[] temperature, double[] out, int length) {
+		int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			var r = DoubleVector.fromArray(SPECIES, radiusInSol, i);
+			var t = DoubleVector.fromArray(SPECIES, temperature, i).div(SolarSystemConstants.SOLAR_TEMPERATURE);
+			var t2 = t.mul(t);
+			r.mul(r).mul(t2.mul(t2)).lanewise(VectorOperators.LOG10).mul(-2.5)
+					.add(SolarSystemConstants.SOLAR_APPARENT_MAG).intoArray(out, i);
+		}
+		for (; i < length; i++) {
+			out[i] = MagnitudeEquations.calculateApparentMagnitude(radiusInSol[i], temperature[i]);
+		}
+	}
+}
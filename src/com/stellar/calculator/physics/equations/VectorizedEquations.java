@@ -0,0 +1,211 @@
+package com.stellar.calculator.physics.equations;
+
+import java.util.Objects;
+
+/**
+ * Array forms of the physics equations, for processing whole catalog columns
+ * at once.
+ *
+ * <p>
+ * When the {@code jdk.incubator.vector} module is available at runtime (e.g.
+ * with {@code --add-modules jdk.incubator.vector}) and the CPU offers at least
+ * two double lanes, the kernels use SIMD instructions through the Vector API.
+ * Otherwise they fall back to calling the scalar equations element by element.
+ * Setting the system property {@code stellar.vector.disable} to {@code true}
+ * forces the scalar fallback.
+ *
+ * <p>
+ * The vectorized kernels evaluate the same formulas with small integer powers
+ * expanded into multiplications, so results may differ from the scalar
+ * equations in the last bits. They agree within {@link #MAX_ULP_ERROR} units in
+ * the last place of the larger of the two results. Apparent magnitudes are the
+ * sum of two terms of opposite sign and cancel to nearly zero for stars about
+ * as bright as the Sun seen from 1 AU, where units in the last place of the
+ * result say nothing about its accuracy; they agree within
+ * {@link #MAX_ULP_ERROR} units in the last place or
+ * {@link #MAX_MAGNITUDE_ERROR} magnitudes, whichever is larger. The scalar
+ * fallback is bit-identical to the scalar equations.
+ *
+ * <p>
+ * All kernels read the first <b>length</b> elements of their input arrays and
+ * write the first <b>length</b> elements of <b>out</b>; <b>out</b> may be the
+ * same array as one of the inputs.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see ThermalEquations
+ * @see OrbitalEquations
+ * @see GeometricEquations
+ * @see MagnitudeEquations
+ */
+public final class VectorizedEquations {
+
+	/**
+	 * Maximum disagreement, in units in the last place, between a vectorized
+	 * kernel and the corresponding scalar equation.
+	 */
+	public static final int MAX_ULP_ERROR = 8;
+
+	/**
+	 * Maximum absolute disagreement, in magnitudes, between the apparent
+	 * magnitude kernel and the scalar equation for results near zero; a few
+	 * units in the last place of the solar apparent magnitude.
+	 */
+	public static final double MAX_MAGNITUDE_ERROR = 1e-13;
+
+	private static final boolean VECTORIZED = detectVectorSupport();
+
+	private VectorizedEquations() {
+	}
+
+	/**
+	 * Checks whether the kernels run on the Vector API or on the scalar fallback.
+	 *
+	 * @return {@code true} if SIMD kernels are in use
+	 */
+	public static boolean isVectorized() {
+		return VECTORIZED;
+	}
+
+	/**
+	 * Calculates the total radiant flux of each star using the Stefan-Boltzmann
+	 * law.
+	 *
+	 * @param radiusInSol the star radii in solar radii
+	 * @param temperature the surface temperatures in Kelvin
+	 * @param out         receives the total radiant flux in watts
+	 * @param length      the number of elements to process
+	 * @see ThermalEquations#calculateRadiantFlux(double, double)
+	 */
+	public static void calculateRadiantFlux(double[] radiusInSol, double[] temperature, double[] out, int length) {
+		checkLength(length, radiusInSol, temperature, out);
+		if (VECTORIZED) {
+			VectorKernels.radiantFlux(radiusInSol, temperature, out, length);
+			return;
+		}
+		for (int i = 0; i < length; i++) {
+			out[i] = ThermalEquations.calculateRadiantFlux(radiusInSol[i], temperature[i]);
+		}
+	}
+
+	/**
+	 * Calculates the incident radiation at the given distance from each star.
+	 *
+	 * @param radiusInSol  the star radii in solar radii
+	 * @param temperature  the surface temperatures in Kelvin
+	 * @param distanceInAU the distances in astronomical units
+	 * @param out          receives the irradiance in W/m²
+	 * @param length       the number of elements to process
+	 * @see ThermalEquations#calculateIrradianceAtDistance(double, double, double)
+	 */
+	public static void calculateIrradianceAtDistance(double[] radiusInSol, double[] temperature,
+			double[] distanceInAU, double[] out, int length) {
+		checkLength(length, radiusInSol, temperature, distanceInAU, out);
+		if (VECTORIZED) {
+			VectorKernels.irradianceAtDistance(radiusInSol, temperature, distanceInAU, out, length);
+			return;
+		}
+		for (int i = 0; i < length; i++) {
+			out[i] = ThermalEquations.calculateIrradianceAtDistance(radiusInSol[i], temperature[i], distanceInAU[i]);
+		}
+	}
+
+	/**
+	 * Calculates the incident radiation at a common distance from each star.
+	 *
+	 * @param radiusInSol  the star radii in solar radii
+	 * @param temperature  the surface temperatures in Kelvin
+	 * @param distanceInAU the distance in astronomical units, shared by all stars
+	 * @param out          receives the irradiance in W/m²
+	 * @param length       the number of elements to process
+	 * @see ThermalEquations#calculateIrradianceAtDistance(double, double, double)
+	 */
+	public static void calculateIrradianceAtDistance(double[] radiusInSol, double[] temperature, double distanceInAU,
+			double[] out, int length) {
+		checkLength(length, radiusInSol, temperature, out);
+		if (VECTORIZED) {
+			VectorKernels.irradianceAtDistance(radiusInSol, temperature, distanceInAU, out, length);
+			return;
+		}
+		for (int i = 0; i < length; i++) {
+			out[i] = ThermalEquations.calculateIrradianceAtDistance(radiusInSol[i], temperature[i], distanceInAU);
+		}
+	}
+
+	/**
+	 * Calculates orbital periods using Kepler's Third Law.
+	 *
+	 * @param stellarMass the masses of the central bodies in solar masses
+	 * @param orbitRadius the orbital radii in AU
+	 * @param out         receives the orbital periods in seconds
+	 * @param length      the number of elements to process
+	 * @see OrbitalEquations#calculatePeriod(double, double)
+	 */
+	public static void calculatePeriod(double[] stellarMass, double[] orbitRadius, double[] out, int length) {
+		checkLength(length, stellarMass, orbitRadius, out);
+		if (VECTORIZED) {
+			VectorKernels.orbitalPeriod(stellarMass, orbitRadius, out, length);
+			return;
+		}
+		for (int i = 0; i < length; i++) {
+			out[i] = OrbitalEquations.calculatePeriod(stellarMass[i], orbitRadius[i]);
+		}
+	}
+
+	/**
+	 * Calculates the angular size of each star as seen from the given distance.
+	 *
+	 * @param radiusInSol  the stellar radii in solar radii
+	 * @param distanceInAU the distances in astronomical units
+	 * @param out          receives the angular sizes in degrees
+	 * @param length       the number of elements to process
+	 * @see GeometricEquations#calculateAngularSize(double, double)
+	 */
+	public static void calculateAngularSize(double[] radiusInSol, double[] distanceInAU, double[] out, int length) {
+		checkLength(length, radiusInSol, distanceInAU, out);
+		if (VECTORIZED) {
+			VectorKernels.angularSize(radiusInSol, distanceInAU, out, length);
+			return;
+		}
+		for (int i = 0; i < length; i++) {
+			out[i] = GeometricEquations.calculateAngularSize(radiusInSol[i], distanceInAU[i]);
+		}
+	}
+
+	/**
+	 * Calculates the apparent magnitude of each star as seen from 1 AU.
+	 *
+	 * @param radiusInSol the star radii in solar radii
+	 * @param temperature the star temperatures in K
+	 * @param out         receives the apparent magnitudes
+	 * @param length      the number of elements to process
+	 * @see MagnitudeEquations#calculateApparentMagnitude(double, double)
+	 */
+	public static void calculateApparentMagnitude(double[] radiusInSol, double[] temperature, double[] out,
+			int length) {
+		checkLength(length, radiusInSol, temperature, out);
+		if (VECTORIZED) {
+			VectorKernels.apparentMagnitude(radiusInSol, temperature, out, length);
+			return;
+		}
+		for (int i = 0; i < length; i++) {
+			out[i] = MagnitudeEquations.calculateApparentMagnitude(radiusInSol[i], temperature[i]);
+		}
+	}
+
+	private static void checkLength(int length, double[]... arrays) {
+		for (double[] array : arrays) {
+			Objects.checkFromToIndex(0, length, array.length);
+		}
+	}
+
+	private static boolean detectVectorSupport() {
+		if (Boolean.getBoolean("stellar.vector.disable")) {
+			return false;
+		}
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+			return false;
+		}
+		return VectorKernels.laneCount() >= 2;
+	}
+}
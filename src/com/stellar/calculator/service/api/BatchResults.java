@@ -0,0 +1,75 @@
+package com.stellar.calculator.service.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.ResultColumns;
+
+/**
+ * The output of a batch calculation: one set of {@link ResultColumns} per
+ * calculator, in registration order, each holding one row per star of the input
+ * batch.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class BatchResults {
+	private final List<ResultColumns> columns;
+	private final int size;
+
+	/**
+	 * Creates batch results from calculator output columns.
+	 *
+	 * @param columns the output columns, one entry per calculator
+	 * @param size    the number of rows (stars) in the batch
+	 * @throws NullPointerException     if <b>columns</b> is {@code null}
+	 * @throws IllegalArgumentException if any column does not hold exactly
+	 *                                  <b>size</b> rows
+	 */
+	public BatchResults(List<? extends ResultColumns> columns, int size) {
+		this.columns = List.copyOf(Objects.requireNonNull(columns, "columns cannot be null"));
+		this.size = size;
+		for (ResultColumns column : this.columns) {
+			if (column.size() != size) {
+				throw new IllegalArgumentException("column holds " + column.size() + " rows, expected " + size);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of rows (stars) in the batch.
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the output columns of every calculator, in registration order.
+	 *
+	 * @return the output columns
+	 */
+	public List<ResultColumns> columns() {
+		return columns;
+	}
+
+	/**
+	 * Materializes the results of a single star, in the same order as
+	 * {@link CalculationService#calculateAll} would return them.
+	 *
+	 * @param row the row index of the star
+	 * @return the calculation results for the star at <b>row</b>
+	 * @throws IndexOutOfBoundsException if <b>row</b> is not in {@code [0, size)}
+	 */
+	public List<CalculationResult> resultsFor(int row) {
+		Objects.checkIndex(row, size);
+		List<CalculationResult> results = new ArrayList<>(columns.size());
+		for (ResultColumns column : columns) {
+			results.add(column.toResult(row));
+		}
+		return results;
+	}
+}
@@ -1,10 +1,16 @@
 package com.stellar.calculator.service.api;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 import com.stellar.calculator.calculation.api.CalculationResult;
 import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.ObjectResultColumn;
 import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
 
 /**
  * Defines the contract for calculation services. Services coordinate multiple
@@ -23,10 +29,98 @@ public interface CalculationService {
 	 */
 	List<CalculationResult> calculateAll(Star star);
 
+	/**
+	 * Performs only the calculations producing the requested result types for a
+	 * star. A registered calculator is requested if its results are instances of
+	 * any of the types, so {@code CalculationResult.class} requests all of them.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #calculateAll(Star)} and drops
+	 * the results that were not requested; implementations that know the
+	 * dependencies of their calculators should override it to run only the
+	 * requested calculators and the ones they depend on.
+	 *
+	 * @param star        the star to analyze
+	 * @param resultTypes the result types to calculate
+	 * @return the requested results, in registration order
+	 * @throws NullPointerException     if any argument is {@code null}
+	 * @throws IllegalArgumentException if <b>star</b> has invalid parameters
+	 */
+	default List<CalculationResult> calculate(Star star, Set<Class<? extends CalculationResult>> resultTypes) {
+		Objects.requireNonNull(resultTypes, "resultTypes cannot be null");
+		return calculateAll(star).stream()
+				.filter(result -> resultTypes.stream().anyMatch(type -> type.isInstance(result)))
+				.toList();
+	}
+
+	/**
+	 * Performs all registered calculations for every star of a batch.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #calculateAll(Star)} once per star
+	 * and stores the result objects; implementations with column-oriented
+	 * calculators should override it.
+	 *
+	 * @param batch the stars to analyze
+	 * @return the results, one column set per calculator
+	 * @throws NullPointerException     if <b>batch</b> is {@code null}
+	 * @throws IllegalArgumentException if any star has invalid parameters
+	 */
+	default BatchResults calculateBatch(StarBatch batch) {
+		return collect(batch, this::calculateAll);
+	}
+
+	/**
+	 * Performs only the calculations producing the requested result types for
+	 * every star of a batch; see {@link #calculate(Star, Set)}.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #calculate(Star, Set)} once per
+	 * star and stores the result objects; implementations with column-oriented
+	 * calculators should override it.
+	 *
+	 * @param batch       the stars to analyze
+	 * @param resultTypes the result types to calculate
+	 * @return the results, one column set per requested calculator
+	 * @throws NullPointerException     if any argument is {@code null}
+	 * @throws IllegalArgumentException if any star has invalid parameters
+	 */
+	default BatchResults calculateBatch(StarBatch batch, Set<Class<? extends CalculationResult>> resultTypes) {
+		Objects.requireNonNull(resultTypes, "resultTypes cannot be null");
+		return collect(batch, star -> calculate(star, resultTypes));
+	}
+
+	private static BatchResults collect(StarBatch batch, Function<Star, List<CalculationResult>> calculation) {
+		Objects.requireNonNull(batch, "batch cannot be null");
+		int n = batch.size();
+		List<ObjectResultColumn> columns = new ArrayList<>();
+		for (int row = 0; row < n; row++) {
+			List<CalculationResult> results = calculation.apply(batch.star(row));
+			if (row == 0) {
+				for (int c = 0; c < results.size(); c++) {
+					columns.add(new ObjectResultColumn(n));
+				}
+			}
+			for (int c = 0; c < columns.size(); c++) {
+				columns.get(c).values()[row] = results.get(c);
+			}
+		}
+		columns.forEach(column -> column.setSize(n));
+		return new BatchResults(columns, n);
+	}
+
 	/**
 	 * Registers a new calculator with the service.
 	 *
 	 * @param calculator the calculator to add
 	 */
 	void registerCalculator(Calculator<Star, ? extends CalculationResult> calculator);
+
+	/**
+	 * Returns the result types of the registered calculators, the types
+	 * {@link #calculate(Star, Set)} can be asked for.
+	 *
+	 * @return the result types, in registration order
+	 */
+	List<Class<? extends CalculationResult>> getResultTypes();
 }
@@ -0,0 +1,330 @@
+package com.stellar.calculator.service.batching;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.diagnostics.SlowStarEvent;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.service.api.BatchResults;
+import com.stellar.calculator.service.api.CalculationService;
+
+/**
+ * A calculation service that coalesces concurrent single-star calls into
+ * batches, so that many small requests share the column-oriented
+ * {@link CalculationService#calculateBatch(StarBatch)} path of the wrapped
+ * service.
+ *
+ * <p>
+ * The first star arriving after a batch was dispatched opens a window. Stars
+ * arriving while it is open join the same batch, which is dispatched when the
+ * window closes or as soon as it holds the maximum batch size, whichever comes
+ * first. A caller therefore waits at most one window plus the time it takes to
+ * calculate one batch. Batches run on virtual threads, so a slow batch does not
+ * hold up the next window.
+ *
+ * <p>
+ * If a batch fails as a whole, its stars are recalculated one at a time with
+ * {@link CalculationService#calculateAll(Star)} so that a single failing star
+ * only fails its own caller. Results of coalesced stars come from the batch
+ * calculators and may differ from {@code calculateAll} in the last few units of
+ * precision.
+ *
+ * <p>
+ * Coalesced stars never pass through {@code calculateAll} of the wrapped
+ * service, so the coalescer reports a {@link SlowStarEvent} per star itself.
+ * Its duration runs from the call until the results are available, including
+ * the wait for the window, which is the latency the caller sees.
+ *
+ * <p>
+ * Batch calculations, calculations of selected result types and calculator
+ * registration go straight to the wrapped service, which must be safe for
+ * concurrent use.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class CoalescingCalculationService implements CalculationService, AutoCloseable {
+	private final CalculationService delegate;
+	private final long windowNanos;
+	private final int maxBatchSize;
+	private final ScheduledExecutorService timer;
+	private final ExecutorService executor;
+
+	// Guarded by this.
+	private List<PendingStar> pending;
+	private ScheduledFuture<?> windowClose;
+	private boolean closed;
+
+	/**
+	 * Creates a coalescer with a window of one millisecond and a maximum batch
+	 * size of 256 stars.
+	 *
+	 * @param delegate the service calculating the batches
+	 * @throws NullPointerException if <b>delegate</b> is {@code null}
+	 */
+	public CoalescingCalculationService(CalculationService delegate) {
+		this(delegate, Duration.ofMillis(1), 256);
+	}
+
+	/**
+	 * Creates a coalescer with the given window and maximum batch size.
+	 *
+	 * @param delegate     the service calculating the batches
+	 * @param window       the longest time a star waits for others to join its
+	 *                     batch
+	 * @param maxBatchSize the number of stars that dispatches a batch without
+	 *                     waiting for the window to close
+	 * @throws NullPointerException     if <b>delegate</b> or <b>window</b> is
+	 *                                  {@code null}
+	 * @throws IllegalArgumentException if <b>window</b> is negative or
+	 *                                  <b>maxBatchSize</b> is not positive
+	 */
+	public CoalescingCalculationService(CalculationService delegate, Duration window, int maxBatchSize) {
+		this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+		Objects.requireNonNull(window, "window cannot be null");
+		if (window.isNegative()) {
+			throw new IllegalArgumentException("window cannot be negative");
+		}
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("maxBatchSize must be positive");
+		}
+		this.windowNanos = window.toNanos();
+		this.maxBatchSize = maxBatchSize;
+		this.pending = new ArrayList<>(maxBatchSize);
+		this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+				.name("calculation-coalescer")
+				.daemon(true)
+				.factory());
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	/**
+	 * Calculates the star as part of the next batch and waits for its results.
+	 *
+	 * @param star the star to analyze
+	 * @return the list of calculation results
+	 * @throws NullPointerException     if <b>star</b> is {@code null}
+	 * @throws IllegalArgumentException if <b>star</b> has invalid parameters
+	 * @throws IllegalStateException    if the service is closed or the calling
+	 *                                  thread is interrupted while waiting
+	 */
+	@Override
+	public List<CalculationResult> calculateAll(Star star) {
+		try {
+			return calculateAsync(star).get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while waiting for the batch", e);
+		}
+	}
+
+	/**
+	 * Adds the star to the next batch without waiting for it to be calculated.
+	 *
+	 * @param star the star to analyze
+	 * @return a future completed with the calculation results, or exceptionally
+	 *         if the star cannot be calculated
+	 * @throws NullPointerException  if <b>star</b> is {@code null}
+	 * @throws IllegalStateException if the service is closed
+	 */
+	public CompletableFuture<List<CalculationResult>> calculateAsync(Star star) {
+		Objects.requireNonNull(star, "star cannot be null");
+		var future = new CompletableFuture<List<CalculationResult>>();
+		var slowEvent = new SlowStarEvent();
+		slowEvent.begin();
+		List<PendingStar> batch = null;
+		synchronized (this) {
+			if (closed) {
+				throw new IllegalStateException("service is closed");
+			}
+			pending.add(new PendingStar(star, future, slowEvent));
+			if (pending.size() >= maxBatchSize) {
+				batch = takePending();
+			} else if (pending.size() == 1) {
+				windowClose = timer.schedule(this::closeWindow, windowNanos, TimeUnit.NANOSECONDS);
+			}
+		}
+		if (batch != null) {
+			dispatch(batch);
+		}
+		return future;
+	}
+
+	/**
+	 * Calculates the batch with the wrapped service, bypassing the coalescer.
+	 *
+	 * @param batch the stars to analyze
+	 * @return the results of the wrapped service
+	 * @throws NullPointerException if <b>batch</b> is {@code null}
+	 */
+	@Override
+	public BatchResults calculateBatch(StarBatch batch) {
+		return delegate.calculateBatch(batch);
+	}
+
+	/**
+	 * Calculates the requested result types of the batch with the wrapped
+	 * service, bypassing the coalescer.
+	 *
+	 * @param batch       the stars to analyze
+	 * @param resultTypes the result types to calculate
+	 * @return the results of the wrapped service
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	@Override
+	public BatchResults calculateBatch(StarBatch batch, Set<Class<? extends CalculationResult>> resultTypes) {
+		return delegate.calculateBatch(batch, resultTypes);
+	}
+
+	/**
+	 * Calculates the requested result types with the wrapped service, bypassing
+	 * the coalescer.
+	 *
+	 * @param star        the star to analyze
+	 * @param resultTypes the result types to calculate
+	 * @return the results of the wrapped service
+	 * @throws NullPointerException     if any argument is {@code null}
+	 * @throws IllegalArgumentException if <b>star</b> has invalid parameters
+	 */
+	@Override
+	public List<CalculationResult> calculate(Star star, Set<Class<? extends CalculationResult>> resultTypes) {
+		return delegate.calculate(star, resultTypes);
+	}
+
+	/**
+	 * Registers the calculator with the wrapped service.
+	 *
+	 * @param calculator the calculator to add
+	 */
+	@Override
+	public void registerCalculator(Calculator<Star, ? extends CalculationResult> calculator) {
+		delegate.registerCalculator(calculator);
+	}
+
+	/**
+	 * Returns the result types of the wrapped service.
+	 *
+	 * @return the result types of the wrapped service
+	 */
+	@Override
+	public List<Class<? extends CalculationResult>> getResultTypes() {
+		return delegate.getResultTypes();
+	}
+
+	/**
+	 * Stops accepting stars, dispatches the pending batch and waits for all
+	 * dispatched batches to complete.
+	 */
+	@Override
+	public void close() {
+		List<PendingStar> batch;
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			batch = takePending();
+		}
+		timer.shutdownNow();
+		if (!batch.isEmpty()) {
+			dispatch(batch);
+		}
+		executor.close();
+	}
+
+	private void closeWindow() {
+		List<PendingStar> batch;
+		synchronized (this) {
+			batch = takePending();
+		}
+		if (!batch.isEmpty()) {
+			dispatch(batch);
+		}
+	}
+
+	/**
+	 * Detaches the pending stars as a batch and cancels their window. Must be
+	 * called while holding the lock.
+	 */
+	private List<PendingStar> takePending() {
+		List<PendingStar> batch = pending;
+		pending = new ArrayList<>(maxBatchSize);
+		if (windowClose != null) {
+			windowClose.cancel(false);
+			windowClose = null;
+		}
+		return batch;
+	}
+
+	private void dispatch(List<PendingStar> batch) {
+		try {
+			executor.execute(() -> calculate(batch));
+		} catch (RejectedExecutionException e) {
+			// Closed while the batch was being detached; its callers still get results.
+			calculate(batch);
+		}
+	}
+
+	private void calculate(List<PendingStar> batch) {
+		BatchResults results;
+		try {
+			var stars = new StarBatch(batch.size());
+			for (PendingStar star : batch) {
+				stars.add(star.star());
+			}
+			results = delegate.calculateBatch(stars);
+		} catch (RuntimeException e) {
+			batch.forEach(this::calculateAlone);
+			return;
+		}
+		for (int row = 0; row < batch.size(); row++) {
+			PendingStar star = batch.get(row);
+			List<CalculationResult> starResults = results.resultsFor(row);
+			star.slowEvent().complete(star.star(), false);
+			star.future().complete(starResults);
+		}
+	}
+
+	private void calculateAlone(PendingStar star) {
+		List<CalculationResult> results;
+		try {
+			results = delegate.calculateAll(star.star());
+		} catch (RuntimeException e) {
+			star.slowEvent().complete(star.star(), true);
+			star.future().completeExceptionally(e);
+			return;
+		}
+		star.slowEvent().complete(star.star(), false);
+		star.future().complete(results);
+	}
+
+	/**
+	 * A star waiting for its batch, the future of its caller, and the event
+	 * timing its latency.
+	 */
+	private record PendingStar(Star star, CompletableFuture<List<CalculationResult>> future,
+			SlowStarEvent slowEvent) {
+	}
+}
@@ -0,0 +1,34 @@
+package com.stellar.calculator.service.cache;
+
+/**
+ * Snapshot of the counters of a {@link CachingCalculationService}.
+ *
+ * @param hits      the number of lookups answered from the cache
+ * @param misses    the number of lookups that had to be calculated
+ * @param evictions the number of entries removed to respect the size bound
+ * @param size      the number of entries currently cached
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record CacheStatistics(long hits, long misses, long evictions, long size) {
+
+	/**
+	 * Returns the total number of lookups.
+	 *
+	 * @return hits plus misses
+	 */
+	public long requests() {
+		return hits + misses;
+	}
+
+	/**
+	 * Returns the fraction of lookups answered from the cache.
+	 *
+	 * @return the hit rate between {@code 0} and {@code 1}, or {@code 0} if there
+	 *         were no lookups
+	 */
+	public double hitRate() {
+		long requests = requests();
+		return requests == 0 ? 0.0 : (double) hits / requests;
+	}
+}
@@ -0,0 +1,270 @@
+package com.stellar.calculator.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.service.api.BatchResults;
+import com.stellar.calculator.service.api.CalculationService;
+
+/**
+ * A calculation service that remembers the results of recently analyzed stars.
+ * Repeated stars (solar analogues, catalog reference stars, ...) are answered
+ * without recalculating.
+ *
+ * <p>
+ * Stars can optionally be quantized to a number of significant digits before
+ * the lookup. Stars that agree to that precision share one entry, calculated
+ * for the quantized star, so the cached results do not depend on which of them
+ * arrived first.
+ *
+ * <p>
+ * The cache holds at most a fixed number of entries. It is split into
+ * independently locked segments, each evicting its least recently used entry
+ * when full, so concurrent callers only contend when they hit the same
+ * segment. Calculations run outside the locks; two callers missing on the same
+ * star at the same time may both calculate it.
+ *
+ * <p>
+ * Calculations of selected result types are answered from the cached full
+ * results. Batch calculations and calculator registration go straight to the
+ * wrapped service. Registering a calculator clears the cache.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class CachingCalculationService implements CalculationService {
+	private final CalculationService delegate;
+	private final int significantDigits;
+	private final Segment[] segments;
+	private final int segmentMask;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a cache of exact stars in front of the given service.
+	 *
+	 * @param delegate    the service calculating missing results
+	 * @param maximumSize the maximum number of cached stars
+	 * @throws NullPointerException     if <b>delegate</b> is {@code null}
+	 * @throws IllegalArgumentException if <b>maximumSize</b> is not positive
+	 */
+	public CachingCalculationService(CalculationService delegate, int maximumSize) {
+		this(delegate, maximumSize, 0);
+	}
+
+	/**
+	 * Creates a cache in front of the given service that quantizes stars to the
+	 * given precision.
+	 *
+	 * @param delegate          the service calculating missing results
+	 * @param maximumSize       the maximum number of cached stars
+	 * @param significantDigits the number of significant digits mass, radius and
+	 *                          temperature are rounded to, or {@code 0} to cache
+	 *                          exact stars
+	 * @throws NullPointerException     if <b>delegate</b> is {@code null}
+	 * @throws IllegalArgumentException if <b>maximumSize</b> is not positive or
+	 *                                  <b>significantDigits</b> is not between 0
+	 *                                  and 15
+	 */
+	public CachingCalculationService(CalculationService delegate, int maximumSize, int significantDigits) {
+		this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize must be positive");
+		}
+		if (significantDigits < 0 || significantDigits > 15) {
+			throw new IllegalArgumentException("significantDigits must be between 0 and 15");
+		}
+		this.significantDigits = significantDigits;
+
+		int count = segmentCount(maximumSize);
+		this.segments = new Segment[count];
+		this.segmentMask = count - 1;
+		for (int i = 0; i < count; i++) {
+			// Spread the remainder so that the capacities add up to maximumSize.
+			segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+		}
+	}
+
+	/**
+	 * Returns the cached results of the star, calculating and caching them on a
+	 * miss.
+	 *
+	 * @param star the star to analyze
+	 * @return the list of calculation results, not modifiable
+	 * @throws NullPointerException     if <b>star</b> is {@code null}
+	 * @throws IllegalArgumentException if <b>star</b> has invalid parameters
+	 */
+	@Override
+	public List<CalculationResult> calculateAll(Star star) {
+		Objects.requireNonNull(star, "star cannot be null");
+		Star key = quantize(star);
+		Segment segment = segmentFor(key);
+
+		List<CalculationResult> results;
+		synchronized (segment) {
+			results = segment.get(key);
+		}
+		if (results != null) {
+			hits.increment();
+			return results;
+		}
+
+		misses.increment();
+		results = Collections.unmodifiableList(new ArrayList<>(delegate.calculateAll(key)));
+		synchronized (segment) {
+			segment.put(key, results);
+		}
+		return results;
+	}
+
+	/**
+	 * Calculates the batch with the wrapped service, bypassing the cache.
+	 *
+	 * @param batch the stars to analyze
+	 * @return the results of the wrapped service
+	 * @throws NullPointerException if <b>batch</b> is {@code null}
+	 */
+	@Override
+	public BatchResults calculateBatch(StarBatch batch) {
+		return delegate.calculateBatch(batch);
+	}
+
+	/**
+	 * Calculates the requested result types of the batch with the wrapped
+	 * service, bypassing the cache.
+	 *
+	 * @param batch       the stars to analyze
+	 * @param resultTypes the result types to calculate
+	 * @return the results of the wrapped service
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	@Override
+	public BatchResults calculateBatch(StarBatch batch, Set<Class<? extends CalculationResult>> resultTypes) {
+		return delegate.calculateBatch(batch, resultTypes);
+	}
+
+	/**
+	 * Registers the calculator with the wrapped service and clears the cache.
+	 *
+	 * @param calculator the calculator to add
+	 */
+	@Override
+	public void registerCalculator(Calculator<Star, ? extends CalculationResult> calculator) {
+		delegate.registerCalculator(calculator);
+		clear();
+	}
+
+	/**
+	 * Returns the result types of the wrapped service.
+	 *
+	 * @return the result types of the wrapped service
+	 */
+	@Override
+	public List<Class<? extends CalculationResult>> getResultTypes() {
+		return delegate.getResultTypes();
+	}
+
+	/**
+	 * Removes all cached entries. The counters are kept.
+	 */
+	public void clear() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the cache counters. The counters are read without
+	 * stopping concurrent callers, so the snapshot is only approximately
+	 * consistent under load.
+	 *
+	 * @return the current statistics
+	 */
+	public CacheStatistics getStatistics() {
+		long size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size);
+	}
+
+	private Segment segmentFor(Star key) {
+		int h = key.hashCode();
+		return segments[(h ^ (h >>> 16)) & segmentMask];
+	}
+
+	private Star quantize(Star star) {
+		if (significantDigits == 0) {
+			return star;
+		}
+		return new Star(round(star.getMass()), round(star.getRadius()), round(star.getTemperature()));
+	}
+
+	/*
+	 * Rounds to significantDigits. The scale is an exact power of ten applied by
+	 * multiplication or division, so values rounding to the same decimal always
+	 * map to the same double. Values too close to the ends of the double range,
+	 * where the scale or the rounded value would overflow, are not quantized;
+	 * neither are NaN and infinities.
+	 */
+	private double round(double value) {
+		if (!(value > 0) || value == Double.POSITIVE_INFINITY) {
+			return value;
+		}
+		int exponent = (int) Math.floor(Math.log10(value)) - significantDigits + 1;
+		double rounded;
+		if (exponent < 0) {
+			double scale = Math.pow(10, -exponent);
+			rounded = Math.round(value * scale) / scale;
+		} else {
+			double scale = Math.pow(10, exponent);
+			rounded = Math.round(value / scale) * scale;
+		}
+		return rounded > 0 && rounded < Double.POSITIVE_INFINITY ? rounded : value;
+	}
+
+	private static int segmentCount(int maximumSize) {
+		int target = Math.min(4 * Runtime.getRuntime().availableProcessors(), maximumSize);
+		return Integer.highestOneBit(Math.max(1, target));
+	}
+
+	/*
+	 * An access-ordered map evicting its eldest entry beyond its capacity. Guarded
+	 * by its own monitor.
+	 */
+	private final class Segment extends LinkedHashMap<Star, List<CalculationResult>> {
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+
+		Segment(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Star, List<CalculationResult>> eldest) {
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
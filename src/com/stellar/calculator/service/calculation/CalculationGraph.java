@@ -0,0 +1,396 @@
+package com.stellar.calculator.service.calculation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
+import com.stellar.calculator.diagnostics.CalculatorEvent;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.metrics.CalculatorMetrics;
+
+/**
+ * The dependency graph of a list of calculators, built from the quantities
+ * each {@link ContextualCalculator} requires and produces.
+ *
+ * <p>
+ * A calculator depends on the first registered calculator producing each
+ * quantity it requires. Required quantities that no calculator produces are
+ * computed up front. Calculators can then run either one after another in
+ * topological order, or concurrently with each one waiting only on its own
+ * dependencies.
+ *
+ * <p>
+ * A {@link #select(Set) selection} is the subgraph of the calculators
+ * producing some requested result types together with everything they depend
+ * on. Selections are built once per set of types and cached.
+ *
+ * <p>
+ * Given the {@link CalculatorMetrics} of its calculators, the graph times every
+ * call and counts the calls that throw. Every call is also reported as a
+ * {@link CalculatorEvent} to Flight Recorder.
+ *
+ * <p>
+ * Graphs are immutable and safe to share between threads.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+final class CalculationGraph {
+	private static final int[] NO_DEPENDENCIES = new int[0];
+
+	private final List<Calculator<Star, ? extends CalculationResult>> calculators;
+	private final int[][] dependencies;
+	private final int[] order;
+	private final DerivedQuantity[] unproduced;
+	private final DerivedQuantity[][] produced;
+	private final CalculatorMetrics[] metrics;
+	private final ConcurrentMap<Set<Class<? extends CalculationResult>>, Selection> selections = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds the graph of the given calculators, without metrics.
+	 *
+	 * @param calculators the calculators, in registration order
+	 * @throws IllegalArgumentException if the declared dependencies form a cycle
+	 */
+	CalculationGraph(List<Calculator<Star, ? extends CalculationResult>> calculators) {
+		this(calculators, null);
+	}
+
+	/**
+	 * Builds the graph of the given calculators.
+	 *
+	 * @param calculators the calculators, in registration order
+	 * @param metrics     the metrics of each calculator, in the same order, or
+	 *                    {@code null} to run them untimed
+	 * @throws IllegalArgumentException if the declared dependencies form a cycle,
+	 *                                  or <b>metrics</b> does not match the
+	 *                                  calculators
+	 */
+	CalculationGraph(List<Calculator<Star, ? extends CalculationResult>> calculators,
+			List<CalculatorMetrics> metrics) {
+		this.calculators = List.copyOf(calculators);
+		int n = this.calculators.size();
+		if (metrics != null && metrics.size() != n) {
+			throw new IllegalArgumentException("expected metrics for " + n + " calculators, got " + metrics.size());
+		}
+		this.metrics = metrics == null ? null : metrics.toArray(CalculatorMetrics[]::new);
+
+		Map<DerivedQuantity, Integer> producers = new EnumMap<>(DerivedQuantity.class);
+		this.produced = new DerivedQuantity[n][];
+		for (int i = 0; i < n; i++) {
+			Set<DerivedQuantity> closure = closure(produces(this.calculators.get(i)));
+			produced[i] = closure.toArray(DerivedQuantity[]::new);
+			for (DerivedQuantity quantity : closure) {
+				producers.putIfAbsent(quantity, i);
+			}
+		}
+
+		Set<DerivedQuantity> missing = EnumSet.noneOf(DerivedQuantity.class);
+		this.dependencies = new int[n][];
+		for (int i = 0; i < n; i++) {
+			Set<Integer> edges = new TreeSet<>();
+			for (DerivedQuantity quantity : requires(this.calculators.get(i))) {
+				Integer producer = producers.get(quantity);
+				if (producer == null) {
+					missing.add(quantity);
+				} else if (producer != i) {
+					edges.add(producer);
+				}
+			}
+			dependencies[i] = edges.isEmpty() ? NO_DEPENDENCIES
+					: edges.stream().mapToInt(Integer::intValue).toArray();
+		}
+		this.unproduced = missing.toArray(DerivedQuantity[]::new);
+		this.order = sort(dependencies);
+	}
+
+	/**
+	 * Returns the number of calculators in the graph.
+	 *
+	 * @return the number of calculators
+	 */
+	int size() {
+		return order.length;
+	}
+
+	/**
+	 * Returns the subgraph that calculates the requested result types. It holds
+	 * every calculator whose result type is a subtype of a requested type, plus
+	 * the producers of the quantities they require, transitively.
+	 *
+	 * @param resultTypes the requested result types
+	 * @return the selection
+	 * @throws NullPointerException if <b>resultTypes</b> is or contains
+	 *                              {@code null}
+	 */
+	Selection select(Set<Class<? extends CalculationResult>> resultTypes) {
+		Selection selection = selections.get(resultTypes);
+		if (selection == null) {
+			Set<Class<? extends CalculationResult>> key = Set.copyOf(resultTypes);
+			selection = selections.computeIfAbsent(key, this::buildSelection);
+		}
+		return selection;
+	}
+
+	private Selection buildSelection(Set<Class<? extends CalculationResult>> resultTypes) {
+		int n = calculators.size();
+		boolean[] requested = new boolean[n];
+		boolean[] included = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			Class<? extends CalculationResult> type = calculators.get(i).getResultType();
+			requested[i] = resultTypes.stream().anyMatch(requestedType -> requestedType.isAssignableFrom(type));
+		}
+		for (int i = 0; i < n; i++) {
+			if (requested[i]) {
+				include(i, included);
+			}
+		}
+
+		List<Calculator<Star, ? extends CalculationResult>> selected = new ArrayList<>();
+		List<CalculatorMetrics> selectedMetrics = metrics == null ? null : new ArrayList<>();
+		List<Integer> indices = new ArrayList<>();
+		List<Integer> outputs = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			if (!included[i]) {
+				continue;
+			}
+			if (requested[i]) {
+				indices.add(i);
+				outputs.add(selected.size());
+			}
+			selected.add(calculators.get(i));
+			if (selectedMetrics != null) {
+				selectedMetrics.add(metrics[i]);
+			}
+		}
+		return new Selection(indices.stream().mapToInt(Integer::intValue).toArray(),
+				new CalculationGraph(selected, selectedMetrics),
+				outputs.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	private void include(int index, boolean[] included) {
+		if (!included[index]) {
+			included[index] = true;
+			for (int dependency : dependencies[index]) {
+				include(dependency, included);
+			}
+		}
+	}
+
+	/**
+	 * Runs every calculator on the calling thread, in topological order.
+	 *
+	 * @param quantities the quantities of the star to analyze
+	 * @return the results, in registration order
+	 * @throws IllegalArgumentException if the star has invalid parameters
+	 */
+	List<CalculationResult> execute(DerivedQuantities quantities) {
+		prepare(quantities);
+		CalculationResult[] results = new CalculationResult[order.length];
+		for (int i : order) {
+			results[i] = run(i, quantities);
+		}
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Runs independent calculators concurrently on the given executor. Each
+	 * calculator starts as soon as its dependencies have completed.
+	 *
+	 * @param quantities the quantities of the star to analyze
+	 * @param executor   the executor running the calculators
+	 * @return the results, in registration order
+	 * @throws IllegalArgumentException if the star has invalid parameters
+	 */
+	List<CalculationResult> execute(DerivedQuantities quantities, Executor executor) {
+		prepare(quantities);
+		// Safe: the array never escapes and only holds futures of results.
+		@SuppressWarnings("unchecked")
+		CompletableFuture<CalculationResult>[] futures =
+				(CompletableFuture<CalculationResult>[]) new CompletableFuture<?>[order.length];
+		for (int i : order) {
+			int node = i;
+			int[] edges = dependencies[node];
+			if (edges.length == 0) {
+				futures[node] = CompletableFuture.supplyAsync(() -> run(node, quantities), executor);
+			} else {
+				CompletableFuture<?>[] inputs = new CompletableFuture<?>[edges.length];
+				for (int e = 0; e < edges.length; e++) {
+					inputs[e] = futures[edges[e]];
+				}
+				futures[node] = CompletableFuture.allOf(inputs).thenApplyAsync(v -> run(node, quantities), executor);
+			}
+		}
+
+		CalculationResult[] results = new CalculationResult[order.length];
+		for (int i : order) {
+			results[i] = join(futures[i]);
+		}
+		return Arrays.asList(results);
+	}
+
+	private void prepare(DerivedQuantities quantities) {
+		for (DerivedQuantity quantity : unproduced) {
+			quantities.compute(quantity);
+		}
+	}
+
+	private CalculationResult run(int index, DerivedQuantities quantities) {
+		var event = new CalculatorEvent();
+		event.begin();
+		long start = metrics == null ? 0 : System.nanoTime();
+		CalculationResult result;
+		try {
+			result = calculate(index, quantities);
+		} catch (RuntimeException | Error e) {
+			if (metrics != null) {
+				metrics[index].recordFailure(System.nanoTime() - start);
+			}
+			event.complete(calculators.get(index), quantities.star(), true);
+			throw e;
+		}
+		if (metrics != null) {
+			metrics[index].recordSuccess(System.nanoTime() - start);
+		}
+		event.complete(calculators.get(index), quantities.star(), false);
+		return result;
+	}
+
+	private CalculationResult calculate(int index, DerivedQuantities quantities) {
+		Calculator<Star, ? extends CalculationResult> calculator = calculators.get(index);
+		if (calculator instanceof ContextualCalculator<?> contextual) {
+			CalculationResult result = contextual.calculate(quantities);
+			// Leave every declared quantity computed for the dependents.
+			for (DerivedQuantity quantity : produced[index]) {
+				quantities.compute(quantity);
+			}
+			return result;
+		}
+		return calculator.calculate(quantities.star());
+	}
+
+	/**
+	 * The calculators selected for a set of result types.
+	 *
+	 * @param indices the registration indices of the calculators producing the
+	 *                requested types, in ascending order
+	 * @param graph   the subgraph of those calculators and their dependencies
+	 * @param outputs the positions of the requested calculators' results in the
+	 *                results of <b>graph</b>, in the order of <b>indices</b>
+	 */
+	record Selection(int[] indices, CalculationGraph graph, int[] outputs) {
+
+		/**
+		 * Runs the subgraph and keeps the requested results.
+		 *
+		 * @param quantities the quantities of the star to analyze
+		 * @param executor   the executor running the calculators, or
+		 *                   {@code null} to run them on the calling thread
+		 * @return the requested results, in registration order
+		 * @throws IllegalArgumentException if the star has invalid parameters
+		 */
+		List<CalculationResult> execute(DerivedQuantities quantities, Executor executor) {
+			List<CalculationResult> all = executor == null ? graph.execute(quantities)
+					: graph.execute(quantities, executor);
+			if (outputs.length == all.size()) {
+				return all;
+			}
+			CalculationResult[] results = new CalculationResult[outputs.length];
+			for (int i = 0; i < outputs.length; i++) {
+				results[i] = all.get(outputs[i]);
+			}
+			return Arrays.asList(results);
+		}
+	}
+
+	private static CalculationResult join(CompletableFuture<CalculationResult> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	private static Set<DerivedQuantity> closure(Set<DerivedQuantity> quantities) {
+		Set<DerivedQuantity> closure = EnumSet.noneOf(DerivedQuantity.class);
+		for (DerivedQuantity quantity : quantities) {
+			closure.addAll(quantity.closure());
+		}
+		return closure;
+	}
+
+	private static Set<DerivedQuantity> requires(Calculator<Star, ? extends CalculationResult> calculator) {
+		return calculator instanceof ContextualCalculator<?> contextual ? contextual.requires()
+				: Collections.emptySet();
+	}
+
+	private static Set<DerivedQuantity> produces(Calculator<Star, ? extends CalculationResult> calculator) {
+		return calculator instanceof ContextualCalculator<?> contextual ? contextual.produces()
+				: Collections.emptySet();
+	}
+
+	/*
+	 * Kahn's algorithm. Ready calculators are taken in registration order, so a
+	 * list whose producers already come first keeps its order.
+	 */
+	private static int[] sort(int[][] dependencies) {
+		int n = dependencies.length;
+		int[] pending = new int[n];
+		List<List<Integer>> dependents = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			dependents.add(new ArrayList<>());
+		}
+		for (int i = 0; i < n; i++) {
+			pending[i] = dependencies[i].length;
+			for (int dependency : dependencies[i]) {
+				dependents.get(dependency).add(i);
+			}
+		}
+
+		Queue<Integer> ready = new PriorityQueue<>();
+		for (int i = 0; i < n; i++) {
+			if (pending[i] == 0) {
+				ready.add(i);
+			}
+		}
+		int[] order = new int[n];
+		int count = 0;
+		while (!ready.isEmpty()) {
+			int next = ready.poll();
+			order[count++] = next;
+			for (int dependent : dependents.get(next)) {
+				if (--pending[dependent] == 0) {
+					ready.add(dependent);
+				}
+			}
+		}
+		if (count != n) {
+			throw new IllegalArgumentException("calculator dependencies form a cycle");
+		}
+		return order;
+	}
+}
@@ -3,53 +3,133 @@ package com.stellar.calculator.service.calculation;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
-import com.stellar.calculator.calculation.angular.AngularSizeCalculator;
+import com.stellar.calculator.calculation.api.BatchCalculator;
 import com.stellar.calculator.calculation.api.CalculationResult;
 import com.stellar.calculator.calculation.api.Calculator;
-import com.stellar.calculator.calculation.classification.LuminosityClassCalculator;
-import com.stellar.calculator.calculation.classification.SpectralClassCalculator;
-import com.stellar.calculator.calculation.luminosity.LuminosityCalculator;
-import com.stellar.calculator.calculation.magnitude.ApparentMagnitudeCalculator;
-import com.stellar.calculator.calculation.orbital.OrbitalPeriodCalculator;
-import com.stellar.calculator.calculation.radiation.EarthEquivalentDistanceCalculator;
-import com.stellar.calculator.calculation.radiation.IrradianceCalculator;
-import com.stellar.calculator.calculation.thermal.HabitableZoneCalculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.calculation.api.ContextualCalculator;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.LazyCalculator;
+import com.stellar.calculator.calculation.api.ResultColumns;
+import com.stellar.calculator.diagnostics.BatchCalculatorEvent;
+import com.stellar.calculator.diagnostics.CalculateAllEvent;
+import com.stellar.calculator.diagnostics.SlowStarEvent;
 import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.service.api.BatchResults;
 import com.stellar.calculator.service.api.CalculationService;
+import com.stellar.calculator.service.metrics.CalculatorMetrics;
+import com.stellar.calculator.service.metrics.MetricsRegistry;
 
 /**
  * Implementation of the calculation service. Manages a collection of
- * calculators and executes them in sequence.
+ * calculators and executes them in dependency order.
+ *
+ * <p>
+ * The default calculators are discovered with {@link ServiceLoader} from the
+ * {@link CalculatorProvider}s of the module path (or class path), in the order
+ * the providers are declared. Each is registered as a {@link LazyCalculator},
+ * so a calculator class is loaded and instantiated only when the calculator
+ * first runs (or its metrics are registered); a process that only needs some
+ * results never loads the other calculators.
+ *
+ * <p>
+ * Every calculator is paired with a {@link BatchCalculator} used by
+ * {@link #calculateBatch(StarBatch)}. The default calculators come with
+ * column-oriented batch implementations; calculators registered without one
+ * are adapted with {@link BatchCalculator#adapt}.
+ *
+ * <p>
+ * {@link #calculateAll(Star)} shares one {@link DerivedQuantities} between all
+ * {@link ContextualCalculator}s, so intermediates such as luminosity and the
+ * Earth-equivalent distance are computed once per star. The quantities each
+ * calculator requires and produces form a dependency graph. By default the
+ * calculators run on the calling thread in dependency order; given an
+ * {@link Executor}, independent calculators run concurrently and each one waits
+ * only for the producers of its inputs, so the latency of a star follows the
+ * critical path rather than the sum of all calculators.
+ *
+ * <p>
+ * {@link #calculate(Star, Set)} and {@link #calculateBatch(StarBatch, Set)}
+ * run only the calculators producing the requested result types. For single
+ * stars the calculators those depend on run as well, but only the requested
+ * results are returned; batch calculators are self-contained and run alone.
+ * The selected subgraph is cached per set of types.
+ *
+ * <p>
+ * Given a {@link MetricsRegistry}, every calculator call of
+ * {@link #calculateAll(Star)} and every batch calculator call of
+ * {@link #calculateBatch(StarBatch)} is counted and timed in the registry.
+ * Without one, calculators run untimed.
+ *
+ * <p>
+ * Both paths report to Flight Recorder: {@link CalculateAllEvent} and
+ * {@link SlowStarEvent} per star, and {@link BatchCalculatorEvent} per batch
+ * calculator call. Batches carry no per-star events; a coalescing front end
+ * reports the latency of its stars itself.
  *
  * @author Ahmed Ghannam
  * @version 1.0
  */
 public class StellarCalculationService implements CalculationService {
 	private final List<Calculator<Star, ? extends CalculationResult>> calculators;
+	private final List<BatchCalculator<?>> batchCalculators;
+	private final Executor executor;
+	private final MetricsRegistry metrics;
+	private final List<CalculatorMetrics> calculatorMetrics;
+	private CalculationGraph graph;
 
 	/**
 	 * Creates a new calculation service and registers default calculators.
+	 * Calculators run on the calling thread.
 	 */
 	public StellarCalculationService() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new calculation service that runs independent calculators of a
+	 * star concurrently, and registers default calculators.
+	 *
+	 * @param executor the executor running the calculators, or {@code null} to
+	 *                 run them on the calling thread
+	 */
+	public StellarCalculationService(Executor executor) {
+		this(executor, null);
+	}
+
+	/**
+	 * Creates a new calculation service that records the metrics of its
+	 * calculators, and registers default calculators.
+	 *
+	 * @param executor the executor running the calculators, or {@code null} to
+	 *                 run them on the calling thread
+	 * @param metrics  the registry to record calculator metrics in, or
+	 *                 {@code null} to disable metrics
+	 */
+	public StellarCalculationService(Executor executor, MetricsRegistry metrics) {
 		this.calculators = new ArrayList<>();
+		this.batchCalculators = new ArrayList<>();
+		this.executor = executor;
+		this.metrics = metrics;
+		this.calculatorMetrics = metrics == null ? null : new ArrayList<>();
+		this.graph = new CalculationGraph(calculators, calculatorMetrics);
 		registerDefaultCalculators();
 	}
 
 	/**
-	 * Registers the default set of stellar calculators.
+	 * Registers a lazy calculator for every discovered calculator provider.
 	 */
 	private void registerDefaultCalculators() {
-		registerCalculator(new LuminosityCalculator());
-		registerCalculator(new HabitableZoneCalculator());
-		registerCalculator(new EarthEquivalentDistanceCalculator());
-		registerCalculator(new OrbitalPeriodCalculator());
-		registerCalculator(new AngularSizeCalculator());
-		registerCalculator(new ApparentMagnitudeCalculator());
-		registerCalculator(new IrradianceCalculator());
-		registerCalculator(new SpectralClassCalculator());
-		registerCalculator(new LuminosityClassCalculator());
+		for (CalculatorProvider provider : ServiceLoader.load(CalculatorProvider.class,
+				StellarCalculationService.class.getClassLoader())) {
+			var calculator = new LazyCalculator(provider);
+			registerCalculator(calculator, calculator.batchCalculator());
+		}
 	}
 
 	/**
@@ -63,19 +143,179 @@ public class StellarCalculationService implements CalculationService {
 	@Override
 	public List<CalculationResult> calculateAll(Star star) {
 		Objects.requireNonNull(star, "star cannot be null");
-		return calculators.stream().map(c -> c.calculate(star)).collect(Collectors.toList());
+		var event = new CalculateAllEvent();
+		var slowEvent = new SlowStarEvent();
+		event.begin();
+		slowEvent.begin();
+		CalculationGraph current = graph;
+		List<CalculationResult> results;
+		try {
+			DerivedQuantities quantities = new DerivedQuantities(star);
+			results = executor == null ? current.execute(quantities) : current.execute(quantities, executor);
+		} catch (RuntimeException | Error e) {
+			event.complete(star, current.size(), true);
+			slowEvent.complete(star, true);
+			throw e;
+		}
+		event.complete(star, current.size(), false);
+		slowEvent.complete(star, false);
+		return results;
 	}
 
 	/**
-	 * Registers a new calculator with this service.
+	 * Executes the calculators producing the requested result types, and the
+	 * calculators they depend on, on the given star.
 	 *
-	 * @param calculator the calculator to register
-	 * @throws NullPointerException     if <b>star</b> is {@code null}
+	 * @param star        the star to analyze
+	 * @param resultTypes the result types to calculate
+	 * @return the requested results, in registration order
+	 * @throws NullPointerException     if any argument is {@code null}
 	 * @throws IllegalArgumentException if <b>star</b> has invalid parameters
 	 */
 	@Override
+	public List<CalculationResult> calculate(Star star, Set<Class<? extends CalculationResult>> resultTypes) {
+		Objects.requireNonNull(star, "star cannot be null");
+		Objects.requireNonNull(resultTypes, "resultTypes cannot be null");
+		CalculationGraph.Selection selection = graph.select(resultTypes);
+		var event = new CalculateAllEvent();
+		var slowEvent = new SlowStarEvent();
+		event.begin();
+		slowEvent.begin();
+		List<CalculationResult> results;
+		try {
+			results = selection.execute(new DerivedQuantities(star), executor);
+		} catch (RuntimeException | Error e) {
+			event.complete(star, selection.graph().size(), true);
+			slowEvent.complete(star, true);
+			throw e;
+		}
+		event.complete(star, selection.graph().size(), false);
+		slowEvent.complete(star, false);
+		return results;
+	}
+
+	/**
+	 * Executes all registered batch calculators on the given batch.
+	 *
+	 * @param batch the stars to analyze
+	 * @return the results, one column set per calculator in registration order
+	 * @throws NullPointerException if <b>batch</b> is {@code null}
+	 */
+	@Override
+	public BatchResults calculateBatch(StarBatch batch) {
+		Objects.requireNonNull(batch, "batch cannot be null");
+		List<ResultColumns> columns = new ArrayList<>(batchCalculators.size());
+		for (int i = 0; i < batchCalculators.size(); i++) {
+			columns.add(runObserved(batchCalculators.get(i), batch, metrics == null ? null : calculatorMetrics.get(i)));
+		}
+		return new BatchResults(columns, batch.size());
+	}
+
+	/**
+	 * Executes the batch calculators producing the requested result types on
+	 * the given batch.
+	 *
+	 * @param batch       the stars to analyze
+	 * @param resultTypes the result types to calculate
+	 * @return the results, one column set per requested calculator in
+	 *         registration order
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	@Override
+	public BatchResults calculateBatch(StarBatch batch, Set<Class<? extends CalculationResult>> resultTypes) {
+		Objects.requireNonNull(batch, "batch cannot be null");
+		Objects.requireNonNull(resultTypes, "resultTypes cannot be null");
+		int[] indices = graph.select(resultTypes).indices();
+		List<ResultColumns> columns = new ArrayList<>(indices.length);
+		for (int i : indices) {
+			columns.add(runObserved(batchCalculators.get(i), batch, metrics == null ? null : calculatorMetrics.get(i)));
+		}
+		return new BatchResults(columns, batch.size());
+	}
+
+	private static ResultColumns runObserved(BatchCalculator<?> batchCalculator, StarBatch batch,
+			CalculatorMetrics metrics) {
+		var event = new BatchCalculatorEvent();
+		event.begin();
+		long start = metrics == null ? 0 : System.nanoTime();
+		ResultColumns output;
+		try {
+			output = run(batchCalculator, batch);
+		} catch (RuntimeException | Error e) {
+			if (metrics != null) {
+				metrics.recordBatch(System.nanoTime() - start, batch.size(), true);
+			}
+			event.complete(batchCalculator, batch.size(), true);
+			throw e;
+		}
+		if (metrics != null) {
+			metrics.recordBatch(System.nanoTime() - start, batch.size(), false);
+		}
+		event.complete(batchCalculator, batch.size(), false);
+		return output;
+	}
+
+	private static <C extends ResultColumns> C run(BatchCalculator<C> batchCalculator, StarBatch batch) {
+		C output = batchCalculator.allocate(batch.size());
+		batchCalculator.calculate(batch, output);
+		return output;
+	}
+
+	/**
+	 * Registers a new calculator with this service. Batch calculations run it
+	 * through {@link BatchCalculator#adapt}.
+	 *
+	 * @param calculator the calculator to register
+	 * @throws NullPointerException if <b>calculator</b> is {@code null}
+	 */
+	@Override
 	public void registerCalculator(Calculator<Star, ? extends CalculationResult> calculator) {
-		Objects.requireNonNull("calculator cannot be null");
+		registerCalculator(calculator, BatchCalculator.adapt(calculator));
+	}
+
+	/**
+	 * Registers a new calculator together with its column-oriented counterpart.
+	 *
+	 * @param calculator      the calculator to register
+	 * @param batchCalculator the batch calculator producing the same results
+	 * @throws NullPointerException     if any argument is {@code null}
+	 * @throws IllegalArgumentException if the calculator's declared quantities
+	 *                                  would create a dependency cycle
+	 */
+	public void registerCalculator(Calculator<Star, ? extends CalculationResult> calculator,
+			BatchCalculator<?> batchCalculator) {
+		Objects.requireNonNull(calculator, "calculator cannot be null");
+		Objects.requireNonNull(batchCalculator, "batchCalculator cannot be null");
+		List<Calculator<Star, ? extends CalculationResult>> registered = new ArrayList<>(calculators);
+		registered.add(calculator);
+		CalculationGraph registeredGraph = new CalculationGraph(registered);
+		if (metrics != null) {
+			// Only track calculators that were accepted into the graph.
+			calculatorMetrics.add(metrics.register(calculator));
+			registeredGraph = new CalculationGraph(registered, calculatorMetrics);
+		}
+		graph = registeredGraph;
 		calculators.add(calculator);
+		batchCalculators.add(batchCalculator);
+	}
+
+	/**
+	 * Returns the result types of the registered calculators, as reported by
+	 * {@link Calculator#getResultType()}.
+	 *
+	 * @return the result types, in registration order
+	 */
+	@Override
+	public List<Class<? extends CalculationResult>> getResultTypes() {
+		return calculators.stream().<Class<? extends CalculationResult>>map(Calculator::getResultType).toList();
+	}
+
+	/**
+	 * Returns the registry calculator metrics are recorded in.
+	 *
+	 * @return the metrics registry, or {@code null} if metrics are disabled
+	 */
+	public MetricsRegistry getMetricsRegistry() {
+		return metrics;
 	}
 }
@@ -0,0 +1,233 @@
+package com.stellar.calculator.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.diagnostics.CatalogChunkEvent;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.api.CalculationService;
+
+/**
+ * Analyzes star catalogs in parallel on a dedicated {@link ForkJoinPool}.
+ *
+ * <p>
+ * A catalog is split recursively into chunks of at most {@code chunkSize}
+ * stars; idle workers steal pending chunks from busy ones, so uneven per-star
+ * costs still keep every core busy. Each star is analyzed with
+ * {@link CalculationService#calculateAll(Star)}, or with
+ * {@link CalculationService#calculate(Star, Set)} if the engine was created for
+ * selected result types. Results are written to a slot determined by the
+ * star's position, which keeps the output in input order without a separate
+ * merge step. Every chunk is reported to Flight Recorder as a
+ * {@link CatalogChunkEvent}.
+ *
+ * <p>
+ * The calculation service must be safe for concurrent use; the default
+ * {@code StellarCalculationService} is, as long as no calculators are
+ * registered while an analysis is running.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class CatalogAnalysisEngine implements AutoCloseable {
+	private final CalculationService calculationService;
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+	private final Set<Class<? extends CalculationResult>> resultTypes;
+
+	/**
+	 * Creates an engine that uses one worker per available processor and a chunk
+	 * size of 256 stars.
+	 *
+	 * @param calculationService the service used to analyze each star
+	 * @throws NullPointerException if <b>calculationService</b> is {@code null}
+	 */
+	public CatalogAnalysisEngine(CalculationService calculationService) {
+		this(calculationService, Runtime.getRuntime().availableProcessors(), 256);
+	}
+
+	/**
+	 * Creates an engine with the given parallelism and chunk size.
+	 *
+	 * @param calculationService the service used to analyze each star
+	 * @param parallelism        the number of worker threads
+	 * @param chunkSize          the maximum number of stars analyzed by a single
+	 *                           task without further splitting
+	 * @throws NullPointerException     if <b>calculationService</b> is
+	 *                                  {@code null}
+	 * @throws IllegalArgumentException if <b>parallelism</b> or <b>chunkSize</b>
+	 *                                  is not positive
+	 */
+	public CatalogAnalysisEngine(CalculationService calculationService, int parallelism, int chunkSize) {
+		this(calculationService, parallelism, chunkSize, null);
+	}
+
+	/**
+	 * Creates an engine with the given parallelism and chunk size that
+	 * calculates only the requested result types.
+	 *
+	 * @param calculationService the service used to analyze each star
+	 * @param parallelism        the number of worker threads
+	 * @param chunkSize          the maximum number of stars analyzed by a single
+	 *                           task without further splitting
+	 * @param resultTypes        the result types to calculate, or {@code null}
+	 *                           to calculate all of them
+	 * @throws NullPointerException     if <b>calculationService</b> is
+	 *                                  {@code null}
+	 * @throws IllegalArgumentException if <b>parallelism</b> or <b>chunkSize</b>
+	 *                                  is not positive
+	 */
+	public CatalogAnalysisEngine(CalculationService calculationService, int parallelism, int chunkSize,
+			Set<Class<? extends CalculationResult>> resultTypes) {
+		this.calculationService = Objects.requireNonNull(calculationService, "calculationService cannot be null");
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism must be positive");
+		}
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunk size must be positive");
+		}
+		this.pool = new ForkJoinPool(parallelism);
+		this.chunkSize = chunkSize;
+		this.resultTypes = resultTypes == null ? null : Set.copyOf(resultTypes);
+	}
+
+	/**
+	 * Analyzes all stars of a catalog in parallel.
+	 *
+	 * @param stars the stars to analyze
+	 * @return one analysis per star, in the same order as <b>stars</b>
+	 * @throws NullPointerException if <b>stars</b> is {@code null}
+	 */
+	public List<StarAnalysis> analyze(List<Star> stars) {
+		Objects.requireNonNull(stars, "stars cannot be null");
+		Star[] input = stars.toArray(Star[]::new);
+		StarAnalysis[] output = new StarAnalysis[input.length];
+		if (input.length > 0) {
+			pool.invoke(new AnalysisTask(input, output, 0, input.length));
+		}
+		return Arrays.asList(output);
+	}
+
+	/**
+	 * Analyzes a star source of unknown (possibly very large) size.
+	 *
+	 * <p>
+	 * Stars are pulled from <b>source</b> in windows of a few chunks per worker,
+	 * so only one window is held in memory at a time. Each window is analyzed in
+	 * parallel and handed to <b>sink</b> in input order before the next window is
+	 * read.
+	 *
+	 * @param source the stars to analyze
+	 * @param sink   receives one analysis per star, in input order
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public void analyze(Iterator<Star> source, Consumer<StarAnalysis> sink) {
+		Objects.requireNonNull(source, "source cannot be null");
+		Objects.requireNonNull(sink, "sink cannot be null");
+
+		int windowSize = getWindowSize();
+		List<Star> window = new ArrayList<>(windowSize);
+		while (source.hasNext()) {
+			window.add(source.next());
+			if (window.size() == windowSize) {
+				analyze(window).forEach(sink);
+				window.clear();
+			}
+		}
+		if (!window.isEmpty()) {
+			analyze(window).forEach(sink);
+		}
+	}
+
+	/**
+	 * Returns the number of stars worth buffering so that every worker has
+	 * several chunks to process (and to steal) per window.
+	 *
+	 * @return the recommended window size for streaming sources
+	 */
+	public int getWindowSize() {
+		return Math.max(chunkSize, (int) Math.min(1 << 20, 4L * pool.getParallelism() * chunkSize));
+	}
+
+	/**
+	 * Returns the configured number of worker threads.
+	 *
+	 * @return the parallelism of the engine
+	 */
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Returns the configured chunk size.
+	 *
+	 * @return the maximum number of stars analyzed by a single task
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Shuts down the worker pool. Analyses already in progress complete normally.
+	 */
+	@Override
+	public void close() {
+		pool.shutdown();
+	}
+
+	private StarAnalysis analyzeOne(Star star) {
+		try {
+			return StarAnalysis.success(star, resultTypes == null ? calculationService.calculateAll(star)
+					: calculationService.calculate(star, resultTypes));
+		} catch (RuntimeException e) {
+			return StarAnalysis.failure(star, e);
+		}
+	}
+
+	/**
+	 * Splits a range of the catalog in halves until it fits in a chunk.
+	 */
+	private final class AnalysisTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		// Tasks are never serialized.
+		private final transient Star[] input;
+		private final transient StarAnalysis[] output;
+		private final int from;
+		private final int to;
+
+		AnalysisTask(Star[] input, StarAnalysis[] output, int from, int to) {
+			this.input = input;
+			this.output = output;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunkSize) {
+				var event = new CatalogChunkEvent();
+				event.begin();
+				int failures = 0;
+				for (int i = from; i < to; i++) {
+					output[i] = analyzeOne(input[i]);
+					if (!output[i].isSuccess()) {
+						failures++;
+					}
+				}
+				event.complete(from, to - from, failures);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new AnalysisTask(input, output, from, mid), new AnalysisTask(input, output, mid, to));
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.stellar.calculator.service.catalog;
+
+import java.util.List;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Outcome of analyzing a single catalog star: either the calculation results or
+ * the failure that prevented them.
+ *
+ * @param star    the analyzed star
+ * @param results the calculation results, empty if the analysis failed
+ * @param failure the failure, or {@code null} if the analysis succeeded
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record StarAnalysis(Star star, List<CalculationResult> results, RuntimeException failure) {
+
+	/**
+	 * Creates a successful analysis.
+	 *
+	 * @param star    the analyzed star
+	 * @param results the calculation results
+	 * @return the analysis
+	 */
+	public static StarAnalysis success(Star star, List<CalculationResult> results) {
+		return new StarAnalysis(star, results, null);
+	}
+
+	/**
+	 * Creates a failed analysis.
+	 *
+	 * @param star    the star that could not be analyzed
+	 * @param failure the cause of the failure
+	 * @return the analysis
+	 */
+	public static StarAnalysis failure(Star star, RuntimeException failure) {
+		return new StarAnalysis(star, List.of(), failure);
+	}
+
+	/**
+	 * Checks whether the analysis succeeded.
+	 *
+	 * @return {@code true} if results are available
+	 */
+	public boolean isSuccess() {
+		return failure == null;
+	}
+}
@@ -0,0 +1,390 @@
+package com.stellar.calculator.service.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.io.output.JsonResultEncoder;
+import com.stellar.calculator.io.output.PrometheusMetricsWriter;
+import com.stellar.calculator.service.api.BatchResults;
+import com.stellar.calculator.service.api.CalculationService;
+import com.stellar.calculator.service.metrics.MetricsRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Exposes a {@link CalculationService} over HTTP with JSON request and response
+ * bodies, using the JDK's built-in {@link HttpServer}. Every request is handled
+ * on its own virtual thread.
+ *
+ * <p>
+ * Endpoints:
+ * <ul>
+ * <li>{@code POST /v1/calculate}: a star object
+ * ({@code {"mass":1,"radius":1,"temperature":5772}}), answered with
+ * {@code {"star":{...},"results":[...]}}</li>
+ * <li>{@code POST /v1/calculate/batch}: an array of star objects, answered
+ * with {@code {"stars":[{"star":{...},"results":[...]}, ...]}} in request
+ * order</li>
+ * <li>{@code GET /health}: answered with {@code {"status":"UP"}} for load
+ * balancer probes</li>
+ * <li>{@code GET /metrics}: calculator metrics in the Prometheus text format,
+ * once {@link #publishMetrics(MetricsRegistry) published}</li>
+ * </ul>
+ * Both calculation endpoints accept a {@code results} query parameter with
+ * comma-separated result names, as returned by
+ * {@link CalculationResult#nameOf(Class)} (e.g.
+ * {@code /v1/calculate?results=luminosity,spectralClass}), to calculate only
+ * those results and the ones they depend on; without it, all results are
+ * calculated. Results are encoded with {@link JsonResultEncoder}. Malformed or
+ * invalid input, including unknown result names, is answered with status 400
+ * and an {@code {"error":"..."}} body.
+ *
+ * <p>
+ * The server is stateless, so instances can be scaled horizontally behind a
+ * load balancer. To protect each instance, at most a fixed number of requests
+ * are processed at a time; further requests are rejected immediately with
+ * status 503 and a {@code Retry-After} header rather than queued. A request
+ * that is not read, calculated and answered within the request timeout is
+ * abandoned and answered with status 503 as well; calculations cannot be
+ * interrupted, so an abandoned request keeps its place among the concurrent
+ * requests until its calculation actually ends. Request bodies are limited in
+ * size according to the maximum batch size.
+ *
+ * <p>
+ * The calculation service must be safe for concurrent use.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class CalculationHttpServer implements AutoCloseable {
+	private static final int BYTES_PER_STAR = 256;
+	private static final String JSON = "application/json; charset=utf-8";
+
+	private final CalculationService calculationService;
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final Semaphore permits;
+	private final long requestTimeoutNanos;
+	private final int maxBatchSize;
+	private final int maxBodySize;
+	private final JsonStarParser parser = new JsonStarParser();
+	private final JsonResultEncoder encoder = new JsonResultEncoder();
+
+	/**
+	 * Creates a server on the given port that processes up to 256 concurrent
+	 * requests, times requests out after 10 seconds, and accepts batches of up to
+	 * 1000 stars.
+	 *
+	 * @param calculationService the service used to analyze stars
+	 * @param port               the TCP port to listen on, or {@code 0} for an
+	 *                           ephemeral port
+	 * @throws IOException          if the port cannot be bound
+	 * @throws NullPointerException if <b>calculationService</b> is {@code null}
+	 */
+	public CalculationHttpServer(CalculationService calculationService, int port) throws IOException {
+		this(calculationService, new InetSocketAddress(port), 256, Duration.ofSeconds(10), 1000);
+	}
+
+	/**
+	 * Creates a server with the given limits. The server does not accept
+	 * requests until {@link #start()} is called.
+	 *
+	 * @param calculationService    the service used to analyze stars
+	 * @param address               the address to listen on
+	 * @param maxConcurrentRequests the maximum number of requests processed at a
+	 *                              time; also used as the TCP accept backlog
+	 * @param requestTimeout        the time after which a request is abandoned
+	 * @param maxBatchSize          the maximum number of stars per batch request
+	 * @throws IOException              if the address cannot be bound
+	 * @throws NullPointerException     if <b>calculationService</b>,
+	 *                                  <b>address</b> or <b>requestTimeout</b>
+	 *                                  is {@code null}
+	 * @throws IllegalArgumentException if <b>maxConcurrentRequests</b>,
+	 *                                  <b>requestTimeout</b> or
+	 *                                  <b>maxBatchSize</b> is not positive
+	 */
+	public CalculationHttpServer(CalculationService calculationService, InetSocketAddress address,
+			int maxConcurrentRequests, Duration requestTimeout, int maxBatchSize) throws IOException {
+		this.calculationService = Objects.requireNonNull(calculationService, "calculationService cannot be null");
+		Objects.requireNonNull(address, "address cannot be null");
+		Objects.requireNonNull(requestTimeout, "requestTimeout cannot be null");
+		if (maxConcurrentRequests <= 0) {
+			throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+		}
+		if (requestTimeout.isNegative() || requestTimeout.isZero()) {
+			throw new IllegalArgumentException("requestTimeout must be positive");
+		}
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("maxBatchSize must be positive");
+		}
+		this.permits = new Semaphore(maxConcurrentRequests);
+		this.requestTimeoutNanos = requestTimeout.toNanos();
+		this.maxBatchSize = maxBatchSize;
+		this.maxBodySize = (int) Math.min(Integer.MAX_VALUE - 8, 4096L + (long) maxBatchSize * BYTES_PER_STAR);
+
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		this.server = HttpServer.create(address, maxConcurrentRequests);
+		server.setExecutor(executor);
+		server.createContext("/", this::notFound);
+		server.createContext("/health", exchange -> handle(exchange, "GET", JSON, this::health));
+		server.createContext("/v1/calculate", exchange -> handle(exchange, "POST", JSON, this::calculate));
+		server.createContext("/v1/calculate/batch", exchange -> handle(exchange, "POST", JSON, this::calculateBatch));
+	}
+
+	/**
+	 * Serves a snapshot of the given metrics at {@code GET /metrics} for
+	 * Prometheus to scrape.
+	 *
+	 * @param registry the metrics to publish
+	 * @throws NullPointerException if <b>registry</b> is {@code null}
+	 */
+	public void publishMetrics(MetricsRegistry registry) {
+		Objects.requireNonNull(registry, "registry cannot be null");
+		var writer = new PrometheusMetricsWriter();
+		Endpoint endpoint = (query, body) -> {
+			var text = new StringBuilder(4096);
+			try {
+				writer.write(registry, text);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return text.toString();
+		};
+		server.createContext("/metrics",
+				exchange -> handle(exchange, "GET", PrometheusMetricsWriter.CONTENT_TYPE, endpoint));
+	}
+
+	/**
+	 * Starts accepting requests in the background.
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Returns the address the server listens on, including the actual port if
+	 * an ephemeral port was requested.
+	 *
+	 * @return the bound address
+	 */
+	public InetSocketAddress getAddress() {
+		return server.getAddress();
+	}
+
+	/**
+	 * Stops accepting requests, waits up to one second for requests in progress
+	 * to complete, and releases the request threads.
+	 */
+	@Override
+	public void close() {
+		server.stop(1);
+		executor.shutdownNow();
+	}
+
+	private void notFound(HttpExchange exchange) {
+		try (exchange) {
+			send(exchange, Response.error(404, "not found"));
+		} catch (IOException e) {
+			// The client went away; there is nobody left to answer.
+		}
+	}
+
+	private void handle(HttpExchange exchange, String method, String contentType, Endpoint endpoint) {
+		try (exchange) {
+			if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+				notFound(exchange);
+				return;
+			}
+			if (!exchange.getRequestMethod().equals(method)) {
+				exchange.getResponseHeaders().set("Allow", method);
+				send(exchange, Response.error(405, "method not allowed"));
+				return;
+			}
+			if (!permits.tryAcquire()) {
+				exchange.getResponseHeaders().set("Retry-After", "1");
+				send(exchange, Response.error(503, "too many concurrent requests"));
+				return;
+			}
+			send(exchange, respondWithin(exchange, contentType, endpoint));
+		} catch (IOException e) {
+			// The client went away; there is nobody left to answer.
+		}
+	}
+
+	/**
+	 * Runs the endpoint on a separate virtual thread so that a slow client or
+	 * calculation cannot hold the request beyond the timeout. The permit of the
+	 * request is released when the endpoint returns, not when the caller stops
+	 * waiting, as timed-out calculations keep running.
+	 */
+	private Response respondWithin(HttpExchange exchange, String contentType, Endpoint endpoint) {
+		Future<Response> response;
+		try {
+			response = executor.submit(() -> {
+				try {
+					return respond(exchange, contentType, endpoint);
+				} finally {
+					permits.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			permits.release();
+			return Response.error(503, "server is shutting down");
+		}
+		try {
+			return response.get(requestTimeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			response.cancel(true);
+			return Response.error(503, "request timed out");
+		} catch (ExecutionException e) {
+			return Response.error(500, "internal error");
+		} catch (InterruptedException e) {
+			response.cancel(true);
+			Thread.currentThread().interrupt();
+			return Response.error(503, "server is shutting down");
+		}
+	}
+
+	private Response respond(HttpExchange exchange, String contentType, Endpoint endpoint) throws IOException {
+		String body;
+		try (InputStream in = exchange.getRequestBody()) {
+			byte[] bytes = in.readNBytes(maxBodySize + 1);
+			if (bytes.length > maxBodySize) {
+				return Response.error(413, "request body exceeds " + maxBodySize + " bytes");
+			}
+			body = new String(bytes, StandardCharsets.UTF_8);
+		}
+		try {
+			return new Response(200, contentType, endpoint.respond(exchange.getRequestURI().getRawQuery(), body));
+		} catch (IllegalArgumentException e) {
+			return Response.error(400, e.getMessage());
+		}
+	}
+
+	private String health(String query, String body) {
+		return "{\"status\":\"UP\"}";
+	}
+
+	private String calculate(String query, String body) {
+		Set<Class<? extends CalculationResult>> resultTypes = resultTypes(query);
+		Star star = parser.parseStar(body);
+		List<CalculationResult> results = resultTypes == null ? calculationService.calculateAll(star)
+				: calculationService.calculate(star, resultTypes);
+		return appendAnalysis(new StringBuilder(1024), star, results).toString();
+	}
+
+	private String calculateBatch(String query, String body) {
+		Set<Class<? extends CalculationResult>> resultTypes = resultTypes(query);
+		List<Star> stars = parser.parseBatch(body, maxBatchSize);
+		BatchResults results = null;
+		if (!stars.isEmpty()) {
+			results = resultTypes == null ? calculationService.calculateBatch(StarBatch.of(stars))
+					: calculationService.calculateBatch(StarBatch.of(stars), resultTypes);
+		}
+		var json = new StringBuilder(64 + 1024 * stars.size()).append("{\"stars\":[");
+		for (int row = 0; row < stars.size(); row++) {
+			if (row > 0) {
+				json.append(',');
+			}
+			appendAnalysis(json, stars.get(row), results.resultsFor(row));
+		}
+		return json.append("]}").toString();
+	}
+
+	/**
+	 * Maps the result names of the {@code results} query parameters to the
+	 * result types of the calculation service.
+	 *
+	 * @return the requested result types, or {@code null} if the query does not
+	 *         name any, so that all results are calculated
+	 * @throws IllegalArgumentException if a name is unknown
+	 */
+	private Set<Class<? extends CalculationResult>> resultTypes(String query) {
+		if (query == null) {
+			return null;
+		}
+		Map<String, Class<? extends CalculationResult>> known = null;
+		Set<Class<? extends CalculationResult>> resultTypes = null;
+		for (String parameter : query.split("&")) {
+			int equals = parameter.indexOf('=');
+			String key = equals < 0 ? parameter : parameter.substring(0, equals);
+			if (!URLDecoder.decode(key, StandardCharsets.UTF_8).equals("results")) {
+				continue;
+			}
+			if (known == null) {
+				known = new LinkedHashMap<>();
+				for (Class<? extends CalculationResult> type : calculationService.getResultTypes()) {
+					known.put(CalculationResult.nameOf(type), type);
+				}
+				resultTypes = new HashSet<>();
+			}
+			String value = equals < 0 ? "" : parameter.substring(equals + 1);
+			for (String name : URLDecoder.decode(value, StandardCharsets.UTF_8).split(",")) {
+				Class<? extends CalculationResult> type = known.get(name.strip());
+				if (type == null) {
+					throw new IllegalArgumentException("unknown result: " + name.strip() + " (expected one of "
+							+ String.join(", ", known.keySet()) + ")");
+				}
+				resultTypes.add(type);
+			}
+		}
+		return resultTypes;
+	}
+
+	private StringBuilder appendAnalysis(StringBuilder json, Star star, List<CalculationResult> results) {
+		json.append("{\"star\":");
+		encoder.appendStar(json, star);
+		json.append(",\"results\":");
+		encoder.appendResults(json, results);
+		return json.append('}');
+	}
+
+	private static void send(HttpExchange exchange, Response response) throws IOException {
+		byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", response.contentType());
+		exchange.sendResponseHeaders(response.status(), body.length);
+		exchange.getResponseBody().write(body);
+	}
+
+	/**
+	 * Turns the query string and body of a request into a response body.
+	 */
+	@FunctionalInterface
+	private interface Endpoint {
+		String respond(String query, String body);
+	}
+
+	/**
+	 * A status code and body ready to be sent.
+	 */
+	private record Response(int status, String contentType, String body) {
+
+		static Response error(int status, String message) {
+			var json = new StringBuilder(64).append("{\"error\":");
+			new JsonResultEncoder().appendString(json, message == null ? "" : message);
+			return new Response(status, JSON, json.append('}').toString());
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package com.stellar.calculator.service.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.validation.InputValidator;
+
+/**
+ * Parses the JSON request bodies of {@link CalculationHttpServer}: a star is an
+ * object with numeric {@code mass}, {@code radius} and {@code temperature}
+ * members, a batch is an array of such objects. Unknown members are ignored.
+ * Parameters are checked with {@link InputValidator}, as for interactive and
+ * catalog input.
+ *
+ * <p>
+ * Only the subset of JSON needed for these shapes is accepted: nested objects
+ * or arrays inside a star, and any string escapes other than the simple ones,
+ * are rejected.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+final class JsonStarParser {
+	private final InputValidator validator = new InputValidator();
+
+	/**
+	 * Parses a single star.
+	 *
+	 * @param json the request body
+	 * @return the validated star
+	 * @throws IllegalArgumentException if the body is malformed or the star is
+	 *                                  invalid
+	 */
+	Star parseStar(String json) {
+		var cursor = new Cursor(json);
+		Star star = readStar(cursor);
+		cursor.expectEnd();
+		return star;
+	}
+
+	/**
+	 * Parses a batch of stars.
+	 *
+	 * @param json         the request body
+	 * @param maxBatchSize the maximum number of stars accepted
+	 * @return the validated stars, in request order
+	 * @throws IllegalArgumentException if the body is malformed, holds more than
+	 *                                  <b>maxBatchSize</b> stars, or any star is
+	 *                                  invalid
+	 */
+	List<Star> parseBatch(String json, int maxBatchSize) {
+		var cursor = new Cursor(json);
+		List<Star> stars = new ArrayList<>();
+		cursor.expect('[');
+		if (!cursor.consume(']')) {
+			do {
+				if (stars.size() == maxBatchSize) {
+					throw new IllegalArgumentException("batch exceeds " + maxBatchSize + " stars");
+				}
+				try {
+					stars.add(readStar(cursor));
+				} catch (IllegalArgumentException e) {
+					throw new IllegalArgumentException("star " + stars.size() + ": " + e.getMessage(), e);
+				}
+			} while (cursor.consume(','));
+			cursor.expect(']');
+		}
+		cursor.expectEnd();
+		return stars;
+	}
+
+	private Star readStar(Cursor cursor) {
+		double mass = Double.NaN;
+		double radius = Double.NaN;
+		double temperature = Double.NaN;
+
+		cursor.expect('{');
+		if (!cursor.consume('}')) {
+			do {
+				String name = cursor.readString();
+				cursor.expect(':');
+				switch (name) {
+				case "mass" -> mass = cursor.readNumber();
+				case "radius" -> radius = cursor.readNumber();
+				case "temperature" -> temperature = cursor.readNumber();
+				default -> cursor.skipScalar();
+				}
+			} while (cursor.consume(','));
+			cursor.expect('}');
+		}
+
+		requirePresent(mass, "mass");
+		requirePresent(radius, "radius");
+		requirePresent(temperature, "temperature");
+		validator.validateMass(mass);
+		validator.validateRadius(radius);
+		validator.validateTemperature(temperature);
+		return new Star(mass, radius, temperature);
+	}
+
+	private static void requirePresent(double value, String name) {
+		if (Double.isNaN(value)) {
+			throw new IllegalArgumentException(name + " is missing");
+		}
+	}
+
+	/**
+	 * Reads tokens from a JSON text, skipping whitespace.
+	 */
+	private static final class Cursor {
+		private final String json;
+		private int position;
+
+		Cursor(String json) {
+			this.json = json;
+		}
+
+		boolean consume(char c) {
+			skipWhitespace();
+			if (position < json.length() && json.charAt(position) == c) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		void expect(char c) {
+			if (!consume(c)) {
+				throw error("expected '" + c + "'");
+			}
+		}
+
+		void expectEnd() {
+			skipWhitespace();
+			if (position != json.length()) {
+				throw error("unexpected trailing content");
+			}
+		}
+
+		String readString() {
+			expect('"');
+			var value = new StringBuilder();
+			while (position < json.length()) {
+				char c = json.charAt(position++);
+				if (c == '"') {
+					return value.toString();
+				}
+				if (c == '\\') {
+					if (position == json.length()) {
+						break;
+					}
+					char escaped = json.charAt(position++);
+					switch (escaped) {
+					case '"', '\\', '/' -> value.append(escaped);
+					case 'n' -> value.append('\n');
+					case 't' -> value.append('\t');
+					default -> throw error("unsupported escape '\\" + escaped + "'");
+					}
+				} else {
+					value.append(c);
+				}
+			}
+			throw error("unterminated string");
+		}
+
+		double readNumber() {
+			skipWhitespace();
+			int start = position;
+			while (position < json.length() && "+-.0123456789eE".indexOf(json.charAt(position)) >= 0) {
+				position++;
+			}
+			if (start == position) {
+				throw error("expected a number");
+			}
+			try {
+				return Double.parseDouble(json.substring(start, position));
+			} catch (NumberFormatException e) {
+				throw error("malformed number");
+			}
+		}
+
+		void skipScalar() {
+			skipWhitespace();
+			if (position < json.length() && json.charAt(position) == '"') {
+				readString();
+			} else if (json.startsWith("true", position) || json.startsWith("null", position)) {
+				position += 4;
+			} else if (json.startsWith("false", position)) {
+				position += 5;
+			} else {
+				readNumber();
+			}
+		}
+
+		private void skipWhitespace() {
+			while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+				position++;
+			}
+		}
+
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(message + " at offset " + position);
+		}
+	}
+}
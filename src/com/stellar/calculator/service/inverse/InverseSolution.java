@@ -0,0 +1,50 @@
+package com.stellar.calculator.service.inverse;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * Outcome of solving for a single target value: the star that reaches it, or
+ * the failure that prevented it.
+ *
+ * @param target     the target value
+ * @param star       the solution, or {@code null} if solving failed
+ * @param iterations the number of function evaluations spent
+ * @param failure    the failure, or {@code null} if solving succeeded
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record InverseSolution(double target, Star star, int iterations, RuntimeException failure) {
+
+	/**
+	 * Creates a successful solution.
+	 *
+	 * @param target     the target value
+	 * @param star       the solution
+	 * @param iterations the number of function evaluations spent
+	 * @return the solution
+	 */
+	public static InverseSolution success(double target, Star star, int iterations) {
+		return new InverseSolution(target, star, iterations, null);
+	}
+
+	/**
+	 * Creates a failed solution.
+	 *
+	 * @param target     the target value
+	 * @param iterations the number of function evaluations spent
+	 * @param failure    the cause of the failure
+	 * @return the solution
+	 */
+	public static InverseSolution failure(double target, int iterations, RuntimeException failure) {
+		return new InverseSolution(target, null, iterations, failure);
+	}
+
+	/**
+	 * Checks whether a solution was found.
+	 *
+	 * @return {@code true} if {@link #star()} is available
+	 */
+	public boolean isSuccess() {
+		return failure == null;
+	}
+}
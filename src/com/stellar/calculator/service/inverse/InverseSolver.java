@@ -0,0 +1,322 @@
+package com.stellar.calculator.service.inverse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.validation.InputValidator;
+
+/**
+ * Finds stellar parameters at which a derived quantity takes a target value,
+ * the inverse of what the calculators do.
+ *
+ * <p>
+ * Targets listed in {@link InverseTarget} are inverted analytically:
+ * {@link #curve(InverseTarget, double)} returns the whole valid solution curve
+ * and {@link #solve(InverseTarget, double, Star, StellarParameter)} the point
+ * on it that keeps the other parameters of a star. Any other calculator is
+ * inverted numerically for one free parameter by
+ * {@link #solve(Calculator, double, Star, StellarParameter)}: the root is
+ * bracketed within the limits of the parameter and refined with Brent's
+ * method, in log space since parameters span orders of magnitude. The
+ * calculator's {@link CalculationResult#getValue() value} is the quantity
+ * solved for.
+ *
+ * <p>
+ * {@link #solveAll(Calculator, double[], Star, StellarParameter)} solves many
+ * targets in parallel. Targets are sorted and split into chunks; within a
+ * chunk each search starts next to the solution of the neighbouring target, so
+ * the bracket is usually found with two evaluations and Brent's method starts
+ * close to the root. All solutions satisfy the {@link InputValidator} limits.
+ * Solvers are stateless and safe for concurrent use.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class InverseSolver {
+	private static final int MAX_EVALUATIONS = 200;
+	private static final int CHUNK_SIZE = 64;
+	/** The initial half-width of a warm-started bracket in log space (about ±5%). */
+	private static final double WARM_START_STEP = 0.05;
+
+	private final double tolerance;
+	private final InputValidator validator = new InputValidator();
+
+	/**
+	 * Creates a solver that refines numeric solutions to a relative accuracy of
+	 * 1e-12.
+	 */
+	public InverseSolver() {
+		this(1e-12);
+	}
+
+	/**
+	 * Creates a solver with the given accuracy of numeric solutions.
+	 *
+	 * @param relativeTolerance the relative accuracy of the free parameter
+	 * @throws IllegalArgumentException if <b>relativeTolerance</b> is not
+	 *                                  positive
+	 */
+	public InverseSolver(double relativeTolerance) {
+		if (!(relativeTolerance > 0)) {
+			throw new IllegalArgumentException("relative tolerance must be positive");
+		}
+		this.tolerance = relativeTolerance;
+	}
+
+	/**
+	 * Returns every valid radius and temperature at which a target takes a
+	 * value.
+	 *
+	 * @param target the quantity to invert
+	 * @param value  the target value
+	 * @return the valid part of the solution curve
+	 * @throws NullPointerException     if <b>target</b> is {@code null}
+	 * @throws IllegalArgumentException if <b>value</b> is not positive or cannot
+	 *                                  be reached within the validator limits
+	 */
+	public SolutionCurve curve(InverseTarget target, double value) {
+		double product = product(target, value);
+		double minTemperature = Math.max(StellarParameter.TEMPERATURE.min(),
+				Math.sqrt(Math.sqrt(product) / StellarParameter.RADIUS.max()));
+		double maxTemperature = Math.min(StellarParameter.TEMPERATURE.max(),
+				Math.sqrt(Math.sqrt(product) / StellarParameter.RADIUS.min()));
+		if (minTemperature > maxTemperature) {
+			throw new IllegalArgumentException(target + " of " + value + " cannot be reached within the limits");
+		}
+		return new SolutionCurve(target, value, product, minTemperature, maxTemperature);
+	}
+
+	/**
+	 * Solves a target analytically by changing one parameter of a star.
+	 *
+	 * @param target the quantity to invert
+	 * @param value  the target value
+	 * @param start  the star providing the other parameters
+	 * @param free   the parameter to change, the radius or the temperature
+	 * @return the star reaching the target
+	 * @throws NullPointerException     if any object argument is {@code null}
+	 * @throws IllegalArgumentException if <b>free</b> is the mass (no target
+	 *                                  depends on it), or the solution violates
+	 *                                  the validator limits
+	 */
+	public Star solve(InverseTarget target, double value, Star start, StellarParameter free) {
+		Objects.requireNonNull(start, "start cannot be null");
+		Objects.requireNonNull(free, "free cannot be null");
+		double root = Math.sqrt(product(target, value));
+		Star solution = switch (free) {
+		case MASS -> throw new IllegalArgumentException(target + " does not depend on the mass");
+		case RADIUS -> free.with(start, root / (start.getTemperature() * start.getTemperature()));
+		case TEMPERATURE -> free.with(start, Math.sqrt(root / start.getRadius()));
+		};
+		validate(solution);
+		return solution;
+	}
+
+	/**
+	 * Solves for one parameter of a star at which a calculator's value reaches a
+	 * target, by bracketed root finding. The search starts at the star's current
+	 * value of the parameter.
+	 *
+	 * @param calculator the calculator to invert
+	 * @param target     the target value of the calculator
+	 * @param start      the star providing the other parameters and the
+	 *                   starting point
+	 * @param free       the parameter to change
+	 * @return the solution, or the reason none was found
+	 * @throws NullPointerException if any object argument is {@code null}
+	 */
+	public InverseSolution solve(Calculator<Star, ? extends CalculationResult> calculator, double target, Star start,
+			StellarParameter free) {
+		Objects.requireNonNull(calculator, "calculator cannot be null");
+		Objects.requireNonNull(start, "start cannot be null");
+		Objects.requireNonNull(free, "free cannot be null");
+		return new Search(calculator, target, start, free).run(free.of(start));
+	}
+
+	/**
+	 * Solves many targets in parallel, warm-starting every search from the
+	 * solution of the neighbouring target.
+	 *
+	 * @param calculator the calculator to invert
+	 * @param targets    the target values of the calculator
+	 * @param start      the star providing the other parameters and the first
+	 *                   starting point
+	 * @param free       the parameter to change
+	 * @return one solution per target, in the order of <b>targets</b>
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public List<InverseSolution> solveAll(Calculator<Star, ? extends CalculationResult> calculator, double[] targets,
+			Star start, StellarParameter free) {
+		Objects.requireNonNull(calculator, "calculator cannot be null");
+		Objects.requireNonNull(targets, "targets cannot be null");
+		Objects.requireNonNull(start, "start cannot be null");
+		Objects.requireNonNull(free, "free cannot be null");
+		int[] order = IntStream.range(0, targets.length).boxed()
+				.sorted((a, b) -> Double.compare(targets[a], targets[b]))
+				.mapToInt(Integer::intValue).toArray();
+		InverseSolution[] solutions = new InverseSolution[targets.length];
+		int chunks = (targets.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+			double hint = free.of(start);
+			for (int k = chunk * CHUNK_SIZE, end = Math.min(targets.length, k + CHUNK_SIZE); k < end; k++) {
+				int i = order[k];
+				InverseSolution solution = new Search(calculator, targets[i], start, free).run(hint);
+				if (solution.isSuccess()) {
+					hint = free.of(solution.star());
+				}
+				solutions[i] = solution;
+			}
+		});
+		return Arrays.asList(solutions);
+	}
+
+	private static double product(InverseTarget target, double value) {
+		Objects.requireNonNull(target, "target cannot be null");
+		if (!(value > 0) || Double.isInfinite(value)) {
+			throw new IllegalArgumentException("target value must be positive");
+		}
+		return target.product(value);
+	}
+
+	private void validate(Star star) {
+		validator.validateMass(star.getMass());
+		validator.validateRadius(star.getRadius());
+		validator.validateTemperature(star.getTemperature());
+	}
+
+	/**
+	 * A single root search in the logarithm of the free parameter.
+	 */
+	private final class Search {
+		private final Calculator<Star, ? extends CalculationResult> calculator;
+		private final double target;
+		private final Star start;
+		private final StellarParameter free;
+		private int evaluations;
+
+		Search(Calculator<Star, ? extends CalculationResult> calculator, double target, Star start,
+				StellarParameter free) {
+			this.calculator = calculator;
+			this.target = target;
+			this.start = start;
+			this.free = free;
+		}
+
+		InverseSolution run(double hint) {
+			try {
+				if (!Double.isFinite(target)) {
+					throw new IllegalArgumentException("target must be finite");
+				}
+				Star solution = free.with(start, Math.exp(findRoot(hint)));
+				validate(solution);
+				return InverseSolution.success(target, solution, evaluations);
+			} catch (RuntimeException e) {
+				return InverseSolution.failure(target, evaluations, e);
+			}
+		}
+
+		private double f(double logValue) {
+			evaluations++;
+			return calculator.calculate(free.with(start, Math.exp(logValue))).getValue() - target;
+		}
+
+		private double findRoot(double hint) {
+			double low = Math.log(free.min());
+			double high = Math.log(free.max());
+			double center = Math.min(high, Math.max(low, Math.log(hint > 0 ? hint : free.max())));
+
+			// Bracket the root, growing geometrically away from the hint.
+			double a = Math.max(low, center - WARM_START_STEP);
+			double b = Math.min(high, center + WARM_START_STEP);
+			double fa = f(a);
+			double fb = f(b);
+			while (Math.signum(fa) == Math.signum(fb) && fa != 0) {
+				if (a == low && b == high) {
+					throw new IllegalArgumentException(
+							"target " + target + " cannot be reached by changing the " + free.name().toLowerCase());
+				}
+				double width = 1.6 * (b - a);
+				if (b == high || (a > low && Math.abs(fa) < Math.abs(fb))) {
+					a = Math.max(low, a - width);
+					fa = f(a);
+				} else {
+					b = Math.min(high, b + width);
+					fb = f(b);
+				}
+			}
+			return fa == 0 ? a : brent(a, b, fa, fb);
+		}
+
+		/**
+		 * Brent's method: inverse quadratic interpolation and secant steps,
+		 * falling back to bisection whenever they do not shrink the bracket fast
+		 * enough.
+		 */
+		private double brent(double a, double b, double fa, double fb) {
+			double c = a;
+			double fc = fa;
+			double d = b - a;
+			double e = d;
+			while (evaluations < MAX_EVALUATIONS) {
+				if (Math.signum(fb) == Math.signum(fc)) {
+					c = a;
+					fc = fa;
+					d = b - a;
+					e = d;
+				}
+				if (Math.abs(fc) < Math.abs(fb)) {
+					a = b;
+					b = c;
+					c = a;
+					fa = fb;
+					fb = fc;
+					fc = fa;
+				}
+				double tol = 2 * Math.ulp(b) + 0.5 * tolerance;
+				double m = 0.5 * (c - b);
+				if (Math.abs(m) <= tol || fb == 0) {
+					return b;
+				}
+				if (Math.abs(e) >= tol && Math.abs(fa) > Math.abs(fb)) {
+					double s = fb / fa;
+					double p;
+					double q;
+					if (a == c) {
+						p = 2 * m * s;
+						q = 1 - s;
+					} else {
+						double r = fb / fc;
+						double t = fa / fc;
+						p = s * (2 * m * t * (t - r) - (b - a) * (r - 1));
+						q = (t - 1) * (r - 1) * (s - 1);
+					}
+					if (p > 0) {
+						q = -q;
+					} else {
+						p = -p;
+					}
+					if (2 * p < Math.min(3 * m * q - Math.abs(tol * q), Math.abs(e * q))) {
+						e = d;
+						d = p / q;
+					} else {
+						d = m;
+						e = m;
+					}
+				} else {
+					d = m;
+					e = m;
+				}
+				a = b;
+				fa = fb;
+				b += Math.abs(d) > tol ? d : Math.copySign(tol, m);
+				fb = f(b);
+			}
+			throw new IllegalStateException("no convergence after " + MAX_EVALUATIONS + " evaluations");
+		}
+	}
+}
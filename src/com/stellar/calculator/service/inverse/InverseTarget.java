@@ -0,0 +1,108 @@
+package com.stellar.calculator.service.inverse;
+
+import com.stellar.calculator.calculation.thermal.HabitableZoneCalculator;
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.physics.equations.ThermalEquations;
+
+/**
+ * A derived quantity that can be inverted analytically.
+ *
+ * <p>
+ * Every target depends on the star only through R²T⁴ (radius in solar radii,
+ * temperature in Kelvin) and grows with it, so a target value fixes that
+ * product. The solutions form a curve in the radius-temperature plane and are
+ * independent of the mass; see {@link SolutionCurve}.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public enum InverseTarget {
+	/** The bolometric luminosity in solar units, as calculated by the luminosity calculator. */
+	LUMINOSITY {
+		@Override
+		double product(double value) {
+			return value * SolarSystemConstants.SOLAR_LUMINOSITY / UNIT_FLUX;
+		}
+
+		@Override
+		public double evaluate(double radius, double temperature) {
+			return ThermalEquations.calculateRadiantFlux(radius, temperature) / SolarSystemConstants.SOLAR_LUMINOSITY;
+		}
+	},
+
+	/** The Earth-equivalent distance in AU. */
+	EARTH_EQUIVALENT_DISTANCE {
+		@Override
+		double product(double value) {
+			return value * value / UNIT_SCALED_LUMINOSITY;
+		}
+
+		@Override
+		public double evaluate(double radius, double temperature) {
+			return ThermalEquations.calculateEarthEquivalentDistance(radius, temperature);
+		}
+	},
+
+	/** The inner boundary of the habitable zone in AU. */
+	HABITABLE_ZONE_INNER_BOUNDARY {
+		@Override
+		double product(double value) {
+			return LUMINOSITY.product(Math.pow(value / HabitableZoneCalculator.INNER_BOUNDARY_FACTOR, 2));
+		}
+
+		@Override
+		public double evaluate(double radius, double temperature) {
+			return Math.sqrt(LUMINOSITY.evaluate(radius, temperature)) * HabitableZoneCalculator.INNER_BOUNDARY_FACTOR;
+		}
+	},
+
+	/** The outer boundary of the habitable zone in AU. */
+	HABITABLE_ZONE_OUTER_BOUNDARY {
+		@Override
+		double product(double value) {
+			return LUMINOSITY.product(Math.pow(value / HabitableZoneCalculator.OUTER_BOUNDARY_FACTOR, 2));
+		}
+
+		@Override
+		public double evaluate(double radius, double temperature) {
+			return Math.sqrt(LUMINOSITY.evaluate(radius, temperature)) * HabitableZoneCalculator.OUTER_BOUNDARY_FACTOR;
+		}
+	},
+
+	/** The irradiance at 1 AU in W/m². */
+	IRRADIANCE {
+		@Override
+		double product(double value) {
+			return value / ThermalEquations.calculateIrradianceAtDistance(1, 1, 1);
+		}
+
+		@Override
+		public double evaluate(double radius, double temperature) {
+			return ThermalEquations.calculateIrradianceAtDistance(radius, temperature, 1);
+		}
+	};
+
+	/** The radiant flux of a star of one solar radius at 1 K. */
+	private static final double UNIT_FLUX = ThermalEquations.calculateRadiantFlux(1, 1);
+
+	/** The scaled luminosity of a star of one solar radius at 1 K. */
+	private static final double UNIT_SCALED_LUMINOSITY = ThermalEquations.calculateScaledLuminosity(1, 1);
+
+	/**
+	 * Returns the value of R²T⁴ at which the target takes <b>value</b>.
+	 *
+	 * @param value the target value
+	 * @return the product in R☉²K⁴
+	 */
+	abstract double product(double value);
+
+	/**
+	 * Calculates the target quantity of a star with the same equations as the
+	 * calculators.
+	 *
+	 * @param radius      the radius in solar radii
+	 * @param temperature the temperature in Kelvin
+	 * @return the value of the target quantity
+	 */
+	public abstract double evaluate(double radius, double temperature);
+}
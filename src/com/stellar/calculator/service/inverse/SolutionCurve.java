@@ -0,0 +1,71 @@
+package com.stellar.calculator.service.inverse;
+
+import com.stellar.calculator.domain.model.Star;
+
+/**
+ * The valid stellar parameters at which an {@link InverseTarget} takes a given
+ * value: the part of the curve R²T⁴ = {@code product} that lies within the
+ * validator limits. Any valid mass may be combined with any point of the
+ * curve.
+ *
+ * @param target         the inverted quantity
+ * @param value          the target value
+ * @param product        the value of R²T⁴ in R☉²K⁴ on the curve
+ * @param minTemperature the coolest valid temperature in Kelvin (at the
+ *                       largest valid radius)
+ * @param maxTemperature the hottest valid temperature in Kelvin (at the
+ *                       smallest searched radius)
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record SolutionCurve(InverseTarget target, double value, double product, double minTemperature,
+		double maxTemperature) {
+
+	/**
+	 * Returns the radius on the curve at a temperature.
+	 *
+	 * @param temperature the temperature in Kelvin
+	 * @return the radius in solar radii
+	 */
+	public double radiusAt(double temperature) {
+		return Math.sqrt(product) / (temperature * temperature);
+	}
+
+	/**
+	 * Returns the temperature on the curve at a radius.
+	 *
+	 * @param radius the radius in solar radii
+	 * @return the temperature in Kelvin
+	 */
+	public double temperatureAt(double radius) {
+		return Math.sqrt(Math.sqrt(product) / radius);
+	}
+
+	/**
+	 * Checks whether a temperature lies on the valid part of the curve.
+	 *
+	 * @param temperature the temperature in Kelvin
+	 * @return {@code true} if the temperature and its radius are valid
+	 */
+	public boolean isValidTemperature(double temperature) {
+		return temperature >= minTemperature && temperature <= maxTemperature;
+	}
+
+	/**
+	 * Returns the star of the given mass and temperature on the curve.
+	 *
+	 * @param mass        the mass in solar masses
+	 * @param temperature the temperature in Kelvin
+	 * @return the star
+	 * @throws IllegalArgumentException if <b>temperature</b> is not on the valid
+	 *                                  part of the curve or <b>mass</b> is not
+	 *                                  positive
+	 */
+	public Star star(double mass, double temperature) {
+		if (!isValidTemperature(temperature)) {
+			throw new IllegalArgumentException("temperature " + temperature + " K is outside the valid range "
+					+ minTemperature + "-" + maxTemperature + " K");
+		}
+		return new Star(mass, radiusAt(temperature), temperature);
+	}
+}
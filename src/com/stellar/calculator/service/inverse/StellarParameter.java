@@ -0,0 +1,82 @@
+package com.stellar.calculator.service.inverse;
+
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.validation.InputValidator;
+
+/**
+ * A free parameter of an inverse problem, with the range searched for it.
+ *
+ * <p>
+ * Upper limits are those of {@link InputValidator}. Its lower limits are
+ * exclusive zeros, so the searches stop at small positive values instead:
+ * roughly a Jupiter mass, a hundredth of a white dwarf's radius and 1 K.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public enum StellarParameter {
+	/** The mass in solar masses. */
+	MASS(1e-3, InputValidator.MAX_MASS),
+
+	/** The radius in solar radii. */
+	RADIUS(1e-4, InputValidator.MAX_RADIUS),
+
+	/** The surface temperature in Kelvin. */
+	TEMPERATURE(1, InputValidator.MAX_TEMPERATURE);
+
+	private final double min;
+	private final double max;
+
+	StellarParameter(double min, double max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * Returns the smallest value searched.
+	 *
+	 * @return the lower limit
+	 */
+	public double min() {
+		return min;
+	}
+
+	/**
+	 * Returns the largest valid value.
+	 *
+	 * @return the upper limit
+	 */
+	public double max() {
+		return max;
+	}
+
+	/**
+	 * Returns this parameter of a star.
+	 *
+	 * @param star the star
+	 * @return the value of the parameter
+	 */
+	public double of(Star star) {
+		return switch (this) {
+		case MASS -> star.getMass();
+		case RADIUS -> star.getRadius();
+		case TEMPERATURE -> star.getTemperature();
+		};
+	}
+
+	/**
+	 * Returns a copy of a star with this parameter replaced.
+	 *
+	 * @param star  the star
+	 * @param value the new value of the parameter
+	 * @return the modified star
+	 * @throws IllegalArgumentException if <b>value</b> is not positive
+	 */
+	public Star with(Star star, double value) {
+		return switch (this) {
+		case MASS -> new Star(value, star.getRadius(), star.getTemperature());
+		case RADIUS -> new Star(star.getMass(), value, star.getTemperature());
+		case TEMPERATURE -> new Star(star.getMass(), star.getRadius(), value);
+		};
+	}
+}
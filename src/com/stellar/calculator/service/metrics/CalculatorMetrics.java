@@ -0,0 +1,158 @@
+package com.stellar.calculator.service.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.stellar.calculator.calculation.api.Calculator;
+
+/**
+ * Invocation count, error count and latency histogram of one calculator.
+ * Single-star calls and batch calls are timed in separate histograms; the
+ * error count covers both. Instances are created by {@link MetricsRegistry} and
+ * updated by the calculation service around every call; all updates are
+ * lock-free.
+ *
+ * <p>
+ * The description is read from the calculator the first time it is asked
+ * for, so registering a lazily loaded calculator does not load it.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class CalculatorMetrics implements CalculatorMetricsMBean {
+	private final String name;
+	private final Calculator<?, ?> calculator;
+	private volatile String description;
+	private final LongAdder invocations = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final LongAdder batchRows = new LongAdder();
+	private final LatencyHistogram batchLatency = new LatencyHistogram();
+
+	CalculatorMetrics(String name, Calculator<?, ?> calculator) {
+		this.name = Objects.requireNonNull(name, "name cannot be null");
+		this.calculator = Objects.requireNonNull(calculator, "calculator cannot be null");
+	}
+
+	/**
+	 * Records a successful call.
+	 *
+	 * @param nanos the duration of the call in nanoseconds
+	 */
+	public void recordSuccess(long nanos) {
+		invocations.increment();
+		latency.record(nanos);
+	}
+
+	/**
+	 * Records a call that threw an exception.
+	 *
+	 * @param nanos the duration of the call in nanoseconds
+	 */
+	public void recordFailure(long nanos) {
+		invocations.increment();
+		errors.increment();
+		latency.record(nanos);
+	}
+
+	/**
+	 * Records a call of the batch counterpart of the calculator.
+	 *
+	 * @param nanos  the duration of the call in nanoseconds
+	 * @param rows   the number of stars in the batch
+	 * @param failed whether the call threw an exception
+	 */
+	public void recordBatch(long nanos, int rows, boolean failed) {
+		batchRows.add(rows);
+		batchLatency.record(nanos);
+		if (failed) {
+			errors.increment();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the latency histogram of single-star calls.
+	 *
+	 * @return the current latency snapshot
+	 */
+	public LatencySnapshot latency() {
+		return latency.snapshot();
+	}
+
+	/**
+	 * Returns a snapshot of the latency histogram of batch calls.
+	 *
+	 * @return the current batch latency snapshot
+	 */
+	public LatencySnapshot batchLatency() {
+		return batchLatency.snapshot();
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String getDescription() {
+		String result = description;
+		if (result == null) {
+			result = calculator.getDescription();
+			if (result == null) {
+				result = "";
+			}
+			description = result;
+		}
+		return result;
+	}
+
+	@Override
+	public long getInvocationCount() {
+		return invocations.sum();
+	}
+
+	@Override
+	public long getErrorCount() {
+		return errors.sum();
+	}
+
+	@Override
+	public long getBatchCount() {
+		return batchLatency.snapshot().count();
+	}
+
+	@Override
+	public long getBatchRowCount() {
+		return batchRows.sum();
+	}
+
+	@Override
+	public double getMeanBatchLatencyMicros() {
+		return batchLatency.snapshot().meanNanos() / 1000.0;
+	}
+
+	@Override
+	public double getMeanLatencyMicros() {
+		return latency.snapshot().meanNanos() / 1000.0;
+	}
+
+	@Override
+	public double getP50LatencyMicros() {
+		return latency.snapshot().percentileNanos(50) / 1000.0;
+	}
+
+	@Override
+	public double getP99LatencyMicros() {
+		return latency.snapshot().percentileNanos(99) / 1000.0;
+	}
+
+	@Override
+	public double getP999LatencyMicros() {
+		return latency.snapshot().percentileNanos(99.9) / 1000.0;
+	}
+
+	@Override
+	public double getMaxLatencyMicros() {
+		return latency.snapshot().maxNanos() / 1000.0;
+	}
+}
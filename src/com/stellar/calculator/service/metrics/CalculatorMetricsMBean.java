@@ -0,0 +1,96 @@
+package com.stellar.calculator.service.metrics;
+
+/**
+ * JMX view of the metrics of one calculator. Latencies are reported in
+ * microseconds.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see CalculatorMetrics
+ */
+public interface CalculatorMetricsMBean {
+
+	/**
+	 * Returns the name the calculator is exported under.
+	 *
+	 * @return the calculator name
+	 */
+	String getName();
+
+	/**
+	 * Returns the description of the calculator.
+	 *
+	 * @return the calculator description
+	 */
+	String getDescription();
+
+	/**
+	 * Returns the number of completed single-star calls, successful or not.
+	 *
+	 * @return the invocation count
+	 */
+	long getInvocationCount();
+
+	/**
+	 * Returns the number of single-star and batch calls that threw an exception.
+	 *
+	 * @return the error count
+	 */
+	long getErrorCount();
+
+	/**
+	 * Returns the number of completed batch calls, successful or not.
+	 *
+	 * @return the batch count
+	 */
+	long getBatchCount();
+
+	/**
+	 * Returns the number of stars in all batch calls.
+	 *
+	 * @return the batch row count
+	 */
+	long getBatchRowCount();
+
+	/**
+	 * Returns the mean latency of all batch calls.
+	 *
+	 * @return the mean batch latency in microseconds
+	 */
+	double getMeanBatchLatencyMicros();
+
+	/**
+	 * Returns the mean latency of all single-star calls.
+	 *
+	 * @return the mean latency in microseconds
+	 */
+	double getMeanLatencyMicros();
+
+	/**
+	 * Returns the median latency.
+	 *
+	 * @return the 50th percentile in microseconds
+	 */
+	double getP50LatencyMicros();
+
+	/**
+	 * Returns the 99th percentile latency.
+	 *
+	 * @return the 99th percentile in microseconds
+	 */
+	double getP99LatencyMicros();
+
+	/**
+	 * Returns the 99.9th percentile latency.
+	 *
+	 * @return the 99.9th percentile in microseconds
+	 */
+	double getP999LatencyMicros();
+
+	/**
+	 * Returns the largest latency.
+	 *
+	 * @return the maximum latency in microseconds
+	 */
+	double getMaxLatencyMicros();
+}
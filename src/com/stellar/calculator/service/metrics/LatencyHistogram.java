@@ -0,0 +1,98 @@
+package com.stellar.calculator.service.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of latencies in nanoseconds with log-linear buckets,
+ * in the style of HdrHistogram.
+ *
+ * <p>
+ * Every power of two is split into eight equally wide buckets, so any recorded
+ * value is known to within 12.5%. Latencies from 0 ns up to about 137 s have a
+ * bucket of their own; longer ones are counted in the last bucket. Recording
+ * is a few shifts and a {@link LongAdder} increment, so concurrent callers do
+ * not contend.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+	static final int SUB_BUCKET_BITS = 3;
+	static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	static final int MAX_EXPONENT = 36;
+	static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Creates an empty histogram.
+	 */
+	public LatencyHistogram() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records a latency. Negative values are recorded as zero.
+	 *
+	 * @param nanos the latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		buckets[bucketIndex(value)].increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Returns a snapshot of the recorded latencies. The buckets are read without
+	 * stopping concurrent callers, so the snapshot is only approximately
+	 * consistent under load.
+	 *
+	 * @return the current snapshot
+	 */
+	public LatencySnapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets[i].sum();
+			count += counts[i];
+		}
+		return new LatencySnapshot(counts, count, sum.sum(), max.get());
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKETS - 1;
+		}
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Returns the smallest value counted in a bucket.
+	 */
+	static long lowerBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+	}
+
+	/**
+	 * Returns the smallest value counted in a later bucket.
+	 */
+	static long upperBound(int index) {
+		return index < SUB_BUCKETS ? index + 1 : lowerBound(index) + (1L << (index / SUB_BUCKETS - 1));
+	}
+}
@@ -0,0 +1,67 @@
+package com.stellar.calculator.service.metrics;
+
+/**
+ * Snapshot of a {@link LatencyHistogram}.
+ *
+ * @param bucketCounts the number of latencies in each bucket; not copied, so
+ *                     callers must not modify it
+ * @param count        the number of recorded latencies
+ * @param sumNanos     the sum of all recorded latencies in nanoseconds
+ * @param maxNanos     the largest recorded latency in nanoseconds
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record LatencySnapshot(long[] bucketCounts, long count, long sumNanos, long maxNanos) {
+
+	/**
+	 * Returns the mean latency.
+	 *
+	 * @return the mean latency in nanoseconds, or {@code 0} if nothing was
+	 *         recorded
+	 */
+	public double meanNanos() {
+		return count == 0 ? 0.0 : (double) sumNanos / count;
+	}
+
+	/**
+	 * Returns an upper estimate of the given percentile: the upper bound of the
+	 * bucket holding it, capped at the maximum.
+	 *
+	 * @param percentile the percentile, between 0 and 100
+	 * @return the latency in nanoseconds, or {@code 0} if nothing was recorded
+	 * @throws IllegalArgumentException if <b>percentile</b> is not between 0 and
+	 *                                  100
+	 */
+	public long percentileNanos(double percentile) {
+		if (!(percentile >= 0 && percentile <= 100)) {
+			throw new IllegalArgumentException("percentile must be between 0 and 100");
+		}
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+		long seen = 0;
+		for (int i = 0; i < bucketCounts.length; i++) {
+			seen += bucketCounts[i];
+			if (seen >= rank) {
+				return Math.min(LatencyHistogram.upperBound(i), maxNanos);
+			}
+		}
+		return maxNanos;
+	}
+
+	/**
+	 * Returns the number of latencies below a bound, rounded down to the bucket
+	 * containing it.
+	 *
+	 * @param nanos the bound in nanoseconds
+	 * @return the number of latencies in buckets entirely below <b>nanos</b>
+	 */
+	public long countBelow(long nanos) {
+		long below = 0;
+		for (int i = 0; i < bucketCounts.length && LatencyHistogram.upperBound(i) <= nanos; i++) {
+			below += bucketCounts[i];
+		}
+		return below;
+	}
+}
@@ -0,0 +1,115 @@
+package com.stellar.calculator.service.metrics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.stellar.calculator.calculation.api.Calculator;
+
+/**
+ * Holds the {@link CalculatorMetrics} of every calculator registered with a
+ * calculation service, and publishes them as JMX MBeans.
+ *
+ * <p>
+ * Each calculator is labelled with its {@link Calculator#getName() name}, by
+ * default its class name (e.g. {@code LuminosityCalculator}); further
+ * calculators of the same name get a numeric suffix. Metrics are registered
+ * with JMX under {@code com.stellar.calculator:type=Calculator,name=<name>}.
+ * The registry is safe for concurrent use.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ * @see com.stellar.calculator.io.output.PrometheusMetricsWriter
+ */
+public final class MetricsRegistry {
+	/** The JMX domain of all MBeans published by the registry. */
+	public static final String JMX_DOMAIN = "com.stellar.calculator";
+
+	private final List<CalculatorMetrics> calculators = new CopyOnWriteArrayList<>();
+	private final Map<String, Integer> nameCounts = new HashMap<>();
+
+	/**
+	 * Creates an empty registry.
+	 */
+	public MetricsRegistry() {
+	}
+
+	/**
+	 * Creates the metrics of a calculator. Calculation services call this when
+	 * the calculator is registered. Only the name is read here, so a lazily
+	 * loaded calculator stays unloaded.
+	 *
+	 * @param calculator the calculator to track
+	 * @return the metrics to update around each call
+	 * @throws NullPointerException if <b>calculator</b> is {@code null}
+	 */
+	public synchronized CalculatorMetrics register(Calculator<?, ?> calculator) {
+		Objects.requireNonNull(calculator, "calculator cannot be null");
+		String name = calculator.getName();
+		if (name.isEmpty()) {
+			name = "Calculator";
+		}
+		int count = nameCounts.merge(name, 1, Integer::sum);
+		var metrics = new CalculatorMetrics(count == 1 ? name : name + count, calculator);
+		calculators.add(metrics);
+		return metrics;
+	}
+
+	/**
+	 * Returns the metrics of every calculator, in registration order.
+	 *
+	 * @return an unmodifiable snapshot of the calculator metrics
+	 */
+	public List<CalculatorMetrics> calculators() {
+		return List.copyOf(calculators);
+	}
+
+	/**
+	 * Registers the metrics of every calculator as MBeans. Calculators
+	 * registered afterwards are not published until this is called again.
+	 *
+	 * @param server the MBean server, usually the platform MBean server
+	 * @throws JMException          if an MBean cannot be registered
+	 * @throws NullPointerException if <b>server</b> is {@code null}
+	 */
+	public void registerMBeans(MBeanServer server) throws JMException {
+		Objects.requireNonNull(server, "server cannot be null");
+		for (CalculatorMetrics metrics : calculators) {
+			try {
+				server.registerMBean(metrics, objectName(metrics));
+			} catch (InstanceAlreadyExistsException e) {
+				// Published by an earlier call.
+			}
+		}
+	}
+
+	/**
+	 * Removes the MBeans of every calculator from the server.
+	 *
+	 * @param server the MBean server the metrics were registered with
+	 * @throws JMException          if an MBean cannot be unregistered
+	 * @throws NullPointerException if <b>server</b> is {@code null}
+	 */
+	public void unregisterMBeans(MBeanServer server) throws JMException {
+		Objects.requireNonNull(server, "server cannot be null");
+		for (CalculatorMetrics metrics : calculators) {
+			try {
+				server.unregisterMBean(objectName(metrics));
+			} catch (InstanceNotFoundException e) {
+				// Never published.
+			}
+		}
+	}
+
+	private static ObjectName objectName(CalculatorMetrics metrics) throws JMException {
+		return new ObjectName(JMX_DOMAIN + ":type=Calculator,name=" + ObjectName.quote(metrics.getName()));
+	}
+}
@@ -1,11 +1,33 @@
 package com.stellar.calculator.service.orchestration;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
+import com.stellar.calculator.diagnostics.IoStageEvent;
 import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.io.columnar.ColumnarCatalog;
+import com.stellar.calculator.io.columnar.ColumnarCatalogWriter;
+import com.stellar.calculator.io.fits.FitsCatalogReader;
+import com.stellar.calculator.io.input.CatalogFormatException;
+import com.stellar.calculator.io.input.CatalogReader;
+import com.stellar.calculator.io.input.CatalogRow;
 import com.stellar.calculator.io.input.InputReader;
+import com.stellar.calculator.io.index.HabitableZoneIndexWriter;
+import com.stellar.calculator.io.output.CatalogFailureWriter;
+import com.stellar.calculator.io.output.CatalogReport;
+import com.stellar.calculator.io.output.CatalogResultWriter;
 import com.stellar.calculator.io.output.ResultPrinter;
 import com.stellar.calculator.service.api.CalculationService;
+import com.stellar.calculator.service.catalog.CatalogAnalysisEngine;
+import com.stellar.calculator.service.catalog.StarAnalysis;
+import com.stellar.calculator.validation.InputValidator;
+import com.stellar.calculator.validation.ValidationError;
 
 /**
  * Orchestrates the overall calculation process. Coordinates input, calculation,
@@ -15,9 +37,14 @@ import com.stellar.calculator.service.api.CalculationService;
  * @version 1.0
  */
 public class CalculationOrchestrator {
+	/** The number of rows read at once from a columnar catalog without an engine. */
+	private static final int COLUMNAR_WINDOW_SIZE = 4096;
+
 	private final InputReader inputReader;
 	private final CalculationService calculationService;
 	private final ResultPrinter resultPrinter;
+	private final CatalogAnalysisEngine analysisEngine;
+	private final InputValidator validator = new InputValidator();
 
 	/**
 	 * Constructs an orchestrator in preparation for processing.
@@ -33,6 +60,27 @@ public class CalculationOrchestrator {
 		this.inputReader = Objects.requireNonNull(inputReader);
 		this.calculationService = Objects.requireNonNull(calculationService);
 		this.resultPrinter = Objects.requireNonNull(resultPrinter);
+		this.analysisEngine = null;
+	}
+
+	/**
+	 * Constructs an orchestrator that analyzes catalogs in parallel with the
+	 * given engine. Interactive processing is unaffected.
+	 * 
+	 * @param inputReader        the input reader
+	 * @param calculationService the calculation service
+	 * @param resultPrinter      the result printer
+	 * @param analysisEngine     the engine used for catalog runs
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public CalculationOrchestrator(InputReader inputReader, 
+			CalculationService calculationService,
+			ResultPrinter resultPrinter,
+			CatalogAnalysisEngine analysisEngine) {
+		this.inputReader = Objects.requireNonNull(inputReader);
+		this.calculationService = Objects.requireNonNull(calculationService);
+		this.resultPrinter = Objects.requireNonNull(resultPrinter);
+		this.analysisEngine = Objects.requireNonNull(analysisEngine);
 	}
 
 	/**
@@ -47,4 +95,393 @@ public class CalculationOrchestrator {
 			resultPrinter.printError("Calculation error: " + e.getMessage());
 		}
 	}
+
+	/**
+	 * Converts a CSV or FITS catalog into a {@link ColumnarCatalog} with row
+	 * identifiers, so that later runs scan it without parsing. Rows that cannot
+	 * be parsed or fail validation are recorded in <b>failures</b> and left out.
+	 *
+	 * @param catalog  the CSV catalog with {@code id,mass,radius,temperature}
+	 *                 rows, or a FITS catalog as read by {@link FitsCatalogReader}
+	 * @param columnar the columnar catalog file to write
+	 * @param failures the CSV file to record failed rows in
+	 * @return a summary of the conversion
+	 * @throws IOException          if any of the files cannot be read or written
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public CatalogReport convertCatalog(Path catalog, Path columnar, Path failures) throws IOException {
+		Objects.requireNonNull(catalog, "catalog cannot be null");
+		Objects.requireNonNull(columnar, "columnar cannot be null");
+		Objects.requireNonNull(failures, "failures cannot be null");
+
+		long rows = 0;
+		long failed = 0;
+		long start = System.nanoTime();
+		var writer = new ColumnarCatalogWriter(true);
+		try (var reader = openRows(catalog); var failureWriter = CatalogFailureWriter.create(failures)) {
+			while (true) {
+				CatalogRow row;
+				try {
+					row = reader.next();
+				} catch (CatalogFormatException e) {
+					rows++;
+					failed++;
+					failureWriter.write(e.getLineNumber(), e.getId(), e.getMessage());
+					continue;
+				}
+				if (row == null) {
+					break;
+				}
+				rows++;
+				int error = validator.checkMass(row.mass()) | validator.checkRadius(row.radius())
+						| validator.checkTemperature(row.temperature());
+				if (error != 0) {
+					failed++;
+					failureWriter.write(row.lineNumber(), row.id(), ValidationError.firstMessage(error));
+				} else {
+					writer.add(row.id(), new Star(row.mass(), row.radius(), row.temperature()));
+				}
+			}
+		}
+		writer.write(columnar);
+
+		var report = new CatalogReport(rows, failed, Duration.ofNanos(System.nanoTime() - start));
+		resultPrinter.printCatalogReport(report, columnar, failures);
+		return report;
+	}
+
+	/**
+	 * Runs a non-interactive analysis of a whole CSV catalog.
+	 *
+	 * <p>
+	 * Rows are streamed from <b>catalog</b> in bounded windows, analyzed, and
+	 * written to <b>results</b> in catalog order; memory use does not grow with
+	 * the catalog size. When the orchestrator was created with a
+	 * {@link CatalogAnalysisEngine}, each window is analyzed in parallel. Rows that
+	 * cannot be parsed, fail validation, or fail to calculate are recorded in
+	 * <b>failures</b> and do not interrupt the run. The parameters of a window
+	 * are validated column by column into per-row error codes, so invalid rows
+	 * cost no exceptions. The read, analyze and write
+	 * stages of every window are reported to Flight Recorder as
+	 * {@link IoStageEvent}s.
+	 *
+	 * <p>
+	 * The catalog may also be a {@link ColumnarCatalog} or the first binary
+	 * table of a FITS file, read by {@link FitsCatalogReader}; both are
+	 * recognized by their first bytes, read from mapped data without text
+	 * parsing, and their rows are numbered from 1 in the failures file.
+	 * Columnar catalogs are read a window at a time straight into a
+	 * {@link StarBatch} with {@link ColumnarCatalog#read(int, StarBatch)}, and
+	 * row identifiers are only decoded when their row is written.
+	 *
+	 * @param catalog  the CSV catalog with {@code id,mass,radius,temperature} rows
+	 * @param results  the CSV file to write results to
+	 * @param failures the CSV file to record failed rows in
+	 * @return a summary of the run
+	 * @throws IOException          if any of the files cannot be read or written
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public CatalogReport processCatalog(Path catalog, Path results, Path failures) throws IOException {
+		return processCatalog(catalog, results, failures, null);
+	}
+
+	/**
+	 * Runs a non-interactive analysis of a whole CSV catalog, like
+	 * {@link #processCatalog(Path, Path, Path)}, and additionally writes a
+	 * {@link com.stellar.calculator.io.index.HabitableZoneIndex} over the
+	 * habitable zones of all successfully analyzed stars.
+	 *
+	 * @param catalog  the CSV catalog with {@code id,mass,radius,temperature} rows
+	 * @param results  the CSV file to write results to
+	 * @param failures the CSV file to record failed rows in
+	 * @param index    the habitable zone index file to write, or {@code null} to
+	 *                 skip the index
+	 * @return a summary of the run
+	 * @throws IOException          if any of the files cannot be read or written
+	 * @throws NullPointerException if <b>catalog</b>, <b>results</b> or
+	 *                              <b>failures</b> is {@code null}
+	 */
+	public CatalogReport processCatalog(Path catalog, Path results, Path failures, Path index) throws IOException {
+		Objects.requireNonNull(catalog, "catalog cannot be null");
+		Objects.requireNonNull(results, "results cannot be null");
+		Objects.requireNonNull(failures, "failures cannot be null");
+
+		long start = System.nanoTime();
+		HabitableZoneIndexWriter indexWriter = index == null ? null : new HabitableZoneIndexWriter();
+		CatalogReport counts;
+		if (ColumnarCatalog.isColumnar(catalog)) {
+			counts = processColumnar(catalog, results, failures, indexWriter);
+		} else {
+			counts = processRows(catalog, results, failures, indexWriter);
+		}
+		if (indexWriter != null) {
+			indexWriter.write(index);
+		}
+
+		var report = new CatalogReport(counts.rows(), counts.failures(), Duration.ofNanos(System.nanoTime() - start));
+		resultPrinter.printCatalogReport(report, results, failures);
+		return report;
+	}
+
+	/**
+	 * Streams the rows of a CSV or FITS catalog through windows of
+	 * {@link PendingRow}s.
+	 *
+	 * @return the row and failure counts, without a meaningful duration
+	 */
+	private CatalogReport processRows(Path catalog, Path results, Path failures,
+			HabitableZoneIndexWriter indexWriter) throws IOException {
+		int windowSize = analysisEngine == null ? 1 : analysisEngine.getWindowSize();
+		List<PendingRow> window = new ArrayList<>(windowSize);
+		long rows = 0;
+		long failed = 0;
+
+		try (var reader = openRows(catalog);
+				var resultWriter = CatalogResultWriter.create(results);
+				var failureWriter = CatalogFailureWriter.create(failures)) {
+			var readEvent = new IoStageEvent();
+			readEvent.begin();
+			while (true) {
+				PendingRow pending;
+				try {
+					CatalogRow row = reader.next();
+					if (row == null) {
+						break;
+					}
+					pending = new PendingRow(row.lineNumber(), row.id(), row, null);
+				} catch (CatalogFormatException e) {
+					pending = new PendingRow(e.getLineNumber(), e.getId(), null, e.getMessage());
+				}
+
+				rows++;
+				window.add(pending);
+				if (window.size() == windowSize) {
+					readEvent.complete(IoStageEvent.READ, catalog, window.size());
+					failed += flush(catalog, window, resultWriter, failureWriter, indexWriter);
+					readEvent = new IoStageEvent();
+					readEvent.begin();
+				}
+			}
+			readEvent.complete(IoStageEvent.READ, catalog, window.size());
+			failed += flush(catalog, window, resultWriter, failureWriter, indexWriter);
+		}
+		return new CatalogReport(rows, failed, Duration.ZERO);
+	}
+
+	/**
+	 * Scans a columnar catalog window by window. The stars of a window are
+	 * copied into a reused batch in bulk and validated column by column; no
+	 * object is created for a row until it is analyzed or written.
+	 *
+	 * @return the row and failure counts, without a meaningful duration
+	 */
+	private CatalogReport processColumnar(Path catalog, Path results, Path failures,
+			HabitableZoneIndexWriter indexWriter) throws IOException {
+		ColumnarCatalog columnar = ColumnarCatalog.open(catalog);
+		int windowSize = analysisEngine == null ? COLUMNAR_WINDOW_SIZE : analysisEngine.getWindowSize();
+		var batch = new StarBatch(Math.min(windowSize, Math.max(1, columnar.size())));
+		byte[] errors = new byte[batch.capacity()];
+		long failed = 0;
+
+		try (var resultWriter = CatalogResultWriter.create(results);
+				var failureWriter = CatalogFailureWriter.create(failures)) {
+			for (int from = 0; from < columnar.size(); from += batch.size()) {
+				var readEvent = new IoStageEvent();
+				readEvent.begin();
+				batch.clear();
+				try {
+					columnar.read(from, batch);
+				} catch (IllegalArgumentException e) {
+					throw new IOException("corrupt columnar catalog near row " + (from + 1) + ": " + e.getMessage(), e);
+				}
+				readEvent.complete(IoStageEvent.READ, catalog, batch.size());
+
+				int n = batch.size();
+				validator.checkBatch(batch, errors);
+				List<Star> stars = new ArrayList<>(n);
+				for (int i = 0; i < n; i++) {
+					if (errors[i] == 0) {
+						stars.add(batch.star(i));
+					}
+				}
+				List<StarAnalysis> analyses = analyze(catalog, stars);
+
+				var writeEvent = new IoStageEvent();
+				writeEvent.begin();
+				int next = 0;
+				for (int i = 0; i < n; i++) {
+					int row = from + i;
+					if (errors[i] != 0) {
+						failed++;
+						failureWriter.write(row + 1, columnar.id(row), ValidationError.firstMessage(errors[i]));
+						continue;
+					}
+					StarAnalysis analysis = analyses.get(next++);
+					if (analysis.isSuccess()) {
+						String id = columnar.id(row);
+						resultWriter.write(id, analysis.results());
+						if (indexWriter != null) {
+							indexWriter.add(id, analysis.results());
+						}
+					} else {
+						failed++;
+						failureWriter.write(row + 1, columnar.id(row), analysis.failure().getMessage());
+					}
+				}
+				writeEvent.complete(IoStageEvent.WRITE, catalog, n);
+			}
+		}
+		return new CatalogReport(columnar.size(), failed, Duration.ZERO);
+	}
+
+	/**
+	 * Opens a CSV, columnar or FITS catalog as a source of rows.
+	 */
+	private static RowSource openRows(Path catalog) throws IOException {
+		if (FitsCatalogReader.isFits(catalog)) {
+			FitsCatalogReader fits = FitsCatalogReader.open(catalog);
+			return new RowSource() {
+				@Override
+				public CatalogRow next() throws IOException {
+					return fits.next();
+				}
+
+				@Override
+				public void close() throws IOException {
+					fits.close();
+				}
+			};
+		}
+		if (ColumnarCatalog.isColumnar(catalog)) {
+			ColumnarCatalog columnar = ColumnarCatalog.open(catalog);
+			return new RowSource() {
+				private int next;
+
+				@Override
+				public CatalogRow next() {
+					return next < columnar.size() ? columnar.row(next++) : null;
+				}
+			};
+		}
+		CatalogReader reader = CatalogReader.open(catalog);
+		return new RowSource() {
+			@Override
+			public CatalogRow next() throws IOException {
+				return reader.next();
+			}
+
+			@Override
+			public void close() throws IOException {
+				reader.close();
+			}
+		};
+	}
+
+	/**
+	 * Analyzes the valid rows of a window and writes all rows in catalog order.
+	 *
+	 * @return the number of failed rows in the window
+	 */
+	private long flush(Path catalog, List<PendingRow> window, CatalogResultWriter resultWriter,
+			CatalogFailureWriter failureWriter, HabitableZoneIndexWriter indexWriter) throws IOException {
+		int n = window.size();
+		double[] masses = new double[n];
+		double[] radii = new double[n];
+		double[] temperatures = new double[n];
+		int parsed = 0;
+		for (PendingRow pending : window) {
+			if (pending.row() != null) {
+				masses[parsed] = pending.row().mass();
+				radii[parsed] = pending.row().radius();
+				temperatures[parsed] = pending.row().temperature();
+				parsed++;
+			}
+		}
+		byte[] errors = new byte[parsed];
+		int invalid = validator.checkColumns(masses, radii, temperatures, parsed, errors);
+		List<Star> stars = new ArrayList<>(parsed - invalid);
+		for (int i = 0; i < parsed; i++) {
+			if (errors[i] == 0) {
+				stars.add(new Star(masses[i], radii[i], temperatures[i]));
+			}
+		}
+		List<StarAnalysis> analyses = analyze(catalog, stars);
+
+		var writeEvent = new IoStageEvent();
+		writeEvent.begin();
+
+		long failed = 0;
+		int row = 0;
+		int next = 0;
+		for (PendingRow pending : window) {
+			if (pending.row() == null) {
+				failed++;
+				failureWriter.write(pending.lineNumber(), pending.id(), pending.failure());
+				continue;
+			}
+			int error = errors[row++];
+			if (error != 0) {
+				failed++;
+				failureWriter.write(pending.lineNumber(), pending.id(), ValidationError.firstMessage(error));
+				continue;
+			}
+			StarAnalysis analysis = analyses.get(next++);
+			if (analysis.isSuccess()) {
+				resultWriter.write(pending.id(), analysis.results());
+				if (indexWriter != null) {
+					indexWriter.add(pending.id(), analysis.results());
+				}
+			} else {
+				failed++;
+				failureWriter.write(pending.lineNumber(), pending.id(), analysis.failure().getMessage());
+			}
+		}
+		writeEvent.complete(IoStageEvent.WRITE, catalog, window.size());
+		window.clear();
+		return failed;
+	}
+
+	/**
+	 * Analyzes the valid stars of a window, reported as the analyze stage.
+	 */
+	private List<StarAnalysis> analyze(Path catalog, List<Star> stars) {
+		var analyzeEvent = new IoStageEvent();
+		analyzeEvent.begin();
+		List<StarAnalysis> analyses;
+		if (analysisEngine != null) {
+			analyses = analysisEngine.analyze(stars);
+		} else {
+			analyses = new ArrayList<>(stars.size());
+			for (Star star : stars) {
+				try {
+					analyses.add(StarAnalysis.success(star, calculationService.calculateAll(star)));
+				} catch (RuntimeException e) {
+					analyses.add(StarAnalysis.failure(star, e));
+				}
+			}
+		}
+		analyzeEvent.complete(IoStageEvent.ANALYZE, catalog, stars.size());
+		return analyses;
+	}
+
+	/**
+	 * The rows of a catalog, read one at a time.
+	 */
+	private interface RowSource extends Closeable {
+		/**
+		 * Reads the next row, or returns {@code null} at the end of the catalog.
+		 */
+		CatalogRow next() throws IOException;
+
+		@Override
+		default void close() throws IOException {
+		}
+	}
+
+	/**
+	 * A catalog row waiting for analysis: either a parsed row or the reason
+	 * it was rejected.
+	 */
+	private record PendingRow(long lineNumber, String id, CatalogRow row, String failure) {
+	}
 }
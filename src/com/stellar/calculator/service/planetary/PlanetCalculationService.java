@@ -0,0 +1,119 @@
+package com.stellar.calculator.service.planetary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.DerivedQuantities;
+import com.stellar.calculator.calculation.api.ObjectResultColumn;
+import com.stellar.calculator.calculation.api.PlanetCalculator;
+import com.stellar.calculator.calculation.api.PlanetQuantities;
+import com.stellar.calculator.calculation.planetary.EarthSimilarityIndexCalculator;
+import com.stellar.calculator.calculation.planetary.EquilibriumTemperatureCalculator;
+import com.stellar.calculator.calculation.planetary.HabitableZonePositionCalculator;
+import com.stellar.calculator.calculation.planetary.PlanetIrradianceCalculator;
+import com.stellar.calculator.domain.model.Planet;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.api.BatchResults;
+
+/**
+ * Runs planet calculators on single planets and on whole exoplanet catalogs.
+ *
+ * <p>
+ * {@link #calculateAll(Planet)} shares one {@link PlanetQuantities} between all
+ * calculators of a planet. {@link #calculateBatch(List)} additionally groups
+ * the planets by host star and shares one {@link DerivedQuantities} per
+ * system, so the host's luminosity and radiant flux are computed once per
+ * system however many planets it has.
+ *
+ * <p>
+ * The service is safe for concurrent use.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class PlanetCalculationService {
+	private final List<PlanetCalculator<?>> calculators = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a new planet calculation service and registers the default
+	 * calculators: irradiance at the orbit, equilibrium temperature, position
+	 * relative to the habitable zone and the Earth Similarity Index.
+	 */
+	public PlanetCalculationService() {
+		registerCalculator(new PlanetIrradianceCalculator());
+		registerCalculator(new EquilibriumTemperatureCalculator());
+		registerCalculator(new HabitableZonePositionCalculator());
+		registerCalculator(new EarthSimilarityIndexCalculator());
+	}
+
+	/**
+	 * Executes all registered calculators on the given planet.
+	 *
+	 * @param planet the planet to analyze
+	 * @return the results in registration order
+	 * @throws NullPointerException     if <b>planet</b> is {@code null}
+	 * @throws IllegalArgumentException if the planet or its host star has
+	 *                                  invalid parameters
+	 */
+	public List<CalculationResult> calculateAll(Planet planet) {
+		return calculateAll(new PlanetQuantities(planet), calculators);
+	}
+
+	/**
+	 * Executes all registered calculators on every planet of a catalog, sharing
+	 * the host star's quantities between the planets of each system.
+	 *
+	 * @param planets the planets to analyze, in any order
+	 * @return the results, one column per calculator and one row per planet in
+	 *         the order of <b>planets</b>
+	 * @throws NullPointerException     if <b>planets</b> or any planet is
+	 *                                  {@code null}
+	 * @throws IllegalArgumentException if any planet or host star has invalid
+	 *                                  parameters
+	 */
+	public BatchResults calculateBatch(List<Planet> planets) {
+		Objects.requireNonNull(planets, "planets cannot be null");
+		List<PlanetCalculator<?>> current = List.copyOf(calculators);
+		int n = planets.size();
+		List<ObjectResultColumn> columns = new ArrayList<>(current.size());
+		for (int c = 0; c < current.size(); c++) {
+			columns.add(new ObjectResultColumn(n));
+		}
+
+		Map<Star, DerivedQuantities> systems = new HashMap<>();
+		for (int row = 0; row < n; row++) {
+			Planet planet = Objects.requireNonNull(planets.get(row), "planet cannot be null");
+			DerivedQuantities host = systems.computeIfAbsent(planet.hostStar(), DerivedQuantities::new);
+			List<CalculationResult> results = calculateAll(new PlanetQuantities(planet, host), current);
+			for (int c = 0; c < results.size(); c++) {
+				columns.get(c).values()[row] = results.get(c);
+			}
+		}
+		columns.forEach(column -> column.setSize(n));
+		return new BatchResults(columns, n);
+	}
+
+	private static List<CalculationResult> calculateAll(PlanetQuantities quantities,
+			List<PlanetCalculator<?>> calculators) {
+		List<CalculationResult> results = new ArrayList<>(calculators.size());
+		for (PlanetCalculator<?> calculator : calculators) {
+			results.add(calculator.calculate(quantities));
+		}
+		return results;
+	}
+
+	/**
+	 * Registers a new calculator with this service.
+	 *
+	 * @param calculator the calculator to register
+	 * @throws NullPointerException if <b>calculator</b> is {@code null}
+	 */
+	public void registerCalculator(PlanetCalculator<?> calculator) {
+		calculators.add(Objects.requireNonNull(calculator, "calculator cannot be null"));
+	}
+}
@@ -0,0 +1,38 @@
+package com.stellar.calculator.service.uncertainty;
+
+import java.util.Map;
+
+/**
+ * The sampled distribution of a categorical result such as the spectral type or
+ * the luminosity class.
+ *
+ * @param name          the result name, e.g. {@code spectralClass}
+ * @param probabilities the fraction of samples in each category, keyed by the
+ *                      category label and ordered from the most to the least
+ *                      likely
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record CategoryDistribution(String name, Map<String, Double> probabilities) {
+
+	/**
+	 * Returns the most likely category.
+	 *
+	 * @return the label of the most frequent category, or {@code null} if there
+	 *         were no samples
+	 */
+	public String mode() {
+		var labels = probabilities.keySet().iterator();
+		return labels.hasNext() ? labels.next() : null;
+	}
+
+	/**
+	 * Returns the probability of a category.
+	 *
+	 * @param label the category label, e.g. {@code "G2"}
+	 * @return the fraction of samples in the category, {@code 0} if none
+	 */
+	public double probability(String label) {
+		return probabilities.getOrDefault(label, 0.0);
+	}
+}
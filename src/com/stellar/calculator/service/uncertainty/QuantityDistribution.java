@@ -0,0 +1,148 @@
+package com.stellar.calculator.service.uncertainty;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The sampled distribution of a numeric result quantity, summarized by its
+ * moments and percentiles.
+ *
+ * <p>
+ * The level and percentile arrays are copied on construction and on access,
+ * so a distribution cannot be changed through them. Equality, hash code and
+ * string form use the contents of the arrays.
+ *
+ * @param name              the quantity name, e.g. {@code luminosity} or
+ *                          {@code habitableZone.innerBoundary}
+ * @param samples           the number of finite samples the summary is based
+ *                          on; undefined (NaN) or infinite samples are left out
+ * @param mean              the sample mean
+ * @param standardDeviation the sample standard deviation
+ * @param levels            the percentile levels, between 0 and 100, in
+ *                          ascending order
+ * @param percentiles       the value at each level, interpolated linearly
+ *                          between the closest ranks
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record QuantityDistribution(String name, int samples, double mean, double standardDeviation,
+		double[] levels, double[] percentiles) {
+
+	/**
+	 * Creates a distribution with copies of the arrays.
+	 *
+	 * @throws NullPointerException     if <b>levels</b> or <b>percentiles</b>
+	 *                                  is {@code null}
+	 * @throws IllegalArgumentException if the arrays differ in length
+	 */
+	public QuantityDistribution {
+		levels = Objects.requireNonNull(levels, "levels cannot be null").clone();
+		percentiles = Objects.requireNonNull(percentiles, "percentiles cannot be null").clone();
+		if (levels.length != percentiles.length) {
+			throw new IllegalArgumentException("levels and percentiles must have the same length");
+		}
+	}
+
+	/**
+	 * Returns the percentile levels.
+	 *
+	 * @return a copy of the levels, between 0 and 100, in ascending order
+	 */
+	@Override
+	public double[] levels() {
+		return levels.clone();
+	}
+
+	/**
+	 * Returns the value at each percentile level.
+	 *
+	 * @return a copy of the percentiles, in the order of {@link #levels()}
+	 */
+	@Override
+	public double[] percentiles() {
+		return percentiles.clone();
+	}
+
+	/**
+	 * Returns the value at a percentile level.
+	 *
+	 * @param level one of the {@link #levels() computed levels}
+	 * @return the percentile
+	 * @throws IllegalArgumentException if <b>level</b> was not computed
+	 */
+	public double percentile(double level) {
+		int index = Arrays.binarySearch(levels, level);
+		if (index < 0) {
+			throw new IllegalArgumentException("percentile " + level + " was not computed");
+		}
+		return percentiles[index];
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof QuantityDistribution other && Objects.equals(name, other.name) && samples == other.samples
+				&& Double.compare(mean, other.mean) == 0
+				&& Double.compare(standardDeviation, other.standardDeviation) == 0
+				&& Arrays.equals(levels, other.levels) && Arrays.equals(percentiles, other.percentiles);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = Objects.hash(name, samples, mean, standardDeviation);
+		hash = 31 * hash + Arrays.hashCode(levels);
+		return 31 * hash + Arrays.hashCode(percentiles);
+	}
+
+	@Override
+	public String toString() {
+		return "QuantityDistribution[name=" + name + ", samples=" + samples + ", mean=" + mean
+				+ ", standardDeviation=" + standardDeviation + ", levels=" + Arrays.toString(levels)
+				+ ", percentiles=" + Arrays.toString(percentiles) + "]";
+	}
+
+	/**
+	 * Summarizes sampled values. Sorts <b>values</b> in place.
+	 *
+	 * @param name   the quantity name
+	 * @param values the samples; sorted by this method
+	 * @param levels the percentile levels in ascending order
+	 * @return the summary
+	 */
+	static QuantityDistribution of(String name, double[] values, double[] levels) {
+		Arrays.sort(values);
+		// Sorting moves -Infinity to the front and +Infinity and NaN to the back.
+		int from = 0;
+		int to = values.length;
+		while (from < to && values[from] == Double.NEGATIVE_INFINITY) {
+			from++;
+		}
+		while (to > from && !(values[to - 1] < Double.POSITIVE_INFINITY)) {
+			to--;
+		}
+		int n = to - from;
+		double[] percentiles = new double[levels.length];
+		if (n == 0) {
+			Arrays.fill(percentiles, Double.NaN);
+			return new QuantityDistribution(name, 0, Double.NaN, Double.NaN, levels, percentiles);
+		}
+
+		// Welford's algorithm, stable for values far from zero.
+		double mean = 0;
+		double m2 = 0;
+		for (int i = from; i < to; i++) {
+			double delta = values[i] - mean;
+			mean += delta / (i - from + 1);
+			m2 += delta * (values[i] - mean);
+		}
+		double standardDeviation = n > 1 ? Math.sqrt(m2 / (n - 1)) : 0.0;
+
+		for (int i = 0; i < levels.length; i++) {
+			double rank = levels[i] / 100.0 * (n - 1);
+			int lower = (int) rank;
+			int upper = Math.min(lower + 1, n - 1);
+			double fraction = rank - lower;
+			percentiles[i] = values[from + lower] + fraction * (values[from + upper] - values[from + lower]);
+		}
+		return new QuantityDistribution(name, n, mean, standardDeviation, levels, percentiles);
+	}
+}
@@ -0,0 +1,359 @@
+package com.stellar.calculator.service.uncertainty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import com.stellar.calculator.calculation.api.ResultColumns;
+import com.stellar.calculator.domain.model.StarBatch;
+import com.stellar.calculator.domain.model.UncertainStar;
+import com.stellar.calculator.service.api.BatchResults;
+import com.stellar.calculator.service.api.CalculationService;
+
+/**
+ * Propagates input uncertainty through all registered calculators by Monte
+ * Carlo sampling, on a dedicated {@link ForkJoinPool}.
+ *
+ * <p>
+ * For every star, the configured number of parameter sets is drawn from its
+ * {@link UncertainStar distributions} in chunks of {@code chunkSize} samples.
+ * Each chunk is one {@link StarBatch} evaluated with
+ * {@link CalculationService#calculateBatch(StarBatch)}, so the calculators run
+ * column by column (and vectorized where they support it). Chunks and stars
+ * are spread over the workers by work stealing. Result quantities are copied
+ * straight from the primitive output columns into one array per quantity,
+ * without materializing result records, and summarized as a
+ * {@link QuantityDistribution}; classifications are counted per category into
+ * a {@link CategoryDistribution}.
+ *
+ * <p>
+ * Every star and every chunk gets its own {@link SplittableRandom} split from
+ * the seed in a fixed order before any work is forked, so results depend only
+ * on the seed, the samples and the chunk size, not on the parallelism or on
+ * scheduling.
+ *
+ * <p>
+ * The calculation service must be safe for concurrent use; the default
+ * {@code StellarCalculationService} is, as long as no calculators are
+ * registered while an analysis is running.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public class UncertaintyEngine implements AutoCloseable {
+	private static final double[] DEFAULT_LEVELS = { 2.5, 16, 50, 84, 97.5 };
+
+	private final CalculationService calculationService;
+	private final ForkJoinPool pool;
+	private final int samples;
+	private final int chunkSize;
+	private final double[] levels;
+
+	/**
+	 * Creates an engine that uses one worker per available processor, draws
+	 * 10,000 samples per star in chunks of 1,024 and reports the median with the
+	 * 1σ (16th, 84th) and 2σ (2.5th, 97.5th) percentiles.
+	 *
+	 * @param calculationService the service evaluating the samples
+	 * @throws NullPointerException if <b>calculationService</b> is {@code null}
+	 */
+	public UncertaintyEngine(CalculationService calculationService) {
+		this(calculationService, Runtime.getRuntime().availableProcessors(), 10_000, 1024, DEFAULT_LEVELS);
+	}
+
+	/**
+	 * Creates an engine with the given parallelism, sampling and percentiles.
+	 *
+	 * @param calculationService the service evaluating the samples
+	 * @param parallelism        the number of worker threads
+	 * @param samples            the number of samples drawn per star
+	 * @param chunkSize          the number of samples evaluated as one batch
+	 * @param levels             the percentile levels to report, between 0 and
+	 *                           100
+	 * @throws NullPointerException     if <b>calculationService</b> or
+	 *                                  <b>levels</b> is {@code null}
+	 * @throws IllegalArgumentException if <b>parallelism</b>, <b>samples</b> or
+	 *                                  <b>chunkSize</b> is not positive, or a
+	 *                                  level is not between 0 and 100
+	 */
+	public UncertaintyEngine(CalculationService calculationService, int parallelism, int samples, int chunkSize,
+			double... levels) {
+		this.calculationService = Objects.requireNonNull(calculationService, "calculationService cannot be null");
+		Objects.requireNonNull(levels, "levels cannot be null");
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism must be positive");
+		}
+		if (samples <= 0) {
+			throw new IllegalArgumentException("samples must be positive");
+		}
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunk size must be positive");
+		}
+		this.levels = levels.clone();
+		for (double level : this.levels) {
+			if (!(level >= 0 && level <= 100)) {
+				throw new IllegalArgumentException("percentile levels must be between 0 and 100");
+			}
+		}
+		Arrays.sort(this.levels);
+		this.pool = new ForkJoinPool(parallelism);
+		this.samples = samples;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Propagates the uncertainty of a single star.
+	 *
+	 * @param star the star to analyze
+	 * @param seed the seed of the random draws
+	 * @return the distributions of all results, or the failure that prevented
+	 *         them
+	 * @throws NullPointerException if <b>star</b> is {@code null}
+	 */
+	public UncertaintyResult analyze(UncertainStar star, long seed) {
+		Objects.requireNonNull(star, "star cannot be null");
+		return pool.invoke(new StarTask(star, new SplittableRandom(seed)));
+	}
+
+	/**
+	 * Propagates the uncertainty of all stars of a catalog in parallel.
+	 *
+	 * @param stars the stars to analyze
+	 * @param seed  the seed of the random draws of the whole catalog
+	 * @return one result per star, in the same order as <b>stars</b>
+	 * @throws NullPointerException if <b>stars</b> is {@code null}
+	 */
+	public List<UncertaintyResult> analyze(List<UncertainStar> stars, long seed) {
+		Objects.requireNonNull(stars, "stars cannot be null");
+		var random = new SplittableRandom(seed);
+		List<StarTask> tasks = new ArrayList<>(stars.size());
+		for (UncertainStar star : stars) {
+			tasks.add(new StarTask(Objects.requireNonNull(star, "star cannot be null"), random.split()));
+		}
+		pool.invoke(new RecursiveAction() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void compute() {
+				invokeAll(tasks);
+			}
+		});
+		List<UncertaintyResult> results = new ArrayList<>(tasks.size());
+		for (StarTask task : tasks) {
+			results.add(task.join());
+		}
+		return results;
+	}
+
+	/**
+	 * Returns the configured number of worker threads.
+	 *
+	 * @return the parallelism of the engine
+	 */
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Returns the configured number of samples per star.
+	 *
+	 * @return the number of samples
+	 */
+	public int getSamples() {
+		return samples;
+	}
+
+	/**
+	 * Returns the configured chunk size.
+	 *
+	 * @return the number of samples evaluated as one batch
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Shuts down the worker pool. Analyses already in progress complete normally.
+	 */
+	@Override
+	public void close() {
+		pool.shutdown();
+	}
+
+	private BatchResults sampleChunk(UncertainStar star, SplittableRandom random, int chunk) {
+		int count = Math.min(chunkSize, samples - chunk * chunkSize);
+		var batch = new StarBatch(count);
+		star.sample(random, batch, count);
+		return calculationService.calculateBatch(batch);
+	}
+
+	/**
+	 * Samples and summarizes one star. The first chunk runs on the calling
+	 * worker and determines the quantities to collect; the others are forked.
+	 */
+	private final class StarTask extends RecursiveTask<UncertaintyResult> {
+		private static final long serialVersionUID = 1L;
+
+		// Tasks are never serialized.
+		private final transient UncertainStar star;
+		private final transient SplittableRandom random;
+
+		StarTask(UncertainStar star, SplittableRandom random) {
+			this.star = star;
+			this.random = random;
+		}
+
+		@Override
+		protected UncertaintyResult compute() {
+			try {
+				int chunks = (samples + chunkSize - 1) / chunkSize;
+				SplittableRandom[] randoms = new SplittableRandom[chunks];
+				for (int i = 0; i < chunks; i++) {
+					randoms[i] = random.split();
+				}
+				BatchResults first = sampleChunk(star, randoms[0], 0);
+				var collector = new SampleCollector(first.columns());
+				collector.collect(first, 0);
+				if (chunks > 1) {
+					new ChunkTask(star, randoms, collector, 1, chunks).invoke();
+				}
+				return collector.summarize(star);
+			} catch (RuntimeException e) {
+				return UncertaintyResult.failure(star, e);
+			}
+		}
+	}
+
+	/**
+	 * Splits a range of chunks in halves until a single chunk remains.
+	 */
+	private final class ChunkTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		// Tasks are never serialized.
+		private final transient UncertainStar star;
+		private final transient SplittableRandom[] randoms;
+		private final transient SampleCollector collector;
+		private final int from;
+		private final int to;
+
+		ChunkTask(UncertainStar star, SplittableRandom[] randoms, SampleCollector collector, int from, int to) {
+			this.star = star;
+			this.randoms = randoms;
+			this.collector = collector;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				collector.collect(sampleChunk(star, randoms[from], from), from * chunkSize);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new ChunkTask(star, randoms, collector, from, mid),
+					new ChunkTask(star, randoms, collector, mid, to));
+		}
+	}
+
+	/**
+	 * The samples of one star: an array per numeric quantity and an array of
+	 * category codes per classification. Chunks write disjoint ranges, so no
+	 * synchronization is needed beyond the fork/join happens-before edges.
+	 */
+	private final class SampleCollector {
+		private final List<String> quantityNames = new ArrayList<>();
+		private final List<int[]> quantitySources = new ArrayList<>();
+		private final List<String> categoryNames = new ArrayList<>();
+		private final List<ResultColumns> categorySources = new ArrayList<>();
+		private final List<Integer> categoryColumns = new ArrayList<>();
+		private final double[][] values;
+		private final int[][] codes;
+
+		SampleCollector(List<ResultColumns> columns) {
+			for (int c = 0; c < columns.size(); c++) {
+				ResultColumns column = columns.get(c);
+				String name = column.toResult(0).resultName();
+				List<String> names = column.quantityNames();
+				for (int q = 0; q < names.size(); q++) {
+					quantityNames.add(names.get(q).isEmpty() ? name : name + "." + names.get(q));
+					quantitySources.add(new int[] { c, q });
+				}
+				if (column.category(0) >= 0) {
+					categoryNames.add(name);
+					categorySources.add(column);
+					categoryColumns.add(c);
+				}
+			}
+			values = new double[quantityNames.size()][samples];
+			codes = new int[categoryNames.size()][samples];
+		}
+
+		void collect(BatchResults results, int offset) {
+			List<ResultColumns> columns = results.columns();
+			int rows = results.size();
+			for (int k = 0; k < values.length; k++) {
+				ResultColumns column = columns.get(quantitySources.get(k)[0]);
+				int quantity = quantitySources.get(k)[1];
+				double[] target = values[k];
+				for (int row = 0; row < rows; row++) {
+					target[offset + row] = column.quantity(row, quantity);
+				}
+			}
+			for (int k = 0; k < codes.length; k++) {
+				ResultColumns column = columns.get(categoryColumns.get(k));
+				int[] target = codes[k];
+				for (int row = 0; row < rows; row++) {
+					target[offset + row] = column.category(row);
+				}
+			}
+		}
+
+		UncertaintyResult summarize(UncertainStar star) {
+			List<QuantityDistribution> quantities = new ArrayList<>(values.length);
+			for (int k = 0; k < values.length; k++) {
+				quantities.add(QuantityDistribution.of(quantityNames.get(k), values[k], levels));
+			}
+			List<CategoryDistribution> categories = new ArrayList<>(codes.length);
+			for (int k = 0; k < codes.length; k++) {
+				categories.add(new CategoryDistribution(categoryNames.get(k),
+						probabilities(codes[k], categorySources.get(k))));
+			}
+			return UncertaintyResult.success(star, samples, quantities, categories);
+		}
+
+		private Map<String, Double> probabilities(int[] codes, ResultColumns labels) {
+			int max = -1;
+			for (int code : codes) {
+				max = Math.max(max, code);
+			}
+			int[] counts = new int[max + 1];
+			for (int code : codes) {
+				if (code >= 0) {
+					counts[code]++;
+				}
+			}
+			Integer[] order = new Integer[counts.length];
+			for (int i = 0; i < order.length; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, (a, b) -> Integer.compare(counts[b], counts[a]));
+			Map<String, Double> probabilities = new LinkedHashMap<>();
+			for (int code : order) {
+				if (counts[code] > 0) {
+					probabilities.merge(labels.categoryLabel(code), (double) counts[code] / codes.length, Double::sum);
+				}
+			}
+			return Collections.unmodifiableMap(probabilities);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.stellar.calculator.service.uncertainty;
+
+import java.util.List;
+
+import com.stellar.calculator.domain.model.UncertainStar;
+
+/**
+ * Outcome of propagating the uncertainty of a single star: the distribution of
+ * every result quantity, or the failure that prevented it.
+ *
+ * @param star       the analyzed star
+ * @param samples    the number of drawn samples
+ * @param quantities the distribution of every numeric quantity, in calculator
+ *                   registration order; empty if the analysis failed
+ * @param categories the distribution of every categorical result, in
+ *                   calculator registration order; empty if the analysis
+ *                   failed
+ * @param failure    the failure, or {@code null} if the analysis succeeded
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public record UncertaintyResult(UncertainStar star, int samples, List<QuantityDistribution> quantities,
+		List<CategoryDistribution> categories, RuntimeException failure) {
+
+	/**
+	 * Creates a successful result.
+	 *
+	 * @param star       the analyzed star
+	 * @param samples    the number of drawn samples
+	 * @param quantities the numeric distributions
+	 * @param categories the categorical distributions
+	 * @return the result
+	 */
+	public static UncertaintyResult success(UncertainStar star, int samples, List<QuantityDistribution> quantities,
+			List<CategoryDistribution> categories) {
+		return new UncertaintyResult(star, samples, List.copyOf(quantities), List.copyOf(categories), null);
+	}
+
+	/**
+	 * Creates a failed result.
+	 *
+	 * @param star    the star that could not be analyzed
+	 * @param failure the cause of the failure
+	 * @return the result
+	 */
+	public static UncertaintyResult failure(UncertainStar star, RuntimeException failure) {
+		return new UncertaintyResult(star, 0, List.of(), List.of(), failure);
+	}
+
+	/**
+	 * Checks whether the analysis succeeded.
+	 *
+	 * @return {@code true} if distributions are available
+	 */
+	public boolean isSuccess() {
+		return failure == null;
+	}
+
+	/**
+	 * Looks up the distribution of a numeric quantity.
+	 *
+	 * @param name the quantity name, e.g. {@code luminosity}
+	 * @return the distribution, or {@code null} if there is no such quantity
+	 */
+	public QuantityDistribution quantity(String name) {
+		for (QuantityDistribution quantity : quantities) {
+			if (quantity.name().equals(name)) {
+				return quantity;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Looks up the distribution of a categorical result.
+	 *
+	 * @param name the result name, e.g. {@code spectralClass}
+	 * @return the distribution, or {@code null} if there is no such result
+	 */
+	public CategoryDistribution category(String name) {
+		for (CategoryDistribution category : categories) {
+			if (category.name().equals(name)) {
+				return category;
+			}
+		}
+		return null;
+	}
+}
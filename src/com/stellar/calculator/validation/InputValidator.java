@@ -1,13 +1,32 @@
 package com.stellar.calculator.validation;
 
+import java.util.Objects;
+
+import com.stellar.calculator.domain.model.StarBatch;
+
 /**
  * Validates input values for stellar calculations. Provides specific validation
  * rules for different types of astronomical data.
+ *
+ * <p>
+ * The {@code validate} methods throw on invalid values. The {@code check}
+ * methods report the same rules as {@link ValidationError} codes instead,
+ * including for whole columns, so bulk input can be filtered without
+ * constructing exceptions. Values that are not numbers are rejected as not
+ * positive.
  * 
  * @author Ahmed Ghannam
  * @version 1.0
  */
 public class InputValidator {
+	/** The largest accepted mass in solar masses. */
+	public static final double MAX_MASS = 150;
+
+	/** The largest accepted radius in solar radii. */
+	public static final double MAX_RADIUS = 2000;
+
+	/** The largest accepted temperature in Kelvin. */
+	public static final double MAX_TEMPERATURE = 200000;
 
 	/**
 	 * Validates a mass value in solar masses.
@@ -16,12 +35,7 @@ public class InputValidator {
 	 * @throws IllegalArgumentException if the mass is invalid
 	 */
 	public void validateMass(double mass) {
-		if (mass <= 0) {
-			throw new IllegalArgumentException("mass must be positive");
-		}
-		if (mass > 150) {
-			throw new IllegalArgumentException("mass exceeds theoretical stellar limit (150 solar masses)");
-		}
+		throwIfInvalid(checkMass(mass));
 	}
 
 	/**
@@ -31,12 +45,7 @@ public class InputValidator {
 	 * @throws IllegalArgumentException if the  radius is invalid
 	 */
 	public void validateRadius(double radius) {
-		if (radius <= 0) {
-			throw new IllegalArgumentException("radius must be positive");
-		}
-		if (radius > 2000) {
-			throw new IllegalArgumentException("radius exceeds largest known star (~1700 solar radii)");
-		}
+		throwIfInvalid(checkRadius(radius));
 	}
 
 	/**
@@ -46,11 +55,91 @@ public class InputValidator {
 	 * @throws IllegalArgumentException if the temperature is invalid
 	 */
 	public void validateTemperature(double temperature) {
-		if (temperature <= 0) {
-			throw new IllegalArgumentException("temperature must be positive");
+		throwIfInvalid(checkTemperature(temperature));
+	}
+
+	/**
+	 * Checks a mass value in solar masses without throwing.
+	 *
+	 * @param mass the mass in solar masses
+	 * @return the {@link ValidationError} code, {@code 0} if the mass is valid
+	 */
+	public int checkMass(double mass) {
+		return (mass > 0 ? 0 : ValidationError.MASS_NOT_POSITIVE.bit())
+				| (mass > MAX_MASS ? ValidationError.MASS_TOO_LARGE.bit() : 0);
+	}
+
+	/**
+	 * Checks a radius value in solar radii without throwing.
+	 *
+	 * @param radius the radius in solar radii
+	 * @return the {@link ValidationError} code, {@code 0} if the radius is valid
+	 */
+	public int checkRadius(double radius) {
+		return (radius > 0 ? 0 : ValidationError.RADIUS_NOT_POSITIVE.bit())
+				| (radius > MAX_RADIUS ? ValidationError.RADIUS_TOO_LARGE.bit() : 0);
+	}
+
+	/**
+	 * Checks a temperature value in Kelvin without throwing.
+	 *
+	 * @param temperature the temperature in Kelvin
+	 * @return the {@link ValidationError} code, {@code 0} if the temperature is
+	 *         valid
+	 */
+	public int checkTemperature(double temperature) {
+		return (temperature > 0 ? 0 : ValidationError.TEMPERATURE_NOT_POSITIVE.bit())
+				| (temperature > MAX_TEMPERATURE ? ValidationError.TEMPERATURE_TOO_LARGE.bit() : 0);
+	}
+
+	/**
+	 * Checks whole columns of stellar parameters without throwing. The error
+	 * code of every row is written to <b>errors</b>; valid rows get {@code 0}.
+	 * The loop has no exceptions and no early exits, so dirty catalogs cost the
+	 * same to check as clean ones.
+	 *
+	 * @param masses       the masses in solar masses
+	 * @param radii        the radii in solar radii
+	 * @param temperatures the temperatures in Kelvin
+	 * @param size         the number of rows to check
+	 * @param errors       receives the {@link ValidationError} code of each row
+	 * @return the number of invalid rows
+	 * @throws NullPointerException      if any array is {@code null}
+	 * @throws IndexOutOfBoundsException if any array is shorter than
+	 *                                   <b>size</b>
+	 */
+	public int checkColumns(double[] masses, double[] radii, double[] temperatures, int size, byte[] errors) {
+		Objects.checkFromIndexSize(0, size, masses.length);
+		Objects.checkFromIndexSize(0, size, radii.length);
+		Objects.checkFromIndexSize(0, size, temperatures.length);
+		Objects.checkFromIndexSize(0, size, errors.length);
+		int invalid = 0;
+		for (int i = 0; i < size; i++) {
+			int code = checkMass(masses[i]) | checkRadius(radii[i]) | checkTemperature(temperatures[i]);
+			errors[i] = (byte) code;
+			invalid += code == 0 ? 0 : 1;
 		}
-		if (temperature > 200000) {
-			throw new IllegalArgumentException("temperature exceeds hottest known stars (~150000K)");
+		return invalid;
+	}
+
+	/**
+	 * Checks every star of a batch without throwing; see
+	 * {@link #checkColumns(double[], double[], double[], int, byte[])}.
+	 *
+	 * @param batch  the stars to check
+	 * @param errors receives the {@link ValidationError} code of each row
+	 * @return the number of invalid rows
+	 * @throws NullPointerException      if any argument is {@code null}
+	 * @throws IndexOutOfBoundsException if <b>errors</b> is shorter than the
+	 *                                   batch
+	 */
+	public int checkBatch(StarBatch batch, byte[] errors) {
+		return checkColumns(batch.masses(), batch.radii(), batch.temperatures(), batch.size(), errors);
+	}
+
+	private static void throwIfInvalid(int code) {
+		if (code != 0) {
+			throw new IllegalArgumentException(ValidationError.firstMessage(code));
 		}
 	}
 
@@ -0,0 +1,82 @@
+package com.stellar.calculator.validation;
+
+/**
+ * A reason a stellar parameter is rejected by {@link InputValidator}.
+ *
+ * <p>
+ * Every error has its own bit, so the errors of a row combine into a single
+ * error code that fits in a {@code byte}; {@code 0} means the row is valid.
+ * Codes are what the column-oriented checks of {@link InputValidator} report
+ * instead of throwing.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+public enum ValidationError {
+	/** The mass is zero, negative or not a number. */
+	MASS_NOT_POSITIVE("mass must be positive"),
+
+	/** The mass exceeds {@link InputValidator#MAX_MASS}. */
+	MASS_TOO_LARGE("mass exceeds theoretical stellar limit (150 solar masses)"),
+
+	/** The radius is zero, negative or not a number. */
+	RADIUS_NOT_POSITIVE("radius must be positive"),
+
+	/** The radius exceeds {@link InputValidator#MAX_RADIUS}. */
+	RADIUS_TOO_LARGE("radius exceeds largest known star (~1700 solar radii)"),
+
+	/** The temperature is zero, negative or not a number. */
+	TEMPERATURE_NOT_POSITIVE("temperature must be positive"),
+
+	/** The temperature exceeds {@link InputValidator#MAX_TEMPERATURE}. */
+	TEMPERATURE_TOO_LARGE("temperature exceeds hottest known stars (~150000K)");
+
+	private static final ValidationError[] VALUES = values();
+
+	private final String message;
+
+	ValidationError(String message) {
+		this.message = message;
+	}
+
+	/**
+	 * Returns the bit of this error in an error code.
+	 *
+	 * @return the error bit
+	 */
+	public int bit() {
+		return 1 << ordinal();
+	}
+
+	/**
+	 * Returns the message describing this error.
+	 *
+	 * @return the error message
+	 */
+	public String message() {
+		return message;
+	}
+
+	/**
+	 * Checks whether an error code contains this error.
+	 *
+	 * @param code the error code
+	 * @return {@code true} if the bit of this error is set
+	 */
+	public boolean isIn(int code) {
+		return (code & bit()) != 0;
+	}
+
+	/**
+	 * Returns the message of the first error in a code, in the order the
+	 * parameters are checked one at a time: mass, radius, temperature. This is
+	 * the message the throwing checks of {@link InputValidator} report.
+	 *
+	 * @param code the error code
+	 * @return the message, or {@code null} if <b>code</b> is {@code 0}
+	 */
+	public static String firstMessage(int code) {
+		int first = Integer.numberOfTrailingZeros(code);
+		return first < VALUES.length ? VALUES[first].message : null;
+	}
+}
@@ -1,8 +1,32 @@
 /**
- * 
- */
-/**
- * 
+ * The stellar calculator application and its calculation API. Calculators are
+ * discovered as {@link com.stellar.calculator.calculation.api.CalculatorProvider}
+ * services, so other modules can contribute calculators by providing that
+ * service.
  */
 module StellarCalculator {
-}
\ No newline at end of file
+	requires static jdk.incubator.vector;
+	requires jdk.httpserver;
+	requires transitive java.management;
+	requires jdk.jfr;
+
+	exports com.stellar.calculator.calculation.api;
+	exports com.stellar.calculator.domain.model;
+	exports com.stellar.calculator.service.api;
+	exports com.stellar.calculator.service.calculation;
+	exports com.stellar.calculator.service.metrics;
+
+	uses com.stellar.calculator.calculation.api.CalculatorProvider;
+
+	// Declaration order is registration order.
+	provides com.stellar.calculator.calculation.api.CalculatorProvider with
+		com.stellar.calculator.calculation.luminosity.LuminosityCalculatorProvider,
+		com.stellar.calculator.calculation.thermal.HabitableZoneCalculatorProvider,
+		com.stellar.calculator.calculation.radiation.EarthEquivalentDistanceCalculatorProvider,
+		com.stellar.calculator.calculation.orbital.OrbitalPeriodCalculatorProvider,
+		com.stellar.calculator.calculation.angular.AngularSizeCalculatorProvider,
+		com.stellar.calculator.calculation.magnitude.ApparentMagnitudeCalculatorProvider,
+		com.stellar.calculator.calculation.radiation.IrradianceCalculatorProvider,
+		com.stellar.calculator.calculation.classification.SpectralClassCalculatorProvider,
+		com.stellar.calculator.calculation.classification.LuminosityClassCalculatorProvider;
+}
@@ -0,0 +1,81 @@
+package com.stellar.calculator.calculation.classification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the binary search of {@link SpectralTemperatureScale} against a
+ * linear search for the nearest entry, and the clamping at both ends of the
+ * scale.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+class SpectralTemperatureScaleTest {
+	private static final int HOTTEST = 0;
+	private static final int COOLEST = SpectralTemperatureScale.size() - 1;
+
+	@Test
+	void clampsHotTemperaturesToO3() {
+		for (double t : new double[] { 60000.0, 1e9, Double.MAX_VALUE, Double.POSITIVE_INFINITY }) {
+			int index = SpectralTemperatureScale.indexOf(t);
+			assertEquals(HOTTEST, index, "index of " + t);
+			assertEquals(SpectralType.O, SpectralTemperatureScale.type(index));
+			assertEquals(3.0, SpectralTemperatureScale.subtype(index), "subtype of " + t);
+		}
+	}
+
+	@Test
+	void clampsCoolTemperaturesToY2() {
+		for (double t : new double[] { 100.0, Double.MIN_VALUE, 0.0, Double.NEGATIVE_INFINITY }) {
+			int index = SpectralTemperatureScale.indexOf(t);
+			assertEquals(COOLEST, index, "index of " + t);
+			assertEquals(SpectralType.Y, SpectralTemperatureScale.type(index));
+			assertEquals(2.0, SpectralTemperatureScale.subtype(index), "subtype of " + t);
+		}
+	}
+
+	@Test
+	void findsNearestEntryInLogSpace() {
+		var random = new Random(7L);
+		for (int i = 0; i < 100_000; i++) {
+			double t = Math.exp(Math.log(250.0) + random.nextDouble() * (Math.log(60000.0) - Math.log(250.0)));
+			assertEquals(nearest(t), SpectralTemperatureScale.indexOf(t), "index of " + t);
+		}
+		for (int index = 0; index <= COOLEST; index++) {
+			double t = SpectralTemperatureScale.temperature(index);
+			assertEquals(index, SpectralTemperatureScale.indexOf(t), "index of " + t);
+		}
+	}
+
+	@Test
+	void classifiesColumnsLikeSingleTemperatures() {
+		double[] temperatures = { Double.POSITIVE_INFINITY, Double.MAX_VALUE, 5772.0, 3000.0, 0.0 };
+		byte[] types = new byte[temperatures.length];
+		byte[] halfSubtypes = new byte[temperatures.length];
+		SpectralTemperatureScale.classify(temperatures, types, halfSubtypes, temperatures.length);
+		for (int i = 0; i < temperatures.length; i++) {
+			int index = SpectralTemperatureScale.indexOf(temperatures[i]);
+			assertEquals(SpectralTemperatureScale.type(index).ordinal(), (int) types[i], "type of " + temperatures[i]);
+			assertEquals(SpectralTemperatureScale.subtype(index), halfSubtypes[i] * 0.5,
+					"subtype of " + temperatures[i]);
+		}
+	}
+
+	private static int nearest(double temperatureK) {
+		int best = 0;
+		for (int index = 1; index <= COOLEST; index++) {
+			if (distance(temperatureK, index) < distance(temperatureK, best)) {
+				best = index;
+			}
+		}
+		return best;
+	}
+
+	private static double distance(double temperatureK, int index) {
+		return Math.abs(Math.log(temperatureK) - Math.log(SpectralTemperatureScale.temperature(index)));
+	}
+}
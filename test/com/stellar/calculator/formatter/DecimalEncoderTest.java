@@ -0,0 +1,143 @@
+package com.stellar.calculator.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks {@link DecimalEncoder} against the reference conversions it replaces:
+ * {@link String#format(String, Object...)} for
+ * {@link DecimalEncoder#appendFixed(StringBuilder, double, int)}, and
+ * {@link BigDecimal} with {@link RoundingMode#HALF_UP} for
+ * {@link DecimalEncoder#round(double, int)}.
+ *
+ * <p>
+ * The values include exact and near ties at every fast-path precision, signed
+ * zeros, values beyond the fast path and a random sweep. Formatting is checked
+ * in locales with a comma separator and with non-ASCII digits as well.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+class DecimalEncoderTest {
+	private static final int MAX_DIGITS = 12;
+	private static final Locale[] LOCALES = { Locale.ROOT, Locale.GERMANY, Locale.forLanguageTag("ar-EG"),
+			Locale.forLanguageTag("hi-IN-u-nu-deva") };
+
+	private static final List<Double> values = new ArrayList<>();
+
+	@BeforeAll
+	static void createValues() {
+		for (double v : new double[] { 0.0, -0.0, 0.5, 1.5, 2.5, 0.125, 1.005, 2.675, 1.45, 9.995, 99.5, 0.045,
+				273.15, 5772.0, 1e15, 1e15 + 0.5, 9.2e18, 1e19, 1e22, 1.7e300, Double.MAX_VALUE, Double.MIN_VALUE,
+				Double.MIN_NORMAL }) {
+			addSigned(v);
+		}
+		// Ties at every precision the fast path handles, and the doubles around them.
+		long[] units = { 0, 1, 4, 12, 99, 12345, 999_999 };
+		for (int digits = 0; digits <= 10; digits++) {
+			for (long unit : units) {
+				double tie = (unit + 0.5) / Math.pow(10, digits);
+				double below = tie;
+				double above = tie;
+				addSigned(tie);
+				for (int ulps = 1; ulps <= 8; ulps++) {
+					below = Math.nextDown(below);
+					above = Math.nextUp(above);
+					addSigned(below);
+					addSigned(above);
+				}
+			}
+		}
+		var random = new Random(11L);
+		for (int i = 0; i < 5_000; i++) {
+			addSigned(Math.exp(Math.log(1e-6) + random.nextDouble() * (Math.log(1e17) - Math.log(1e-6))));
+		}
+	}
+
+	private static void addSigned(double value) {
+		values.add(value);
+		values.add(-value);
+	}
+
+	@Test
+	void localesIncludeNonAsciiDigits() {
+		boolean nonAscii = false;
+		for (Locale locale : LOCALES) {
+			nonAscii |= DecimalFormatSymbols.getInstance(locale).getZeroDigit() != '0';
+		}
+		assertTrue(nonAscii, "no test locale has non-ASCII digits");
+	}
+
+	@Test
+	void appendFixedMatchesStringFormat() {
+		Locale original = Locale.getDefault(Locale.Category.FORMAT);
+		try {
+			for (Locale locale : LOCALES) {
+				Locale.setDefault(Locale.Category.FORMAT, locale);
+				var out = new StringBuilder();
+				for (double value : values) {
+					for (int digits = 0; digits <= MAX_DIGITS; digits++) {
+						checkFixed(out, value, digits, locale);
+					}
+				}
+				for (double value : new double[] { Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY }) {
+					checkFixed(out, value, 2, locale);
+				}
+			}
+		} finally {
+			Locale.setDefault(Locale.Category.FORMAT, original);
+		}
+	}
+
+	@Test
+	void appendFixedAppendsToExistingContent() {
+		Locale original = Locale.getDefault(Locale.Category.FORMAT);
+		try {
+			Locale.setDefault(Locale.Category.FORMAT, Locale.ROOT);
+			assertEquals("T=-0.50K", DecimalEncoder.appendFixed(new StringBuilder("T="), -0.5, 2).append('K')
+					.toString());
+		} finally {
+			Locale.setDefault(Locale.Category.FORMAT, original);
+		}
+	}
+
+	@Test
+	void appendFixedRejectsNegativeDigits() {
+		assertThrows(IllegalArgumentException.class, () -> DecimalEncoder.appendFixed(new StringBuilder(), 1.0, -1));
+	}
+
+	@Test
+	void roundMatchesBigDecimalHalfUp() {
+		for (double value : values) {
+			for (int places = -2; places <= MAX_DIGITS; places++) {
+				double expected = BigDecimal.valueOf(value).setScale(places, RoundingMode.HALF_UP).doubleValue();
+				assertEquals(expected, DecimalEncoder.round(value, places), "round(" + value + ", " + places + ")");
+			}
+		}
+	}
+
+	@Test
+	void roundRejectsNonFiniteValues() {
+		for (double value : new double[] { Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY }) {
+			assertThrows(NumberFormatException.class, () -> DecimalEncoder.round(value, 2), "round(" + value + ")");
+		}
+	}
+
+	private static void checkFixed(StringBuilder out, double value, int digits, Locale locale) {
+		out.setLength(0);
+		assertEquals(String.format("%." + digits + "f", value), DecimalEncoder.appendFixed(out, value, digits)
+				.toString(), "appendFixed(" + value + ", " + digits + ") in " + locale.toLanguageTag());
+	}
+}
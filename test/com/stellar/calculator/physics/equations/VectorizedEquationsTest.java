@@ -0,0 +1,188 @@
+package com.stellar.calculator.physics.equations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.stellar.calculator.physics.constants.SolarSystemConstants;
+import com.stellar.calculator.validation.InputValidator;
+
+/**
+ * Checks the {@link VectorizedEquations} kernels against the scalar equations.
+ *
+ * <p>
+ * The inputs cover the validator maxima, tiny radii, low temperatures and
+ * apparent magnitudes near zero, besides a random sweep over the accepted
+ * range. The build runs these tests twice: with {@code jdk.incubator.vector}
+ * for the SIMD kernels, and with {@code stellar.vector.disable} for the scalar
+ * fallback, which must match the scalar equations exactly. The system property
+ * {@code stellar.test.vectorized} tells which path the run expects.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+class VectorizedEquationsTest {
+	/** Not a multiple of any lane count, so every kernel also runs its tail. */
+	private static final int SIZE = 4099;
+
+	private static final double[] EDGE_MASSES = { InputValidator.MAX_MASS, 1e-4, 0.08, 1.0 };
+	private static final double[] EDGE_RADII = { InputValidator.MAX_RADIUS, 1e-6, 1.4e-5, 0.0011076, 0.01, 1.0 };
+	private static final double[] EDGE_TEMPERATURES = { InputValidator.MAX_TEMPERATURE, 3.0, 10.0, 367.75, 5778.0 };
+	private static final double[] EDGE_DISTANCES = { 1e-4, 0.0047, 1.0, 1e5 };
+
+	private static final double[] mass = new double[SIZE];
+	private static final double[] radius = new double[SIZE];
+	private static final double[] temperature = new double[SIZE];
+	private static final double[] distance = new double[SIZE];
+
+	@BeforeAll
+	static void createInputs() {
+		int i = 0;
+		for (double m : EDGE_MASSES) {
+			for (double r : EDGE_RADII) {
+				for (double t : EDGE_TEMPERATURES) {
+					mass[i] = m;
+					radius[i] = r;
+					temperature[i] = t;
+					distance[i] = EDGE_DISTANCES[i % EDGE_DISTANCES.length];
+					i++;
+				}
+			}
+		}
+		// Stars whose apparent magnitude from 1 AU is about zero.
+		double luminosity = Math.pow(10, SolarSystemConstants.SOLAR_APPARENT_MAG / 2.5);
+		for (int k = 0; k < 64; k++, i++) {
+			temperature[i] = 100.0 + k * 3000.0;
+			double scaledTemperature = temperature[i] / SolarSystemConstants.SOLAR_TEMPERATURE;
+			radius[i] = Math.sqrt(luminosity) / (scaledTemperature * scaledTemperature) * (1 + (k - 32) * 1e-9);
+			mass[i] = 1.0;
+			distance[i] = 1.0;
+		}
+		var random = new Random(42L);
+		for (; i < SIZE; i++) {
+			mass[i] = logUniform(random, 1e-4, InputValidator.MAX_MASS);
+			radius[i] = logUniform(random, 1e-6, InputValidator.MAX_RADIUS);
+			temperature[i] = logUniform(random, 3.0, InputValidator.MAX_TEMPERATURE);
+			distance[i] = logUniform(random, 1e-4, 1e5);
+		}
+	}
+
+	private static double logUniform(Random random, double min, double max) {
+		return Math.exp(Math.log(min) + random.nextDouble() * (Math.log(max) - Math.log(min)));
+	}
+
+	@Test
+	void runsTheExpectedPath() {
+		assertEquals(Boolean.getBoolean("stellar.test.vectorized"), VectorizedEquations.isVectorized());
+	}
+
+	@Test
+	void radiantFluxAgreesWithScalarEquation() {
+		double[] out = new double[SIZE];
+		VectorizedEquations.calculateRadiantFlux(radius, temperature, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("radiant flux", i, out[i], ThermalEquations.calculateRadiantFlux(radius[i], temperature[i]), 0);
+		}
+	}
+
+	@Test
+	void irradianceAgreesWithScalarEquation() {
+		double[] out = new double[SIZE];
+		VectorizedEquations.calculateIrradianceAtDistance(radius, temperature, distance, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("irradiance", i, out[i],
+					ThermalEquations.calculateIrradianceAtDistance(radius[i], temperature[i], distance[i]), 0);
+		}
+		for (double d : EDGE_DISTANCES) {
+			VectorizedEquations.calculateIrradianceAtDistance(radius, temperature, d, out, SIZE);
+			for (int i = 0; i < SIZE; i++) {
+				check("irradiance", i, out[i],
+						ThermalEquations.calculateIrradianceAtDistance(radius[i], temperature[i], d), 0);
+			}
+		}
+	}
+
+	@Test
+	void periodAgreesWithScalarEquation() {
+		double[] out = new double[SIZE];
+		VectorizedEquations.calculatePeriod(mass, distance, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("orbital period", i, out[i], OrbitalEquations.calculatePeriod(mass[i], distance[i]), 0);
+		}
+	}
+
+	@Test
+	void angularSizeAgreesWithScalarEquation() {
+		double[] out = new double[SIZE];
+		VectorizedEquations.calculateAngularSize(radius, distance, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("angular size", i, out[i], GeometricEquations.calculateAngularSize(radius[i], distance[i]), 0);
+		}
+	}
+
+	@Test
+	void apparentMagnitudeAgreesWithScalarEquation() {
+		double[] out = new double[SIZE];
+		VectorizedEquations.calculateApparentMagnitude(radius, temperature, out, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			check("apparent magnitude", i, out[i],
+					MagnitudeEquations.calculateApparentMagnitude(radius[i], temperature[i]),
+					VectorizedEquations.MAX_MAGNITUDE_ERROR);
+		}
+	}
+
+	@Test
+	void outputMayAliasInput() {
+		double[] expected = new double[SIZE];
+		VectorizedEquations.calculateApparentMagnitude(radius, temperature, expected, SIZE);
+		double[] aliased = temperature.clone();
+		VectorizedEquations.calculateApparentMagnitude(radius, aliased, aliased, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals(expected[i], aliased[i], "apparent magnitude of star " + i);
+		}
+	}
+
+	@Test
+	void processesOnlyTheGivenLength() {
+		for (int length = 0; length <= 17; length++) {
+			double[] out = new double[SIZE];
+			Arrays.fill(out, -1);
+			VectorizedEquations.calculateRadiantFlux(radius, temperature, out, length);
+			for (int i = 0; i < length; i++) {
+				check("radiant flux", i, out[i], ThermalEquations.calculateRadiantFlux(radius[i], temperature[i]), 0);
+			}
+			assertEquals(-1, out[length], "element after length " + length);
+		}
+	}
+
+	@Test
+	void rejectsLengthBeyondArrays() {
+		double[] out = new double[SIZE];
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> VectorizedEquations.calculateRadiantFlux(radius, temperature, out, SIZE + 1));
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> VectorizedEquations.calculateRadiantFlux(radius, temperature, out, -1));
+	}
+
+	/**
+	 * Checks the documented tolerance; the scalar fallback must be exact.
+	 */
+	private static void check(String kernel, int star, double vectorized, double scalar, double absoluteError) {
+		if (!VectorizedEquations.isVectorized()) {
+			assertEquals(scalar, vectorized, kernel + " of star " + star);
+			return;
+		}
+		double ulp = Math.ulp(Math.max(Math.abs(vectorized), Math.abs(scalar)));
+		double tolerance = Math.max(VectorizedEquations.MAX_ULP_ERROR * ulp, absoluteError);
+		if (!(Math.abs(vectorized - scalar) <= tolerance)) {
+			fail(kernel + " of star " + star + " (mass " + mass[star] + ", radius " + radius[star] + ", temperature "
+					+ temperature[star] + ", distance " + distance[star] + "): " + vectorized + " vs " + scalar);
+		}
+	}
+}
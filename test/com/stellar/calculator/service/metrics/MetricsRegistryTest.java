@@ -0,0 +1,129 @@
+package com.stellar.calculator.service.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.stellar.calculator.calculation.api.BatchCalculator;
+import com.stellar.calculator.calculation.api.CalculationResult;
+import com.stellar.calculator.calculation.api.Calculator;
+import com.stellar.calculator.calculation.api.CalculatorProvider;
+import com.stellar.calculator.calculation.api.DerivedQuantity;
+import com.stellar.calculator.calculation.api.LazyCalculator;
+import com.stellar.calculator.calculation.luminosity.LuminosityCalculatorProvider;
+import com.stellar.calculator.domain.model.Star;
+import com.stellar.calculator.service.calculation.StellarCalculationService;
+
+/**
+ * Checks that registering calculators with a {@link MetricsRegistry} leaves
+ * lazily loaded calculators unloaded.
+ *
+ * @author Ahmed Ghannam
+ * @version 1.0
+ */
+class MetricsRegistryTest {
+	private static final String PROVIDERS = "META-INF/services/" + CalculatorProvider.class.getName();
+
+	@Test
+	void registeringLazyCalculatorDoesNotCreateIt() {
+		var provider = new CountingProvider();
+		var calculator = new LazyCalculator(provider);
+		var metrics = new MetricsRegistry().register(calculator);
+		assertEquals("LuminosityCalculator", metrics.getName());
+		assertFalse(calculator.isInitialized());
+		assertEquals(0, provider.created.get());
+	}
+
+	@Test
+	void descriptionIsReadWhenFirstAsked() {
+		var provider = new CountingProvider();
+		var calculator = new LazyCalculator(provider);
+		var metrics = new MetricsRegistry().register(calculator);
+		String description = metrics.getDescription();
+		assertFalse(description.isEmpty());
+		assertEquals(description, metrics.getDescription());
+		assertTrue(calculator.isInitialized());
+		assertEquals(1, provider.created.get());
+	}
+
+	@Test
+	void serviceWithRegistryLoadsNoCalculatorClass() throws Exception {
+		URL classes = StellarCalculationService.class.getProtectionDomain().getCodeSource().getLocation();
+		String providers = StellarCalculationService.class.getClassLoader().getResource(PROVIDERS).toString();
+		URL resources = URI.create(providers.substring(0, providers.length() - PROVIDERS.length())).toURL();
+		try (var loader = new IsolatedClassLoader(classes, resources)) {
+			Class<?> registry = loader.loadClass(MetricsRegistry.class.getName());
+			Class<?> service = loader.loadClass(StellarCalculationService.class.getName());
+			service.getConstructor(Executor.class, registry)
+					.newInstance(null, registry.getConstructor().newInstance());
+			List<String> providerNames = List.of(new String(loader.getResourceAsStream(PROVIDERS).readAllBytes())
+					.strip().split("\\s+"));
+			assertEquals(9, providerNames.size());
+			for (String providerName : providerNames) {
+				assertTrue(loader.isLoaded(providerName), providerName);
+				String calculatorName = providerName.substring(0, providerName.length() - "Provider".length());
+				assertFalse(loader.isLoaded(calculatorName), calculatorName);
+			}
+		}
+	}
+
+	/**
+	 * Provides the luminosity calculator and counts how often it is created.
+	 */
+	private static final class CountingProvider implements CalculatorProvider {
+		private final CalculatorProvider provider = new LuminosityCalculatorProvider();
+		private final AtomicInteger created = new AtomicInteger();
+
+		@Override
+		public Class<? extends CalculationResult> resultType() {
+			return provider.resultType();
+		}
+
+		@Override
+		public Set<DerivedQuantity> produces() {
+			return provider.produces();
+		}
+
+		@Override
+		public String name() {
+			return provider.name();
+		}
+
+		@Override
+		public Calculator<Star, ? extends CalculationResult> calculator() {
+			created.incrementAndGet();
+			return provider.calculator();
+		}
+
+		@Override
+		public BatchCalculator<?> batchCalculator() {
+			return provider.batchCalculator();
+		}
+	}
+
+	/**
+	 * Loads the application classes afresh, so the test can see which of them
+	 * the service loaded.
+	 */
+	private static final class IsolatedClassLoader extends URLClassLoader {
+		IsolatedClassLoader(URL... urls) {
+			super(urls, ClassLoader.getPlatformClassLoader());
+		}
+
+		boolean isLoaded(String name) {
+			synchronized (getClassLoadingLock(name)) {
+				return findLoadedClass(name) != null;
+			}
+		}
+	}
+}